@@ -527,7 +527,24 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
             JsonObject.class,
             false,
             true,
-            HeaderValueValidators.getJsonObjectValidator());
+            HeaderValueValidators.getJsonObjectValidator()),
+
+    /**
+     * Header definition for the maximum staleness a client accepts for the response of a thing retrieval.
+     * If set, edge services may answer the retrieval from a local snapshot of the thing which is at most as old as
+     * the given duration instead of asking the thing's persistence actor.
+     * <p>
+     * Key: {@code "max-staleness"}, Java type: {@code String}.
+     * </p>
+     *
+     * @since 3.5.0
+     */
+    MAX_STALENESS("max-staleness",
+            DittoDuration.class,
+            String.class,
+            true,
+            false,
+            HeaderValueValidators.getDittoDurationValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
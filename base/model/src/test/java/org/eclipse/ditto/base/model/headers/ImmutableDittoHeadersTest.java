@@ -138,6 +138,7 @@ public final class ImmutableDittoHeadersTest {
     private static final JsonObject KNOWN_HISTORICAL_HEADERS = JsonObject.newBuilder()
             .set(DittoHeaderDefinition.ORIGINATOR.getKey(), "foo:bar")
             .build();
+    private static final String KNOWN_MAX_STALENESS = "5s";
 
 
     static {
@@ -212,6 +213,7 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), String.valueOf(KNOWN_AT_HISTORICAL_REVISION))
                 .putHeader(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey(), String.valueOf(KNOWN_AT_HISTORICAL_TIMESTAMP))
                 .putHeader(DittoHeaderDefinition.HISTORICAL_HEADERS.getKey(), KNOWN_HISTORICAL_HEADERS.formatAsString())
+                .putHeader(DittoHeaderDefinition.MAX_STALENESS.getKey(), KNOWN_MAX_STALENESS)
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -542,6 +544,7 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), KNOWN_AT_HISTORICAL_REVISION)
                 .set(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey(), KNOWN_AT_HISTORICAL_TIMESTAMP.toString())
                 .set(DittoHeaderDefinition.HISTORICAL_HEADERS.getKey(), KNOWN_HISTORICAL_HEADERS)
+                .set(DittoHeaderDefinition.MAX_STALENESS.getKey(), KNOWN_MAX_STALENESS)
                 .build();
 
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
@@ -781,6 +784,7 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), String.valueOf(KNOWN_AT_HISTORICAL_REVISION));
         result.put(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey(), String.valueOf(KNOWN_AT_HISTORICAL_TIMESTAMP));
         result.put(DittoHeaderDefinition.HISTORICAL_HEADERS.getKey(), KNOWN_HISTORICAL_HEADERS.formatAsString());
+        result.put(DittoHeaderDefinition.MAX_STALENESS.getKey(), KNOWN_MAX_STALENESS);
 
         return result;
     }
@@ -20,6 +20,7 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -46,9 +47,13 @@ import org.eclipse.ditto.internal.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.config.raw.RawConfigSupplier;
 import org.eclipse.ditto.internal.utils.health.status.StatusSupplierActor;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.prometheus.PrometheusReporterRoute;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.json.JsonFieldMapRetention;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,6 +103,9 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
 
     protected static final String MONGO_URI_CONFIG_PATH = "pekko.contrib.persistence.mongodb.mongo.mongouri";
 
+    private static final String JSON_FIELD_MAP_RETENTION_CONFIG_PATH = "ditto.json.field-map-retention";
+    private static final Duration JSON_FIELD_MAP_RETENTION_METRICS_INTERVAL = Duration.ofSeconds(10);
+
     protected final Config rawConfig;
     protected final C serviceSpecificConfig;
     private final Logger logger;
@@ -206,10 +214,12 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         logRuntimeParameters();
         final var actorSystemConfig = appendDittoInfo(appendPekkoPersistenceMongoUriToRawConfig());
         injectSystemPropertiesLimits(serviceSpecificConfig);
+        configureJsonFieldMapRetention();
         startKamon();
         final var actorSystem = createActorSystem(actorSystemConfig);
         initializeActorSystem(actorSystem);
         startKamonPrometheusHttpEndpoint(actorSystem);
+        startJsonFieldMapRetentionMetrics(actorSystem);
         return actorSystem;
     }
 
@@ -418,6 +428,49 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         System.setProperty(DittoSystemProperties.DITTO_METRICS_METRIC_PREFIX, metricsConfig.getMetricPrefix());
     }
 
+    private void configureJsonFieldMapRetention() {
+        if (rawConfig.hasPath(JSON_FIELD_MAP_RETENTION_CONFIG_PATH)) {
+            final var retentionConfig = rawConfig.getConfig(JSON_FIELD_MAP_RETENTION_CONFIG_PATH);
+            final var strategy = JsonFieldMapRetention.Strategy.forName(retentionConfig.getString("strategy"));
+            final long budget = retentionConfig.getBytes("budget");
+            JsonFieldMapRetention.configure(strategy, budget);
+            logger.info("Retaining parsed fields of JSON objects with strategy <{}> and budget <{}> bytes.",
+                    strategy.getName(), budget);
+        }
+    }
+
+    /**
+     * Periodically reports how often parsed fields of JSON objects had to be re-parsed and how many are retained, so
+     * that the effect of the configured retention strategy becomes visible.
+     */
+    private static void startJsonFieldMapRetentionMetrics(final ActorSystem actorSystem) {
+        final Counter reparseCount = DittoMetrics.counter("json_field_map_reparse_count");
+        final Counter reparsedBytes = DittoMetrics.counter("json_field_map_reparsed_bytes");
+        final Counter evictionCount = DittoMetrics.counter("json_field_map_eviction_count");
+        final Gauge retainedBytes = DittoMetrics.gauge("json_field_map_retained_bytes");
+        final Gauge retainedCount = DittoMetrics.gauge("json_field_map_retained_count");
+        final AtomicLong reportedReparseCount = new AtomicLong(JsonFieldMapRetention.getReparseCount());
+        final AtomicLong reportedReparsedBytes = new AtomicLong(JsonFieldMapRetention.getReparsedBytes());
+        final AtomicLong reportedEvictionCount = new AtomicLong(JsonFieldMapRetention.getEvictionCount());
+        actorSystem.scheduler().scheduleWithFixedDelay(JSON_FIELD_MAP_RETENTION_METRICS_INTERVAL,
+                JSON_FIELD_MAP_RETENTION_METRICS_INTERVAL,
+                () -> {
+                    incrementToTotal(reparseCount, reportedReparseCount, JsonFieldMapRetention.getReparseCount());
+                    incrementToTotal(reparsedBytes, reportedReparsedBytes, JsonFieldMapRetention.getReparsedBytes());
+                    incrementToTotal(evictionCount, reportedEvictionCount, JsonFieldMapRetention.getEvictionCount());
+                    retainedBytes.set(JsonFieldMapRetention.getRetainedBytes());
+                    retainedCount.set((long) JsonFieldMapRetention.getRetainedCount());
+                },
+                actorSystem.dispatcher());
+    }
+
+    private static void incrementToTotal(final Counter counter, final AtomicLong reportedTotal, final long total) {
+        final long increment = total - reportedTotal.getAndSet(total);
+        if (increment > 0) {
+            counter.increment(increment);
+        }
+    }
+
     private static ActorRef getDistributedPubSubMediatorActor(final ActorSystem actorSystem) {
         return DistributedPubSub.get(actorSystem).mediator();
     }
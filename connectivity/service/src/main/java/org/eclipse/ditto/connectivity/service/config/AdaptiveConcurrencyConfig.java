@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings of the adaptive concurrency limit of http-push connections.
+ * The limit is adjusted per connection (i.e. per HTTP host) by "additive increase, multiplicative decrease" between
+ * {@link #getMinLimit()} and the parallelism of the connection.
+ *
+ * @since 3.5.0
+ */
+public interface AdaptiveConcurrencyConfig {
+
+    /**
+     * Create an {@code AdaptiveConcurrencyConfig} object.
+     *
+     * @param config the HOCON.
+     * @return the AdaptiveConcurrencyConfig object.
+     */
+    static AdaptiveConcurrencyConfig of(final Config config) {
+        return DefaultAdaptiveConcurrencyConfig.of(config);
+    }
+
+    /**
+     * @return whether the number of concurrent HTTP requests is limited adaptively. If disabled, the parallelism of
+     * the connection is the fixed limit.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the lower bound of the concurrency limit.
+     */
+    int getMinLimit();
+
+    /**
+     * @return the factor in the range {@code (0, 1)} by which the limit is reduced when the HTTP endpoint is
+     * overloaded.
+     */
+    double getBackoffRatio();
+
+    /**
+     * @return the response time above which a response is regarded as sign of an overloaded HTTP endpoint.
+     */
+    Duration getLatencyThreshold();
+
+    /**
+     * @return the maximum time a request waits for a free slot before it is shed.
+     */
+    Duration getMaxQueueTime();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code AdaptiveConcurrencyConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the concurrency limit is adaptive.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The lower bound of the concurrency limit.
+         */
+        MIN_LIMIT("min-limit", 1),
+
+        /**
+         * The factor by which the limit is reduced on overload.
+         */
+        BACKOFF_RATIO("backoff-ratio", 0.9),
+
+        /**
+         * The response time above which the HTTP endpoint is regarded as overloaded.
+         */
+        LATENCY_THRESHOLD("latency-threshold", Duration.ofSeconds(5L)),
+
+        /**
+         * The maximum time a request waits for a free slot.
+         */
+        MAX_QUEUE_TIME("max-queue-time", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -32,6 +32,24 @@ public interface Amqp10PublisherConfig {
      */
     int getParallelism();
 
+    /**
+     * Indicates whether messages are published pipelined, i.e. the publisher actor does not wait for the settlement
+     * of a message before it sends the next one but only limits the number of unsettled messages per producer.
+     *
+     * @return {@code true} if pipelined publishing is enabled.
+     * @since 3.5.0
+     */
+    boolean isPipeliningEnabled();
+
+    /**
+     * Returns the maximum number of sent but not yet settled messages per producer if pipelined publishing is
+     * enabled.
+     *
+     * @return the maximum number of unsettled messages per producer.
+     * @since 3.5.0
+     */
+    int getMaxInFlightPerProducer();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code Amqp10PublisherConfig}.
@@ -46,7 +64,17 @@ public interface Amqp10PublisherConfig {
         /**
          * How many messages will be published in parallel
          */
-        PARALLELISM("parallelism", 3);
+        PARALLELISM("parallelism", 3),
+
+        /**
+         * Whether to send messages without waiting for the settlement of the previous ones.
+         */
+        PIPELINING_ENABLED("pipelining-enabled", false),
+
+        /**
+         * How many sent messages may wait for their settlement per producer when publishing pipelined.
+         */
+        MAX_IN_FLIGHT_PER_PRODUCER("max-in-flight-per-producer", 1000);
 
         private final String path;
         private final Object defaultValue;
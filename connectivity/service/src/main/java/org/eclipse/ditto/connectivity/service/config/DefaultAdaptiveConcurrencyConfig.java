@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link AdaptiveConcurrencyConfig}.
+ */
+@Immutable
+final class DefaultAdaptiveConcurrencyConfig implements AdaptiveConcurrencyConfig {
+
+    private static final String CONFIG_PATH = "adaptive-concurrency";
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final double backoffRatio;
+    private final Duration latencyThreshold;
+    private final Duration maxQueueTime;
+
+    private DefaultAdaptiveConcurrencyConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        minLimit = config.getPositiveIntOrThrow(ConfigValue.MIN_LIMIT);
+        backoffRatio = config.getPositiveDoubleOrThrow(ConfigValue.BACKOFF_RATIO);
+        if (backoffRatio >= 1.0) {
+            throw new DittoConfigError(MessageFormat.format("The double value at <{0}> must be less than 1 but " +
+                    "it was <{1}>!", ConfigValue.BACKOFF_RATIO.getConfigPath(), backoffRatio));
+        }
+        latencyThreshold = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.LATENCY_THRESHOLD);
+        maxQueueTime = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.MAX_QUEUE_TIME);
+    }
+
+    static DefaultAdaptiveConcurrencyConfig of(final Config config) {
+        return new DefaultAdaptiveConcurrencyConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    @Override
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    @Override
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    @Override
+    public Duration getMaxQueueTime() {
+        return maxQueueTime;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAdaptiveConcurrencyConfig that = (DefaultAdaptiveConcurrencyConfig) o;
+        return enabled == that.enabled &&
+                minLimit == that.minLimit &&
+                Double.compare(backoffRatio, that.backoffRatio) == 0 &&
+                Objects.equals(latencyThreshold, that.latencyThreshold) &&
+                Objects.equals(maxQueueTime, that.maxQueueTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, minLimit, backoffRatio, latencyThreshold, maxQueueTime);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", minLimit=" + minLimit +
+                ", backoffRatio=" + backoffRatio +
+                ", latencyThreshold=" + latencyThreshold +
+                ", maxQueueTime=" + maxQueueTime +
+                "]";
+    }
+
+}
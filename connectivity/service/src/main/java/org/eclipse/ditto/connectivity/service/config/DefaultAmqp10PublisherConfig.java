@@ -31,10 +31,14 @@ final class DefaultAmqp10PublisherConfig implements Amqp10PublisherConfig {
 
     private final int maxQueueSize;
     private final int parallelism;
+    private final boolean pipeliningEnabled;
+    private final int maxInFlightPerProducer;
 
     private DefaultAmqp10PublisherConfig(final ScopedConfig config) {
         maxQueueSize = config.getNonNegativeIntOrThrow(ConfigValue.MAX_QUEUE_SIZE);
         parallelism = config.getNonNegativeIntOrThrow(ConfigValue.PARALLELISM);
+        pipeliningEnabled = config.getBoolean(ConfigValue.PIPELINING_ENABLED.getConfigPath());
+        maxInFlightPerProducer = config.getPositiveIntOrThrow(ConfigValue.MAX_IN_FLIGHT_PER_PRODUCER);
     }
 
     /**
@@ -59,12 +63,14 @@ final class DefaultAmqp10PublisherConfig implements Amqp10PublisherConfig {
         }
         final DefaultAmqp10PublisherConfig that = (DefaultAmqp10PublisherConfig) o;
         return maxQueueSize == that.maxQueueSize &&
-                parallelism == that.parallelism;
+                parallelism == that.parallelism &&
+                pipeliningEnabled == that.pipeliningEnabled &&
+                maxInFlightPerProducer == that.maxInFlightPerProducer;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxQueueSize, parallelism);
+        return Objects.hash(maxQueueSize, parallelism, pipeliningEnabled, maxInFlightPerProducer);
     }
 
     @Override
@@ -72,6 +78,8 @@ final class DefaultAmqp10PublisherConfig implements Amqp10PublisherConfig {
         return getClass().getSimpleName() + " [" +
                 "maxQueueSize=" + maxQueueSize +
                 ", parallelism=" + parallelism +
+                ", pipeliningEnabled=" + pipeliningEnabled +
+                ", maxInFlightPerProducer=" + maxInFlightPerProducer +
                 "]";
     }
 
@@ -84,4 +92,14 @@ final class DefaultAmqp10PublisherConfig implements Amqp10PublisherConfig {
     public int getParallelism() {
         return parallelism;
     }
+
+    @Override
+    public boolean isPipeliningEnabled() {
+        return pipeliningEnabled;
+    }
+
+    @Override
+    public int getMaxInFlightPerProducer() {
+        return maxInFlightPerProducer;
+    }
 }
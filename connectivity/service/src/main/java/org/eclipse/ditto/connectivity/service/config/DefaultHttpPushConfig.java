@@ -40,6 +40,7 @@ final class DefaultHttpPushConfig implements HttpPushConfig, WithStringMapDecodi
     private final Map<String, String> hmacAlgorithms;
     private final OAuth2Config oAuth2Config;
     private final List<String> omitRequestBodyMethods;
+    private final AdaptiveConcurrencyConfig adaptiveConcurrencyConfig;
 
     private DefaultHttpPushConfig(final ScopedConfig config) {
         maxQueueSize = config.getPositiveIntOrThrow(ConfigValue.MAX_QUEUE_SIZE);
@@ -48,6 +49,7 @@ final class DefaultHttpPushConfig implements HttpPushConfig, WithStringMapDecodi
         hmacAlgorithms = asStringMap(config, ConfigValue.HMAC_ALGORITHMS.getConfigPath());
         oAuth2Config = DefaultOAuth2Config.of(config);
         omitRequestBodyMethods = config.getStringList(ConfigValue.OMIT_REQUEST_BODY_METHODS.getConfigPath());
+        adaptiveConcurrencyConfig = DefaultAdaptiveConcurrencyConfig.of(config);
     }
 
     static DefaultHttpPushConfig of(final Config config) {
@@ -84,6 +86,11 @@ final class DefaultHttpPushConfig implements HttpPushConfig, WithStringMapDecodi
         return omitRequestBodyMethods;
     }
 
+    @Override
+    public AdaptiveConcurrencyConfig getAdaptiveConcurrencyConfig() {
+        return adaptiveConcurrencyConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -98,13 +105,14 @@ final class DefaultHttpPushConfig implements HttpPushConfig, WithStringMapDecodi
                 Objects.equals(httpProxyConfig, that.httpProxyConfig) &&
                 Objects.equals(hmacAlgorithms, that.hmacAlgorithms) &&
                 Objects.equals(oAuth2Config, that.oAuth2Config) &&
-                Objects.equals(omitRequestBodyMethods, that.omitRequestBodyMethods);
+                Objects.equals(omitRequestBodyMethods, that.omitRequestBodyMethods) &&
+                Objects.equals(adaptiveConcurrencyConfig, that.adaptiveConcurrencyConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxQueueSize, httpProxyConfig, hmacAlgorithms, requestTimeout, oAuth2Config,
-                omitRequestBodyMethods);
+                omitRequestBodyMethods, adaptiveConcurrencyConfig);
     }
 
     @Override
@@ -116,6 +124,7 @@ final class DefaultHttpPushConfig implements HttpPushConfig, WithStringMapDecodi
                 ", hmacAlgorithms=" + hmacAlgorithms +
                 ", oAuth2Config=" + oAuth2Config +
                 ", omitRequestBodyMethods=" + omitRequestBodyMethods +
+                ", adaptiveConcurrencyConfig=" + adaptiveConcurrencyConfig +
                 "]";
     }
 
@@ -66,6 +66,12 @@ public interface HttpPushConfig {
      */
     List<String> getOmitRequestBodyMethods();
 
+    /**
+     * @return configuration of the adaptive limit of concurrent HTTP requests.
+     * @since 3.5.0
+     */
+    AdaptiveConcurrencyConfig getAdaptiveConcurrencyConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpPushConfig}.
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.connectivity.service.config.mapping;
 
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -35,6 +36,8 @@ public final class DefaultMappingConfig implements MappingConfig {
     private final int parallelism;
     private final int maxPoolSize;
     private final boolean publishFailedEnrichments;
+    private final List<String> inboundPartitionKeyHeaders;
+    private final int inboundPartitionBufferSize;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
 
@@ -43,6 +46,9 @@ public final class DefaultMappingConfig implements MappingConfig {
         parallelism = config.getPositiveIntOrThrow(MappingConfigValue.PARALLELISM);
         maxPoolSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_POOL_SIZE);
         publishFailedEnrichments = config.getBoolean(MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath());
+        inboundPartitionKeyHeaders = List.copyOf(
+                config.getStringList(MappingConfigValue.INBOUND_PARTITION_KEY_HEADERS.getConfigPath()));
+        inboundPartitionBufferSize = config.getPositiveIntOrThrow(MappingConfigValue.INBOUND_PARTITION_BUFFER_SIZE);
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
     }
@@ -81,6 +87,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return publishFailedEnrichments;
     }
 
+    @Override
+    public List<String> getInboundPartitionKeyHeaders() {
+        return inboundPartitionKeyHeaders;
+    }
+
+    @Override
+    public int getInboundPartitionBufferSize() {
+        return inboundPartitionBufferSize;
+    }
+
     @Override
     public JavaScriptConfig getJavaScriptConfig() {
         return javaScriptConfig;
@@ -104,13 +120,16 @@ public final class DefaultMappingConfig implements MappingConfig {
                 parallelism == that.parallelism &&
                 maxPoolSize == that.maxPoolSize &&
                 publishFailedEnrichments == that.publishFailedEnrichments &&
+                inboundPartitionBufferSize == that.inboundPartitionBufferSize &&
+                Objects.equals(inboundPartitionKeyHeaders, that.inboundPartitionKeyHeaders) &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, maxPoolSize, publishFailedEnrichments, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxPoolSize, publishFailedEnrichments,
+                inboundPartitionKeyHeaders, inboundPartitionBufferSize, javaScriptConfig, mapperLimitsConfig);
     }
 
     @Override
@@ -120,6 +139,8 @@ public final class DefaultMappingConfig implements MappingConfig {
                 ", parallelism=" + parallelism +
                 ", maxPoolSize=" + maxPoolSize +
                 ", publishFailedEnrichments=" + publishFailedEnrichments +
+                ", inboundPartitionKeyHeaders=" + inboundPartitionKeyHeaders +
+                ", inboundPartitionBufferSize=" + inboundPartitionBufferSize +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
                 "]";
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.connectivity.service.config.mapping;
 
+import java.util.List;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.connectivity.service.config.javascript.JavaScriptConfig;
@@ -51,6 +53,28 @@ public interface MappingConfig {
      */
     boolean getPublishFailedEnrichments();
 
+    /**
+     * Returns the names of the external message headers whose value is used as key for partitioning inbound
+     * messages before mapping them.
+     * The first header present in a message determines its key. Messages with the same key are mapped in order while
+     * messages of different keys may be mapped in parallel and overtake each other.
+     * If empty, inbound messages are not partitioned and mapped in the order they were consumed.
+     *
+     * @return the names of the headers providing the partition key, e.g. {@code kafka.key} or {@code mqtt.topic}.
+     * @since 3.5.0
+     */
+    List<String> getInboundPartitionKeyHeaders();
+
+    /**
+     * Returns the number of inbound messages which may be queued for a single partition before the consumption of
+     * further messages is backpressured.
+     * Only applies if {@link #getInboundPartitionKeyHeaders()} is not empty.
+     *
+     * @return the buffer size of a single partition.
+     * @since 3.5.0
+     */
+    int getInboundPartitionBufferSize();
+
     /**
      * Returns the config of the JavaScript message mapping.
      *
@@ -89,7 +113,17 @@ public interface MappingConfig {
         /**
          * If messages with failed enrichments should be published.
          */
-        PUBLISH_FAILED_ENRICHMENTS("publish-failed-enrichments", false);
+        PUBLISH_FAILED_ENRICHMENTS("publish-failed-enrichments", false),
+
+        /**
+         * The names of the headers providing the key for partitioning inbound messages.
+         */
+        INBOUND_PARTITION_KEY_HEADERS("inbound-partition-key-headers", List.of()),
+
+        /**
+         * The number of inbound messages which may be queued for a single partition.
+         */
+        INBOUND_PARTITION_BUFFER_SIZE("inbound-partition-buffer-size", 100);
 
         private final String path;
         private final Object defaultValue;
@@ -1894,6 +1894,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
 
         return InboundMappingSink.createSink(inboundMappingProcessors,
                 connection.getId(),
+                actorUuid.toString(),
                 processorPoolSize,
                 inboundDispatchingSink,
                 connectivityConfig.getMappingConfig(),
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -26,21 +27,30 @@ import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOutcome;
 import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.Status;
 import org.apache.pekko.dispatch.MessageDispatcher;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.OverflowStrategy;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.Sink;
 
 /**
  * This class creates a Sink which is responsible for inbound payload mapping.
  * The instance of this class holds the "state" of the sink (see {@link #inboundMappingProcessors}).
+ * If {@link MappingConfig#getInboundPartitionKeyHeaders()} are configured, messages are mapped in order per key
+ * instead of in global order and the queue size of each partition is reported as gauge, which is removed when the
+ * stream terminates.
  */
 public final class InboundMappingSink {
 
+    private static final String PARTITION_QUEUE_SIZE_METRIC = "connection_inbound_mapping_partition_queue_size";
+
     private final ThreadSafeDittoLogger logger;
 
     private final List<InboundMappingProcessor> inboundMappingProcessors;
@@ -48,9 +58,13 @@ public final class InboundMappingSink {
     @Nullable private final ThrottlingConfig throttlingConfig;
     private final MessageDispatcher messageMappingProcessorDispatcher;
     private final int processorPoolSize;
+    private final List<String> partitionKeyHeaders;
+    private final int partitionBufferSize;
+    private final List<Gauge> partitionQueueSizeGauges;
 
     private InboundMappingSink(final List<InboundMappingProcessor> inboundMappingProcessors,
             final ConnectionId connectionId,
+            final CharSequence clientId,
             final int processorPoolSize,
             final Sink<Object, ?> inboundDispatchingSink,
             final MappingConfig mappingConfig,
@@ -59,6 +73,7 @@ public final class InboundMappingSink {
 
         this.inboundMappingProcessors = checkNotEmpty(inboundMappingProcessors, "inboundMappingProcessors");
         this.inboundDispatchingSink = checkNotNull(inboundDispatchingSink, "inboundDispatchingSink");
+        checkNotNull(clientId, "clientId");
         checkNotNull(mappingConfig, "mappingConfig");
         this.throttlingConfig = throttlingConfig;
         this.messageMappingProcessorDispatcher =
@@ -68,6 +83,19 @@ public final class InboundMappingSink {
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connectionId);
 
         this.processorPoolSize = this.determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
+        partitionKeyHeaders = mappingConfig.getInboundPartitionKeyHeaders();
+        partitionBufferSize = mappingConfig.getInboundPartitionBufferSize();
+        if (partitionKeyHeaders.isEmpty()) {
+            partitionQueueSizeGauges = List.of();
+        } else {
+            partitionQueueSizeGauges = IntStream.range(0, this.processorPoolSize)
+                    .mapToObj(partition -> DittoMetrics.gauge(PARTITION_QUEUE_SIZE_METRIC)
+                            .tag("connectionId", connectionId.toString())
+                            .tag("clientId", clientId.toString())
+                            .tag("partition", String.valueOf(partition)))
+                    .toList();
+            partitionQueueSizeGauges.forEach(gauge -> gauge.set(0L));
+        }
     }
 
 
@@ -77,6 +105,8 @@ public final class InboundMappingSink {
      * @param inboundMappingProcessors the MessageMappingProcessors to use for inbound messages. If at least as many
      * processors are given as `processorPoolSize`, then each processor is guaranteed to be invoked sequentially.
      * @param connectionId the connectionId
+     * @param clientId ID of the client actor the sink belongs to, which distinguishes the metrics of the sinks of
+     * the client actors of the same connection.
      * @param processorPoolSize how many message processing may happen in parallel per direction (incoming or outgoing).
      * @param inboundDispatchingSink used to dispatch inbound signals.
      * @param mappingConfig The mapping config.
@@ -89,6 +119,7 @@ public final class InboundMappingSink {
     public static Sink<Object, NotUsed> createSink(
             final List<InboundMappingProcessor> inboundMappingProcessors,
             final ConnectionId connectionId,
+            final CharSequence clientId,
             final int processorPoolSize,
             final Sink<Object, ?> inboundDispatchingSink,
             final MappingConfig mappingConfig,
@@ -97,6 +128,7 @@ public final class InboundMappingSink {
 
         final var inboundMappingSink = new InboundMappingSink(inboundMappingProcessors,
                 connectionId,
+                clientId,
                 processorPoolSize,
                 inboundDispatchingSink,
                 mappingConfig,
@@ -121,22 +153,16 @@ public final class InboundMappingSink {
     }
 
     private Sink<Object, NotUsed> mapMessage() {
-        final Flow<Object, InboundMappingOutcomes, NotUsed> mapMessageFlow =
-                Flow.fromFunction(ExternalMessageWithSender.class::cast)
-                        .zipWithIndex()
-                        // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                        .mapAsync(processorPoolSize, pair -> CompletableFuture.supplyAsync(
-                                () -> {
-                                    final var message = pair.first();
-                                    final int processorIndex = (int) (pair.second() % inboundMappingProcessors.size());
-                                    final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
-                                    logger.debug("Received inbound Message to map with processor no. <{}>: {}",
-                                            processorIndex, message);
-                                    return mapInboundMessage(message, inboundMappingProcessor);
-                                },
-                                messageMappingProcessorDispatcher)
-                        );
-
+        final Flow<Object, InboundMappingOutcomes, NotUsed> mapMessageFlow;
+        if (partitionKeyHeaders.isEmpty()) {
+            mapMessageFlow = Flow.fromFunction(ExternalMessageWithSender.class::cast)
+                    .zipWithIndex()
+                    // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
+                    .mapAsync(processorPoolSize, pair -> mapInboundMessageAsync(pair.first(),
+                            (int) (pair.second() % inboundMappingProcessors.size())));
+        } else {
+            mapMessageFlow = mapPartitionedMessage();
+        }
         final Flow<Object, InboundMappingOutcomes, NotUsed> flowWithOptionalThrottling;
         if (throttlingConfig != null && throttlingConfig.isEnabled()) {
             flowWithOptionalThrottling = mapMessageFlow
@@ -155,6 +181,56 @@ public final class InboundMappingSink {
                 .to(inboundDispatchingSink);
     }
 
+    /**
+     * Partitions the messages by their key into {@code processorPoolSize} sub-streams which are mapped in parallel.
+     * Each partition maps one message at a time with its own processor, thus messages with the same key keep their
+     * order while a slow mapping only stalls the messages of its own partition until the partition buffer is full.
+     * The partition queue size gauges are removed when the stream terminates, e.g. when the client actor stops.
+     */
+    private Flow<Object, InboundMappingOutcomes, NotUsed> mapPartitionedMessage() {
+        final int partitionCount = processorPoolSize;
+        return Flow.fromFunction(ExternalMessageWithSender.class::cast)
+                .zipWithIndex()
+                .map(pair -> Pair.create(determinePartition(pair.first(), pair.second(), partitionCount),
+                        pair.first()))
+                .groupBy(partitionCount, Pair::first)
+                .map(pair -> {
+                    partitionQueueSizeGauges.get(pair.first()).increment();
+                    return pair;
+                })
+                .buffer(partitionBufferSize, OverflowStrategy.backpressure())
+                .mapAsync(1, pair -> mapInboundMessageAsync(pair.second(),
+                                pair.first() % inboundMappingProcessors.size())
+                        .whenComplete((outcomes, error) -> partitionQueueSizeGauges.get(pair.first()).decrement()))
+                .mergeSubstreams()
+                .watchTermination((notUsed, terminated) -> {
+                    terminated.whenComplete((done, error) -> partitionQueueSizeGauges.forEach(Gauge::remove));
+                    return notUsed;
+                });
+    }
+
+    private int determinePartition(final ExternalMessageWithSender withSender, final long index,
+            final int partitionCount) {
+
+        final var externalMessage = withSender.externalMessage();
+        return partitionKeyHeaders.stream()
+                .flatMap(header -> externalMessage.findHeaderIgnoreCase(header).stream())
+                .findFirst()
+                .map(key -> Math.floorMod(key.hashCode(), partitionCount))
+                // messages without key have no order to keep and are distributed evenly
+                .orElseGet(() -> (int) (index % partitionCount));
+    }
+
+    private CompletableFuture<InboundMappingOutcomes> mapInboundMessageAsync(final ExternalMessageWithSender message,
+            final int processorIndex) {
+
+        return CompletableFuture.supplyAsync(() -> {
+            final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
+            logger.debug("Received inbound Message to map with processor no. <{}>: {}", processorIndex, message);
+            return mapInboundMessage(message, inboundMappingProcessor);
+        }, messageMappingProcessorDispatcher);
+    }
+
     private int determinePoolSize(final int connectionPoolSize, final int maxPoolSize) {
         if (connectionPoolSize > maxPoolSize) {
             logger.info("Configured pool size <{}> is greater than the configured max pool size <{}>." +
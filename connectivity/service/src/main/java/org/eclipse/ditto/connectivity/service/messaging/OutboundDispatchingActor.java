@@ -36,8 +36,10 @@ import org.eclipse.ditto.connectivity.api.InboundSignal;
 import org.eclipse.ditto.connectivity.api.OutboundSignalFactory;
 import org.eclipse.ditto.connectivity.model.Target;
 import org.eclipse.ditto.edge.service.acknowledgements.AcknowledgementForwarderActor;
+import org.eclipse.ditto.edge.service.dispatching.ThingReadReplica;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionEvent;
 
 import org.apache.pekko.actor.AbstractActor;
@@ -60,6 +62,7 @@ final class OutboundDispatchingActor extends AbstractActor {
 
     private final OutboundMappingSettings settings;
     private final ActorRef outboundMappingProcessorActor;
+    private final ThingReadReplica thingReadReplica;
 
     @SuppressWarnings("unused")
     private OutboundDispatchingActor(final OutboundMappingSettings settings,
@@ -67,6 +70,7 @@ final class OutboundDispatchingActor extends AbstractActor {
 
         this.settings = settings;
         this.outboundMappingProcessorActor = outboundMappingProcessorActor;
+        thingReadReplica = ThingReadReplica.get(getContext().getSystem());
     }
 
     static Props props(final OutboundMappingSettings settings, final ActorRef outboundMappingProcessorActor) {
@@ -96,6 +100,9 @@ final class OutboundDispatchingActor extends AbstractActor {
     }
 
     private void handleSignal(final Signal<?> signal) {
+        if (signal instanceof ThingEvent<?> thingEvent) {
+            thingReadReplica.applyTwinEvent(thingEvent);
+        }
         if (settings.getConnectionId().toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
             logDroppedSignal(signal, signal.getType(), "Was sent by myself.");
             return;
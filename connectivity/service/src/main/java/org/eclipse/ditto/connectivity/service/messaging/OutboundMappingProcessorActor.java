@@ -82,6 +82,7 @@ import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOu
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.InfoProviderFactory;
+import org.eclipse.ditto.connectivity.service.messaging.persistence.CompiledTargetFilters;
 import org.eclipse.ditto.connectivity.service.messaging.validation.ConnectionValidator;
 import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
 import org.eclipse.ditto.edge.service.headers.DittoHeadersValidator;
@@ -106,10 +107,7 @@ import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.ThingId;
@@ -152,6 +150,7 @@ public final class OutboundMappingProcessorActor
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
     private final List<OutboundMappingProcessor> outboundMappingProcessors;
+    private final CompiledTargetFilters compiledTargetFilters;
 
     @SuppressWarnings("unused")
     private OutboundMappingProcessorActor(final ActorRef clientActor,
@@ -167,6 +166,7 @@ public final class OutboundMappingProcessorActor
         this.clientActor = clientActor;
         this.outboundMappingProcessors = checkNotEmpty(outboundMappingProcessors, "outboundMappingProcessors");
         this.connection = connection;
+        compiledTargetFilters = CompiledTargetFilters.of(connection);
 
         final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         mappingConfig = connectivityConfig.getMappingConfig();
@@ -788,18 +788,16 @@ public final class OutboundMappingProcessorActor
             final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
                     .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver
-            ).filterCriteria(filter.get(), dittoHeaders);
+            final CompiledThingPredicate thingPredicate =
+                    compiledTargetFilters.getThingPredicate(filter.get(), dittoHeaders);
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
                             .filter(thing -> {
                                 final PlaceholderResolver<Thing> thingPlaceholderResolver = PlaceholderFactory
                                         .newPlaceholderResolver(THING_JSON_PLACEHOLDER, thing);
-                                return ThingPredicateVisitor.apply(criteria, topicPathPlaceholderResolver,
-                                        resourcePlaceholderResolver, timePlaceholderResolver, thingPlaceholderResolver)
-                                        .test(thing);
+                                return thingPredicate.test(thing, topicPathPlaceholderResolver,
+                                        resourcePlaceholderResolver, timePlaceholderResolver, thingPlaceholderResolver);
                             })
                             .map(thing -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
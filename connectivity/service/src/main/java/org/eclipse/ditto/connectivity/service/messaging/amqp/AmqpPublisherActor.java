@@ -108,6 +108,10 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     private final ActorRef backOffActor;
     private final SourceQueueWithComplete<Pair<ExternalMessage, AmqpMessageContext>> sourceQueue;
     private final KillSwitch killSwitch;
+    private final Executor jmsDispatcher;
+    private final boolean pipeliningEnabled;
+    private final int maxInFlightPerProducer;
+    private final Map<MessageProducer, PipelinedProducer> pipelinedProducers;
 
     private boolean isInBackOffMode;
 
@@ -120,9 +124,12 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
         super(connection, connectivityStatusResolver, connectivityConfig);
         this.session = checkNotNull(session, "session");
 
-        final Executor jmsDispatcher = JMSConnectionHandlingActor.getOwnDispatcher(getContext().system());
+        jmsDispatcher = JMSConnectionHandlingActor.getOwnDispatcher(getContext().system());
 
         final Amqp10Config config = connectionConfig.getAmqp10Config();
+        pipeliningEnabled = config.getPublisherConfig().isPipeliningEnabled();
+        maxInFlightPerProducer = config.getPublisherConfig().getMaxInFlightPerProducer();
+        pipelinedProducers = new HashMap<>();
         final Materializer materializer = Materializer.createMaterializer(this::getContext);
         final Pair<SourceQueueWithComplete<Pair<ExternalMessage, AmqpMessageContext>>, UniqueKillSwitch> materialized =
                 Source.<Pair<ExternalMessage, AmqpMessageContext>>queue(config.getPublisherConfig().getMaxQueueSize(),
@@ -233,6 +240,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
             // dynamic targets are not recreated, they are opened on-demand with the next message, no need to backoff
             findByValue(dynamicTargets, producer).map(Map.Entry::getKey).forEach(dynamicTargets::remove);
+            pipelinedProducers.remove(producer);
         } else {
             logger.info("Got closed AMQP 1.0 producer while already in backOff mode." +
                     " Will ignore the closed info as this should never happen" +
@@ -354,7 +362,9 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
             final CompletableFuture<SendResult> resultFuture) {
 
         final MessageProducer producer = getProducer(publishTarget.getJmsDestination());
-        if (producer != null) {
+        if (producer != null && pipeliningEnabled) {
+            return newPipelinedContext(signal, autoAckTarget, getPipelinedProducer(producer), resultFuture);
+        } else if (producer != null) {
             return newContextWithProducer(signal, autoAckTarget, producer, resultFuture);
         } else {
             return newContextWithoutProducer(publishTarget, resultFuture);
@@ -398,6 +408,50 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
         };
     }
 
+    private PipelinedProducer getPipelinedProducer(final MessageProducer producer) {
+        return pipelinedProducers.computeIfAbsent(producer,
+                p -> PipelinedProducer.of(p, maxInFlightPerProducer, jmsDispatcher));
+    }
+
+    /*
+     * The returned future completes as soon as the message was handed over to the producer so that the next message
+     * can be sent before this one is settled. The result future completes with the settlement.
+     */
+    private AmqpMessageContext newPipelinedContext(
+            final Signal<?> signal,
+            @Nullable final Target autoAckTarget,
+            final PipelinedProducer pipelinedProducer,
+            final CompletableFuture<SendResult> resultFuture) {
+
+        return message -> {
+            try {
+                final Message jmsMessage = toJmsMessage(message);
+
+                final ThreadSafeDittoLoggingAdapter l;
+                if (logger.isDebugEnabled()) {
+                    l = logger.withCorrelationId(message.getInternalHeaders());
+                } else {
+                    l = logger;
+                }
+
+                l.debug("Attempt to send message <{}> pipelined.", message);
+                final CompletableFuture<Void> settlement = new CompletableFuture<>();
+                settlement.whenComplete((unused, error) -> {
+                    if (null == error) {
+                        resultFuture.complete(buildResponse(signal, autoAckTarget));
+                        l.debug("Sent: <{}>", jmsMessage);
+                    } else {
+                        resultFuture.completeExceptionally(getMessageSendingException(message, error));
+                    }
+                });
+                return pipelinedProducer.send(jmsMessage, settlement);
+            } catch (final JMSException e) {
+                resultFuture.completeExceptionally(getMessageSendingException(message, e));
+                return resultFuture;
+            }
+        };
+    }
+
     private AmqpMessageContext newContextWithoutProducer(final AmqpTarget publishTarget,
             final CompletableFuture<SendResult> resultFuture) {
 
@@ -540,6 +594,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
             final MessageProducer producer = cachedProducer.getValue();
             logger.debug("Closing AMQP Producer for destination <{}>.", destination);
             if (null != producer) {
+                pipelinedProducers.remove(producer);
                 producer.close();
             } else {
                 logger.warning("Null producer in cache for destination <{}>!", destination);
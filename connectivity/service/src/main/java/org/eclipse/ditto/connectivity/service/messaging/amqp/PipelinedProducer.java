@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.amqp;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.jms.CompletionListener;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+
+/**
+ * Sends messages with one {@link MessageProducer} without waiting for the settlement of the previously sent messages.
+ * <p>
+ * At most {@code maxInFlight} sent messages may be unsettled at a time. Further messages wait for a free slot in this
+ * window instead of blocking a thread of the JMS dispatcher while the producer waits for link credit.
+ * </p>
+ * <p>
+ * All messages share one completion listener which relies on the JMS guarantee that completion listeners of a
+ * producer are invoked in the order of the sends. The listener only records a settlement; recorded settlements are
+ * processed as a batch on the given executor so that the client's completion thread is not held up by the
+ * continuations of the settlement futures.
+ * </p>
+ */
+@ThreadSafe
+final class PipelinedProducer {
+
+    private final MessageProducer producer;
+    private final int maxInFlight;
+    private final Executor settlementExecutor;
+    private final CompletionListener settlementListener;
+    private final Object sendLock;
+
+    // guarded by this
+    private final ArrayDeque<CompletableFuture<Void>> unsettled;
+    private final ArrayDeque<CompletableFuture<Void>> slotWaiters;
+    private final List<Settlement> settled;
+    private int inFlight;
+    private boolean settlementScheduled;
+
+    private PipelinedProducer(final MessageProducer producer, final int maxInFlight,
+            final Executor settlementExecutor) {
+
+        this.producer = producer;
+        this.maxInFlight = maxInFlight;
+        this.settlementExecutor = settlementExecutor;
+        settlementListener = new SettlementListener();
+        sendLock = new Object();
+        unsettled = new ArrayDeque<>();
+        slotWaiters = new ArrayDeque<>();
+        settled = new ArrayList<>();
+        inFlight = 0;
+        settlementScheduled = false;
+    }
+
+    /**
+     * Returns a new instance of {@code PipelinedProducer}.
+     *
+     * @param producer the producer to send messages with.
+     * @param maxInFlight the maximum number of sent but unsettled messages.
+     * @param settlementExecutor the executor to process settlements and to send messages which had to wait for a slot.
+     * @return the instance.
+     * @throws NullPointerException if {@code producer} or {@code settlementExecutor} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive.
+     */
+    static PipelinedProducer of(final MessageProducer producer, final int maxInFlight,
+            final Executor settlementExecutor) {
+
+        checkArgument(maxInFlight, i -> i > 0, () -> "The maxInFlight must be positive!");
+        return new PipelinedProducer(checkNotNull(producer, "producer"), maxInFlight,
+                checkNotNull(settlementExecutor, "settlementExecutor"));
+    }
+
+    /**
+     * Sends the message as soon as the number of unsettled messages permits it.
+     *
+     * @param message the message to send.
+     * @param settlement the future to complete when the message was settled or to complete exceptionally when it
+     * could not be sent.
+     * @return a future which completes when the message was handed over to the producer.
+     */
+    CompletionStage<Void> send(final Message message, final CompletableFuture<Void> settlement) {
+        final CompletableFuture<Void> slot = acquireSlot();
+        final CompletionStage<Void> result;
+        if (slot.isDone()) {
+            sendWithSlot(message, settlement);
+            result = CompletableFuture.completedFuture(null);
+        } else {
+            result = slot.thenRunAsync(() -> sendWithSlot(message, settlement), settlementExecutor);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the number of sent messages whose settlement is pending.
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of messages waiting for a free slot.
+     */
+    synchronized int getWaiting() {
+        return slotWaiters.size();
+    }
+
+    private synchronized CompletableFuture<Void> acquireSlot() {
+        final CompletableFuture<Void> result;
+        if (inFlight < maxInFlight && slotWaiters.isEmpty()) {
+            ++inFlight;
+            result = CompletableFuture.completedFuture(null);
+        } else {
+            result = new CompletableFuture<>();
+            slotWaiters.add(result);
+        }
+
+        return result;
+    }
+
+    private void sendWithSlot(final Message message, final CompletableFuture<Void> settlement) {
+        // enqueueing and sending must not interleave so that the order of the queue is the order of the completions
+        synchronized (sendLock) {
+            synchronized (this) {
+                unsettled.add(settlement);
+            }
+            try {
+                producer.send(message, settlementListener);
+            } catch (final JMSException | RuntimeException e) {
+                final List<CompletableFuture<Void>> grantedSlots;
+                synchronized (this) {
+                    unsettled.removeLastOccurrence(settlement);
+                    --inFlight;
+                    grantedSlots = grantSlots();
+                }
+                grantedSlots.forEach(slot -> slot.complete(null));
+                settlement.completeExceptionally(e);
+            }
+        }
+    }
+
+    // must be called while holding the lock of this object
+    private List<CompletableFuture<Void>> grantSlots() {
+        final List<CompletableFuture<Void>> result = new ArrayList<>();
+        while (inFlight < maxInFlight && !slotWaiters.isEmpty()) {
+            ++inFlight;
+            result.add(slotWaiters.poll());
+        }
+
+        return result;
+    }
+
+    private void recordSettlement(@Nullable final Exception error) {
+        final boolean scheduleSettlement;
+        synchronized (this) {
+            final CompletableFuture<Void> settlement = unsettled.poll();
+            if (null != settlement) {
+                settled.add(new Settlement(settlement, error));
+            }
+            scheduleSettlement = !settlementScheduled && !settled.isEmpty();
+            settlementScheduled |= scheduleSettlement;
+        }
+        if (scheduleSettlement) {
+            settlementExecutor.execute(this::processSettlements);
+        }
+    }
+
+    private void processSettlements() {
+        final List<Settlement> batch;
+        final List<CompletableFuture<Void>> grantedSlots;
+        synchronized (this) {
+            batch = new ArrayList<>(settled);
+            settled.clear();
+            settlementScheduled = false;
+            inFlight -= batch.size();
+            grantedSlots = grantSlots();
+        }
+        grantedSlots.forEach(slot -> slot.complete(null));
+        batch.forEach(Settlement::complete);
+    }
+
+    private final class SettlementListener implements CompletionListener {
+
+        @Override
+        public void onCompletion(final Message message) {
+            recordSettlement(null);
+        }
+
+        @Override
+        public void onException(final Message message, final Exception exception) {
+            recordSettlement(exception);
+        }
+
+    }
+
+    private record Settlement(CompletableFuture<Void> future, @Nullable Exception error) {
+
+        private void complete() {
+            if (null != error) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(null);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.eclipse.ditto.connectivity.service.config.AdaptiveConcurrencyConfig;
+
+import scala.util.Try;
+
+/**
+ * Limits the number of concurrent HTTP requests to one host adaptively by "additive increase, multiplicative
+ * decrease" (AIMD).
+ * <p>
+ * Each successful and timely response increases the limit by {@code 1 / limit}, i.e. by about 1 per round trip of
+ * all in-flight requests, up to the maximum limit. Failed requests, responses with status 429, 503 or 504 and
+ * responses slower than the latency threshold multiply the limit with the backoff ratio, down to the minimum limit.
+ * Requests exceeding the limit wait in FIFO order for a free slot; those waiting longer than the maximum queue time
+ * are shed.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final Duration maxQueueTime;
+
+    private final Deque<CompletableFuture<Optional<Permit>>> waiters;
+    private double limit;
+    private int inFlight;
+
+    private AdaptiveConcurrencyLimiter(final AdaptiveConcurrencyConfig config, final int maxLimit) {
+        this.maxLimit = maxLimit;
+        minLimit = Math.min(config.getMinLimit(), maxLimit);
+        backoffRatio = config.getBackoffRatio();
+        latencyThresholdNanos = config.getLatencyThreshold().toNanos();
+        maxQueueTime = config.getMaxQueueTime();
+        waiters = new ArrayDeque<>();
+        limit = maxLimit;
+        inFlight = 0;
+    }
+
+    /**
+     * Creates a limiter which starts with the maximum limit.
+     *
+     * @param config the config of the limiter.
+     * @param maxLimit the maximum limit, i.e. the parallelism of the connection.
+     * @return the limiter.
+     * @throws IllegalArgumentException if {@code maxLimit} is not positive.
+     */
+    static AdaptiveConcurrencyLimiter of(final AdaptiveConcurrencyConfig config, final int maxLimit) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("The maxLimit must be positive but it was <" + maxLimit + ">!");
+        }
+        return new AdaptiveConcurrencyLimiter(config, maxLimit);
+    }
+
+    /**
+     * Acquires a slot for one request.
+     *
+     * @return future permit which is present once a slot is free or empty if the request was shed because it waited
+     * longer than the maximum queue time.
+     */
+    CompletionStage<Optional<Permit>> acquire() {
+        final CompletableFuture<Optional<Permit>> result;
+        synchronized (this) {
+            waiters.removeIf(CompletableFuture::isDone);
+            if (waiters.isEmpty() && inFlight < getLimit()) {
+                ++inFlight;
+                result = CompletableFuture.completedFuture(Optional.of(new Permit()));
+            } else {
+                result = new CompletableFuture<>();
+                result.completeOnTimeout(Optional.empty(), maxQueueTime.toMillis(), TimeUnit.MILLISECONDS);
+                waiters.addLast(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the current concurrency limit.
+     */
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests which are waiting for a free slot.
+     */
+    synchronized int getQueued() {
+        waiters.removeIf(CompletableFuture::isDone);
+        return waiters.size();
+    }
+
+    /**
+     * @return the number of requests which currently hold a slot.
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void release(final boolean adjustLimit, final boolean overloaded) {
+        final List<CompletableFuture<Optional<Permit>>> grantedWaiters = new ArrayList<>();
+        synchronized (this) {
+            --inFlight;
+            if (adjustLimit && overloaded) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (adjustLimit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            while (inFlight < getLimit() && !waiters.isEmpty()) {
+                final var waiter = waiters.pollFirst();
+                if (!waiter.isDone()) {
+                    ++inFlight;
+                    grantedWaiters.add(waiter);
+                }
+            }
+        }
+        // complete outside the lock as completion runs the callbacks of the waiters
+        for (final var waiter : grantedWaiters) {
+            if (!waiter.complete(Optional.of(new Permit()))) {
+                // the waiter timed out in the meantime
+                release(false, false);
+            }
+        }
+    }
+
+    /**
+     * A slot for one request which must be released exactly once.
+     */
+    final class Permit {
+
+        private final long grantedAtNanos;
+        private final AtomicBoolean released;
+
+        private Permit() {
+            grantedAtNanos = System.nanoTime();
+            released = new AtomicBoolean(false);
+        }
+
+        /**
+         * Releases the slot and adjusts the limit according to the response.
+         *
+         * @param response the tried response of the request sent with this permit.
+         * @return whether the response indicated an overloaded endpoint, i.e. the limit was decreased.
+         */
+        boolean release(final Try<HttpResponse> response) {
+            final boolean overloaded = isOverloaded(response, System.nanoTime() - grantedAtNanos);
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(true, overloaded);
+            }
+            return overloaded;
+        }
+
+        /**
+         * Releases the slot without adjusting the limit, e.g. because the request was never sent.
+         */
+        void releaseUnused() {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(false, false);
+            }
+        }
+
+        private boolean isOverloaded(final Try<HttpResponse> response, final long latencyNanos) {
+            final boolean result;
+            if (response.isFailure()) {
+                result = true;
+            } else {
+                final var status = response.get().status();
+                result = StatusCodes.TOO_MANY_REQUESTS.equals(status) ||
+                        StatusCodes.SERVICE_UNAVAILABLE.equals(status) ||
+                        StatusCodes.GATEWAY_TIMEOUT.equals(status) ||
+                        latencyNanos > latencyThresholdNanos;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -36,6 +36,7 @@ import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.common.HttpStatus;
 import org.eclipse.ditto.base.model.common.HttpStatusCodeOutOfRangeException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -62,6 +63,7 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.InfoProv
 import org.eclipse.ditto.connectivity.service.messaging.signing.NoOpSigning;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -134,6 +136,9 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private final HttpRequestSigning httpRequestSigning;
     private final List<HttpMethod> omitBodyForMethods;
     private final HttpPushRoundTripSignalsValidator httpPushRoundTripSignalValidator;
+    @Nullable private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Gauge concurrencyLimitGauge;
+    private final Gauge queuedRequestsGauge;
 
     @SuppressWarnings("unused")
     private HttpPublisherActor(final Connection connection,
@@ -145,6 +150,20 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         this.factory = factory;
         materializer = Materializer.createMaterializer(this::getContext);
         final var config = connectionConfig.getHttpPushConfig();
+        final var adaptiveConcurrencyConfig = config.getAdaptiveConcurrencyConfig();
+        if (adaptiveConcurrencyConfig.isEnabled()) {
+            concurrencyLimiter = AdaptiveConcurrencyLimiter.of(adaptiveConcurrencyConfig,
+                    DefaultHttpPushFactory.parseParallelism(HttpPushSpecificConfig.fromConnection(connection, config)));
+        } else {
+            concurrencyLimiter = null;
+        }
+        concurrencyLimitGauge = DittoMetrics.gauge("http_publish_concurrency_limit")
+                .tag("id", connection.getId().toString());
+        queuedRequestsGauge = DittoMetrics.gauge("http_publish_queued_requests")
+                .tag("id", connection.getId().toString());
+        if (null != concurrencyLimiter) {
+            reportConcurrency(concurrencyLimiter);
+        }
         final var materialized =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
                         .viaMat(buildHttpRequestFlow(config), Keep.left())
@@ -293,9 +312,15 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                 .maximumDuration(requestTimeout.plus(Duration.ofSeconds(5)))
                 .tag("id", connection.getId().toString());
 
-        final BiConsumer<Duration, ConnectionMonitor.InfoProvider> logRequestTimes =
-                (duration, infoProvider) -> connectionLogger.success(infoProvider,
-                        "HTTP request took <{0}> ms.", duration.toMillis());
+        final BiConsumer<Duration, ConnectionMonitor.InfoProvider> logRequestTimes;
+        if (null != concurrencyLimiter) {
+            logRequestTimes = (duration, infoProvider) -> connectionLogger.success(infoProvider,
+                    "HTTP request took <{0}> ms. Concurrency limit is <{1}> with <{2}> requests waiting.",
+                    duration.toMillis(), concurrencyLimiter.getLimit(), concurrencyLimiter.getQueued());
+        } else {
+            logRequestTimes = (duration, infoProvider) -> connectionLogger.success(infoProvider,
+                    "HTTP request took <{0}> ms.", duration.toMillis());
+        }
 
         final Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> oauthFlow =
                 ClientCredentialsFlowVisitor.eval(getContext().getSystem(), config, connection);
@@ -311,7 +336,76 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final var httpPushFlow =
                 factory.createFlow(getContext().getSystem(), logger, requestTimeout, timer, logRequestTimes);
 
-        return oauthFlow.via(requestSigningFlow).via(httpPushFlow);
+        // acquire the permit before authenticating and signing: a request waiting for a free slot would otherwise be
+        // sent with a token or signature which may have expired while it was queued
+        return limitConcurrency().via(oauthFlow).via(requestSigningFlow).via(httpPushFlow);
+    }
+
+    private Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> limitConcurrency() {
+        if (null == concurrencyLimiter) {
+            return Flow.create();
+        }
+        // the limiter queues at most as many requests as the maximum limit, further requests stay in the source queue
+        final int maxLimit = DefaultHttpPushFactory.parseParallelism(
+                HttpPushSpecificConfig.fromConnection(connection, connectionConfig.getHttpPushConfig()));
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .mapAsyncUnordered(maxLimit, pair -> {
+                    final var permitFuture = concurrencyLimiter.acquire();
+                    reportConcurrency(concurrencyLimiter);
+                    return permitFuture.thenApply(permit -> permit.map(p -> Pair.create(pair.first(),
+                                    withPermit(pair.second(), p, concurrencyLimiter)))
+                            .or(() -> {
+                                pair.second().onRequestShed(MessageSendingFailedException.newBuilder()
+                                        .message(MessageFormat.format("Outgoing HTTP request aborted: There was no " +
+                                                        "free slot within <{0}> with a concurrency limit of <{1}>.",
+                                                connectionConfig.getHttpPushConfig()
+                                                        .getAdaptiveConcurrencyConfig()
+                                                        .getMaxQueueTime(),
+                                                concurrencyLimiter.getLimit()))
+                                        .description(TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION)
+                                        .build());
+                                return Optional.empty();
+                            }));
+                })
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    private HttpPushContext withPermit(final HttpPushContext context,
+            final AdaptiveConcurrencyLimiter.Permit permit,
+            final AdaptiveConcurrencyLimiter limiter) {
+
+        return new HttpPushContext() {
+            @Override
+            public void onResponse(final Try<HttpResponse> response) {
+                final boolean overloaded = permit.release(response);
+                reportConcurrency(limiter);
+                if (overloaded) {
+                    connectionLogger.failure(context.getInfoProvider(),
+                            "HTTP endpoint seems to be overloaded. Concurrency limit is <{0}> with <{1}> requests " +
+                                    "waiting.", limiter.getLimit(), limiter.getQueued());
+                }
+                context.onResponse(response);
+            }
+
+            @Override
+            public void onRequestShed(final DittoRuntimeException error) {
+                permit.releaseUnused();
+                reportConcurrency(limiter);
+                context.onRequestShed(error);
+            }
+
+            @Override
+            public ConnectionMonitor.InfoProvider getInfoProvider() {
+                return context.getInfoProvider();
+            }
+        };
+    }
+
+    // Async callback. Must be thread-safe.
+    private void reportConcurrency(final AdaptiveConcurrencyLimiter limiter) {
+        concurrencyLimitGauge.set((long) limiter.getLimit());
+        queuedRequestsGauge.set((long) limiter.getQueued());
     }
 
     @Override
@@ -476,6 +570,11 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                 }
             }
 
+            @Override
+            public void onRequestShed(final DittoRuntimeException error) {
+                resultFuture.completeExceptionally(error.setDittoHeaders(message.getInternalHeaders()));
+            }
+
             @Override
             public ConnectionMonitor.InfoProvider getInfoProvider() {
                 return InfoProviderFactory.forExternalMessage(message);
@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging.httppush;
 
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
 
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import scala.util.Failure;
 import scala.util.Try;
 
 /**
@@ -29,6 +31,17 @@ interface HttpPushContext {
      */
     void onResponse(Try<HttpResponse> response);
 
+    /**
+     * Called instead of {@link #onResponse(Try)} if the request was not sent at all because the HTTP endpoint is
+     * overloaded.
+     *
+     * @param error describes why the request was shed.
+     * @since 3.5.0
+     */
+    default void onRequestShed(final DittoRuntimeException error) {
+        onResponse(new Failure<>(error));
+    }
+
     /**
      * @return the {@code InfoProvider} to e.g. extract a {@code correlation-id} from during connection logging.
      */
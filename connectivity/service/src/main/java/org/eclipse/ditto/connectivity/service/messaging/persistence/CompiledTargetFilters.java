@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.persistence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.FilteredTopic;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
+
+/**
+ * The RQL filters of the targets of a connection, parsed once when the connection is opened.
+ * <p>
+ * Placeholders such as {@code topic:action} are accepted as fields when parsing and are only resolved when the parsed
+ * criteria are evaluated for a signal. The parsed filters belong to one revision of a connection; a modified connection
+ * compiles its filters anew. For filters evaluated on whole Things, a {@link CompiledThingPredicate} is compiled as
+ * well.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class CompiledTargetFilters {
+
+    private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
+    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
+    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+
+    private final Map<String, Criteria> criteriaByFilter;
+    private final Map<String, CompiledThingPredicate> thingPredicateByFilter;
+
+    private CompiledTargetFilters(final Map<String, Criteria> criteriaByFilter,
+            final Map<String, CompiledThingPredicate> thingPredicateByFilter) {
+        this.criteriaByFilter = criteriaByFilter;
+        this.thingPredicateByFilter = thingPredicateByFilter;
+    }
+
+    /**
+     * Parse the filters of all targets of a connection.
+     *
+     * @param connection the connection.
+     * @return the parsed filters.
+     */
+    public static CompiledTargetFilters of(final Connection connection) {
+        final Map<String, Criteria> criteriaByFilter = new HashMap<>();
+        final Map<String, CompiledThingPredicate> thingPredicateByFilter = new HashMap<>();
+        connection.getTargets()
+                .stream()
+                .flatMap(target -> target.getTopics().stream())
+                .map(FilteredTopic::getFilter)
+                .flatMap(Optional::stream)
+                .distinct()
+                .forEach(filter -> {
+                    try {
+                        final Criteria criteria = parseCriteria(filter, DittoHeaders.empty());
+                        criteriaByFilter.put(filter, criteria);
+                        thingPredicateByFilter.put(filter, CompiledThingPredicate.compile(criteria));
+                    } catch (final InvalidRqlExpressionException e) {
+                        // not compiled; the error is reported for each signal to be filtered
+                    }
+                });
+        return new CompiledTargetFilters(Collections.unmodifiableMap(criteriaByFilter),
+                Collections.unmodifiableMap(thingPredicateByFilter));
+    }
+
+    /**
+     * Get the criteria of a target filter.
+     * Filters not known when the connection was opened are parsed on each call.
+     *
+     * @param filter the filter string.
+     * @param dittoHeaders headers of the signal to filter for the error report.
+     * @return the criteria of the filter.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion
+     */
+    public Criteria getCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        final Criteria criteria = criteriaByFilter.get(filter);
+        if (criteria != null) {
+            return criteria;
+        } else {
+            // invalid filters are parsed again in order to report the error with the headers of the signal
+            return parseCriteria(filter, dittoHeaders);
+        }
+    }
+
+    /**
+     * Get the compiled predicate of a target filter for evaluating it on a Thing.
+     * Filters not known when the connection was opened are parsed and compiled on each call.
+     *
+     * @param filter the filter string.
+     * @param dittoHeaders headers of the signal to filter for the error report.
+     * @return the compiled predicate of the filter.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion
+     */
+    public CompiledThingPredicate getThingPredicate(final String filter, final DittoHeaders dittoHeaders) {
+        final CompiledThingPredicate thingPredicate = thingPredicateByFilter.get(filter);
+        if (thingPredicate != null) {
+            return thingPredicate;
+        } else {
+            return CompiledThingPredicate.compile(parseCriteria(filter, dittoHeaders));
+        }
+    }
+
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), TOPIC_PATH_PLACEHOLDER,
+                        RESOURCE_PLACEHOLDER, TIME_PLACEHOLDER)
+                .filterCriteria(filter, dittoHeaders);
+    }
+
+}
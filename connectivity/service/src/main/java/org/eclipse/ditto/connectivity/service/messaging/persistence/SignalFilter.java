@@ -28,7 +28,6 @@ import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
 import org.eclipse.ditto.base.model.signals.events.Event;
@@ -51,9 +50,7 @@ import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
@@ -65,6 +62,9 @@ import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
  * <li>removing those targets that do not want to receive a signal</li>
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
+ * <p>
+ * The RQL filters of all targets are parsed once when the SignalFilter is created for a connection, see
+ * {@link CompiledTargetFilters}.
  */
 public final class SignalFilter {
 
@@ -72,14 +72,17 @@ public final class SignalFilter {
     private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
     private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
     private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+    private static final Thing EMPTY_THING = Thing.newBuilder().build();
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final CompiledTargetFilters compiledTargetFilters;
 
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledTargetFilters = CompiledTargetFilters.of(connection);
     }
 
     /**
@@ -105,6 +108,7 @@ public final class SignalFilter {
      */
     @SuppressWarnings("squid:S3864")
     public List<Target> filter(final Signal<?> signal) {
+        final SignalContext signalContext = new SignalContext(signal);
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
                 .filter(t -> isTargetSubscribedForTopicGenerally(t, signal))
@@ -112,7 +116,7 @@ public final class SignalFilter {
                 .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection,
                         authorizedTarget.getAddress())
                         .success(signal))
-                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signal))
+                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signalContext))
                 // count authorized + filtered targets
                 .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection,
                         filteredTarget.getAddress())
@@ -136,11 +140,12 @@ public final class SignalFilter {
                 .anyMatch(applyTopicFilter(signal));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final SignalContext signalContext) {
+        final Signal<?> signal = signalContext.signal;
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signalContext));
     }
 
     private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
@@ -157,48 +162,26 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic,
+            final SignalContext signalContext) {
+
         final Optional<String> filterOptional = filteredTopic.getFilter();
         if (filterOptional.isPresent()) {
             // match filter ignoring "extraFields"
-
-            final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
-            final PlaceholderResolver<TopicPath> topicPathPlaceholderResolver =
-                    PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath);
-            final PlaceholderResolver<WithResource> resourcePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal);
-            final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
-            final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
+            final Criteria criteria = compiledTargetFilters.getCriteria(filterOptional.get(),
+                    signalContext.signal.getDittoHeaders());
             final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
                     .map(JsonFieldSelector::getPointers)
                     .orElse(Collections.emptySet());
-            if (signal instanceof ThingEvent) {
-                return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                        .filter(thing -> Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing,
-                                topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver))
-                        .isPresent();
-            } else {
-                final Thing emptyThing = Thing.newBuilder().build();
-                return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, emptyThing,
-                        topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
-            }
+            return signalContext.getThing()
+                    .filter(thing -> Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing,
+                            signalContext.getPlaceholderResolvers()))
+                    .isPresent();
         } else {
             return true;
         }
     }
 
-    /**
-     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
-     * mapped to a valid criterion
-     */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders,
-            final PlaceholderResolver<?>... placeholderResolvers) {
-        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), placeholderResolvers)
-                .filterCriteria(filter, dittoHeaders);
-    }
-
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
         if (signal instanceof PolicyAnnouncement) {
             return Optional.of(Topic.POLICY_ANNOUNCEMENTS);
@@ -252,4 +235,46 @@ public final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * The parts of a signal needed to evaluate filters, computed at most once per signal for all targets.
+     */
+    private static final class SignalContext {
+
+        private final Signal<?> signal;
+        @Nullable private List<PlaceholderResolver<?>> placeholderResolvers;
+        @Nullable private Thing thing;
+        private boolean thingConverted;
+
+        private SignalContext(final Signal<?> signal) {
+            this.signal = signal;
+            placeholderResolvers = null;
+            thing = null;
+            thingConverted = false;
+        }
+
+        private List<PlaceholderResolver<?>> getPlaceholderResolvers() {
+            if (placeholderResolvers == null) {
+                final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
+                placeholderResolvers = List.of(
+                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath),
+                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()));
+            }
+            return placeholderResolvers;
+        }
+
+        private Optional<Thing> getThing() {
+            if (!thingConverted) {
+                if (signal instanceof ThingEvent<?> thingEvent) {
+                    thing = ThingEventToThingConverter.thingEventToThing(thingEvent).orElse(null);
+                } else {
+                    thing = EMPTY_THING;
+                }
+                thingConverted = true;
+            }
+            return Optional.ofNullable(thing);
+        }
+
+    }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+public final class DefaultAdaptiveConcurrencyConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("adaptive-concurrency-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultAdaptiveConcurrencyConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultAdaptiveConcurrencyConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final AdaptiveConcurrencyConfig underTest = DefaultAdaptiveConcurrencyConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getBackoffRatio())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(AdaptiveConcurrencyConfig.ConfigValue.BACKOFF_RATIO.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final AdaptiveConcurrencyConfig underTest = DefaultAdaptiveConcurrencyConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMinLimit())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.MIN_LIMIT.getConfigPath())
+                .isEqualTo(3);
+
+        softly.assertThat(underTest.getBackoffRatio())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(0.75);
+
+        softly.assertThat(underTest.getLatencyThreshold())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.LATENCY_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2));
+
+        softly.assertThat(underTest.getMaxQueueTime())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.MAX_QUEUE_TIME.getConfigPath())
+                .isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    public void backoffRatioMustBeLessThanOne() {
+        final var invalidConfig = ConfigFactory.parseString("adaptive-concurrency.backoff-ratio = 1.0");
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultAdaptiveConcurrencyConfig.of(invalidConfig));
+    }
+
+}
@@ -77,6 +77,12 @@ public final class DefaultAmqp10ConfigTest {
         softly.assertThat(underTest.getPublisherConfig().getParallelism())
                 .as(Amqp10PublisherConfig.ConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(Amqp10PublisherConfig.ConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getPublisherConfig().isPipeliningEnabled())
+                .as(Amqp10PublisherConfig.ConfigValue.PIPELINING_ENABLED.getConfigPath())
+                .isEqualTo(Amqp10PublisherConfig.ConfigValue.PIPELINING_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getPublisherConfig().getMaxInFlightPerProducer())
+                .as(Amqp10PublisherConfig.ConfigValue.MAX_IN_FLIGHT_PER_PRODUCER.getConfigPath())
+                .isEqualTo(Amqp10PublisherConfig.ConfigValue.MAX_IN_FLIGHT_PER_PRODUCER.getDefaultValue());
         softly.assertThat(underTest.getGlobalConnectTimeout())
                 .as(Amqp10Config.Amqp10ConfigValue.GLOBAL_CONNECT_TIMEOUT.getConfigPath())
                 .isEqualTo(Amqp10Config.Amqp10ConfigValue.GLOBAL_CONNECT_TIMEOUT.getDefaultValue());
@@ -125,6 +131,12 @@ public final class DefaultAmqp10ConfigTest {
         softly.assertThat(underTest.getPublisherConfig().getParallelism())
                 .as(Amqp10PublisherConfig.ConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(3);
+        softly.assertThat(underTest.getPublisherConfig().isPipeliningEnabled())
+                .as(Amqp10PublisherConfig.ConfigValue.PIPELINING_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getPublisherConfig().getMaxInFlightPerProducer())
+                .as(Amqp10PublisherConfig.ConfigValue.MAX_IN_FLIGHT_PER_PRODUCER.getConfigPath())
+                .isEqualTo(77);
         softly.assertThat(underTest.getGlobalConnectTimeout())
                 .as(Amqp10Config.Amqp10ConfigValue.GLOBAL_CONNECT_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(11));
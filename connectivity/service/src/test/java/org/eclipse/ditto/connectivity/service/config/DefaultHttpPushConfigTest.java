@@ -47,7 +47,7 @@ public final class DefaultHttpPushConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultHttpPushConfig.class,
                 areImmutable(),
-                provided(HttpProxyConfig.class, OAuth2Config.class).areAlsoImmutable(),
+                provided(HttpProxyConfig.class, OAuth2Config.class, AdaptiveConcurrencyConfig.class).areAlsoImmutable(),
                 assumingFields("hmacAlgorithms", "omitRequestBodyMethods")
                         .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
@@ -95,6 +95,27 @@ public final class DefaultHttpPushConfigTest {
         softly.assertThat(underTest.getHmacAlgorithms())
                 .describedAs(HttpPushConfig.ConfigValue.HMAC_ALGORITHMS.getConfigPath())
                 .isEqualTo(Map.of("algorithm1", "factory1", "algorithm2", "factory2"));
+
+        final AdaptiveConcurrencyConfig adaptiveConcurrencyConfig = underTest.getAdaptiveConcurrencyConfig();
+        softly.assertThat(adaptiveConcurrencyConfig.isEnabled())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(adaptiveConcurrencyConfig.getMinLimit())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.MIN_LIMIT.getConfigPath())
+                .isEqualTo(2);
+
+        softly.assertThat(adaptiveConcurrencyConfig.getBackoffRatio())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(0.5);
+
+        softly.assertThat(adaptiveConcurrencyConfig.getLatencyThreshold())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.LATENCY_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3));
+
+        softly.assertThat(adaptiveConcurrencyConfig.getMaxQueueTime())
+                .describedAs(AdaptiveConcurrencyConfig.ConfigValue.MAX_QUEUE_TIME.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(4));
     }
 
 }
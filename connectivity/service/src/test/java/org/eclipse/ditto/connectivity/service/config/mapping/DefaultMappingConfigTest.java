@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.connectivity.service.config.mapping;
 
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -46,7 +47,9 @@ public final class DefaultMappingConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultMappingConfig.class,
                 areImmutable(),
-                provided(JavaScriptConfig.class).isAlsoImmutable());
+                provided(JavaScriptConfig.class).isAlsoImmutable(),
+                assumingFields("inboundPartitionKeyHeaders")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
     @Test
@@ -62,7 +65,8 @@ public final class DefaultMappingConfigTest {
 
         softly.assertThat(underTest.toString())
                 .contains(underTest.getClass().getSimpleName())
-                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize", "parallelism", "maxPoolSize");
+                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize", "parallelism", "maxPoolSize",
+                        "inboundPartitionKeyHeaders", "inboundPartitionBufferSize");
     }
 
     @Test
@@ -84,6 +88,14 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getPublishFailedEnrichments())
                 .describedAs(MappingConfig.MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath())
                 .isEqualTo(true);
+
+        softly.assertThat(underTest.getInboundPartitionKeyHeaders())
+                .describedAs(MappingConfig.MappingConfigValue.INBOUND_PARTITION_KEY_HEADERS.getConfigPath())
+                .containsExactly("thing-id", "kafka.key");
+
+        softly.assertThat(underTest.getInboundPartitionBufferSize())
+                .describedAs(MappingConfig.MappingConfigValue.INBOUND_PARTITION_BUFFER_SIZE.getConfigPath())
+                .isEqualTo(42);
     }
 
 }
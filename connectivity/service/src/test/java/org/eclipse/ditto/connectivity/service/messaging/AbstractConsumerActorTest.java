@@ -280,6 +280,7 @@ public abstract class AbstractConsumerActorTest<M> {
 
         return InboundMappingSink.createSink(List.of(inboundMappingProcessor),
                 CONNECTION_ID,
+                "client",
                 99,
                 inboundDispatchingSink,
                 connectivityConfig.getMappingConfig(),
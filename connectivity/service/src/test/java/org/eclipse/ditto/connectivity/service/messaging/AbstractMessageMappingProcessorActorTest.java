@@ -379,6 +379,7 @@ public abstract class AbstractMessageMappingProcessorActorTest {
         final var inboundMappingSink = InboundMappingSink.createSink(
                 List.of(inboundMappingProcessor),
                 CONNECTION_ID,
+                "client",
                 99,
                 inboundDispatchingSink,
                 TestConstants.CONNECTIVITY_CONFIG.getMappingConfig(),
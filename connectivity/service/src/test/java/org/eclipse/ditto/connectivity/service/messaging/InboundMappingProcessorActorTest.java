@@ -72,6 +72,7 @@ public final class InboundMappingProcessorActorTest {
             final InboundMappingProcessor throwingProcessor = createThrowingProcessor();
             final Sink<Object, NotUsed> inboundMappingSink = InboundMappingSink.createSink(List.of(throwingProcessor),
                     TestConstants.createRandomConnectionId(),
+                    "client",
                     1,
                     inboundSink,
                     TestConstants.MAPPING_CONFIG,
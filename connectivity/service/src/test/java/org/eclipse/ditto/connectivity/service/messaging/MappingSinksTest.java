@@ -85,7 +85,7 @@ public final class MappingSinksTest {
                     .mapToObj(i -> getInboundMappingProcessor(connection))
                     .toList();
             final var sink = Sink.foreach(o -> testActor().tell(o, ActorRef.noSender()));
-            final var underTest = InboundMappingSink.createSink(processors, connection.getId(),
+            final var underTest = InboundMappingSink.createSink(processors, connection.getId(), "client",
                     processorPoolSize, sink, getMappingConfig(),
                     ThrottlingConfig.of(ConfigFactory.empty()),
                     (MessageDispatcher) resource.getActorSystem().getDispatcher());
@@ -142,6 +142,42 @@ public final class MappingSinksTest {
         }};
     }
 
+    @Test
+    public void inboundPartitionedJsMappingKeepsOrderPerKey() {
+        new TestKit(resource.getActorSystem()) {{
+            // GIVEN:
+            // Inbound messages are partitioned by the "key" header; the keys "A" and "B" map to different partitions.
+            final int processorPoolSize = 2;
+            final var connection = getConnection(getRacyInboundScript(), NOOP_OUTBOUND_SCRIPT, processorPoolSize);
+            final var processors = IntStream.range(0, processorPoolSize)
+                    .mapToObj(i -> getInboundMappingProcessor(connection))
+                    .toList();
+            final var sink = Sink.foreach(o -> testActor().tell(o, ActorRef.noSender()));
+            final var underTest = InboundMappingSink.createSink(processors, connection.getId(), "client",
+                    processorPoolSize, sink, getMappingConfig("inbound-partition-key-headers = [\"key\"]\n"),
+                    ThrottlingConfig.of(ConfigFactory.empty()),
+                    (MessageDispatcher) resource.getActorSystem().getDispatcher());
+
+            // WHEN:
+            // Mapper is asked to map the messages "3" and "0" with key "A" and "1" with key "B", which make the mapper
+            // sleep for 3, 0 and 1s.
+            final var messages = List.<Object>of(
+                    externalMessageWithSender("A", "3", testActor()),
+                    externalMessageWithSender("A", "0", testActor()),
+                    externalMessageWithSender("B", "1", testActor())
+            );
+            Source.from(messages).to(underTest).run(resource.getActorSystem());
+
+            // THEN:
+            // The message with key "B" overtakes the slow message with key "A", messages with key "A" stay in order.
+            for (final var expected : List.of("1", "3", "0")) {
+                final var outcomes = expectMsgClass(FiniteDuration.apply(30, "s"), InboundMappingOutcomes.class);
+                assertThat(outcomes.getOutcomes()).hasSize(1);
+                assertThat(outcomes.getExternalMessage().getTextPayload()).contains(expected);
+            }
+        }};
+    }
+
     @Test
     public void outboundConcurrentJsMapping() {
         new TestKit(resource.getActorSystem()) {{
@@ -230,9 +266,25 @@ public final class MappingSinksTest {
                 adapter, logger);
     }
 
+    private static ExternalMessageWithSender externalMessageWithSender(final String key, final String text,
+            final ActorRef sender) {
+
+        final var message = ExternalMessageFactory.newExternalMessageBuilder(
+                        Map.of("key", key, "content-type", "text/plain"))
+                .withText(text)
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping("javascript"))
+                .build();
+        return new ExternalMessageWithSender(message, sender);
+    }
+
     private static MappingConfig getMappingConfig() {
+        return getMappingConfig("");
+    }
+
+    private static MappingConfig getMappingConfig(final String additionalConfig) {
         final var config = ConfigFactory.parseString(
                 "mapping {\n" +
+                        additionalConfig +
                         "  javascript {\n" +
                         "    maxScriptSizeBytes = 50000 # 50kB\n" +
                         "    maxScriptExecutionTime = 60s\n" +
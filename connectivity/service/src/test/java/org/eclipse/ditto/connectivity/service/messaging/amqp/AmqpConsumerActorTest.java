@@ -390,6 +390,7 @@ public final class AmqpConsumerActorTest extends AbstractConsumerActorWithAcknow
 
         return InboundMappingSink.createSink(List.of(inboundMappingProcessor),
                 CONNECTION_ID,
+                "client",
                 99,
                 inboundDispatchingSink,
                 TestConstants.MAPPING_CONFIG,
@@ -88,6 +88,8 @@ import org.apache.pekko.actor.Status;
 import org.apache.pekko.testkit.TestProbe;
 import org.apache.pekko.testkit.javadsl.TestKit;
 
+import com.typesafe.config.ConfigFactory;
+
 public final class AmqpPublisherActorTest extends AbstractPublisherActorTest {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AmqpPublisherActorTest.class);
@@ -195,6 +197,55 @@ public final class AmqpPublisherActorTest extends AbstractPublisherActorTest {
 
     }
 
+    @Test
+    public void testPipelinedPublishingDoesNotWaitForSettlement() throws Exception {
+
+        new TestKit(actorSystem) {{
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+            final ConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(
+                    ConfigFactory.parseString("ditto.connectivity.connection.amqp10.publisher.pipelining-enabled=true")
+                            .withFallback(CONFIG)));
+            final String ack = "please-verify";
+            final DittoHeaders withAckRequest = DittoHeaders.newBuilder()
+                    .correlationId(TestConstants.CORRELATION_ID)
+                    .putHeader("device_id", "ditto:thing")
+                    .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of(ack)))
+                    .putHeader(DittoHeaderDefinition.DITTO_ACKREGATOR_ADDRESS.getKey(),
+                            getRef().path().toSerializationFormat())
+                    .build();
+
+            final Props props = AmqpPublisherActor.props(TestConstants.createConnection(),
+                    session,
+                    connectivityStatusResolver,
+                    connectivityConfig);
+            final ActorRef publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            // more messages than the configured parallelism are sent before any of them is settled
+            final int messageCount = 2 * connectivityConfig.getConnectionConfig()
+                    .getAmqp10Config()
+                    .getPublisherConfig()
+                    .getParallelism();
+            IntStream.range(0, messageCount)
+                    .forEach(n -> publisherActor.tell(newMultiMappedThingDeleted(withAckRequest, ack, getRef()),
+                            getRef()));
+
+            final ArgumentCaptor<CompletionListener> listenerCaptor =
+                    ArgumentCaptor.forClass(CompletionListener.class);
+            verify(messageProducer, timeout(5_000).times(messageCount))
+                    .send(any(JmsMessage.class), listenerCaptor.capture());
+            expectNoMessage();
+
+            listenerCaptor.getAllValues().forEach(listener -> listener.onCompletion(mock(Message.class)));
+
+            for (int i = 0; i < messageCount; i++) {
+                final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+                assertThat(acks.getHttpStatus()).isEqualTo(HttpStatus.OK);
+            }
+        }};
+    }
+
     private OutboundSignal.MultiMapped newMultiMappedThingDeleted(final DittoHeaders dittoHeaders,
             final String issuedAck, final ActorRef sender) {
         final Signal<ThingDeleted> thingEvent =
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.jms.CompletionListener;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PipelinedProducer}.
+ */
+public final class PipelinedProducerTest {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private MessageProducer messageProducer;
+    private List<CompletionListener> completionListeners;
+
+    @Before
+    public void setUp() throws JMSException {
+        messageProducer = mock(MessageProducer.class);
+        completionListeners = new ArrayList<>();
+        doAnswer(invocation -> completionListeners.add(invocation.getArgument(1)))
+                .when(messageProducer).send(any(Message.class), any(CompletionListener.class));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxInFlight() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PipelinedProducer.of(messageProducer, 0, DIRECT_EXECUTOR));
+    }
+
+    @Test
+    public void sendsWithoutWaitingForSettlementUpToMaxInFlight() throws JMSException {
+        final var underTest = PipelinedProducer.of(messageProducer, 2, DIRECT_EXECUTOR);
+        final List<CompletableFuture<Void>> settlements = List.of(new CompletableFuture<>(),
+                new CompletableFuture<>(), new CompletableFuture<>());
+
+        final List<CompletionStage<Void>> handOvers = settlements.stream()
+                .map(settlement -> underTest.send(mock(Message.class), settlement))
+                .toList();
+
+        assertThat(handOvers.get(0).toCompletableFuture()).isCompleted();
+        assertThat(handOvers.get(1).toCompletableFuture()).isCompleted();
+        assertThat(handOvers.get(2).toCompletableFuture()).isNotDone();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        assertThat(underTest.getWaiting()).isEqualTo(1);
+        verify(messageProducer, times(2)).send(any(Message.class), any(CompletionListener.class));
+
+        completionListeners.get(0).onCompletion(mock(Message.class));
+
+        assertThat(settlements.get(0)).isCompleted();
+        assertThat(settlements.get(1)).isNotDone();
+        assertThat(handOvers.get(2).toCompletableFuture()).isCompleted();
+        verify(messageProducer, times(3)).send(any(Message.class), any(CompletionListener.class));
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        assertThat(underTest.getWaiting()).isZero();
+    }
+
+    @Test
+    public void settlementsAreAssignedInSendOrder() {
+        final var underTest = PipelinedProducer.of(messageProducer, 10, DIRECT_EXECUTOR);
+        final var firstSettlement = new CompletableFuture<Void>();
+        final var secondSettlement = new CompletableFuture<Void>();
+        underTest.send(mock(Message.class), firstSettlement);
+        underTest.send(mock(Message.class), secondSettlement);
+
+        final var exception = new JMSException("rejected");
+        completionListeners.get(0).onException(mock(Message.class), exception);
+        completionListeners.get(1).onCompletion(mock(Message.class));
+
+        assertThat(firstSettlement).isCompletedExceptionally();
+        assertThat(firstSettlement.handle((unused, error) -> error).join()).isEqualTo(exception);
+        assertThat(secondSettlement).isCompleted();
+        assertThat(underTest.getInFlight()).isZero();
+    }
+
+    @Test
+    public void failedSendReleasesSlot() throws JMSException {
+        doThrow(new JMSException("closed"))
+                .when(messageProducer).send(any(Message.class), any(CompletionListener.class));
+        final var underTest = PipelinedProducer.of(messageProducer, 1, DIRECT_EXECUTOR);
+        final var settlement = new CompletableFuture<Void>();
+
+        final var handOver = underTest.send(mock(Message.class), settlement);
+
+        assertThat(handOver.toCompletableFuture()).isCompleted();
+        assertThat(settlement).isCompletedExceptionally();
+        assertThat(underTest.getInFlight()).isZero();
+    }
+
+    @Test
+    public void settlementsArrivingTogetherAreProcessedAsOneBatch() {
+        final Queue<Runnable> scheduledTasks = new ArrayDeque<>();
+        final var underTest = PipelinedProducer.of(messageProducer, 10, scheduledTasks::add);
+        final List<CompletableFuture<Void>> settlements = List.of(new CompletableFuture<>(),
+                new CompletableFuture<>(), new CompletableFuture<>());
+        settlements.forEach(settlement -> underTest.send(mock(Message.class), settlement));
+
+        completionListeners.forEach(listener -> listener.onCompletion(mock(Message.class)));
+
+        assertThat(scheduledTasks).hasSize(1);
+        assertThat(settlements).noneMatch(CompletableFuture::isDone);
+
+        scheduledTasks.poll().run();
+
+        assertThat(settlements).allMatch(CompletableFuture::isDone);
+        assertThat(underTest.getInFlight()).isZero();
+    }
+
+}
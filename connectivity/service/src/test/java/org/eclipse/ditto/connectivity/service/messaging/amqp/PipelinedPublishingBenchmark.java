@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.amqp;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.CompletionListener;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing publishing with one completion future per message and a fixed parallelism, as the
+ * {@code AmqpPublisherActor} does by default, with pipelined publishing via {@link PipelinedProducer}.
+ * <p>
+ * The broker is simulated in-process: it grants a fixed link credit, blocks sends while no credit is left like the
+ * Qpid JMS client does and settles each message after a fixed latency in the order of the sends.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipelinedPublishingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int MESSAGES_PER_INVOCATION = 1000;
+
+    @Param({"10"})
+    public int parallelism;
+
+    @Param({"1000"})
+    public int linkCredit;
+
+    @Param({"1"})
+    public long settlementLatencyMillis;
+
+    private ScheduledExecutorService broker;
+    private ExecutorService settlementExecutor;
+    private MessageProducer producer;
+    private PipelinedProducer pipelinedProducer;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        broker = Executors.newSingleThreadScheduledExecutor();
+        settlementExecutor = Executors.newSingleThreadExecutor();
+        producer = simulateProducer(broker, new Semaphore(linkCredit), settlementLatencyMillis);
+        pipelinedProducer = PipelinedProducer.of(producer, linkCredit, settlementExecutor);
+        message = (Message) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Message.class},
+                (proxy, method, args) -> null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.shutdownNow();
+        settlementExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void publishWithCompletionListenerPerMessage() throws Exception {
+        final Semaphore parallelSends = new Semaphore(parallelism);
+        final List<CompletableFuture<Void>> settlements = new ArrayList<>(MESSAGES_PER_INVOCATION);
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            parallelSends.acquire();
+            final CompletableFuture<Void> settlement = new CompletableFuture<>();
+            settlements.add(settlement);
+            producer.send(message, new CompletionListener() {
+                @Override
+                public void onCompletion(final Message message) {
+                    settlement.complete(null);
+                    parallelSends.release();
+                }
+
+                @Override
+                public void onException(final Message message, final Exception exception) {
+                    settlement.completeExceptionally(exception);
+                    parallelSends.release();
+                }
+            });
+        }
+        CompletableFuture.allOf(settlements.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void publishPipelined() {
+        final List<CompletableFuture<Void>> settlements = new ArrayList<>(MESSAGES_PER_INVOCATION);
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            final CompletableFuture<Void> settlement = new CompletableFuture<>();
+            settlements.add(settlement);
+            pipelinedProducer.send(message, settlement).toCompletableFuture().join();
+        }
+        CompletableFuture.allOf(settlements.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static MessageProducer simulateProducer(final ScheduledExecutorService broker, final Semaphore credit,
+            final long settlementLatencyMillis) {
+
+        return (MessageProducer) Proxy.newProxyInstance(MessageProducer.class.getClassLoader(),
+                new Class<?>[]{MessageProducer.class},
+                (proxy, method, args) -> {
+                    if ("send".equals(method.getName()) && args.length == 2 &&
+                            args[1] instanceof CompletionListener listener) {
+                        credit.acquire();
+                        broker.schedule(() -> {
+                            credit.release();
+                            listener.onCompletion((Message) args[0]);
+                        }, settlementLatencyMillis, TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                });
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.eclipse.ditto.connectivity.service.config.AdaptiveConcurrencyConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Unit test for {@link AdaptiveConcurrencyLimiter}.
+ */
+public final class AdaptiveConcurrencyLimiterTest {
+
+    private static final Try<HttpResponse> OK = new Success<>(HttpResponse.create());
+    private static final Try<HttpResponse> TOO_MANY_REQUESTS =
+            new Success<>(HttpResponse.create().withStatus(StatusCodes.TOO_MANY_REQUESTS));
+
+    @Test
+    public void requestsAboveLimitWaitForFreeSlot() throws Exception {
+        final var underTest = AdaptiveConcurrencyLimiter.of(config("10s"), 2);
+
+        final var first = acquireNow(underTest);
+        acquireNow(underTest);
+        final var waiting = underTest.acquire().toCompletableFuture();
+
+        assertThat(waiting).isNotDone();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        assertThat(underTest.getQueued()).isEqualTo(1);
+
+        first.release(OK);
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isPresent();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        assertThat(underTest.getQueued()).isZero();
+    }
+
+    @Test
+    public void overloadDecreasesAndSuccessIncreasesLimit() {
+        final var underTest = AdaptiveConcurrencyLimiter.of(config("10s"), 4);
+
+        assertThat(acquireNow(underTest).release(TOO_MANY_REQUESTS)).isTrue();
+        assertThat(underTest.getLimit()).isEqualTo(2);
+
+        assertThat(acquireNow(underTest).release(new Failure<>(new IllegalStateException("timeout")))).isTrue();
+        assertThat(underTest.getLimit()).isEqualTo(1);
+
+        // never below the min limit
+        acquireNow(underTest).release(TOO_MANY_REQUESTS);
+        assertThat(underTest.getLimit()).isEqualTo(1);
+
+        assertThat(acquireNow(underTest).release(OK)).isFalse();
+        assertThat(underTest.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void limitDoesNotExceedMaxLimit() {
+        final var underTest = AdaptiveConcurrencyLimiter.of(config("10s"), 2);
+
+        for (int i = 0; i < 10; i++) {
+            acquireNow(underTest).release(OK);
+        }
+
+        assertThat(underTest.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void waitingRequestIsShedAfterMaxQueueTime() throws Exception {
+        final var underTest = AdaptiveConcurrencyLimiter.of(config("100ms"), 1);
+        final var inFlight = acquireNow(underTest);
+
+        final var waiting = underTest.acquire().toCompletableFuture();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(underTest.getQueued()).isZero();
+
+        // the slot of the shed request is not taken
+        inFlight.releaseUnused();
+        assertThat(underTest.getInFlight()).isZero();
+        assertThat(underTest.getLimit()).isEqualTo(1);
+    }
+
+    private static AdaptiveConcurrencyLimiter.Permit acquireNow(final AdaptiveConcurrencyLimiter limiter) {
+        final Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.acquire().toCompletableFuture().getNow(null);
+        assertThat(permit).isPresent();
+        return permit.orElseThrow();
+    }
+
+    private static AdaptiveConcurrencyConfig config(final String maxQueueTime) {
+        return AdaptiveConcurrencyConfig.of(ConfigFactory.parseString("adaptive-concurrency {\n" +
+                "  enabled = true\n" +
+                "  min-limit = 1\n" +
+                "  backoff-ratio = 0.5\n" +
+                "  latency-threshold = 10s\n" +
+                "  max-queue-time = " + maxQueueTime + "\n" +
+                "}"));
+    }
+
+}
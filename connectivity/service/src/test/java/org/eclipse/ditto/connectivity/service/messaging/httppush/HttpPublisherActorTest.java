@@ -20,12 +20,15 @@ import static org.mockito.Mockito.mock;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -97,6 +100,8 @@ import org.apache.pekko.testkit.javadsl.TestKit;
 import org.apache.pekko.util.ByteString;
 import scala.util.Try;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Tests {@link HttpPublisherActor}.
  */
@@ -205,6 +210,34 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void testAckWithAdaptiveConcurrencyLimit() {
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("text/plain", HttpStatus.SERVICE_UNAVAILABLE, "overloaded");
+
+            final var label = AcknowledgementLabel.of("please-verify");
+            final var target = decorateTarget(createTestTarget(label));
+
+            final var config = ConfigFactory.parseString(
+                            "ditto.connectivity.connection.http-push.adaptive-concurrency.enabled = true")
+                    .withFallback(actorSystem.settings().config());
+            final var props = HttpPublisherActor.props(TestConstants.createConnection(),
+                    httpPushFactory,
+                    mock(ConnectivityStatusResolver.class),
+                    ConnectivityConfig.of(config));
+            final var publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            for (int i = 0; i < 3; i++) {
+                publisherActor.tell(newMultiMappedWithContentType(target, getRef()), getRef());
+                final var acks = expectMsgClass(Acknowledgements.class);
+                final var ack = acks.getAcknowledgement(label).orElseThrow();
+                assertThat(ack.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(ack.getEntity()).contains(JsonValue.of("overloaded"));
+            }
+        }};
+    }
+
     @Test
     public void testBinaryAck() {
         new TestKit(actorSystem) {{
@@ -862,6 +895,75 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    @SuppressWarnings("secrets:S6290")
+    public void testRequestIsSignedAfterWaitingForConcurrencyLimit() throws Exception {
+        new TestKit(actorSystem) {{
+            // GIVEN: HTTP publisher signing requests with a concurrency limit of 1 and an endpoint responding after 2s
+            httpPushFactory = new DummyHttpPushFactory("8.8.4.4", request -> {
+                received.offer(request);
+                return HttpResponse.create().withStatus(HttpStatus.OK.getCode());
+            }, Duration.ofSeconds(2));
+            final var target = ConnectivityModelFactory.newTargetBuilder()
+                    .address("POST:/api/logs")
+                    .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                    .topics(Topic.LIVE_MESSAGES)
+                    .build();
+
+            final var hmacCredentials = HmacCredentials.of("aws4-hmac-sha256", JsonObject.newBuilder()
+                    .set("region", "us-east-1")
+                    .set("service", "iam")
+                    .set("accessKey", "MyAwesomeAccessKey")
+                    .set("secretKey", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY")
+                    .set("canonicalHeaders", JsonArray.newBuilder().add("x-amz-date", "host").build())
+                    .build());
+
+            final var connection = TestConstants.createConnection()
+                    .toBuilder()
+                    .credentials(hmacCredentials)
+                    .specificConfig(Map.of(HttpPushSpecificConfig.PARALLELISM, "1"))
+                    .build();
+            final var config = ConfigFactory.parseString(
+                            "ditto.connectivity.connection.http-push.adaptive-concurrency.enabled = true")
+                    .withFallback(actorSystem.settings().config());
+            final var props = HttpPublisherActor.props(connection,
+                    httpPushFactory,
+                    mock(ConnectivityStatusResolver.class),
+                    ConnectivityConfig.of(config));
+            final var publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            // WHEN: HTTP publisher sends two HTTP requests at once
+            final Message<?> message = Message.newBuilder(
+                    MessageHeaders.newBuilder(MessageDirection.FROM, TestConstants.Things.THING_ID, "please-respond")
+                            .build()
+            ).build();
+            final Signal<?> source = SendThingMessage.of(TestConstants.Things.THING_ID, message, DittoHeaders.empty());
+            final var outboundSignal =
+                    OutboundSignalFactory.newOutboundSignal(source, Collections.singletonList(target));
+            final var externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                            .withText("payload")
+                            .build();
+            final var adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+            final var mapped =
+                    OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable, externalMessage);
+            for (int i = 0; i < 2; i++) {
+                publisherActor.tell(
+                        OutboundSignalFactory.newMultiMappedOutboundSignal(Collections.singletonList(mapped), getRef()),
+                        getRef());
+            }
+
+            // THEN: The second request is signed only after it got the slot of the first request.
+            final var firstRequest = received.poll(10, TimeUnit.SECONDS);
+            final var secondRequest = received.poll(10, TimeUnit.SECONDS);
+            assertThat(firstRequest).isNotNull();
+            assertThat(secondRequest).isNotNull();
+            assertThat(Duration.between(getXAmzDate(firstRequest), getXAmzDate(secondRequest)))
+                    .isGreaterThanOrEqualTo(Duration.ofSeconds(2));
+        }};
+    }
+
     @Test
     public void testSendMessageUsingThingJsonPlaceholderOnExtraAttributes() throws Exception {
         new TestKit(actorSystem) {{
@@ -1108,14 +1210,26 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         });
     }
 
+    private static Instant getXAmzDate(final HttpRequest request) {
+        return ZonedDateTime.parse(request.getHeader("x-amz-date").orElseThrow().value(),
+                AwsRequestSigning.X_AMZ_DATE_FORMATTER).toInstant();
+    }
+
     private static final class DummyHttpPushFactory implements HttpPushFactory {
 
         private final String hostname;
         private final Function<HttpRequest, HttpResponse> mapper;
+        private final Duration responseDelay;
 
         private DummyHttpPushFactory(final String hostname, final Function<HttpRequest, HttpResponse> mapper) {
+            this(hostname, mapper, Duration.ZERO);
+        }
+
+        private DummyHttpPushFactory(final String hostname, final Function<HttpRequest, HttpResponse> mapper,
+                final Duration responseDelay) {
             this.hostname = hostname;
             this.mapper = mapper;
+            this.responseDelay = responseDelay;
         }
 
         @Override
@@ -1133,8 +1247,16 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
                 final LoggingAdapter log, final Duration requestTimeout, @Nullable final PreparedTimer timer,
                 @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> consumer) {
 
+            if (responseDelay.isZero()) {
+                return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                        .map(pair -> Pair.create(Try.apply(() -> mapper.apply(pair.first())), pair.second()));
+            }
+            final var delayedExecutor =
+                    CompletableFuture.delayedExecutor(responseDelay.toMillis(), TimeUnit.MILLISECONDS);
             return Flow.<Pair<HttpRequest, HttpPushContext>>create()
-                    .map(pair -> Pair.create(Try.apply(() -> mapper.apply(pair.first())), pair.second()));
+                    .mapAsyncUnordered(16, pair -> CompletableFuture.supplyAsync(
+                            () -> Pair.create(Try.apply(() -> mapper.apply(pair.first())), pair.second()),
+                            delayedExecutor));
         }
 
     }
@@ -37,6 +37,7 @@ import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectionType;
 import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.ConnectivityStatus;
+import org.eclipse.ditto.connectivity.service.config.AdaptiveConcurrencyConfig;
 import org.eclipse.ditto.connectivity.service.config.DefaultConnectionConfig;
 import org.eclipse.ditto.connectivity.service.config.HttpPushConfig;
 import org.eclipse.ditto.connectivity.service.config.OAuth2Config;
@@ -187,6 +188,11 @@ public final class HttpPushFactoryTest {
             public List<String> getOmitRequestBodyMethods() {
                 return Collections.emptyList();
             }
+
+            @Override
+            public AdaptiveConcurrencyConfig getAdaptiveConcurrencyConfig() {
+                return AdaptiveConcurrencyConfig.of(ConfigFactory.empty());
+            }
         }, mock(ConnectionLogger.class), SshTunnelState::disabled);
         final Pair<SourceQueueWithComplete<HttpRequest>, SinkQueueWithCancel<Try<HttpResponse>>> pair =
                 newSourceSinkQueues(underTest);
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.edge.service.dispatching;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
@@ -45,6 +46,7 @@ import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.things.model.ThingConstants;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommandResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
@@ -78,6 +80,7 @@ public class EdgeCommandForwarderActor extends AbstractActor {
     private final ShardRegions shardRegions;
     private final SignalTransformer signalTransformer;
     private final AskWithRetryCommandForwarder askWithRetryCommandForwarder;
+    private final ThingReadReplica thingReadReplica;
     private final ActorRef aggregatorProxyActor;
 
     private final ActorRef taskScheduler;
@@ -94,6 +97,7 @@ public class EdgeCommandForwarderActor extends AbstractActor {
         final var askWithRetryConfig = DefaultAskWithRetryConfig.of(dittoScoped, "ask-with-retry");
         this.signalTransformer = SignalTransformers.get(actorSystem, dittoExtensionsConfig);
         askWithRetryCommandForwarder = AskWithRetryCommandForwarder.get(actorSystem);
+        thingReadReplica = ThingReadReplica.get(actorSystem);
         aggregatorProxyActor = getContext().actorOf(ThingsAggregatorProxyActor.props(pubSubMediator),
                 ThingsAggregatorProxyActor.ACTOR_NAME);
         taskScheduler =
@@ -173,25 +177,39 @@ public class EdgeCommandForwarderActor extends AbstractActor {
         final ActorRef sender = getSender();
         final CompletionStage<Signal<?>> signalTransformationCs = applySignalTransformation(thingSignal, sender);
 
-        scheduleTask(thingSignal, () -> signalTransformationCs.thenAccept(transformed -> {
-            log.withCorrelationId(transformed)
-                    .info("Forwarding thing signal with ID <{}> and type <{}> to 'things' shard region",
-                            transformed instanceof WithEntityId withEntityId ? withEntityId.getEntityId() : null,
-                            transformed.getType());
-
-            if (!Signal.isChannelLive(transformed) &&
-                    !Signal.isChannelSmart(transformed) &&
-                    transformed instanceof Command<?> command &&
-                    isIdempotent(command)) {
-                askWithRetryCommandForwarder.forwardCommand(command,
-                        shardRegions.things(),
-                        sender);
-            } else {
-                shardRegions.things().tell(transformed, sender);
+        scheduleTask(thingSignal, () -> signalTransformationCs.thenCompose(transformed -> {
+            if (transformed instanceof RetrieveThing retrieveThing && thingReadReplica.isEligible(retrieveThing)) {
+                return thingReadReplica.retrieve(retrieveThing, shardRegions.things())
+                        .thenAccept(response -> response.ifPresentOrElse(retrieveThingResponse -> {
+                            log.withCorrelationId(retrieveThingResponse)
+                                    .info("Answered thing retrieval with ID <{}> from read replica",
+                                            retrieveThing.getEntityId());
+                            sender.tell(retrieveThingResponse, ActorRef.noSender());
+                        }, () -> forwardToThingsShardRegion(transformed, sender)));
             }
+            forwardToThingsShardRegion(transformed, sender);
+            return CompletableFuture.completedFuture(null);
         }));
     }
 
+    private void forwardToThingsShardRegion(final Signal<?> transformed, final ActorRef sender) {
+        log.withCorrelationId(transformed)
+                .info("Forwarding thing signal with ID <{}> and type <{}> to 'things' shard region",
+                        transformed instanceof WithEntityId withEntityId ? withEntityId.getEntityId() : null,
+                        transformed.getType());
+
+        if (!Signal.isChannelLive(transformed) &&
+                !Signal.isChannelSmart(transformed) &&
+                transformed instanceof Command<?> command &&
+                isIdempotent(command)) {
+            askWithRetryCommandForwarder.forwardCommand(command,
+                    shardRegions.things(),
+                    sender);
+        } else {
+            shardRegions.things().tell(transformed, sender);
+        }
+    }
+
     private void scheduleTask(final Signal<?> signal, final Supplier<CompletionStage<Void>> taskCsSupplier) {
 
         if (signal instanceof WithEntityId withEntityId) {
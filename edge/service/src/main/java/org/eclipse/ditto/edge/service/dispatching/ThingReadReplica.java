@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.edge.service.dispatching.config.DefaultThingReadReplicaConfig;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProviderExtension;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.apache.pekko.pattern.Patterns;
+
+/**
+ * Node-local read replica of recently retrieved things, used at the edges (gateway and connectivity) in order to
+ * answer {@link RetrieveThing} commands which carry a {@code max-staleness} header without a round trip to the
+ * things shard region.
+ * <p>
+ * Snapshots are loaded unenforced via {@link SudoRetrieveThing} and kept up to date by applying the twin events the
+ * edge receives anyway; a gap in the revisions, a deletion or a policy change drops the snapshot. The age of a
+ * snapshot is measured from the moment its load was started, so an answer is never older than the requested
+ * staleness. Policy enforcement happens locally via the cached {@link PolicyEnforcer} of the snapshot's policy.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+public final class ThingReadReplica implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(ThingReadReplica.class);
+
+    private static final List<DittoHeaderDefinition> HEADERS_REQUIRING_PERSISTENCE = List.of(
+            DittoHeaderDefinition.IF_MATCH,
+            DittoHeaderDefinition.IF_NONE_MATCH,
+            DittoHeaderDefinition.IF_EQUAL,
+            DittoHeaderDefinition.CONDITION,
+            DittoHeaderDefinition.LIVE_CHANNEL_CONDITION,
+            DittoHeaderDefinition.AT_HISTORICAL_REVISION,
+            DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP,
+            DittoHeaderDefinition.GET_METADATA,
+            DittoHeaderDefinition.DITTO_RETRIEVE_DELETED
+    );
+
+    private static final Set<String> FIELDS_REQUIRING_PERSISTENCE = Set.of("_policy", "_metadata");
+
+    private static final JsonFieldSelector RESPONSE_ALLOWLIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
+    private final ThingReadReplicaConfig config;
+    private final PolicyEnforcerProvider policyEnforcerProvider;
+    private final Clock clock;
+    private final ConcurrentMap<ThingId, Snapshot> snapshots;
+    private final Set<ThingId> pendingLoads;
+
+    private ThingReadReplica(final ActorSystem actorSystem) {
+        this(actorSystem,
+                DefaultThingReadReplicaConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config())));
+    }
+
+    private ThingReadReplica(final ActorSystem actorSystem, final ThingReadReplicaConfig config) {
+        // only load the policy enforcer provider if the read replica is enabled at all
+        this(config,
+                config.isEnabled()
+                        ? PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider()
+                        : policyId -> CompletableFuture.completedFuture(Optional.empty()),
+                Clock.systemUTC());
+    }
+
+    ThingReadReplica(final ThingReadReplicaConfig config,
+            final PolicyEnforcerProvider policyEnforcerProvider,
+            final Clock clock) {
+
+        this.config = config;
+        this.policyEnforcerProvider = policyEnforcerProvider;
+        this.clock = clock;
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(config.getMaxEntries())
+                .<ThingId, Snapshot>build()
+                .asMap();
+        pendingLoads = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Load the {@code ThingReadReplica}.
+     *
+     * @param actorSystem The actor system in which to load the read replica.
+     * @return the read replica.
+     */
+    public static ThingReadReplica get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Determines whether the passed {@code command} may be answered from this read replica, i.e. the replica is
+     * enabled and the command is a twin retrieval with a {@code max-staleness} header which neither asks for
+     * preconditions, history, metadata or the inlined policy.
+     *
+     * @param command the command to check.
+     * @return whether the command may be answered from this read replica.
+     */
+    public boolean isEligible(final Command<?> command) {
+        return config.isEnabled() &&
+                command instanceof RetrieveThing retrieveThing &&
+                getMaxStaleness(retrieveThing.getDittoHeaders()).isPresent() &&
+                isEligibleRetrieveThing(retrieveThing);
+    }
+
+    /**
+     * Tries to answer the passed {@code retrieveThing} from a snapshot which is not older than the command's
+     * {@code max-staleness}. If there is no such snapshot, a load of the thing is started in the background and an
+     * empty Optional is returned, in which case the command must be forwarded to the things shard region.
+     * An empty Optional is also returned if the snapshot's policy enforcer is not available or does not grant any
+     * read permission, so that the persistence answers with the appropriate error.
+     *
+     * @param retrieveThing the command to answer.
+     * @param thingsShardRegion the shard region to load missing or stale snapshots from.
+     * @return a CompletionStage of the optional response.
+     */
+    public CompletionStage<Optional<RetrieveThingResponse>> retrieve(final RetrieveThing retrieveThing,
+            final ActorRef thingsShardRegion) {
+
+        final ThingId thingId = retrieveThing.getEntityId();
+        final Optional<Duration> maxStaleness = getMaxStaleness(retrieveThing.getDittoHeaders());
+        final Optional<Thing> snapshot = maxStaleness.flatMap(staleness -> getSnapshot(thingId, staleness));
+        if (snapshot.isEmpty()) {
+            load(thingId, thingsShardRegion);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        final Thing thing = snapshot.get();
+        return policyEnforcerProvider.getPolicyEnforcer(thing.getPolicyId().orElse(null))
+                .thenApply(policyEnforcer -> policyEnforcer.map(PolicyEnforcer::getEnforcer)
+                        .flatMap(enforcer -> buildResponse(retrieveThing, thing, enforcer)))
+                .exceptionally(error -> {
+                    LOGGER.withCorrelationId(retrieveThing)
+                            .warn("Could not answer <{}> from read replica: {}", thingId, error.getMessage());
+                    return Optional.empty();
+                });
+    }
+
+    /**
+     * Applies the passed twin event to the snapshot of its thing, if there is one.
+     * Events which the snapshot already contains are ignored; the snapshot is dropped if events are missing in
+     * between, if the thing was deleted, if its policy changed or if the event could not be applied.
+     *
+     * @param thingEvent the event to apply.
+     */
+    public void applyTwinEvent(final ThingEvent<?> thingEvent) {
+        if (!config.isEnabled() || Signal.isChannelLive(thingEvent)) {
+            return;
+        }
+        snapshots.computeIfPresent(thingEvent.getEntityId(), (thingId, snapshot) -> {
+            final long revision = thingEvent.getRevision();
+            if (revision <= snapshot.revision()) {
+                return snapshot;
+            } else if (revision != snapshot.revision() + 1 || thingEvent instanceof ThingDeleted) {
+                return null;
+            } else {
+                return applyNextEvent(snapshot, thingEvent);
+            }
+        });
+    }
+
+    /**
+     * Returns the snapshot of the thing with the passed ID if it is not older than {@code maxStaleness}.
+     *
+     * @param thingId the ID of the thing.
+     * @param maxStaleness the maximum age of the snapshot.
+     * @return the snapshot or an empty Optional.
+     */
+    Optional<Thing> getSnapshot(final ThingId thingId, final Duration maxStaleness) {
+        final Instant notBefore = clock.instant().minus(maxStaleness);
+        return Optional.ofNullable(snapshots.get(thingId))
+                .filter(snapshot -> !snapshot.loadedAt().isBefore(notBefore))
+                .map(Snapshot::thing);
+    }
+
+    /**
+     * Puts a freshly loaded snapshot unless a snapshot with a higher revision is already present.
+     *
+     * @param thing the loaded thing.
+     * @param loadedAt the instant when loading the thing was started.
+     */
+    void putSnapshot(final Thing thing, final Instant loadedAt) {
+        final Optional<ThingId> thingId = thing.getEntityId();
+        final Optional<ThingRevision> revision = thing.getRevision();
+        if (thingId.isPresent() && revision.isPresent()) {
+            final Snapshot newSnapshot = new Snapshot(thing, revision.get().toLong(), loadedAt);
+            snapshots.merge(thingId.get(), newSnapshot, (existing, loaded) ->
+                    existing.revision() > loaded.revision() ? existing : loaded);
+        }
+    }
+
+    private void load(final ThingId thingId, final ActorRef thingsShardRegion) {
+        if (!pendingLoads.add(thingId)) {
+            return;
+        }
+        final Instant loadedAt = clock.instant();
+        final SudoRetrieveThing sudoRetrieveThing = SudoRetrieveThing.of(thingId, DittoHeaders.newBuilder()
+                .correlationId("thingReadReplica-" + thingId + "-" + loadedAt.toEpochMilli())
+                .build());
+        Patterns.ask(thingsShardRegion, sudoRetrieveThing, config.getLoadTimeout())
+                .whenComplete((response, error) -> {
+                    pendingLoads.remove(thingId);
+                    if (response instanceof SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+                        putSnapshot(sudoRetrieveThingResponse.getThing(), loadedAt);
+                    } else {
+                        LOGGER.debug("Could not load <{}> into read replica: <{}>", thingId,
+                                error != null ? error : response);
+                    }
+                });
+    }
+
+    @Nullable
+    private static Snapshot applyNextEvent(final Snapshot snapshot, final ThingEvent<?> thingEvent) {
+        try {
+            final JsonObject thingJson =
+                    snapshot.thing().toJson(snapshot.thing().getImplementedSchemaVersion(), FieldType.all());
+            final JsonObjectBuilder patchedJsonBuilder = applyEventOnJson(thingJson, thingEvent).toBuilder()
+                    .set(Thing.JsonFields.REVISION, thingEvent.getRevision());
+            thingEvent.getTimestamp().ifPresent(timestamp ->
+                    patchedJsonBuilder.set(Thing.JsonFields.MODIFIED, timestamp.toString()));
+            final Thing patchedThing = ThingsModelFactory.newThing(patchedJsonBuilder.build());
+            if (!patchedThing.getPolicyId().equals(snapshot.thing().getPolicyId())) {
+                return null;
+            }
+            return new Snapshot(patchedThing, thingEvent.getRevision(), snapshot.loadedAt());
+        } catch (final RuntimeException e) {
+            LOGGER.withCorrelationId(thingEvent)
+                    .debug("Dropping read replica snapshot as <{}> could not be applied: {}", thingEvent.getType(),
+                            e.getMessage());
+            return null;
+        }
+    }
+
+    private static JsonObject applyEventOnJson(final JsonObject thingJson, final ThingEvent<?> thingEvent) {
+        final JsonPointer resourcePath = thingEvent.getResourcePath();
+        if (thingEvent instanceof ThingMerged thingMerged) {
+            final JsonObject mergePatch = JsonFactory.newObject(resourcePath, thingMerged.getValue());
+            return JsonFactory.mergeJsonValues(mergePatch, thingJson).asObject();
+        }
+        return switch (thingEvent.getCommandCategory()) {
+            case DELETE -> {
+                if (resourcePath.isEmpty()) {
+                    throw new IllegalArgumentException("Cannot delete the whole thing in place.");
+                }
+                yield thingJson.remove(resourcePath);
+            }
+            default -> {
+                final JsonValue entity = thingEvent.getEntity()
+                        .orElseThrow(() -> new IllegalArgumentException("Event without entity."));
+                if (resourcePath.isEmpty()) {
+                    yield entity.asObject();
+                }
+                yield thingJson.setValue(resourcePath, entity);
+            }
+        };
+    }
+
+    private static Optional<RetrieveThingResponse> buildResponse(final RetrieveThing retrieveThing,
+            final Thing thing,
+            final Enforcer enforcer) {
+
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        final var authorizationContext = dittoHeaders.getAuthorizationContext();
+        if (!enforcer.hasPartialPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                authorizationContext, Permission.READ)) {
+            return Optional.empty();
+        }
+        final JsonObject thingJson = retrieveThing.getSelectedFields()
+                .map(selectedFields -> thing.toJson(retrieveThing.getImplementedSchemaVersion(),
+                        ThingsModelFactory.expandFeatureIdWildcards(
+                                thing.getFeatures().orElse(ThingsModelFactory.emptyFeatures()), selectedFields)))
+                .orElseGet(() -> thing.toJson(retrieveThing.getImplementedSchemaVersion()));
+        final JsonObject view = enforcer.buildJsonView(
+                ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, JsonPointer.empty()), thingJson,
+                authorizationContext, RESPONSE_ALLOWLIST, Permissions.newInstance(Permission.READ));
+        final DittoHeaders responseHeaders = EntityTag.fromEntity(thing)
+                .map(eTag -> DittoHeaders.newBuilder(dittoHeaders).eTag(eTag).build())
+                .orElse(dittoHeaders);
+
+        return Optional.of(RetrieveThingResponse.of(retrieveThing.getEntityId(), view, responseHeaders));
+    }
+
+    private static boolean isEligibleRetrieveThing(final RetrieveThing retrieveThing) {
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        final boolean wotThingDescriptionRequested = dittoHeaders.getAccept()
+                .filter(ContentType.APPLICATION_TD_JSON.getValue()::equals)
+                .isPresent();
+        final boolean selectsFieldsRequiringPersistence = retrieveThing.getSelectedFields()
+                .map(JsonFieldSelector::getPointers)
+                .stream()
+                .flatMap(Set::stream)
+                .flatMap(pointer -> pointer.getRoot().stream())
+                .anyMatch(root -> FIELDS_REQUIRING_PERSISTENCE.contains(root.toString()));
+
+        return dittoHeaders.isResponseRequired() &&
+                !Signal.isChannelLive(retrieveThing) &&
+                !Signal.isChannelSmart(retrieveThing) &&
+                !wotThingDescriptionRequested &&
+                !selectsFieldsRequiringPersistence &&
+                HEADERS_REQUIRING_PERSISTENCE.stream()
+                        .noneMatch(definition -> dittoHeaders.containsKey(definition.getKey()));
+    }
+
+    private static Optional<Duration> getMaxStaleness(final DittoHeaders dittoHeaders) {
+        return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.MAX_STALENESS.getKey()))
+                .map(DittoDuration::parseDuration)
+                .map(DittoDuration::getDuration);
+    }
+
+    private record Snapshot(Thing thing, long revision, Instant loadedAt) {}
+
+    private static final class ExtensionId extends AbstractExtensionId<ThingReadReplica> {
+
+        @Override
+        public ThingReadReplica createExtension(final ExtendedActorSystem system) {
+            return new ThingReadReplica(system);
+        }
+    }
+
+}
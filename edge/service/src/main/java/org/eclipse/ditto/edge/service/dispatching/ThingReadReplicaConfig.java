@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the {@link ThingReadReplica} which answers thing retrievals carrying a
+ * {@code max-staleness} header at the edges.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public interface ThingReadReplicaConfig {
+
+    /**
+     * Indicates whether the read replica is enabled. If disabled, retrievals are always forwarded to the things
+     * shard region regardless of a {@code max-staleness} header.
+     *
+     * @return {@code true} if the read replica is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of thing snapshots to keep per edge node.
+     *
+     * @return the maximum number of snapshots.
+     */
+    int getMaxEntries();
+
+    /**
+     * Returns the timeout for loading a thing snapshot from the things shard region.
+     *
+     * @return the load timeout.
+     */
+    Duration getLoadTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingReadReplicaConfig}.
+     */
+    enum ThingReadReplicaConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the read replica is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of thing snapshots to keep.
+         */
+        MAX_ENTRIES("max-entries", 10_000),
+
+        /**
+         * The timeout for loading a thing snapshot.
+         */
+        LOAD_TIMEOUT("load-timeout", Duration.ofSeconds(5));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingReadReplicaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
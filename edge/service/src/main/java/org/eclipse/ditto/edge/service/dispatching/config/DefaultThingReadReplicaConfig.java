@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.edge.service.dispatching.ThingReadReplicaConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link org.eclipse.ditto.edge.service.dispatching.ThingReadReplicaConfig}.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class DefaultThingReadReplicaConfig implements ThingReadReplicaConfig {
+
+    private static final String CONFIG_PATH = "read-replica";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Duration loadTimeout;
+
+    private DefaultThingReadReplicaConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ThingReadReplicaConfigValue.ENABLED.getConfigPath());
+        maxEntries = config.getPositiveIntOrThrow(ThingReadReplicaConfigValue.MAX_ENTRIES);
+        loadTimeout = config.getNonNegativeAndNonZeroDurationOrThrow(ThingReadReplicaConfigValue.LOAD_TIMEOUT);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultThingReadReplicaConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the read replica config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultThingReadReplicaConfig of(final Config config) {
+        return new DefaultThingReadReplicaConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ThingReadReplicaConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public Duration getLoadTimeout() {
+        return loadTimeout;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultThingReadReplicaConfig that = (DefaultThingReadReplicaConfig) o;
+        return enabled == that.enabled &&
+                maxEntries == that.maxEntries &&
+                Objects.equals(loadTimeout, that.loadTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxEntries, loadTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxEntries=" + maxEntries +
+                ", loadTimeout=" + loadTimeout +
+                "]";
+    }
+
+}
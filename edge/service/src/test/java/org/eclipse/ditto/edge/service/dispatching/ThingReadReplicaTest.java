@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.edge.service.dispatching.config.DefaultThingReadReplicaConfig;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.PolicyIdModified;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Unit tests for {@link ThingReadReplica}.
+ */
+public final class ThingReadReplicaTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto:policy");
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicy("""
+            {
+                "policyId": "org.eclipse.ditto:policy",
+                "entries": {
+                    "DEFAULT": {
+                        "subjects": {
+                            "test:reader": { "type": "test" }
+                        },
+                        "resources": {
+                            "thing:/": { "grant": [ "READ" ], "revoke": [] },
+                            "thing:/attributes/secret": { "grant": [], "revoke": [ "READ" ] }
+                        }
+                    }
+                }
+            }
+            """);
+
+    private static final Thing THING = ThingsModelFactory.newThing("""
+            {
+                "thingId": "org.eclipse.ditto:thing",
+                "policyId": "org.eclipse.ditto:policy",
+                "attributes": { "location": "kitchen", "secret": 42 },
+                "_revision": 3
+            }
+            """);
+
+    @Nullable private static ActorSystem actorSystem;
+
+    private final MutableClock clock = new MutableClock();
+    private final ThingReadReplica underTest = new ThingReadReplica(
+            DefaultThingReadReplicaConfig.of(ConfigFactory.parseString("read-replica.enabled = true")),
+            policyId -> CompletableFuture.completedFuture(
+                    POLICY_ID.equals(policyId) ? Optional.of(PolicyEnforcer.of(POLICY)) : Optional.empty()),
+            clock);
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void onlyTwinRetrievalsWithMaxStalenessAreEligible() {
+        assertThat(underTest.isEligible(retrieveThing(headers().build()))).isTrue();
+        assertThat(underTest.isEligible(retrieveThing(DittoHeaders.newBuilder().responseRequired(true).build())))
+                .isFalse();
+        assertThat(underTest.isEligible(retrieveThing(headers().channel("live").build()))).isFalse();
+        assertThat(underTest.isEligible(retrieveThing(headers()
+                .ifNoneMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:3\""))
+                .build()))).isFalse();
+        assertThat(underTest.isEligible(retrieveThing(headers()
+                .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), "1")
+                .build()))).isFalse();
+        assertThat(underTest.isEligible(RetrieveThing.getBuilder(THING_ID, headers().build())
+                .withSelectedFields(JsonFieldSelector.newInstance("_policy"))
+                .build())).isFalse();
+    }
+
+    @Test
+    public void retrievalIsDisabledByDefault() {
+        final ThingReadReplica disabled = new ThingReadReplica(
+                DefaultThingReadReplicaConfig.of(ConfigFactory.empty()),
+                policyId -> CompletableFuture.completedFuture(Optional.empty()),
+                clock);
+
+        assertThat(disabled.isEligible(retrieveThing(headers().build()))).isFalse();
+    }
+
+    @Test
+    public void snapshotIsOnlyReturnedWithinMaxStaleness() {
+        underTest.putSnapshot(THING, NOW);
+
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(5))).contains(THING);
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(4))).isEmpty();
+    }
+
+    @Test
+    public void consecutiveEventsAreApplied() {
+        underTest.putSnapshot(THING, NOW);
+
+        underTest.applyTwinEvent(AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garage"),
+                4L, NOW, DittoHeaders.empty(), null));
+        underTest.applyTwinEvent(ThingMerged.of(THING_ID, JsonPointer.of("attributes"),
+                JsonObject.newBuilder().set("floor", 1).build(), 5L, NOW, DittoHeaders.empty(), null));
+        // already applied:
+        underTest.applyTwinEvent(AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("kitchen"),
+                4L, NOW, DittoHeaders.empty(), null));
+
+        final Thing snapshot = underTest.getSnapshot(THING_ID, Duration.ofSeconds(1)).orElseThrow();
+        assertThat(snapshot.getAttributes().orElseThrow().getValue("location")).contains(JsonValue.of("garage"));
+        assertThat(snapshot.getAttributes().orElseThrow().getValue("floor")).contains(JsonValue.of(1));
+        assertThat(snapshot.getRevision().orElseThrow().toLong()).isEqualTo(5L);
+        assertThat(snapshot.getModified()).contains(NOW);
+    }
+
+    @Test
+    public void revisionGapDropsSnapshot() {
+        underTest.putSnapshot(THING, NOW);
+
+        underTest.applyTwinEvent(AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garage"),
+                5L, NOW, DittoHeaders.empty(), null));
+
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(1))).isEmpty();
+    }
+
+    @Test
+    public void deletionDropsSnapshot() {
+        underTest.putSnapshot(THING, NOW);
+
+        underTest.applyTwinEvent(ThingDeleted.of(THING_ID, 4L, NOW, DittoHeaders.empty(), null));
+
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(1))).isEmpty();
+    }
+
+    @Test
+    public void policyChangeDropsSnapshot() {
+        underTest.putSnapshot(THING, NOW);
+
+        underTest.applyTwinEvent(PolicyIdModified.of(THING_ID, PolicyId.of("org.eclipse.ditto:other"), 4L, NOW,
+                DittoHeaders.empty(), null));
+
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(1))).isEmpty();
+    }
+
+    @Test
+    public void olderSnapshotDoesNotReplaceNewerOne() {
+        underTest.putSnapshot(THING, NOW);
+        underTest.applyTwinEvent(AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garage"),
+                4L, NOW, DittoHeaders.empty(), null));
+
+        underTest.putSnapshot(THING, NOW);
+
+        assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(1)).orElseThrow().getRevision().orElseThrow()
+                .toLong()).isEqualTo(4L);
+    }
+
+    @Test
+    public void retrieveAnswersFromSnapshotWithEnforcedView() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            underTest.putSnapshot(THING, NOW);
+            final RetrieveThing retrieveThing = retrieveThing(headers()
+                    .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance("test:reader")))
+                    .build());
+
+            final Optional<RetrieveThingResponse> response =
+                    underTest.retrieve(retrieveThing, getRef()).toCompletableFuture().join();
+
+            expectNoMessage();
+            assertThat(response).isPresent();
+            assertThat(response.get().getEntity().asObject().getValue("attributes/location"))
+                    .contains(JsonValue.of("kitchen"));
+            assertThat(response.get().getEntity().asObject().getValue("attributes/secret")).isEmpty();
+            assertThat(response.get().getDittoHeaders().getETag()).isEqualTo(EntityTag.fromEntity(THING));
+        }};
+    }
+
+    @Test
+    public void retrieveIsNotAnsweredWithoutReadPermission() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            underTest.putSnapshot(THING, NOW);
+            final RetrieveThing retrieveThing = retrieveThing(headers()
+                    .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance("test:stranger")))
+                    .build());
+
+            assertThat(underTest.retrieve(retrieveThing, getRef()).toCompletableFuture().join()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void retrieveWithoutSnapshotLoadsThing() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final Optional<RetrieveThingResponse> response =
+                    underTest.retrieve(retrieveThing(headers().build()), getRef()).toCompletableFuture().join();
+
+            assertThat(response).isEmpty();
+            final SudoRetrieveThing sudoRetrieveThing = expectMsgClass(SudoRetrieveThing.class);
+            assertThat((CharSequence) sudoRetrieveThing.getEntityId()).isEqualTo(THING_ID);
+            reply(SudoRetrieveThingResponse.of(THING.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                    DittoHeaders.empty()));
+
+            awaitAssert(() -> assertThat(underTest.getSnapshot(THING_ID, Duration.ofSeconds(1))).isPresent());
+        }};
+    }
+
+    private static DittoHeadersBuilder<?, ?> headers() {
+        return DittoHeaders.newBuilder()
+                .responseRequired(true)
+                .putHeader(DittoHeaderDefinition.MAX_STALENESS.getKey(), "1s");
+    }
+
+    private static RetrieveThing retrieveThing(final DittoHeaders dittoHeaders) {
+        return RetrieveThing.of(THING_ID, dittoHeaders);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = NOW;
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.edge.service.dispatching.ThingReadReplicaConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultThingReadReplicaConfig}.
+ */
+public final class DefaultThingReadReplicaConfigTest {
+
+    private static Config readReplicaConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        readReplicaConf = ConfigFactory.load("read-replica-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultThingReadReplicaConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultThingReadReplicaConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultThingReadReplicaConfig underTest = DefaultThingReadReplicaConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ThingReadReplicaConfig.ThingReadReplicaConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxEntries())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.MAX_ENTRIES.getConfigPath())
+                .isEqualTo(ThingReadReplicaConfig.ThingReadReplicaConfigValue.MAX_ENTRIES.getDefaultValue());
+
+        softly.assertThat(underTest.getLoadTimeout())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.LOAD_TIMEOUT.getConfigPath())
+                .isEqualTo(ThingReadReplicaConfig.ThingReadReplicaConfigValue.LOAD_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultThingReadReplicaConfig underTest = DefaultThingReadReplicaConfig.of(readReplicaConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxEntries())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.MAX_ENTRIES.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.getLoadTimeout())
+                .as(ThingReadReplicaConfig.ThingReadReplicaConfigValue.LOAD_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7L));
+    }
+
+}
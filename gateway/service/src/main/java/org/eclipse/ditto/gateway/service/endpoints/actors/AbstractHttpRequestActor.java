@@ -12,18 +12,16 @@
  */
 package org.eclipse.ditto.gateway.service.endpoints.actors;
 
+import static org.eclipse.ditto.gateway.service.endpoints.actors.HttpResponseRenderer.createHttpResponse;
+
 import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -34,15 +32,11 @@ import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.ReceiveTimeout;
 import org.apache.pekko.actor.Status;
-import org.apache.pekko.http.javadsl.model.ContentTypes;
 import org.apache.pekko.http.javadsl.model.HttpEntities;
-import org.apache.pekko.http.javadsl.model.HttpHeader;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
-import org.apache.pekko.http.javadsl.model.StatusCodes;
 import org.apache.pekko.http.javadsl.model.Uri;
 import org.apache.pekko.http.javadsl.model.headers.Location;
-import org.apache.pekko.http.javadsl.model.headers.RawHeader;
 import org.apache.pekko.http.scaladsl.model.ContentType$;
 import org.apache.pekko.http.scaladsl.model.EntityStreamSizeException;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
@@ -56,7 +50,6 @@ import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
-import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
@@ -111,8 +104,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
      */
     public static final String COMPLETE_MESSAGE = "complete";
 
-    private static final org.apache.pekko.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
-
     private final ActorRef proxyActor;
     private final HeaderTranslator headerTranslator;
     private final CompletableFuture<HttpResponse> httpResponseFuture;
@@ -207,13 +198,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         cancellableShutdownTask.cancel();
     }
 
-    private static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
-        final var statusCode = StatusCodes.lookup(httpStatus.getCode())
-                .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
-
-        return HttpResponse.create().withStatus(statusCode);
-    }
-
     @Override
     public AbstractActor.Receive handleMessage() {
         return ReceiveBuilder.create()
@@ -450,20 +434,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
 
     private void handleCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
         rememberResponseLocationUri(commandResponse);
-
-        final var withEntity = (WithEntity<?>) commandResponse;
-
-        final var responseWithoutHeaders = createHttpResponse(commandResponse.getHttpStatus());
-        final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders,
-                commandResponse.getDittoHeaders());
-
-        final var contentType = getContentType(commandResponse.getDittoHeaders());
-        final var response = withEntity.getEntityPlainString()
-                .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
-                .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
-                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
-                        contentType));
-        completeWithResult(response);
+        completeWithResult(HttpResponseRenderer.renderCommandResponseWithEntity(commandResponse, headerTranslator));
     }
 
     private void handleCommandResponseWithOptionalEntity(final CommandResponse<?> commandResponse) {
@@ -551,60 +522,21 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         logger.withCorrelationId(exception)
                 .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
 
-        final var responseWithoutHeaders = buildResponseWithoutHeadersFromDittoRuntimeException(exception);
+        final var responseWithoutHeaders =
+                HttpResponseRenderer.buildResponseWithoutHeadersFromDittoRuntimeException(exception);
         final var response =
                 enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
 
         completeWithResult(response);
     }
 
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
-            final DittoRuntimeException exception) {
-
-        final HttpResponse result;
-        final var httpStatus = exception.getHttpStatus();
-        final var responseWithoutHeaders = createHttpResponse(httpStatus);
-        if (HttpStatus.NOT_MODIFIED.equals(httpStatus)) {
-            result = responseWithoutHeaders;
-        } else {
-            result = responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON,
-                    ByteString.fromString(exception.toJsonString()));
-        }
-
-        return result;
-    }
-
     private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
             final DittoHeaders allDittoHeaders) {
 
-        final HttpResponse result;
-
-        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
-        final var l = logger.withCorrelationId(allDittoHeaders);
-        if (externalHeaders.isEmpty()) {
-            l.debug("No external headers for enhancing the response, returning it as-is.");
-            result = response;
-        } else {
-            l.debug("Enhancing response with external headers <{}>.", externalHeaders);
-            final var externalHeadersEntries = externalHeaders.entrySet();
-
-            /*
-             * Content type is set by the entity.
-             * See response.entity().getContentType().
-             * If we set it here this will cause a WARN log.
-             */
-            final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
-                final var headerName = headerEntry.getKey();
-                return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
-            };
-            final List<HttpHeader> externalHttpHeaders = externalHeadersEntries.stream()
-                    .filter(Predicate.not(isContentType))
-                    .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
-            result = response.withHeaders(externalHttpHeaders);
-        }
-
-        return result;
+        logger.withCorrelationId(allDittoHeaders).debug("Enhancing response with external headers of <{}>.",
+                allDittoHeaders);
+        return HttpResponseRenderer.enhanceResponseWithExternalDittoHeaders(response, allDittoHeaders,
+                headerTranslator);
     }
 
     private void completeWithResult(final HttpResponse response) {
@@ -635,51 +567,17 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         inCoordinatedShutdown = false;
     }
 
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
-            final ContentType contentType) {
-        final ByteString byteString;
-
-        if (contentType.isBinary()) {
-            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
-        } else {
-            byteString = ByteString.fromString(entityPlain);
-        }
-
-        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
-    }
-
-    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
-        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
-    }
-
     private HttpResponse createCommandResponse(final DittoHeaders dittoHeaders, final HttpStatus httpStatus,
-            final WithOptionalEntity withOptionalEntity) {
+            final WithOptionalEntity<?> withOptionalEntity) {
 
         final UnaryOperator<HttpResponse> addExternalDittoHeaders =
                 response -> enhanceResponseWithExternalDittoHeaders(response, dittoHeaders);
         final UnaryOperator<HttpResponse> modifyResponseOperator = this::modifyResponse;
         final var addHeaders = addExternalDittoHeaders.andThen(modifyResponseOperator);
-        final var addBodyIfEntityExists =
-                createBodyAddingResponseMapper(dittoHeaders, withOptionalEntity);
 
-        return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
-    }
-
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
-            final WithOptionalEntity<?> withOptionalEntity) {
-
-        return response -> {
-            if (StatusCodes.NO_CONTENT.equals(response.status())) {
-                return response;
-            }
-            final var schemaVersion = dittoHeaders.getSchemaVersion()
-                    .orElse(dittoHeaders.getImplementedSchemaVersion());
-
-            return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
-                            getContentType(dittoHeaders)))
-                    .orElse(response);
-        };
+        return HttpResponseRenderer.addOptionalEntity(addHeaders.apply(createHttpResponse(httpStatus)),
+                dittoHeaders,
+                withOptionalEntity);
     }
 
     /**
@@ -774,7 +672,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         completeWithResult(httpResponse);
     }
 
-    private static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
+    static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
 
         final var defaultTimeout = commandConfig.getDefaultTimeout();
         final var maxTimeout = commandConfig.getMaxTimeout();
@@ -791,9 +689,9 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         }
     }
 
-    private record HttpAcknowledgementConfig(HttpConfig httpConfig) implements AcknowledgementConfig {
+    record HttpAcknowledgementConfig(HttpConfig httpConfig) implements AcknowledgementConfig {
 
-        private static AcknowledgementConfig of(final HttpConfig httpConfig) {
+        static AcknowledgementConfig of(final HttpConfig httpConfig) {
             return new HttpAcknowledgementConfig(httpConfig);
         }
 
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpHeader;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.http.javadsl.model.headers.RawHeader;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+
+/**
+ * Renders command responses and exceptions into HTTP responses.
+ * Shared by the per-request {@link AbstractHttpRequestActor} and the actor-less {@link QueryCommandHttpRequestHandler}
+ * so that both produce identical HTTP responses.
+ */
+@Immutable
+final class HttpResponseRenderer {
+
+    private static final org.apache.pekko.http.javadsl.model.ContentType CONTENT_TYPE_JSON =
+            ContentTypes.APPLICATION_JSON;
+
+    private HttpResponseRenderer() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates an HTTP response without headers and entity for the given HTTP status.
+     *
+     * @param httpStatus the HTTP status of the response.
+     * @return the HTTP response.
+     */
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+        final var statusCode = StatusCodes.lookup(httpStatus.getCode())
+                .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
+
+        return HttpResponse.create().withStatus(statusCode);
+    }
+
+    /**
+     * Renders a {@code DittoRuntimeException} into an HTTP response without any headers.
+     * The response has a JSON entity unless the status is {@code 304 Not Modified}.
+     *
+     * @param exception the exception to render.
+     * @return the HTTP response.
+     */
+    static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(final DittoRuntimeException exception) {
+        final HttpResponse result;
+        final var httpStatus = exception.getHttpStatus();
+        final var responseWithoutHeaders = createHttpResponse(httpStatus);
+        if (HttpStatus.NOT_MODIFIED.equals(httpStatus)) {
+            result = responseWithoutHeaders;
+        } else {
+            result = responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON,
+                    ByteString.fromString(exception.toJsonString()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the external representation of the given Ditto headers to an HTTP response.
+     * The content-type header is never added because it is determined by the response entity.
+     *
+     * @param response the response to enhance.
+     * @param allDittoHeaders the Ditto headers to translate.
+     * @param headerTranslator the translator of Ditto headers to external headers.
+     * @return the enhanced response or {@code response} itself if there are no external headers.
+     */
+    static HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders,
+            final HeaderTranslator headerTranslator) {
+
+        final HttpResponse result;
+
+        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            result = response;
+        } else {
+            final var externalHeadersEntries = externalHeaders.entrySet();
+
+            /*
+             * Content type is set by the entity.
+             * See response.entity().getContentType().
+             * If we set it here this will cause a WARN log.
+             */
+            final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
+                final var headerName = headerEntry.getKey();
+                return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
+            };
+            final List<HttpHeader> externalHttpHeaders = externalHeadersEntries.stream()
+                    .filter(Predicate.not(isContentType))
+                    .<HttpHeader>map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
+                    .toList();
+            result = response.withHeaders(externalHttpHeaders);
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders a command response which implements {@link WithEntity} into an HTTP response including the external
+     * headers of the command response.
+     *
+     * @param commandResponse the command response, must implement {@code WithEntity}.
+     * @param headerTranslator the translator of Ditto headers to external headers.
+     * @return the HTTP response.
+     */
+    static HttpResponse renderCommandResponseWithEntity(final CommandResponse<?> commandResponse,
+            final HeaderTranslator headerTranslator) {
+
+        final var withEntity = (WithEntity<?>) commandResponse;
+
+        final var responseWithoutHeaders = createHttpResponse(commandResponse.getHttpStatus());
+        final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders,
+                commandResponse.getDittoHeaders(), headerTranslator);
+
+        final var contentType = getContentType(commandResponse.getDittoHeaders());
+        return withEntity.getEntityPlainString()
+                .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
+                .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
+                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
+                        contentType));
+    }
+
+    /**
+     * Adds the entity of a {@link WithOptionalEntity} to an HTTP response if it exists and the response status is not
+     * {@code 204 No Content}.
+     *
+     * @param response the response to add the entity to.
+     * @param dittoHeaders the headers determining schema version and content type of the entity.
+     * @param withOptionalEntity provides the optional entity.
+     * @return the response with the entity.
+     */
+    static HttpResponse addOptionalEntity(final HttpResponse response,
+            final DittoHeaders dittoHeaders,
+            final WithOptionalEntity<?> withOptionalEntity) {
+
+        if (StatusCodes.NO_CONTENT.equals(response.status())) {
+            return response;
+        }
+        final var schemaVersion = dittoHeaders.getSchemaVersion()
+                .orElse(dittoHeaders.getImplementedSchemaVersion());
+
+        return withOptionalEntity.getEntity(schemaVersion)
+                .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                        getContentType(dittoHeaders)))
+                .orElse(response);
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response,
+            final String entityPlain,
+            final ContentType contentType) {
+
+        final ByteString byteString;
+        if (contentType.isBinary()) {
+            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
+        } else {
+            byteString = ByteString.fromString(entityPlain);
+        }
+
+        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
+    }
+
+    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
+    }
+
+}
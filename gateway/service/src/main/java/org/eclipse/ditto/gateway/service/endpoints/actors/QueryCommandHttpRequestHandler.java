@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.gateway.service.endpoints.actors.HttpResponseRenderer.createHttpResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.CoordinatedShutdown;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.pattern.AskTimeoutException;
+import org.apache.pekko.pattern.Patterns;
+import org.eclipse.ditto.base.api.devops.signals.commands.DevOpsCommand;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.CommandTimeoutException;
+import org.eclipse.ditto.edge.service.acknowledgements.AcknowledgementAggregatorActorStarter;
+import org.eclipse.ditto.edge.service.acknowledgements.message.MessageCommandAckRequestSetter;
+import org.eclipse.ditto.edge.service.acknowledgements.message.MessageCommandResponseAcknowledgementProvider;
+import org.eclipse.ditto.edge.service.acknowledgements.things.ThingCommandResponseAcknowledgementProvider;
+import org.eclipse.ditto.edge.service.acknowledgements.things.ThingLiveCommandAckRequestSetter;
+import org.eclipse.ditto.edge.service.acknowledgements.things.ThingModifyCommandAckRequestSetter;
+import org.eclipse.ditto.gateway.service.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLogger;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.json.JsonRuntimeException;
+
+/**
+ * Handles side-effect-free query commands of HTTP requests without creating a per-request actor.
+ * <p>
+ * Applicable commands are forwarded to the proxy actor via {@link Patterns#ask(ActorRef, Object, Duration)} and the
+ * reply is rendered exactly as {@link AbstractHttpRequestActor} would render it: the same external headers are added,
+ * the same timeout is applied and the same acknowledgement preprocessing is done. Commands for which an
+ * acknowledgement aggregator would have to be started are never applicable and still go through the per-request
+ * actor.
+ * </p>
+ * <p>
+ * Like the per-request actor, the handler takes part in the {@code service-requests-done} phase of the coordinated
+ * shutdown: the phase waits until all responses pending at that time are completed.
+ * Customizations of the per-request actor via a custom {@link HttpRequestActorPropsFactory}, e.g. an overridden
+ * {@code modifyResponse}, are not applied by this handler. It must therefore only be used with the
+ * {@link DefaultHttpRequestActorPropsFactory}, see {@link #supports(HttpRequestActorPropsFactory)}.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@ThreadSafe
+public final class QueryCommandHttpRequestHandler {
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(QueryCommandHttpRequestHandler.class);
+    private static final String SERVICE_REQUESTS_DONE_TASK = "service-requests-done-query-command-http-request-handler";
+
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final CommandConfig commandConfig;
+    private final AcknowledgementAggregatorActorStarter ackregatorStarter;
+    private final Set<CompletableFuture<HttpResponse>> pendingResponses;
+
+    private QueryCommandHttpRequestHandler(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final ActorSystem actorSystem,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig) {
+
+        this.proxyActor = proxyActor;
+        this.headerTranslator = headerTranslator;
+        this.commandConfig = commandConfig;
+        ackregatorStarter = AcknowledgementAggregatorActorStarter.of(actorSystem,
+                AbstractHttpRequestActor.HttpAcknowledgementConfig.of(httpConfig),
+                headerTranslator,
+                null,
+                List.of(
+                        ThingModifyCommandAckRequestSetter.getInstance(),
+                        ThingLiveCommandAckRequestSetter.getInstance(),
+                        MessageCommandAckRequestSetter.getInstance()
+                ),
+                List.of(
+                        ThingCommandResponseAcknowledgementProvider.getInstance(),
+                        MessageCommandResponseAcknowledgementProvider.getInstance()
+                ));
+        pendingResponses = ConcurrentHashMap.newKeySet();
+        CoordinatedShutdown.get(actorSystem)
+                .addTask(CoordinatedShutdown.PhaseServiceRequestsDone(), SERVICE_REQUESTS_DONE_TASK,
+                        this::awaitPendingResponses);
+    }
+
+    /**
+     * Returns a new instance of {@code QueryCommandHttpRequestHandler}.
+     *
+     * @param proxyActor the proxy actor which delegates commands.
+     * @param headerTranslator translator of Ditto headers to external headers.
+     * @param actorSystem the actor system the handler runs in; no actors are created with it.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static QueryCommandHttpRequestHandler newInstance(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final ActorSystem actorSystem,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig) {
+
+        return new QueryCommandHttpRequestHandler(checkNotNull(proxyActor, "proxyActor"),
+                checkNotNull(headerTranslator, "headerTranslator"),
+                checkNotNull(actorSystem, "actorSystem"),
+                checkNotNull(httpConfig, "httpConfig"),
+                checkNotNull(commandConfig, "commandConfig"));
+    }
+
+    /**
+     * Indicates whether requests may be handled without the per-request actors created by the given factory.
+     * This is only the case for the {@link DefaultHttpRequestActorPropsFactory}, as the handler renders responses
+     * exactly like its actors.
+     *
+     * @param httpRequestActorPropsFactory the configured factory of per-request actors.
+     * @return {@code true} if the handler may be used instead of the actors of {@code httpRequestActorPropsFactory}.
+     */
+    public static boolean supports(final HttpRequestActorPropsFactory httpRequestActorPropsFactory) {
+        return httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory;
+    }
+
+    /**
+     * Indicates whether the given command may be handled without a per-request actor.
+     * This is the case for twin query commands which require a response and request no acknowledgements.
+     *
+     * @param command the command to check.
+     * @return {@code true} if {@link #handle(Command)} may be used for {@code command}.
+     */
+    public static boolean isApplicable(final Command<?> command) {
+        final var dittoHeaders = command.getDittoHeaders();
+        return Command.Category.QUERY == command.getCategory() &&
+                !(command instanceof DevOpsCommand) &&
+                !(command instanceof Whoami) &&
+                !Command.isMessageCommand(command) &&
+                !Signal.isChannelLive(command) &&
+                !Signal.isChannelSmart(command) &&
+                dittoHeaders.isResponseRequired() &&
+                dittoHeaders.getAcknowledgementRequests().isEmpty();
+    }
+
+    /**
+     * Forwards an applicable command to the proxy actor and renders its reply into an HTTP response.
+     *
+     * @param command the command to handle, must be {@link #isApplicable(Command) applicable}.
+     * @return the future HTTP response; it never completes exceptionally.
+     * @throws IllegalArgumentException if {@code command} is not applicable.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> command) {
+        if (!isApplicable(command)) {
+            throw new IllegalArgumentException("Command is not applicable for actor-less handling: " + command);
+        }
+
+        final CompletableFuture<HttpResponse> response = ackregatorStarter.<CompletionStage<HttpResponse>>preprocess(
+                command,
+                (signal, shouldStartAckregator) -> {
+                    if (shouldStartAckregator) {
+                        // cannot happen for applicable commands which neither request acks nor use the smart channel
+                        LOGGER.withCorrelationId(signal)
+                                .error("Acknowledgement aggregation required for query command <{}>.", signal);
+                        return CompletableFuture.completedFuture(createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR));
+                    }
+                    return askProxyActor(signal);
+                },
+                invalidHeader -> CompletableFuture.completedFuture(renderDittoRuntimeException(invalidHeader)))
+                .toCompletableFuture();
+        pendingResponses.add(response);
+        response.whenComplete((httpResponse, error) -> pendingResponses.remove(response));
+
+        return response;
+    }
+
+    private CompletionStage<Done> awaitPendingResponses() {
+        final CompletableFuture<?>[] responses = pendingResponses.toArray(CompletableFuture[]::new);
+        LOGGER.info("{}: waiting to complete <{}> pending query requests.", SERVICE_REQUESTS_DONE_TASK,
+                responses.length);
+        return CompletableFuture.allOf(responses).handle((result, error) -> Done.getInstance());
+    }
+
+    private CompletionStage<HttpResponse> askProxyActor(final Signal<?> signal) {
+        final var timeout = AbstractHttpRequestActor.getReceiveTimeout(signal, commandConfig);
+        LOGGER.withCorrelationId(signal).debug("Got <{}>. Asking the target actor about it.", signal);
+
+        return Patterns.ask(proxyActor, signal, timeout)
+                .thenApply(this::renderReply)
+                .exceptionally(error -> renderError(signal, timeout, error));
+    }
+
+    private HttpResponse renderReply(final Object reply) {
+        final HttpResponse result;
+        if (reply instanceof HttpResponse httpResponse) {
+            result = httpResponse;
+        } else if (reply instanceof ErrorResponse<?> errorResponse) {
+            result = renderDittoRuntimeException(errorResponse.getDittoRuntimeException());
+        } else if (reply instanceof CommandResponse<?> commandResponse && reply instanceof WithEntity<?>) {
+            result = HttpResponseRenderer.renderCommandResponseWithEntity(commandResponse, headerTranslator);
+        } else if (reply instanceof CommandResponse<?> commandResponse &&
+                reply instanceof WithOptionalEntity<?> withOptionalEntity) {
+            final var dittoHeaders = commandResponse.getDittoHeaders();
+            result = HttpResponseRenderer.addOptionalEntity(
+                    HttpResponseRenderer.enhanceResponseWithExternalDittoHeaders(
+                            createHttpResponse(commandResponse.getHttpStatus()), dittoHeaders, headerTranslator),
+                    dittoHeaders,
+                    withOptionalEntity);
+        } else if (reply instanceof JsonValueSourceRef jsonValueSourceRef) {
+            result = JsonValueSourceToHttpResponse.getInstance().apply(jsonValueSourceRef.getSource());
+        } else if (reply instanceof JsonRuntimeException jsonRuntimeException) {
+            result = renderDittoRuntimeException(new DittoJsonException(jsonRuntimeException));
+        } else if (reply instanceof DittoRuntimeException dittoRuntimeException) {
+            result = renderDittoRuntimeException(dittoRuntimeException);
+        } else {
+            LOGGER.error("Got unknown message when a command response was expected: <{}>!", reply);
+            result = createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse renderError(final Signal<?> signal, final Duration timeout, final Throwable error) {
+        final var cause = error instanceof CompletionException && null != error.getCause() ? error.getCause() : error;
+        final HttpResponse result;
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.withCorrelationId(signal)
+                    .info("Got no response within <{}> for <{}>.", timeout, signal.getType());
+            result = renderDittoRuntimeException(CommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(signal.getDittoHeaders()
+                            .toBuilder()
+                            .responseRequired(false)
+                            .build())
+                    .build());
+        } else if (cause instanceof JsonRuntimeException jsonRuntimeException) {
+            result = renderDittoRuntimeException(new DittoJsonException(jsonRuntimeException));
+        } else if (cause instanceof DittoRuntimeException dittoRuntimeException) {
+            result = renderDittoRuntimeException(dittoRuntimeException);
+        } else {
+            LOGGER.withCorrelationId(signal)
+                    .error("Got <{}> when a command response was expected: <{}>!",
+                            cause.getClass().getSimpleName(), cause.getMessage(), cause);
+            result = createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+
+        return HttpResponseRenderer.enhanceResponseWithExternalDittoHeaders(
+                HttpResponseRenderer.buildResponseWithoutHeadersFromDittoRuntimeException(exception),
+                exception.getDittoHeaders(),
+                headerTranslator);
+    }
+
+}
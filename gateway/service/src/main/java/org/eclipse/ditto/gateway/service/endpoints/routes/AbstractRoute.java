@@ -14,8 +14,6 @@ package org.eclipse.ditto.gateway.service.endpoints.routes;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +39,7 @@ import org.eclipse.ditto.base.service.config.ThrottlingConfig;
 import org.eclipse.ditto.gateway.api.GatewayTimeoutInvalidException;
 import org.eclipse.ditto.gateway.service.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.gateway.service.endpoints.actors.HttpRequestActorPropsFactory;
+import org.eclipse.ditto.gateway.service.endpoints.actors.QueryCommandHttpRequestHandler;
 import org.eclipse.ditto.gateway.service.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLogger;
@@ -48,13 +47,13 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
-import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.json.JsonValue;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Status;
+import org.apache.pekko.http.javadsl.model.ContentType;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
 import org.apache.pekko.http.javadsl.model.MediaTypes;
 import org.apache.pekko.http.javadsl.server.AllDirectives;
@@ -64,11 +63,9 @@ import org.apache.pekko.stream.ActorAttributes;
 import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.Supervision;
 import org.apache.pekko.stream.javadsl.Flow;
-import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.RunnableGraph;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
-import org.apache.pekko.stream.javadsl.StreamConverters;
 import org.apache.pekko.util.ByteString;
 
 /**
@@ -96,6 +93,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final RouteBaseProperties routeBaseProperties;
 
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final QueryCommandHttpRequestHandler queryCommandHttpRequestHandler;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
 
@@ -118,10 +116,36 @@ public abstract class AbstractRoute extends AllDirectives {
                 ScopedConfig.dittoExtension(routeBaseProperties.getActorSystem().settings().config());
         httpRequestActorPropsFactory =
                 HttpRequestActorPropsFactory.get(routeBaseProperties.getActorSystem(), dittoExtensionsConfig);
+        if (isQueryFastPathEnabled(routeBaseProperties.getCommandConfig(), httpRequestActorPropsFactory)) {
+            queryCommandHttpRequestHandler = QueryCommandHttpRequestHandler.newInstance(
+                    routeBaseProperties.getProxyActor(),
+                    routeBaseProperties.getHeaderTranslator(),
+                    routeBaseProperties.getActorSystem(),
+                    httpConfig,
+                    routeBaseProperties.getCommandConfig());
+        } else {
+            queryCommandHttpRequestHandler = null;
+        }
 
         supervisionStrategy = createSupervisionStrategy();
     }
 
+    private static boolean isQueryFastPathEnabled(final CommandConfig commandConfig,
+            final HttpRequestActorPropsFactory httpRequestActorPropsFactory) {
+
+        final boolean result;
+        if (!commandConfig.isQueryFastPathEnabled()) {
+            result = false;
+        } else if (!QueryCommandHttpRequestHandler.supports(httpRequestActorPropsFactory)) {
+            LOGGER.warn("Not using the query fast path as it would bypass the configured <{}>.",
+                    httpRequestActorPropsFactory.getClass().getName());
+            result = false;
+        } else {
+            result = true;
+        }
+        return result;
+    }
+
     private static Attributes createSupervisionStrategy() {
         return ActorAttributes.withSupervisionStrategy(exc -> {
             if (exc instanceof DittoRuntimeException dre) {
@@ -183,14 +207,70 @@ public abstract class AbstractRoute extends AllDirectives {
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command<?> command) {
-        return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(), emptyRequestBody -> command);
+        return handlePerRequest(ctx, command, null);
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command<?> command,
             @Nullable final BiFunction<JsonValue, HttpResponse, HttpResponse> responseTransformFunction) {
 
-        return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(),
-                emptyRequestBody -> command, responseTransformFunction);
+        return handleCommandPerRequest(ctx, command,
+                responseFuture -> completeWithTransformedResponse(responseFuture, responseTransformFunction));
+    }
+
+    /**
+     * Handle a request for a command whose successful response entity is a JSON array.
+     * The array is streamed to the client element by element with the given content type instead of being loaded
+     * into memory as a whole.
+     *
+     * @param ctx the request context.
+     * @param command the command to handle.
+     * @param contentType the content type of a successful response.
+     * @param elementTransformFunction optional transformation of each array element; if {@code null}, the elements
+     * are passed through without being parsed.
+     * @return the request handling route.
+     * @since 3.5.0
+     */
+    protected Route handlePerRequestStreamingJsonArray(final RequestContext ctx,
+            final Command<?> command,
+            final ContentType contentType,
+            @Nullable final UnaryOperator<JsonValue> elementTransformFunction) {
+
+        final var maxElementSize = routeBaseProperties.getHttpConfig().getStreamedResponseMaxElementSize();
+        final StreamingJsonArrayResponseTransformer responseTransformer;
+        if (null != elementTransformFunction) {
+            responseTransformer = StreamingJsonArrayResponseTransformer.withElementTransformation(contentType,
+                    elementTransformFunction, maxElementSize);
+        } else {
+            responseTransformer = StreamingJsonArrayResponseTransformer.withContentType(contentType, maxElementSize);
+        }
+
+        return handleCommandPerRequest(ctx, command,
+                responseFuture -> completeWithFuture(preprocessResponse(responseFuture.thenApply(responseTransformer))));
+    }
+
+    private Route handleCommandPerRequest(final RequestContext ctx,
+            final Command<?> command,
+            final Function<CompletionStage<HttpResponse>, Route> responseCompletion) {
+
+        final var dittoHeaders = command.getDittoHeaders();
+        if (isQueryFastPathApplicable(command)) {
+            // side-effect-free query: answer it without creating a per-request actor
+            return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
+                    this::validateCommandTimeout,
+                    timeout -> responseCompletion.apply(queryCommandHttpRequestHandler.handle(command)));
+        } else {
+            return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
+                    this::validateCommandTimeout,
+                    timeout -> doHandlePerRequest(ctx, dittoHeaders.toBuilder().timeout(timeout).build(),
+                            Source.empty(), emptyRequestBody -> command, responseCompletion));
+        }
+    }
+
+    private boolean isQueryFastPathApplicable(final Command<?> command) {
+        return null != queryCommandHttpRequestHandler &&
+                QueryCommandHttpRequestHandler.isApplicable(command) &&
+                command.implementsSchemaVersion(
+                        command.getDittoHeaders().getSchemaVersion().orElse(command.getImplementedSchemaVersion()));
     }
 
     protected Route handlePerRequest(final RequestContext ctx,
@@ -202,7 +282,9 @@ public abstract class AbstractRoute extends AllDirectives {
         return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
                 this::validateCommandTimeout,
                 timeout -> doHandlePerRequest(ctx, dittoHeaders.toBuilder().timeout(timeout).build(), payloadSource,
-                        requestStringToCommandFunction, responseTransformFunction));
+                        requestStringToCommandFunction,
+                        responseFuture -> completeWithTransformedResponse(responseFuture,
+                                responseTransformFunction)));
     }
 
     protected <M> M runWithSupervisionStrategy(final RunnableGraph<M> graph) {
@@ -213,7 +295,7 @@ public abstract class AbstractRoute extends AllDirectives {
             final DittoHeaders dittoHeaders,
             final Source<ByteString, ?> payloadSource,
             final Function<String, Command<?>> requestStringToCommandFunction,
-            @Nullable final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction) {
+            final Function<CompletionStage<HttpResponse>, Route> responseCompletion) {
 
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
 
@@ -238,34 +320,18 @@ public abstract class AbstractRoute extends AllDirectives {
                         AbstractHttpRequestActor.COMPLETE_MESSAGE))
         );
 
+        return responseCompletion.apply(httpResponseFuture);
+    }
+
+    private Route completeWithTransformedResponse(final CompletionStage<HttpResponse> httpResponseFuture,
+            @Nullable final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction) {
+
         // optional step: transform the response entity:
         if (responseValueTransformFunction != null) {
-            final CompletionStage<HttpResponse> strictResponseFuture = httpResponseFuture.thenCompose(this::toStrict);
-            final CompletionStage<HttpResponse> transformedResponse = strictResponseFuture.thenApply(response -> {
-                final boolean isSuccessfulResponse = response.status().isSuccess();
-                // we have to check if response is empty, because otherwise we'll get an IOException when trying to
-                // read it
-                final boolean isEmptyResponse = response.entity().isKnownEmpty();
-                if (isSuccessfulResponse && !isEmptyResponse) {
-                    final InputStream inputStream = runWithSupervisionStrategy(response.entity()
-                            .getDataBytes()
-                            .fold(ByteString.emptyByteString(), ByteString::concat)
-                            .toMat(StreamConverters.asInputStream(), Keep.right())
-                    );
-                    final JsonValue jsonValue = JsonFactory.readFrom(new InputStreamReader(inputStream));
-                    try {
-                        return responseValueTransformFunction.apply(jsonValue, response);
-                    } catch (final Exception e) {
-                        throw JsonParseException.newBuilder()
-                                .message("Could not transform JSON: " + e.getMessage())
-                                .cause(e)
-                                .build();
-                    }
-                } else {
-                    // for non-successful and empty responses, don't transform the response body
-                    return response;
-                }
-            });
+            final CompletionStage<HttpResponse> transformedResponse =
+                    httpResponseFuture.thenCompose(StrictJsonResponseTransformer.of(responseValueTransformFunction,
+                            routeBaseProperties.getHttpConfig().getRequestTimeout(),
+                            routeBaseProperties.getActorSystem()));
             return completeWithFuture(preprocessResponse(transformedResponse));
         } else {
             return completeWithFuture(preprocessResponse(httpResponseFuture));
@@ -372,11 +438,6 @@ public abstract class AbstractRoute extends AllDirectives {
         return increaseHttpRequestTimeout(inner, customRequestTimeout);
     }
 
-    private CompletionStage<HttpResponse> toStrict(final HttpResponse response) {
-        final var timeoutMillis = routeBaseProperties.getHttpConfig().getRequestTimeout().toMillis();
-        return response.toStrict(timeoutMillis, routeBaseProperties.getActorSystem()).thenApply(x -> x);
-    }
-
     private Route increaseHttpRequestTimeout(final java.util.function.Function<Duration, Route> inner,
             final Duration requestTimeout) {
         return increaseHttpRequestTimeout(inner,
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.http.javadsl.model.ContentType;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.stream.javadsl.JsonFraming;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Transforms successful HTTP responses with a JSON array entity element by element while the entity is streamed.
+ * <p>
+ * The entity bytes are split into the array's elements directly from the received chunks, each element is
+ * optionally parsed and transformed and the result is written as chunked entity. Thus, at most one array element is
+ * held in memory at a time instead of the whole response in several representations.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class StreamingJsonArrayResponseTransformer implements UnaryOperator<HttpResponse> {
+
+    private static final ByteString ARRAY_START = ByteString.fromString("[");
+    private static final ByteString ELEMENT_SEPARATOR = ByteString.fromString(",");
+    private static final ByteString ARRAY_END = ByteString.fromString("]");
+
+    private final ContentType contentType;
+    @Nullable private final UnaryOperator<JsonValue> elementTransformFunction;
+    private final int maxElementSize;
+
+    private StreamingJsonArrayResponseTransformer(final ContentType contentType,
+            @Nullable final UnaryOperator<JsonValue> elementTransformFunction,
+            final int maxElementSize) {
+
+        this.contentType = contentType;
+        this.elementTransformFunction = elementTransformFunction;
+        this.maxElementSize = maxElementSize;
+    }
+
+    /**
+     * Returns a transformer which only sets the content type of the streamed response but keeps its elements as they
+     * are, so that no element is parsed at all.
+     *
+     * @param contentType the content type of the transformed response.
+     * @param maxElementSize the maximum size in bytes of a single array element.
+     * @return the transformer.
+     * @throws NullPointerException if {@code contentType} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxElementSize} is not positive.
+     */
+    public static StreamingJsonArrayResponseTransformer withContentType(final ContentType contentType,
+            final int maxElementSize) {
+
+        return newInstance(contentType, null, maxElementSize);
+    }
+
+    /**
+     * Returns a transformer which parses and transforms each array element of the streamed response.
+     *
+     * @param contentType the content type of the transformed response.
+     * @param elementTransformFunction the transformation applied to each array element.
+     * @param maxElementSize the maximum size in bytes of a single array element.
+     * @return the transformer.
+     * @throws NullPointerException if {@code contentType} or {@code elementTransformFunction} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxElementSize} is not positive.
+     */
+    public static StreamingJsonArrayResponseTransformer withElementTransformation(final ContentType contentType,
+            final UnaryOperator<JsonValue> elementTransformFunction,
+            final int maxElementSize) {
+
+        return newInstance(contentType, checkNotNull(elementTransformFunction, "elementTransformFunction"),
+                maxElementSize);
+    }
+
+    private static StreamingJsonArrayResponseTransformer newInstance(final ContentType contentType,
+            @Nullable final UnaryOperator<JsonValue> elementTransformFunction,
+            final int maxElementSize) {
+
+        checkArgument(maxElementSize, size -> size > 0, () -> "The maxElementSize must be positive!");
+        return new StreamingJsonArrayResponseTransformer(checkNotNull(contentType, "contentType"),
+                elementTransformFunction,
+                maxElementSize);
+    }
+
+    /**
+     * Transforms the entity of the given response if it is successful and not known to be empty.
+     * Other responses are returned unchanged.
+     *
+     * @param response the response to transform.
+     * @return the response with a chunked entity of the transformed array.
+     */
+    @Override
+    public HttpResponse apply(final HttpResponse response) {
+        final HttpResponse result;
+        if (response.status().isSuccess() && !response.entity().isKnownEmpty()) {
+            result = response.withEntity(HttpEntities.createChunked(contentType,
+                    transformArrayElements(response.entity().getDataBytes())));
+        } else {
+            // for non-successful and empty responses, don't transform the response body
+            result = response;
+        }
+
+        return result;
+    }
+
+    private Source<ByteString, NotUsed> transformArrayElements(final Source<ByteString, Object> dataBytes) {
+        final Source<ByteString, Object> elements = dataBytes.via(JsonFraming.objectScanner(maxElementSize));
+        final Source<ByteString, Object> transformedElements;
+        if (null != elementTransformFunction) {
+            transformedElements = elements.map(this::transformElement);
+        } else {
+            transformedElements = elements;
+        }
+
+        return transformedElements.intersperse(ARRAY_START, ELEMENT_SEPARATOR, ARRAY_END)
+                .mapMaterializedValue(any -> NotUsed.getInstance());
+    }
+
+    private ByteString transformElement(final ByteString element) {
+        final JsonValue jsonValue = JsonFactory.readFrom(element.utf8String());
+        try {
+            return ByteString.fromString(elementTransformFunction.apply(jsonValue).toString());
+        } catch (final Exception e) {
+            throw JsonParseException.newBuilder()
+                    .message("Could not transform JSON: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+}
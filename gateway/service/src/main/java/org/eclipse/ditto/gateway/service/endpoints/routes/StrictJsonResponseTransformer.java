@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.actor.ClassicActorSystemProvider;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Transforms the JSON entity of successful HTTP responses as a whole.
+ * <p>
+ * A strict entity is parsed directly from its bytes without copying them into another buffer; any other entity, e.g.
+ * a chunked or streamed one, is collected to a strict entity first.
+ * </p>
+ */
+@Immutable
+final class StrictJsonResponseTransformer implements Function<HttpResponse, CompletionStage<HttpResponse>> {
+
+    private final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction;
+    private final long timeoutMillis;
+    private final ClassicActorSystemProvider system;
+
+    private StrictJsonResponseTransformer(
+            final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction,
+            final long timeoutMillis,
+            final ClassicActorSystemProvider system) {
+
+        this.responseValueTransformFunction = responseValueTransformFunction;
+        this.timeoutMillis = timeoutMillis;
+        this.system = system;
+    }
+
+    /**
+     * Returns a transformer which applies the given function on the JSON entity of successful responses.
+     *
+     * @param responseValueTransformFunction the transformation of the JSON entity and the response.
+     * @param timeout the timeout of collecting a non-strict entity.
+     * @param system the actor system to collect non-strict entities with.
+     * @return the transformer.
+     */
+    static StrictJsonResponseTransformer of(
+            final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction,
+            final Duration timeout,
+            final ClassicActorSystemProvider system) {
+
+        return new StrictJsonResponseTransformer(responseValueTransformFunction, timeout.toMillis(), system);
+    }
+
+    /**
+     * Transforms the entity of the given response if it is successful and not known to be empty.
+     * Other responses are only made strict.
+     *
+     * @param response the response to transform.
+     * @return the transformed response.
+     */
+    @Override
+    public CompletionStage<HttpResponse> apply(final HttpResponse response) {
+        // we have to check if response is empty, because otherwise we'll get an IOException when trying to read it
+        if (response.status().isSuccess() && !response.entity().isKnownEmpty()) {
+            return getData(response.entity()).thenApply(data -> transform(data, response));
+        } else {
+            // for non-successful and empty responses, don't transform the response body
+            return response.toStrict(timeoutMillis, system).thenApply(strictResponse -> strictResponse);
+        }
+    }
+
+    private CompletionStage<ByteString> getData(final HttpEntity entity) {
+        if (entity.isStrict()) {
+            return CompletableFuture.completedFuture(((HttpEntity.Strict) entity).getData());
+        } else {
+            return entity.toStrict(timeoutMillis, system).thenApply(HttpEntity.Strict::getData);
+        }
+    }
+
+    private HttpResponse transform(final ByteString data, final HttpResponse response) {
+        final JsonValue jsonValue = JsonFactory.readFrom(
+                new InputStreamReader(data.iterator().asInputStream(), StandardCharsets.UTF_8));
+        try {
+            return responseValueTransformFunction.apply(jsonValue, response);
+        } catch (final Exception e) {
+            throw JsonParseException.newBuilder()
+                    .message("Could not transform JSON: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+}
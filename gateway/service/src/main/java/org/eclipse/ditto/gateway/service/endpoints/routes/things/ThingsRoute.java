@@ -181,13 +181,14 @@ public final class ThingsRoute extends AbstractRoute {
             if (!idsStrings.isEmpty()) {
                 // GET /things?ids=...
                 return parameterList(ThingsParameter.FIELDS.toString(), fields ->
-                        handlePerRequest(ctx, RetrieveThings.getBuilder(splitThingIdStrings(idsStrings))
+                        // the things are streamed to the client as they are, only the content type is adjusted
+                        handlePerRequestStreamingJsonArray(ctx,
+                                RetrieveThings.getBuilder(splitThingIdStrings(idsStrings))
                                         .selectedFields(calculateSelectedFields(fields))
                                         .dittoHeaders(dittoHeaders)
                                         .build(),
-                                (responseValue, response) ->
-                                        response.withEntity(determineResponseContentType(ctx),
-                                                responseValue.toString())
+                                determineResponseContentType(ctx),
+                                null
                         )
                 );
             } else {
@@ -29,7 +29,7 @@ import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -58,17 +58,20 @@ public final class StreamingSession {
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
         this.namespaces = namespaces;
-        thingPredicate = filterCriteria == null
-                ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
-                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
-                                PROTOCOL_ADAPTER.toTopicPath(signal)),
-                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                                        ((WithEntityId) signal).getEntityId()),
-                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
-                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+        if (filterCriteria == null) {
+            thingPredicate = (thing, signal) -> true;
+        } else {
+            // compile the filter once per session; placeholders are resolved for each signal
+            final CompiledThingPredicate compiledThingPredicate = CompiledThingPredicate.compile(filterCriteria);
+            thingPredicate = (thing, signal) -> compiledThingPredicate.test(thing,
+                    PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
+                            PROTOCOL_ADAPTER.toTopicPath(signal)),
+                    PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
+                            ((WithEntityId) signal).getEntityId()),
+                    PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                    PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
+            );
+        }
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
@@ -69,6 +69,7 @@ import org.eclipse.ditto.edge.service.acknowledgements.message.MessageCommandRes
 import org.eclipse.ditto.edge.service.acknowledgements.things.ThingCommandResponseAcknowledgementProvider;
 import org.eclipse.ditto.edge.service.acknowledgements.things.ThingLiveCommandAckRequestSetter;
 import org.eclipse.ditto.edge.service.acknowledgements.things.ThingModifyCommandAckRequestSetter;
+import org.eclipse.ditto.edge.service.dispatching.ThingReadReplica;
 import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.edge.service.streaming.StreamingSubscriptionManager;
 import org.eclipse.ditto.gateway.api.GatewayInternalErrorException;
@@ -100,6 +101,7 @@ import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
 import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionEvent;
 
@@ -137,6 +139,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final Set<AcknowledgementLabel> declaredAcks;
+    private final ThingReadReplica thingReadReplica;
     private final ThreadSafeDittoLoggingAdapter logger;
     private AuthorizationContext authorizationContext;
     private List<String> namespaces;
@@ -189,6 +192,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         streamingSubscriptionManager = getContext().actorOf(streamingSubscriptionManagerProps,
                 StreamingSubscriptionManager.ACTOR_NAME);
         declaredAcks = connect.getDeclaredAcknowledgementLabels();
+        thingReadReplica = ThingReadReplica.get(getContext().getSystem());
         startSubscriptionRefreshTimer();
     }
 
@@ -291,6 +295,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
 
     private Receive createOutgoingSignalBehavior() {
         final PartialFunction<Object, Object> setCorrelationIdAndStartAckForwarder = new PFBuilder<>()
+                .match(ThingEvent.class, thingEvent -> {
+                    thingReadReplica.applyTwinEvent(thingEvent);
+                    return startAckForwarder(thingEvent);
+                })
                 .match(Signal.class, this::startAckForwarder)
                 .match(DittoRuntimeException.class, x -> x)
                 .build();
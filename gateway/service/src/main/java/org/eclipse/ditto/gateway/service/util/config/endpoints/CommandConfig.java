@@ -54,6 +54,15 @@ public interface CommandConfig {
      */
     int connectionsRetrieveLimit();
 
+    /**
+     * Indicates whether side-effect-free query commands should be handled without creating a per-request actor.
+     * The fast path is only used with the default {@code http-request-actor-props-factory}.
+     *
+     * @return whether the actor-less query fast path is enabled.
+     * @since 3.5.0
+     */
+    boolean isQueryFastPathEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CommandConfig}.
@@ -80,7 +89,14 @@ public interface CommandConfig {
          * The limit of how many connections can be retrieved.
          * If not limited the response may become few MB in size.
          */
-        CONNECTIONS_RETRIEVE_LIMIT("connections-retrieve-limit", 100);
+        CONNECTIONS_RETRIEVE_LIMIT("connections-retrieve-limit", 100),
+
+        /**
+         * Whether side-effect-free query commands should be handled without creating a per-request actor.
+         *
+         * @since 3.5.0
+         */
+        QUERY_FAST_PATH_ENABLED("query-fast-path-enabled", false);
 
         private final String path;
         private final Object defaultValue;
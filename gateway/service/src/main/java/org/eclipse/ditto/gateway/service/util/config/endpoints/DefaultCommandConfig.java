@@ -36,6 +36,7 @@ public final class DefaultCommandConfig implements CommandConfig {
     private final Duration maxTimeout;
     private final Duration smartChannelBuffer;
     private final int connectionsRetrieveLimit;
+    private final boolean queryFastPathEnabled;
 
     private DefaultCommandConfig(final ScopedConfig scopedConfig) {
         defaultTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(CommandConfigValue.DEFAULT_TIMEOUT);
@@ -43,6 +44,7 @@ public final class DefaultCommandConfig implements CommandConfig {
         smartChannelBuffer =
                 scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(CommandConfigValue.SMART_CHANNEL_BUFFER);
         connectionsRetrieveLimit = scopedConfig.getNonNegativeIntOrThrow(CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT);
+        queryFastPathEnabled = scopedConfig.getBoolean(CommandConfigValue.QUERY_FAST_PATH_ENABLED.getConfigPath());
     }
 
     /**
@@ -77,6 +79,11 @@ public final class DefaultCommandConfig implements CommandConfig {
         return connectionsRetrieveLimit;
     }
 
+    @Override
+    public boolean isQueryFastPathEnabled() {
+        return queryFastPathEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -89,12 +96,14 @@ public final class DefaultCommandConfig implements CommandConfig {
         return Objects.equals(defaultTimeout, that.defaultTimeout) &&
                 Objects.equals(maxTimeout, that.maxTimeout) &&
                 Objects.equals(smartChannelBuffer, that.smartChannelBuffer) &&
-                Objects.equals(connectionsRetrieveLimit, that.connectionsRetrieveLimit);
+                Objects.equals(connectionsRetrieveLimit, that.connectionsRetrieveLimit) &&
+                queryFastPathEnabled == that.queryFastPathEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(defaultTimeout, maxTimeout, smartChannelBuffer, connectionsRetrieveLimit);
+        return Objects.hash(defaultTimeout, maxTimeout, smartChannelBuffer, connectionsRetrieveLimit,
+                queryFastPathEnabled);
     }
 
     @Override
@@ -104,6 +113,7 @@ public final class DefaultCommandConfig implements CommandConfig {
                 ", maxTimeout=" + maxTimeout +
                 ", smartChannelBuffer=" + smartChannelBuffer +
                 ", connectionsRetrieveLimit=" + connectionsRetrieveLimit +
+                ", queryFastPathEnabled=" + queryFastPathEnabled +
                 "]";
     }
 
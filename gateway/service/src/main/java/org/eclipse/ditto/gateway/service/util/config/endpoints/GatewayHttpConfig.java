@@ -54,6 +54,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
     private final Duration coordinatedShutdownTimeout;
+    private final int streamedResponseMaxElementSize;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig) {
         hostname = basicHttpConfig.getHostname();
@@ -70,6 +71,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                         .split(","));
+        streamedResponseMaxElementSize = Math.toIntExact(
+                scopedConfig.getBytes(GatewayHttpConfigValue.STREAMED_RESPONSE_MAX_ELEMENT_SIZE.getConfigPath()));
     }
 
     private static List<String> readProtocolHeaders(final ScopedConfig scopedConfig) {
@@ -212,6 +215,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return additionalAcceptedMediaTypes;
     }
 
+    @Override
+    public int getStreamedResponseMaxElementSize() {
+        return streamedResponseMaxElementSize;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -233,14 +241,15 @@ public final class GatewayHttpConfig implements HttpConfig {
                 redirectToHttpsBlocklistPattern.equals(that.redirectToHttpsBlocklistPattern) &&
                 requestTimeout.equals(that.requestTimeout) &&
                 queryParamsAsHeaders.equals(that.queryParamsAsHeaders) &&
-                additionalAcceptedMediaTypes.equals(that.additionalAcceptedMediaTypes);
+                additionalAcceptedMediaTypes.equals(that.additionalAcceptedMediaTypes) &&
+                streamedResponseMaxElementSize == that.streamedResponseMaxElementSize;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, protocolHeaders, forceHttps,
                 redirectToHttps, redirectToHttpsBlocklistPattern, enableCors, requestTimeout,
-                queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                queryParamsAsHeaders, additionalAcceptedMediaTypes, streamedResponseMaxElementSize);
     }
 
     @Override
@@ -258,6 +267,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", requestTimeout=" + requestTimeout +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
+                ", streamedResponseMaxElementSize=" + streamedResponseMaxElementSize +
                 "]";
     }
 
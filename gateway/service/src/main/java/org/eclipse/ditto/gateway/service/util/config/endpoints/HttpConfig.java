@@ -102,6 +102,15 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
      */
     Set<String> getAdditionalAcceptedMediaTypes();
 
+    /**
+     * Returns the maximum size in bytes of a single JSON array element when transforming a response entity in a
+     * streaming fashion.
+     *
+     * @return the maximum element size in bytes.
+     * @since 3.5.0
+     */
+    int getStreamedResponseMaxElementSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -174,7 +183,15 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
          * @since 1.1.0
          */
         ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types",
-                MediaTypes.APPLICATION_OCTET_STREAM.toString());
+                MediaTypes.APPLICATION_OCTET_STREAM.toString()),
+
+        /**
+         * The maximum size of a single JSON array element when transforming a response entity in a streaming
+         * fashion.
+         *
+         * @since 3.5.0
+         */
+        STREAMED_RESPONSE_MAX_ELEMENT_SIZE("streamed-response-max-element-size", "10m");
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.CoordinatedShutdown;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link QueryCommandHttpRequestHandler}.
+ */
+public final class QueryCommandHttpRequestHandlerTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("test.ns:query-fast-path");
+
+    @Test
+    public void twinQueryCommandIsApplicable() {
+        final var retrieveThing = RetrieveThing.of(THING_ID, createAuthorizedHeaders());
+
+        assertThat(QueryCommandHttpRequestHandler.isApplicable(retrieveThing)).isTrue();
+    }
+
+    @Test
+    public void modifyLiveAndWhoamiCommandsAreNotApplicable() {
+        final var dittoHeaders = createAuthorizedHeaders();
+        final var modifyAttribute =
+                ModifyAttribute.of(THING_ID, JsonPointer.of("foo"), JsonValue.of("bar"), dittoHeaders);
+        final var liveRetrieveThing = RetrieveThing.of(THING_ID, dittoHeaders.toBuilder().channel("live").build());
+        final var whoami = Whoami.of(dittoHeaders);
+
+        assertThat(QueryCommandHttpRequestHandler.isApplicable(modifyAttribute)).isFalse();
+        assertThat(QueryCommandHttpRequestHandler.isApplicable(liveRetrieveThing)).isFalse();
+        assertThat(QueryCommandHttpRequestHandler.isApplicable(whoami)).isFalse();
+    }
+
+    @Test
+    public void retrieveThingIsAnsweredWithRenderedCommandResponse() throws Exception {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createHandler(proxyActorProbe);
+        final var dittoHeaders = createAuthorizedHeaders();
+        final var retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+        final var thingJson = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(RetrieveThingResponse.of(THING_ID, thingJson, dittoHeaders));
+
+        final var httpResponse = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.OK);
+        assertThat(((HttpEntity.Strict) httpResponse.entity()).getData().utf8String())
+                .isEqualTo(thingJson.toString());
+    }
+
+    @Test
+    public void exceptionIsRenderedAsErrorResponse() throws Exception {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createHandler(proxyActorProbe);
+        final var dittoHeaders = createAuthorizedHeaders();
+        final var retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(ThingNotAccessibleException.newBuilder(THING_ID).dittoHeaders(dittoHeaders).build());
+
+        assertThat(responseFuture.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.NOT_FOUND);
+    }
+
+    @Test
+    public void missingResponseResultsInRequestTimeout() throws Exception {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createHandler(proxyActorProbe);
+        final DittoHeaders dittoHeaders = createAuthorizedHeaders().toBuilder()
+                .timeout(Duration.ofMillis(200))
+                .build();
+        final var retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+
+        assertThat(responseFuture.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    @Test
+    public void onlyDefaultHttpRequestActorPropsFactoryIsSupported() {
+        final HttpRequestActorPropsFactory customFactory =
+                (proxyActor, headerTranslator, httpRequest, httpResponseFuture, httpConfig, commandConfig) ->
+                        Props.empty();
+
+        final var defaultFactory = HttpRequestActorPropsFactory.get(ACTOR_SYSTEM_RESOURCE.getActorSystem(),
+                ConfigFactory.parseMap(Map.of("http-request-actor-props-factory",
+                        DefaultHttpRequestActorPropsFactory.class.getName())));
+
+        assertThat(QueryCommandHttpRequestHandler.supports(defaultFactory)).isTrue();
+        assertThat(QueryCommandHttpRequestHandler.supports(customFactory)).isFalse();
+    }
+
+    @Test
+    public void coordinatedShutdownWaitsForPendingResponses() throws Exception {
+        final var actorSystem = ActorSystem.create(getClass().getSimpleName(), ACTOR_SYSTEM_RESOURCE.getActorSystem()
+                .settings()
+                .config());
+        try {
+            final var proxyActorProbe = TestProbe.apply(actorSystem);
+            final var underTest = QueryCommandHttpRequestHandler.newInstance(proxyActorProbe.ref(),
+                    HEADER_TRANSLATOR,
+                    actorSystem,
+                    gatewayConfig.getHttpConfig(),
+                    gatewayConfig.getCommandConfig());
+            final var dittoHeaders = createAuthorizedHeaders();
+            final var retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+            final var thingJson = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+
+            final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+            proxyActorProbe.expectMsg(retrieveThing);
+            final var shutdownFuture = CoordinatedShutdown.get(actorSystem)
+                    .runAll(CoordinatedShutdown.unknownReason())
+                    .toCompletableFuture();
+
+            proxyActorProbe.expectNoMessage(FiniteDuration.apply(500, TimeUnit.MILLISECONDS));
+            assertThat(shutdownFuture).isNotDone();
+
+            proxyActorProbe.reply(RetrieveThingResponse.of(THING_ID, thingJson, dittoHeaders));
+            assertThat(responseFuture.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.OK);
+            shutdownFuture.get(30, TimeUnit.SECONDS);
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    private static QueryCommandHttpRequestHandler createHandler(final TestProbe proxyActorProbe) {
+        return QueryCommandHttpRequestHandler.newInstance(proxyActorProbe.ref(),
+                HEADER_TRANSLATOR,
+                ACTOR_SYSTEM_RESOURCE.getActorSystem(),
+                gatewayConfig.getHttpConfig(),
+                gatewayConfig.getCommandConfig());
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpCharsets;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.MediaTypes;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StreamingJsonArrayResponseTransformer}.
+ */
+public final class StreamingJsonArrayResponseTransformerTest {
+
+    private static final int MAX_ELEMENT_SIZE = 1024;
+    private static final JsonArray THINGS = JsonArray.of(
+            JsonObject.newBuilder().set("thingId", "test.ns:thing1").set("attributes", JsonObject.newBuilder()
+                    .set("location", "[kitchen, {living room}]")
+                    .build()).build(),
+            JsonObject.newBuilder().set("thingId", "test.ns:thing2").build()
+    );
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = ActorSystem.create(StreamingJsonArrayResponseTransformerTest.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxElementSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> StreamingJsonArrayResponseTransformer.withContentType(ContentTypes.APPLICATION_JSON,
+                        0));
+    }
+
+    @Test
+    public void chunkedArrayIsPassedThroughWithChangedContentType() throws Exception {
+        final var contentType =
+                ContentTypes.create(MediaTypes.applicationWithFixedCharset("td+json", HttpCharsets.UTF_8));
+        final var underTest = StreamingJsonArrayResponseTransformer.withContentType(contentType, MAX_ELEMENT_SIZE);
+        final var response = HttpResponse.create()
+                .withEntity(HttpEntities.createChunked(ContentTypes.TEXT_PLAIN_UTF8, chunked(THINGS.toString())));
+
+        final var transformedResponse = underTest.apply(response);
+
+        assertThat(transformedResponse.entity().getContentType()).isEqualTo(contentType);
+        assertThat(JsonFactory.readFrom(entityString(transformedResponse))).isEqualTo(THINGS);
+    }
+
+    @Test
+    public void eachElementIsTransformed() throws Exception {
+        final var underTest = StreamingJsonArrayResponseTransformer.withElementTransformation(
+                ContentTypes.APPLICATION_JSON,
+                element -> element.asObject().setValue("transformed", true),
+                MAX_ELEMENT_SIZE);
+        final var response = HttpResponse.create()
+                .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, chunked(THINGS.toString())));
+
+        final var transformedResponse = underTest.apply(response);
+
+        final var expectedArray = THINGS.stream()
+                .map(JsonValue::asObject)
+                .map(thing -> thing.setValue("transformed", true))
+                .collect(JsonCollectors.valuesToArray());
+        assertThat(JsonFactory.readFrom(entityString(transformedResponse))).isEqualTo(expectedArray);
+    }
+
+    @Test
+    public void emptyArrayStaysEmpty() throws Exception {
+        final var underTest =
+                StreamingJsonArrayResponseTransformer.withContentType(ContentTypes.APPLICATION_JSON, MAX_ELEMENT_SIZE);
+        final var response = HttpResponse.create().withEntity(ContentTypes.APPLICATION_JSON, " [ ] ");
+
+        final var transformedResponse = underTest.apply(response);
+
+        assertThat(JsonFactory.readFrom(entityString(transformedResponse))).isEqualTo(JsonArray.empty());
+    }
+
+    @Test
+    public void errorResponseIsNotTransformed() {
+        final var underTest =
+                StreamingJsonArrayResponseTransformer.withContentType(ContentTypes.APPLICATION_JSON, MAX_ELEMENT_SIZE);
+        final var response = HttpResponse.create()
+                .withStatus(StatusCodes.NOT_FOUND)
+                .withEntity(ContentTypes.APPLICATION_JSON, "{\"status\":404}");
+
+        assertThat(underTest.apply(response)).isSameAs(response);
+    }
+
+    private static Source<ByteString, ?> chunked(final String json) {
+        // split at arbitrary positions to make sure elements are framed across chunk boundaries
+        final var chunkSize = 7;
+        return Source.range(0, (json.length() - 1) / chunkSize)
+                .map(i -> ByteString.fromString(json.substring(i * chunkSize,
+                        Math.min(json.length(), (i + 1) * chunkSize))));
+    }
+
+    private static String entityString(final HttpResponse response) throws Exception {
+        return response.entity()
+                .toStrict(TimeUnit.SECONDS.toMillis(5), actorSystem)
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS)
+                .getData()
+                .utf8String();
+    }
+
+}
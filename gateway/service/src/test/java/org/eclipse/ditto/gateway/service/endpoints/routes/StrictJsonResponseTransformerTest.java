@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StrictJsonResponseTransformer}.
+ */
+public final class StrictJsonResponseTransformerTest {
+
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "test.ns:thing1")
+            .set("attributes", JsonObject.newBuilder().set("location", "kitchen").build())
+            .build();
+    private static final BiFunction<JsonValue, HttpResponse, HttpResponse> EXTRACT_THING_ID =
+            (jsonValue, response) -> response.withEntity(ContentTypes.APPLICATION_JSON,
+                    jsonValue.asObject().getValue("thingId").orElseThrow().toString());
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = ActorSystem.create(StrictJsonResponseTransformerTest.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void strictEntityIsTransformed() throws Exception {
+        final var response = HttpResponse.create()
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, THING.toString()));
+
+        assertThat(getEntityString(transform(response))).isEqualTo("\"test.ns:thing1\"");
+    }
+
+    @Test
+    public void chunkedEntityIsTransformed() throws Exception {
+        final var response = HttpResponse.create()
+                .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, chunked(THING.toString())));
+
+        assertThat(getEntityString(transform(response))).isEqualTo("\"test.ns:thing1\"");
+    }
+
+    @Test
+    public void streamedEntityIsTransformed() throws Exception {
+        final var response = HttpResponse.create()
+                .withEntity(HttpEntities.createCloseDelimited(ContentTypes.APPLICATION_JSON,
+                        chunked(THING.toString())));
+
+        assertThat(getEntityString(transform(response))).isEqualTo("\"test.ns:thing1\"");
+    }
+
+    @Test
+    public void nonSuccessfulResponseIsNotTransformed() throws Exception {
+        final var response = HttpResponse.create()
+                .withStatus(StatusCodes.NOT_FOUND)
+                .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, chunked("{\"status\":404}")));
+
+        final HttpResponse result = transform(response);
+
+        assertThat(result.status()).isEqualTo(StatusCodes.NOT_FOUND);
+        assertThat(result.entity().isStrict()).isTrue();
+        assertThat(getEntityString(result)).isEqualTo("{\"status\":404}");
+    }
+
+    private static HttpResponse transform(final HttpResponse response) throws Exception {
+        return StrictJsonResponseTransformer.of(EXTRACT_THING_ID, Duration.ofSeconds(3), actorSystem)
+                .apply(response)
+                .toCompletableFuture()
+                .get(3, TimeUnit.SECONDS);
+    }
+
+    private static Source<ByteString, ?> chunked(final String json) {
+        final var chunkSize = 7;
+        return Source.range(0, (json.length() - 1) / chunkSize)
+                .map(i -> ByteString.fromString(json.substring(i * chunkSize,
+                        Math.min(json.length(), (i + 1) * chunkSize))));
+    }
+
+    private static String getEntityString(final HttpResponse response) throws Exception {
+        final HttpEntity.Strict strict = response.entity().toStrict(3000L, actorSystem)
+                .toCompletableFuture()
+                .get(3, TimeUnit.SECONDS);
+        return strict.getData().utf8String();
+    }
+
+}
@@ -70,6 +70,9 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.connectionsRetrieveLimit())
                 .as(CommandConfig.CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT.getConfigPath())
                 .isEqualTo(100);
+        softly.assertThat(underTest.isQueryFastPathEnabled())
+                .as(CommandConfig.CommandConfigValue.QUERY_FAST_PATH_ENABLED.getConfigPath())
+                .isEqualTo(false);
     }
 
     @Test
@@ -88,6 +91,9 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.connectionsRetrieveLimit())
                 .as(CommandConfig.CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT.getConfigPath())
                 .isEqualTo(77);
+        softly.assertThat(underTest.isQueryFastPathEnabled())
+                .as(CommandConfig.CommandConfigValue.QUERY_FAST_PATH_ENABLED.getConfigPath())
+                .isEqualTo(true);
     }
 
 }
@@ -203,4 +203,22 @@ public final class GatewayHttpConfigTest {
                 .contains("application-json");
     }
 
+    @Test
+    public void getStreamedResponseMaxElementSizeReturnsDefaultIfNotSet() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getStreamedResponseMaxElementSize())
+                .as(HttpConfig.GatewayHttpConfigValue.STREAMED_RESPONSE_MAX_ELEMENT_SIZE.getConfigPath())
+                .isEqualTo(10 * 1024 * 1024);
+    }
+
+    @Test
+    public void getConfiguredStreamedResponseMaxElementSize() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(gatewayHttpTestConfig);
+
+        softly.assertThat(underTest.getStreamedResponseMaxElementSize())
+                .as(HttpConfig.GatewayHttpConfigValue.STREAMED_RESPONSE_MAX_ELEMENT_SIZE.getConfigPath())
+                .isEqualTo(1024 * 1024);
+    }
+
 }
@@ -59,4 +59,13 @@ public interface Gauge extends ResettableMetricInstrument, TaggedMetricInstrumen
      * @return The current value of the gauge.
      */
     Long get();
+
+    /**
+     * Removes the time series of the gauge with its tags, e.g. when the measured entity ceased to exist.
+     * The time series is dropped from the next metrics snapshot on; using the gauge afterwards creates it again.
+     *
+     * @return True if the time series could be removed.
+     * @since 3.5.0
+     */
+    boolean remove();
 }
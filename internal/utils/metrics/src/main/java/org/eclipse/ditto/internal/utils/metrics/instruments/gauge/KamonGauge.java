@@ -106,6 +106,13 @@ public final class KamonGauge implements Gauge {
         return true;
     }
 
+    @Override
+    public boolean remove() {
+        final boolean removed = Kamon.gauge(name).remove(KamonTagSetConverter.getKamonTagSet(tags));
+        LOGGER.trace("Removed gauge with name <{}> and tags <{}>: <{}>.", name, tags, removed);
+        return removed;
+    }
+
     private kamon.metric.Gauge getKamonInternalGauge() {
         return Kamon.gauge(name).withTags(KamonTagSetConverter.getKamonTagSet(tags));
     }
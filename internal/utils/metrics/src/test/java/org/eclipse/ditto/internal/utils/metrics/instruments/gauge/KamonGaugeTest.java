@@ -56,4 +56,11 @@ public class KamonGaugeTest {
         sut.decrement();
         assertThat(sut.get()).isEqualTo(4L);
     }
+
+    @Test
+    public void remove() {
+        final Gauge tagged = sut.tag("key", "value");
+        tagged.set(5L);
+        assertThat(tagged.remove()).isTrue();
+    }
 }
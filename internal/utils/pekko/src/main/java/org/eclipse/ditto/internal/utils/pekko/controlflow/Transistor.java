@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.pekko.controlflow;
 
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.function.Predicate;
 
 import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.FanInShape2;
@@ -62,9 +63,10 @@ public final class Transistor<T> extends GraphStage<FanInShape2<T, Integer, T>>
     private final Inlet<Integer> base = Inlet.create("base");
     private final Outlet<T> emitter = Outlet.create("emitter");
     private final FanInShape2<T, Integer, T> shape = new FanInShape2<>(collector, base, emitter);
+    private final Predicate<T> consumesCredit;
 
-    private Transistor() {
-        // no-op
+    private Transistor(final Predicate<T> consumesCredit) {
+        this.consumesCredit = consumesCredit;
     }
 
     /**
@@ -74,7 +76,20 @@ public final class Transistor<T> extends GraphStage<FanInShape2<T, Integer, T>>
      * @return a transistor.
      */
     public static <T> Transistor<T> of() {
-        return new Transistor<>();
+        return new Transistor<>(element -> true);
+    }
+
+    /**
+     * Get a transistor component where some elements pass without consuming credit. Those elements still wait for
+     * credit to be pulled, but the credit is given back after they arrive.
+     *
+     * @param consumesCredit whether an element consumes credit.
+     * @param <T> element type.
+     * @return a transistor.
+     * @since 3.5.0
+     */
+    public static <T> Transistor<T> of(final Predicate<T> consumesCredit) {
+        return new Transistor<>(consumesCredit);
     }
 
     @Override
@@ -104,7 +119,8 @@ public final class Transistor<T> extends GraphStage<FanInShape2<T, Integer, T>>
             setHandler(base, new AbstractInHandler() {
                 @Override
                 public void onPush() {
-                    final int newCredit = grab(base);
+                    // keep credit given back by free elements while the base was pulled
+                    final int newCredit = credit + grab(base);
                     log().debug("credit: {} -> {}", credit, newCredit);
                     credit = newCredit;
                     considerPullSourceAndBase();
@@ -116,6 +132,9 @@ public final class Transistor<T> extends GraphStage<FanInShape2<T, Integer, T>>
                 public void onPush() {
                     final T element = grab(collector);
                     log().debug("grabbed {}", element);
+                    if (!consumesCredit.test(element)) {
+                        credit++;
+                    }
                     inflight.add(element);
                     considerPushDrain();
                     considerPullSourceAndBase();
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.serialization.Serialization;
+import org.apache.pekko.serialization.SerializationExtension;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.OverflowStrategy;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.javadsl.SourceQueueWithComplete;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotLoadBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotLoadBatchingConfig;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+
+import pekko.contrib.persistence.mongodb.ConfiguredExtension;
+import pekko.contrib.persistence.mongodb.MongoPersistenceExtension;
+import pekko.contrib.persistence.mongodb.MongoSnapshots;
+import pekko.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import pekko.contrib.persistence.mongodb.driver.ScalaDriverPersistenceExtension;
+import pekko.contrib.persistence.mongodb.driver.ScalaDriverPersistenceSnapshotter$;
+import scala.Option;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Snapshot store plugin which coalesces concurrent loads of the latest snapshot into batched queries.
+ * <p>
+ * When many passivated entities are woken up at once, e.g. when a fleet of devices reconnects after a network outage,
+ * each starting persistence actor loads its latest snapshot with a separate query. With {@code load-batching}
+ * enabled in the plugin configuration, those loads are queued and every query loads the snapshots of all
+ * persistence IDs which queued up while the previous queries were running, using {@code $in} on the persistence IDs.
+ * Under low load every batch contains a single persistence ID, so no latency is added.
+ * <p>
+ * Loads with other selection criteria than the latest snapshot and loads exceeding the configured queue size are
+ * delegated to {@link MongoSnapshots}. Services switch their snapshot store plugin to this class with
+ * {@link #withBatchingPluginIfEnabled(Config, String)} only if batching is enabled. Batched snapshots are deserialized exactly like the ones of
+ * {@link MongoSnapshots}, so both are interchangeable. The batched queries use the MongoDB client of the plugin, so
+ * that they share its connection pool and settings.
+ *
+ * @since 3.5.0
+ */
+public class BatchingMongoSnapshots extends MongoSnapshots {
+
+    private static final String PLUGIN_CLASS_KEY = "class";
+    private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
+    private static final String S_PROCESSOR_ID = SnapshottingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String S_SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String S_TS = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
+    private static final String ID = "_id";
+    private static final String LATEST_SNAPSHOT = "latest";
+    private static final String COLLECTION_TAG = "collection";
+
+    private final Config pluginConfig;
+    private final SnapshotLoadBatchingConfig batchingConfig;
+    private final String snapsCollectionName;
+    private final Histogram batchSizeHistogram;
+    private final Counter batchedLoadsCounter;
+    private final Counter unbatchedLoadsCounter;
+    private final Gauge pendingLoadsGauge;
+    private final AtomicInteger pendingLoads;
+
+    @Nullable private SourceQueueWithComplete<PendingLoad> loadQueue;
+
+    /**
+     * Creates the snapshot store plugin.
+     *
+     * @param config the configuration of the plugin.
+     */
+    public BatchingMongoSnapshots(final Config config) {
+        super(config);
+        pluginConfig = config;
+        batchingConfig = DefaultSnapshotLoadBatchingConfig.of(config);
+        snapsCollectionName = config.getString(SNAPS_COLLECTION_NAME_KEY);
+        batchSizeHistogram = DittoMetrics.histogram("snapshot_load_batch_size")
+                .tag(COLLECTION_TAG, snapsCollectionName);
+        batchedLoadsCounter = DittoMetrics.counter("snapshot_loads_batched")
+                .tag(COLLECTION_TAG, snapsCollectionName);
+        unbatchedLoadsCounter = DittoMetrics.counter("snapshot_loads_unbatched")
+                .tag(COLLECTION_TAG, snapsCollectionName);
+        pendingLoadsGauge = DittoMetrics.gauge("snapshot_loads_pending")
+                .tag(COLLECTION_TAG, snapsCollectionName);
+        pendingLoads = new AtomicInteger();
+        loadQueue = null;
+    }
+
+    /**
+     * Switch a snapshot store plugin to this class if load batching is enabled in its configuration, so that
+     * the plugin stays {@link MongoSnapshots} otherwise.
+     *
+     * @param config the configuration of the actor system.
+     * @param pluginId the ID of the snapshot store plugin, i.e. the path of its configuration.
+     * @return the configuration with the plugin class switched if load batching is enabled.
+     */
+    public static Config withBatchingPluginIfEnabled(final Config config, final String pluginId) {
+        if (config.hasPath(pluginId) && DefaultSnapshotLoadBatchingConfig.of(config.getConfig(pluginId)).isEnabled()) {
+            return config.withValue(pluginId + "." + PLUGIN_CLASS_KEY,
+                    ConfigValueFactory.fromAnyRef(BatchingMongoSnapshots.class.getName()));
+        } else {
+            return config;
+        }
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        if (batchingConfig.isEnabled()) {
+            final ActorSystem system = context().system();
+            final Optional<MongoCollection<BsonDocument>> snapsCollection = getSnapsCollectionOfPlugin(system);
+            if (snapsCollection.isPresent()) {
+                loadQueue = startLoadQueue(snapsCollection.get(), SerializationExtension.get(system),
+                        SystemMaterializer.get(system).materializer());
+                log().info("Batching snapshot loads of collection <{}>: <{}>", snapsCollectionName, batchingConfig);
+            } else {
+                log().warning("Not batching snapshot loads of collection <{}> as the configured driver is not " +
+                        "supported.", snapsCollectionName);
+            }
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (loadQueue != null) {
+            loadQueue.complete();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Future<Option<SelectedSnapshot>> loadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        if (loadQueue != null && SnapshotSelectionCriteria.Latest().equals(criteria) && tryAcquirePendingLoad()) {
+            final var promise = new CompletableFuture<Optional<SelectedSnapshot>>();
+            promise.whenComplete((result, error) -> releasePendingLoad());
+            loadQueue.offer(new PendingLoad(persistenceId, promise)).whenComplete((offerResult, error) -> {
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else if (!QueueOfferResult.enqueued().equals(offerResult)) {
+                    promise.completeExceptionally(new IllegalStateException(
+                            "Snapshot load of <" + persistenceId + "> was not enqueued: " + offerResult));
+                }
+            });
+            return FutureConverters.toScala(promise.thenApply(selected -> Option.apply(selected.orElse(null))));
+        } else {
+            unbatchedLoadsCounter.increment();
+            return super.loadAsync(persistenceId, criteria);
+        }
+    }
+
+    /**
+     * Looks up the snapshot collection via the driver {@link MongoSnapshots} itself uses: the extension caches its
+     * drivers per plugin configuration, so no additional MongoDB client is created.
+     */
+    private Optional<MongoCollection<BsonDocument>> getSnapsCollectionOfPlugin(final ActorSystem system) {
+        final ConfiguredExtension configuredExtension = MongoPersistenceExtension.get(system).apply(pluginConfig);
+        if (configuredExtension instanceof ScalaDriverPersistenceExtension.Configured scalaDriverExtension) {
+            return Optional.of(scalaDriverExtension.driver()
+                    .db()
+                    .wrapped()
+                    .getCollection(snapsCollectionName, BsonDocument.class));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private boolean tryAcquirePendingLoad() {
+        final int pending = pendingLoads.incrementAndGet();
+        if (pending > batchingConfig.getQueueSize()) {
+            pendingLoads.decrementAndGet();
+            return false;
+        } else {
+            pendingLoadsGauge.set((long) pending);
+            return true;
+        }
+    }
+
+    private void releasePendingLoad() {
+        pendingLoadsGauge.set((long) pendingLoads.decrementAndGet());
+    }
+
+    private SourceQueueWithComplete<PendingLoad> startLoadQueue(final MongoCollection<BsonDocument> snapsCollection,
+            final Serialization serialization, final Materializer materializer) {
+
+        return Source.<PendingLoad>queue(batchingConfig.getQueueSize(), OverflowStrategy.dropNew())
+                .batch(batchingConfig.getMaxBatchSize(), BatchingMongoSnapshots::newBatch,
+                        BatchingMongoSnapshots::addToBatch)
+                .mapAsyncUnordered(batchingConfig.getParallelism(),
+                        batch -> loadBatch(batch, snapsCollection, serialization, materializer))
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    private CompletionStage<Done> loadBatch(final List<PendingLoad> batch,
+            final MongoCollection<BsonDocument> snapsCollection,
+            final Serialization serialization,
+            final Materializer materializer) {
+
+        batchSizeHistogram.record((long) batch.size());
+        batchedLoadsCounter.increment(batch.size());
+        final Map<String, List<PendingLoad>> loadsByPid =
+                batch.stream().collect(Collectors.groupingBy(PendingLoad::persistenceId, HashMap::new,
+                        Collectors.toList()));
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in(S_PROCESSOR_ID, loadsByPid.keySet())),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN),
+                        Sorts.descending(S_TS))),
+                Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(LATEST_SNAPSHOT, "$$ROOT"))
+        );
+
+        // $group keeps whole snapshots in memory; allow it to spill to disk for batches of large snapshots
+        return Source.fromPublisher(snapsCollection.aggregate(pipeline).allowDiskUse(true))
+                .runWith(Sink.seq(), materializer)
+                .handle((documents, error) -> {
+                    if (error != null) {
+                        loadsByPid.values()
+                                .forEach(loads -> completeExceptionally(loads, error));
+                    } else {
+                        documents.forEach(document -> completeLoads(document, loadsByPid, serialization));
+                        // persistence IDs without snapshot
+                        loadsByPid.values()
+                                .forEach(loads -> loads.forEach(load -> load.promise().complete(Optional.empty())));
+                    }
+                    return Done.getInstance();
+                });
+    }
+
+    private static void completeLoads(final BsonDocument document,
+            final Map<String, List<PendingLoad>> loadsByPid,
+            final Serialization serialization) {
+
+        final List<PendingLoad> loads = loadsByPid.remove(document.getString(ID).getValue());
+        if (loads != null) {
+            try {
+                final SelectedSnapshot selectedSnapshot = ScalaDriverPersistenceSnapshotter$.MODULE$
+                        .deserializeSnapshot(document.getDocument(LATEST_SNAPSHOT), serialization);
+                loads.forEach(load -> load.promise().complete(Optional.of(selectedSnapshot)));
+            } catch (final RuntimeException e) {
+                completeExceptionally(loads, e);
+            }
+        }
+    }
+
+    private static void completeExceptionally(final Collection<PendingLoad> loads, final Throwable error) {
+        loads.forEach(load -> load.promise().completeExceptionally(error));
+    }
+
+    private static List<PendingLoad> newBatch(final PendingLoad load) {
+        final List<PendingLoad> batch = new ArrayList<>();
+        batch.add(load);
+        return batch;
+    }
+
+    private static List<PendingLoad> addToBatch(final List<PendingLoad> batch, final PendingLoad load) {
+        batch.add(load);
+        return batch;
+    }
+
+    private record PendingLoad(String persistenceId, CompletableFuture<Optional<SelectedSnapshot>> promise) {}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for coalescing concurrent snapshot loads into batched queries.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class DefaultSnapshotLoadBatchingConfig implements SnapshotLoadBatchingConfig {
+
+    private static final String CONFIG_PATH = "load-batching";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int parallelism;
+    private final int queueSize;
+
+    private DefaultSnapshotLoadBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(SnapshotLoadBatchingConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = Math.min(config.getPositiveIntOrThrow(SnapshotLoadBatchingConfigValue.MAX_BATCH_SIZE),
+                MAX_BATCH_SIZE_LIMIT);
+        parallelism = config.getPositiveIntOrThrow(SnapshotLoadBatchingConfigValue.PARALLELISM);
+        queueSize = config.getPositiveIntOrThrow(SnapshotLoadBatchingConfigValue.QUEUE_SIZE);
+    }
+
+    /**
+     * Returns an instance of the default snapshot load batching config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the snapshot load batching config at
+     * {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSnapshotLoadBatchingConfig of(final Config config) {
+        return new DefaultSnapshotLoadBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SnapshotLoadBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSnapshotLoadBatchingConfig that = (DefaultSnapshotLoadBatchingConfig) o;
+        return enabled == that.enabled &&
+                maxBatchSize == that.maxBatchSize &&
+                parallelism == that.parallelism &&
+                queueSize == that.queueSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize, parallelism, queueSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                ", parallelism=" + parallelism +
+                ", queueSize=" + queueSize +
+                "]";
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for coalescing concurrent snapshot loads of a snapshot store into batched queries.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public interface SnapshotLoadBatchingConfig {
+
+    /**
+     * Indicates whether concurrent snapshot loads are coalesced into batched queries.
+     *
+     * @return {@code true} if snapshot loads are batched.
+     */
+    boolean isEnabled();
+
+    /**
+     * Upper limit of the maximum batch size, so that the snapshots grouped by one query stay within the memory
+     * limits of MongoDB aggregations.
+     */
+    int MAX_BATCH_SIZE_LIMIT = 1000;
+
+    /**
+     * Returns the maximum number of persistence IDs whose snapshots are loaded by one query.
+     *
+     * @return the maximum batch size, at most {@value #MAX_BATCH_SIZE_LIMIT}.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of batched queries running in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum number of snapshot loads waiting for a batch; further loads are not batched.
+     *
+     * @return the queue size.
+     */
+    int getQueueSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SnapshotLoadBatchingConfig}.
+     */
+    enum SnapshotLoadBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether concurrent snapshot loads are coalesced into batched queries.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of persistence IDs whose snapshots are loaded by one query.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100),
+
+        /**
+         * The maximum number of batched queries running in parallel.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * The maximum number of snapshot loads waiting for a batch.
+         */
+        QUEUE_SIZE("queue-size", 10_000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        SnapshotLoadBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
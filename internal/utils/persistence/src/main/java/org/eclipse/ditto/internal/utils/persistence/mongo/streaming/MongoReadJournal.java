@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +43,7 @@ import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.RestartSettings;
 import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.RestartSource;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
@@ -53,6 +55,7 @@ import org.bson.BsonString;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
@@ -168,6 +171,7 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     private final String journalCollection;
     private final String snapsCollection;
     private final DittoMongoClient mongoClient;
+    private final Materializer materializer;
     private final IndexInitializer indexInitializer;
 
     private final JavaDslMongoReadJournal pekkoReadJournal;
@@ -181,7 +185,7 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         this.journalCollection = journalCollection;
         this.snapsCollection = snapsCollection;
         this.mongoClient = mongoClient;
-        final var materializer = SystemMaterializer.get(actorSystem).materializer();
+        materializer = SystemMaterializer.get(actorSystem).materializer();
         indexInitializer = IndexInitializer.of(mongoClient.getDefaultDatabase(), materializer);
         pekkoReadJournal = PersistenceQuery.get(actorSystem)
                 .getReadJournalFor(JavaDslMongoReadJournal.class, readJournalConfigurationKey);
@@ -529,6 +533,107 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Stream all unique PIDs in journals of the given ranges. Unlike {@link #getJournalPidsAbove(String, int,
+     * Materializer)}, each range is read by a single long-lived cursor along the PID index and all ranges are read in
+     * parallel, subject to backpressure. If a cursor fails, e.g. because it timed out while the stream was
+     * backpressured, the range is resumed after its last streamed PID with exponential back-off.
+     *
+     * @param ranges the ranges to stream; they should not overlap.
+     * @param cursorBatchSize how many journal entries to fetch from a cursor at once.
+     * @param maxIdleTime how long the stream is allowed to idle without sending any element. Bounds the number of
+     * retries with exponential back-off.
+     * @return source of pairs of the checkpoint of the range after the PID and the PID. The PIDs of each range are in
+     * ascending order, those of different ranges are interleaved.
+     * @since 3.5.0
+     */
+    public Source<Pair<PidRange, String>, NotUsed> streamJournalPids(final Collection<PidRange> ranges,
+            final int cursorBatchSize,
+            final Duration maxIdleTime) {
+
+        final int maxRestarts = computeMaxRestarts(maxIdleTime);
+        return getJournal().flatMapConcat(journal -> mergeRanges(ranges, maxRestarts, Function.identity(),
+                range -> streamJournalPidsInRange(journal, range, cursorBatchSize)));
+    }
+
+    /**
+     * Stream the newest snapshots of all unique PIDs in the snapshot store within the given ranges. Unlike
+     * {@link #getNewestSnapshotsAbove(String, int, boolean, Duration, Materializer, String...)}, each range is read by
+     * a single long-lived cursor along the snapshot index and all ranges are read in parallel, subject to
+     * backpressure. If a cursor fails, the range is resumed after its last streamed PID with exponential back-off.
+     *
+     * @param ranges the ranges to stream; they should not overlap.
+     * @param cursorBatchSize how many snapshots to fetch from a cursor at once.
+     * @param maxIdleTime how long the stream is allowed to idle without sending any element. Bounds the number of
+     * retries with exponential back-off.
+     * @param includeDeleted whether to include deleted snapshots.
+     * @param snapshotFields snapshot fields to project out.
+     * @return source of pairs of the checkpoint of the range after the snapshot and the snapshot, which has the same
+     * fields as those of {@code getNewestSnapshotsAbove}.
+     * @since 3.5.0
+     */
+    public Source<Pair<PidRange, Document>, NotUsed> streamNewestSnapshots(final Collection<PidRange> ranges,
+            final int cursorBatchSize,
+            final Duration maxIdleTime,
+            final boolean includeDeleted,
+            final String... snapshotFields) {
+
+        final int maxRestarts = computeMaxRestarts(maxIdleTime);
+        return getSnapshotStore().flatMapConcat(snapshotStore -> mergeRanges(ranges, maxRestarts,
+                document -> document.getString(S_ID),
+                range -> streamNewestSnapshotsInRange(snapshotStore, range, cursorBatchSize, includeDeleted,
+                        snapshotFields)));
+    }
+
+    /**
+     * Partition the PIDs of the snapshot store into ranges of roughly equal size by sampling, e.g. to distribute
+     * {@link #streamNewestSnapshots(Collection, int, Duration, boolean, String...)} among consumers.
+     *
+     * @param numberOfRanges the desired number of ranges.
+     * @param sampleSize how many snapshots to sample.
+     * @return source of at most {@code numberOfRanges} ranges covering all PIDs.
+     * @since 3.5.0
+     */
+    public Source<List<PidRange>, NotUsed> samplePidRanges(final int numberOfRanges, final int sampleSize) {
+        return getSnapshotStore()
+                .flatMapConcat(snapshotStore -> Source.fromPublisher(snapshotStore.aggregate(List.of(
+                        Aggregates.sample(sampleSize),
+                        Aggregates.project(Projections.fields(Projections.include(S_PROCESSOR_ID),
+                                Projections.excludeId()))
+                ))))
+                .map(document -> document.getString(S_PROCESSOR_ID))
+                .fold(new ArrayList<String>(), (pids, pid) -> {
+                    pids.add(pid);
+                    return pids;
+                })
+                .map(pids -> {
+                    final List<String> sortedPids = pids.stream().distinct().sorted().toList();
+                    final List<String> boundaries = new ArrayList<>();
+                    for (int i = 1; i < numberOfRanges; ++i) {
+                        final int index = i * sortedPids.size() / numberOfRanges;
+                        if (index > 0) {
+                            boundaries.add(sortedPids.get(index - 1));
+                        }
+                    }
+                    return PidRange.partition(boundaries);
+                });
+    }
+
+    /**
+     * Get a persistence of tagged timestamps in a collection next to the snapshot store, e.g. to persist the
+     * checkpoints of {@link #streamNewestSnapshots(Collection, int, Duration, boolean, String...)}.
+     *
+     * @param suffix the suffix of the collection name.
+     * @param maxTagSizeInBytes the maximum size of a tag.
+     * @return the timestamp persistence.
+     * @since 3.5.0
+     */
+    public TimestampPersistence getSnapshotStoreTimestampPersistence(final String suffix,
+            final long maxTagSizeInBytes) {
+        return MongoTimestampPersistence.initializedInstance(snapsCollection + "_" + suffix, mongoClient,
+                materializer, 2 * maxTagSizeInBytes);
+    }
+
     /**
      * Find the smallest event sequence number of a PID.
      *
@@ -863,13 +968,7 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         // sort stage 2 -- order after group stage is not defined
         pipeline.add(Aggregates.sort(Sorts.ascending(J_ID)));
 
-        final Duration minBackOff = Duration.ofSeconds(1L);
-        final double randomFactor = 0.1;
-
-        final RestartSettings restartSettings = RestartSettings.create(minBackOff,
-                        MongoReadJournal.MAX_BACK_OFF_DURATION, randomFactor)
-                .withMaxRestarts(maxRestarts, minBackOff);
-        return RestartSource.onFailuresWithBackoff(restartSettings, () ->
+        return RestartSource.onFailuresWithBackoff(getRestartSettings(maxRestarts), () ->
                 Source.fromPublisher(journal.aggregate(pipeline)
                                 .batchSize(batchSize)
                         // use batchSize also for the cursor batchSize (16 by default bc of backpressure!)
@@ -899,6 +998,96 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         }
     }
 
+    private static <T> Source<Pair<PidRange, T>, NotUsed> mergeRanges(final Collection<PidRange> ranges,
+            final int maxRestarts,
+            final Function<T, String> getPid,
+            final Function<PidRange, Source<T, NotUsed>> sourceCreator) {
+
+        return Source.from(ranges)
+                .flatMapMerge(Math.max(1, ranges.size()), range -> {
+                    // the checkpoint is local to each materialization and survives restarts of the cursor
+                    final AtomicReference<PidRange> checkpoint = new AtomicReference<>(range);
+                    return RestartSource.onFailuresWithBackoff(getRestartSettings(maxRestarts), () ->
+                            resumeFromCheckpoint(checkpoint, getPid, sourceCreator));
+                });
+    }
+
+    private static <T> Source<Pair<PidRange, T>, NotUsed> resumeFromCheckpoint(
+            final AtomicReference<PidRange> checkpoint,
+            final Function<T, String> getPid,
+            final Function<PidRange, Source<T, NotUsed>> sourceCreator) {
+
+        final PidRange remainder = checkpoint.get();
+        if (remainder.isExhausted()) {
+            return Source.empty();
+        }
+        return sourceCreator.apply(remainder).map(element -> {
+            final PidRange next = checkpoint.get().resumeAfter(getPid.apply(element));
+            checkpoint.set(next);
+            return Pair.create(next, element);
+        });
+    }
+
+    private static Source<String, NotUsed> streamJournalPidsInRange(final MongoCollection<Document> journal,
+            final PidRange range,
+            final int cursorBatchSize) {
+
+        // covered by the journal index on PID: only the index entries are scanned
+        return Source.fromPublisher(journal.find(range.toMongoFilter(J_PROCESSOR_ID))
+                        .projection(Projections.fields(Projections.include(J_PROCESSOR_ID), Projections.excludeId()))
+                        .sort(Sorts.ascending(J_PROCESSOR_ID))
+                        .batchSize(cursorBatchSize))
+                .map(document -> document.getString(J_PROCESSOR_ID))
+                .via(distinctConsecutive(Function.identity()));
+    }
+
+    private static Source<Document, NotUsed> streamNewestSnapshotsInRange(final MongoCollection<Document> snapshotStore,
+            final PidRange range,
+            final int cursorBatchSize,
+            final boolean includeDeleted,
+            final String... snapshotFields) {
+
+        // no $group stage: it would block the cursor until the whole range is read
+        final List<Bson> projectedFields = Stream.concat(Stream.of(LIFECYCLE), Arrays.stream(snapshotFields))
+                .map(fieldName -> Projections.computed(fieldName, new Document("$ifNull",
+                        Arrays.asList(String.format("$%s.%s", S_SERIALIZED_SNAPSHOT, fieldName), null))))
+                .collect(Collectors.toCollection(ArrayList::new));
+        projectedFields.add(Projections.computed(S_ID, "$" + S_PROCESSOR_ID));
+        projectedFields.add(Projections.include(S_SN));
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(range.toMongoFilter(S_PROCESSOR_ID)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))),
+                Aggregates.project(Projections.fields(projectedFields))
+        );
+
+        return Source.fromPublisher(snapshotStore.aggregate(pipeline).batchSize(cursorBatchSize))
+                .via(distinctConsecutive(document -> document.getString(S_ID)))
+                .filter(document -> includeDeleted || !"DELETED".equals(document.get(LIFECYCLE)));
+    }
+
+    private static <T> Flow<T, T, NotUsed> distinctConsecutive(final Function<T, String> getPid) {
+        return Flow.<T>create().statefulMapConcat(() -> {
+            final String[] lastPid = {null};
+            return element -> {
+                final String pid = getPid.apply(element);
+                if (pid.equals(lastPid[0])) {
+                    return List.of();
+                } else {
+                    lastPid[0] = pid;
+                    return List.of(element);
+                }
+            };
+        });
+    }
+
+    private static RestartSettings getRestartSettings(final int maxRestarts) {
+        final Duration minBackOff = Duration.ofSeconds(1L);
+        final double randomFactor = 0.1;
+
+        return RestartSettings.create(minBackOff, MongoReadJournal.MAX_BACK_OFF_DURATION, randomFactor)
+                .withMaxRestarts(maxRestarts, minBackOff);
+    }
+
     private static Source<SnapshotBatch, NotUsed> listNewestActiveSnapshotsByBatch(
             final MongoCollection<Document> snapshotStore,
             final SnapshotFilter snapshotFilter,
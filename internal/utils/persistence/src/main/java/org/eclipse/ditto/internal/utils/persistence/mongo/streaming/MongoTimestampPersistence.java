@@ -90,9 +90,25 @@ public final class MongoTimestampPersistence implements TimestampPersistence {
      */
     public static MongoTimestampPersistence initializedInstance(final String collectionName,
             final DittoMongoClient mongoClient, final Materializer materializer) {
+        return initializedInstance(collectionName, mongoClient, materializer, MIN_CAPPED_COLLECTION_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Creates a new initialized instance whose capped collection holds tags of the given size.
+     *
+     * @param collectionName The name of the collection.
+     * @param mongoClient the client wrapper holding the connection information.
+     * @param materializer an actor materializer to materialize the restart-source of the timestamp collection.
+     * @param cappedCollectionSizeInBytes the size of the capped collection; it has to exceed the size of a tag.
+     * @return a new initialized instance.
+     * @since 3.5.0
+     */
+    public static MongoTimestampPersistence initializedInstance(final String collectionName,
+            final DittoMongoClient mongoClient, final Materializer materializer,
+            final long cappedCollectionSizeInBytes) {
         final Source<MongoCollection, NotUsed> collectionSource =
                 createOrGetCappedCollection(mongoClient.getDefaultDatabase(), collectionName,
-                        MIN_CAPPED_COLLECTION_SIZE_IN_BYTES, materializer);
+                        Math.max(MIN_CAPPED_COLLECTION_SIZE_IN_BYTES, cappedCollectionSizeInBytes), materializer);
 
         return new MongoTimestampPersistence(collectionSource);
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+
+/**
+ * A range of persistence IDs streamed by one cursor of the range-partitioned streaming API of
+ * {@link MongoReadJournal}. A range resumed after the last streamed PID serves as checkpoint of the stream.
+ *
+ * @param lowerBoundExclusive the PID above which the range starts, or the empty string if the range is unbounded below.
+ * @param upperBoundInclusive the last PID of the range, or the empty string if the range is unbounded above.
+ * @since 3.5.0
+ */
+public record PidRange(String lowerBoundExclusive, String upperBoundInclusive) {
+
+    private static final char TOKEN_SEPARATOR = ':';
+
+    /**
+     * @param lowerBoundExclusive the PID above which the range starts, or the empty string if the range is unbounded
+     * below.
+     * @param upperBoundInclusive the last PID of the range, or the empty string if the range is unbounded above.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public PidRange {
+        Objects.requireNonNull(lowerBoundExclusive, "lowerBoundExclusive");
+        Objects.requireNonNull(upperBoundInclusive, "upperBoundInclusive");
+    }
+
+    /**
+     * @return the range of all persistence IDs.
+     */
+    public static PidRange all() {
+        return new PidRange("", "");
+    }
+
+    /**
+     * Partition all persistence IDs into consecutive ranges at the given boundaries.
+     *
+     * @param boundaries the last PIDs of each range except the last one; they are sorted and de-duplicated.
+     * @return {@code boundaries.size() + 1} ranges covering all persistence IDs without overlapping.
+     */
+    public static List<PidRange> partition(final Collection<String> boundaries) {
+        final List<String> sortedBoundaries = boundaries.stream()
+                .filter(boundary -> !boundary.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        final List<PidRange> ranges = new ArrayList<>(sortedBoundaries.size() + 1);
+        String lowerBound = "";
+        for (final String boundary : sortedBoundaries) {
+            ranges.add(new PidRange(lowerBound, boundary));
+            lowerBound = boundary;
+        }
+        ranges.add(new PidRange(lowerBound, ""));
+        return ranges;
+    }
+
+    /**
+     * Restore a range from its checkpoint token.
+     *
+     * @param token the token created by {@link #toCheckpointToken()}.
+     * @return the range.
+     * @throws IllegalArgumentException if the token is not a checkpoint token.
+     */
+    public static PidRange fromCheckpointToken(final String token) {
+        final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        final int separatorIndex = decoded.indexOf(TOKEN_SEPARATOR);
+        try {
+            final int lowerBoundLength = Integer.parseInt(decoded.substring(0, separatorIndex));
+            final int lowerBoundEnd = separatorIndex + 1 + lowerBoundLength;
+            return new PidRange(decoded.substring(separatorIndex + 1, lowerBoundEnd),
+                    decoded.substring(lowerBoundEnd));
+        } catch (final IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Not a checkpoint token: <" + token + ">", e);
+        }
+    }
+
+    /**
+     * @return an opaque token to persist as checkpoint of a stream of this range, e.g. to resume it after a restart.
+     */
+    public String toCheckpointToken() {
+        final String plain = lowerBoundExclusive.length() + String.valueOf(TOKEN_SEPARATOR) + lowerBoundExclusive +
+                upperBoundInclusive;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param pid the last streamed PID of this range.
+     * @return the remainder of this range after {@code pid}.
+     */
+    public PidRange resumeAfter(final String pid) {
+        return new PidRange(pid, upperBoundInclusive);
+    }
+
+    /**
+     * @param pid a persistence ID.
+     * @return whether the persistence ID is in this range.
+     */
+    public boolean contains(final String pid) {
+        return (lowerBoundExclusive.isEmpty() || pid.compareTo(lowerBoundExclusive) > 0) &&
+                (upperBoundInclusive.isEmpty() || pid.compareTo(upperBoundInclusive) <= 0);
+    }
+
+    /**
+     * @return whether no persistence ID can be in this range.
+     */
+    public boolean isExhausted() {
+        return !lowerBoundExclusive.isEmpty() && !upperBoundInclusive.isEmpty() &&
+                lowerBoundExclusive.compareTo(upperBoundInclusive) >= 0;
+    }
+
+    /**
+     * @param pidField the document field containing the persistence ID.
+     * @return a Bson filter selecting documents of this range.
+     */
+    Bson toMongoFilter(final String pidField) {
+        if (!lowerBoundExclusive.isEmpty() && !upperBoundInclusive.isEmpty()) {
+            return Filters.and(Filters.gt(pidField, lowerBoundExclusive), Filters.lte(pidField, upperBoundInclusive));
+        } else if (!lowerBoundExclusive.isEmpty()) {
+            return Filters.gt(pidField, lowerBoundExclusive);
+        } else if (!upperBoundInclusive.isEmpty()) {
+            return Filters.lte(pidField, upperBoundInclusive);
+        } else {
+            return Filters.empty();
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.internal.utils.test.docker.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.SaveSnapshotSuccess;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+import scala.Option;
+
+/**
+ * Tests {@link BatchingMongoSnapshots} against {@code MongoSnapshots} on the same snapshot collection.
+ */
+public final class BatchingMongoSnapshotsIT {
+
+    private static final String MONGO_DB = "batchingMongoSnapshotsIT";
+    private static final String UNBATCHED_PLUGIN = "pekko-contrib-mongodb-persistence-test-snapshots";
+    private static final String BATCHED_PLUGIN = "pekko-contrib-mongodb-persistence-test-batching-snapshots";
+    private static final String OVERFLOWING_PLUGIN = "pekko-contrib-mongodb-persistence-test-overflowing-snapshots";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30L);
+    private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        // a fresh database for each test, because snapshots of the same PIDs are saved again
+        final String mongoUri = String.format("mongodb://%s:%d/%s%d", MONGO_RESOURCE.getBindIp(),
+                MONGO_RESOURCE.getPort(), MONGO_DB, DATABASE_COUNTER.incrementAndGet());
+        final Config config = ConfigFactory.load("batching-mongo-snapshots-test")
+                .withValue("pekko.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri))
+                .withValue("ditto.mongodb.uri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("PekkoTestSystem", config);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void batchedLoadsReturnSameSnapshotsAsUnbatchedLoads() {
+        new TestKit(actorSystem) {{
+            final ActorRef unbatched = snapshotStore(UNBATCHED_PLUGIN);
+            final ActorRef batched = snapshotStore(BATCHED_PLUGIN);
+            final var pids = savePidsWithSnapshots(this, unbatched, 20);
+            final var pidsWithoutSnapshot = List.of("thing:none:1", "thing:none:2");
+            final List<String> allPids = new ArrayList<>(pids);
+            allPids.addAll(pidsWithoutSnapshot);
+
+            final var expected = loadAll(unbatched, allPids, SnapshotSelectionCriteria.Latest());
+            final var actual = loadAll(batched, allPids, SnapshotSelectionCriteria.Latest());
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(expected).containsOnlyKeys(allPids);
+            pids.forEach(pid -> assertThat(getSequenceNr(expected.get(pid))).isEqualTo(3L));
+            pidsWithoutSnapshot.forEach(pid -> assertThat(expected.get(pid).isEmpty()).isTrue());
+        }};
+    }
+
+    @Test
+    public void loadsOfOtherCriteriaAreNotBatched() {
+        new TestKit(actorSystem) {{
+            final ActorRef unbatched = snapshotStore(UNBATCHED_PLUGIN);
+            final ActorRef batched = snapshotStore(BATCHED_PLUGIN);
+            final var pids = savePidsWithSnapshots(this, unbatched, 5);
+            final var criteria = SnapshotSelectionCriteria.create(2L, Long.MAX_VALUE);
+
+            final var expected = loadAll(unbatched, pids, criteria);
+            final var actual = loadAll(batched, pids, criteria);
+
+            assertThat(actual).isEqualTo(expected);
+            pids.forEach(pid -> assertThat(getSequenceNr(actual.get(pid))).isEqualTo(2L));
+        }};
+    }
+
+    @Test
+    public void loadsBeyondQueueSizeFallBackToUnbatchedLoads() {
+        new TestKit(actorSystem) {{
+            final ActorRef unbatched = snapshotStore(UNBATCHED_PLUGIN);
+            final ActorRef overflowing = snapshotStore(OVERFLOWING_PLUGIN);
+            final var pids = savePidsWithSnapshots(this, unbatched, 50);
+
+            // queue size of the overflowing plugin is 2: every load is answered without waiting for the queue
+            final var expected = loadAll(unbatched, pids, SnapshotSelectionCriteria.Latest());
+            final var actual = loadAll(overflowing, pids, SnapshotSelectionCriteria.Latest());
+
+            assertThat(actual).isEqualTo(expected);
+        }};
+    }
+
+    private ActorRef snapshotStore(final String pluginId) {
+        return Persistence.get(actorSystem).snapshotStoreFor(pluginId, ConfigFactory.empty());
+    }
+
+    private static List<String> savePidsWithSnapshots(final TestKit testKit, final ActorRef snapshotStore,
+            final int numberOfPids) {
+
+        final var pids = IntStream.range(0, numberOfPids).mapToObj(i -> "thing:batched:" + i).toList();
+        for (final String pid : pids) {
+            for (long sn = 1L; sn <= 3L; ++sn) {
+                snapshotStore.tell(new SnapshotProtocol.SaveSnapshot(new SnapshotMetadata(pid, sn, sn * 1000L),
+                        pid + "@" + sn), testKit.getRef());
+                testKit.expectMsgClass(TIMEOUT, SaveSnapshotSuccess.class);
+            }
+        }
+        return pids;
+    }
+
+    private Map<String, Option<SelectedSnapshot>> loadAll(final ActorRef snapshotStore,
+            final List<String> pids,
+            final SnapshotSelectionCriteria criteria) {
+
+        // send all loads before awaiting the results so that they are batched; one probe per PID to tell results
+        // without snapshot apart
+        final Map<String, TestKit> probes = new LinkedHashMap<>();
+        pids.forEach(pid -> {
+            final var probe = new TestKit(actorSystem);
+            probes.put(pid, probe);
+            snapshotStore.tell(new SnapshotProtocol.LoadSnapshot(pid, criteria, Long.MAX_VALUE), probe.getRef());
+        });
+
+        final Map<String, Option<SelectedSnapshot>> results = new LinkedHashMap<>();
+        probes.forEach((pid, probe) -> results.put(pid,
+                probe.expectMsgClass(TIMEOUT, SnapshotProtocol.LoadSnapshotResult.class).snapshot()));
+        return results;
+    }
+
+    private static long getSequenceNr(final Option<SelectedSnapshot> selectedSnapshot) {
+        assertThat(selectedSnapshot.isDefined()).isTrue();
+        return selectedSnapshot.get().metadata().sequenceNr();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link BatchingMongoSnapshots}.
+ */
+public final class BatchingMongoSnapshotsTest {
+
+    private static final String PLUGIN_ID = "test-snapshots";
+    private static final String PLUGIN_CLASS = PLUGIN_ID + ".class";
+    private static final String MONGO_SNAPSHOTS = "pekko.contrib.persistence.mongodb.MongoSnapshots";
+
+    @Test
+    public void pluginIsSwitchedIfBatchingIsEnabled() {
+        final var config = ConfigFactory.parseMap(Map.of(PLUGIN_CLASS, MONGO_SNAPSHOTS,
+                PLUGIN_ID + ".load-batching.enabled", true));
+
+        assertThat(BatchingMongoSnapshots.withBatchingPluginIfEnabled(config, PLUGIN_ID).getString(PLUGIN_CLASS))
+                .isEqualTo(BatchingMongoSnapshots.class.getName());
+    }
+
+    @Test
+    public void pluginIsKeptIfBatchingIsDisabled() {
+        final var config = ConfigFactory.parseMap(Map.of(PLUGIN_CLASS, MONGO_SNAPSHOTS,
+                PLUGIN_ID + ".load-batching.enabled", false));
+
+        assertThat(BatchingMongoSnapshots.withBatchingPluginIfEnabled(config, PLUGIN_ID)).isEqualTo(config);
+        assertThat(BatchingMongoSnapshots.withBatchingPluginIfEnabled(ConfigFactory.empty(), PLUGIN_ID))
+                .isEqualTo(ConfigFactory.empty());
+    }
+}
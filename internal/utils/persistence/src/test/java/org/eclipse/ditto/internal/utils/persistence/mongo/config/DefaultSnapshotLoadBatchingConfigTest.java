@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultSnapshotLoadBatchingConfig}.
+ */
+public final class DefaultSnapshotLoadBatchingConfigTest {
+
+    private static Config loadBatchingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        loadBatchingTestConf = ConfigFactory.load("snapshot-load-batching-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultSnapshotLoadBatchingConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSnapshotLoadBatchingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultSnapshotLoadBatchingConfig underTest = DefaultSnapshotLoadBatchingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getQueueSize())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.QUEUE_SIZE.getConfigPath())
+                .isEqualTo(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.QUEUE_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultSnapshotLoadBatchingConfig underTest = DefaultSnapshotLoadBatchingConfig.of(loadBatchingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getParallelism())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(2);
+        softly.assertThat(underTest.getQueueSize())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.QUEUE_SIZE.getConfigPath())
+                .isEqualTo(500);
+    }
+
+    @Test
+    public void maxBatchSizeIsCapped() {
+        final DefaultSnapshotLoadBatchingConfig underTest = DefaultSnapshotLoadBatchingConfig.of(
+                ConfigFactory.parseMap(Map.of("load-batching.max-batch-size", 100_000)));
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(SnapshotLoadBatchingConfig.SnapshotLoadBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(SnapshotLoadBatchingConfig.MAX_BATCH_SIZE_LIMIT);
+    }
+}
@@ -46,6 +46,7 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
 
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Sink;
@@ -536,6 +537,55 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4");
     }
 
+    @Test
+    public void streamJournalPidsOfRanges() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(1L).getDocument());
+        insert("test_journal", new JournalEntry("pid3").withSn(2L).getDocument());
+        insert("test_journal", new JournalEntry("pid4").withSn(2L).getDocument());
+
+        final List<Pair<PidRange, String>> pidsWithCheckpoints =
+                readJournal.streamJournalPids(PidRange.partition(List.of("pid2")), 1, Duration.ZERO)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+
+        assertThat(pidsWithCheckpoints).containsExactlyInAnyOrder(
+                Pair.create(new PidRange("pid1", "pid2"), "pid1"),
+                Pair.create(new PidRange("pid2", "pid2"), "pid2"),
+                Pair.create(new PidRange("pid3", ""), "pid3"),
+                Pair.create(new PidRange("pid4", ""), "pid4")
+        );
+    }
+
+    @Test
+    public void streamNewestSnapshotsOfRangeResumedFromCheckpoint() {
+        insert("test_snaps", snapshot("pid1", 1L, false));
+        insert("test_snaps", snapshot("pid2", 1L, false));
+        insert("test_snaps", snapshot("pid2", 2L, true));
+        insert("test_snaps", snapshot("pid3", 1L, true));
+        insert("test_snaps", snapshot("pid3", 2L, false));
+        insert("test_snaps", snapshot("pid4", 1L, false));
+        final PidRange checkpoint = PidRange.fromCheckpointToken(new PidRange("pid1", "").toCheckpointToken());
+
+        final List<Document> snapshots =
+                readJournal.streamNewestSnapshots(List.of(checkpoint), 1, Duration.ZERO, false, "_modified")
+                        .map(Pair::second)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+
+        assertThat(snapshots).containsExactly(
+                new Document().append("_id", "pid3")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("_modified", Instant.ofEpochSecond(2L).toString())
+                        .append("sn", 2L),
+                new Document().append("_id", "pid4")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("_modified", Instant.ofEpochSecond(1L).toString())
+                        .append("sn", 1L)
+        );
+    }
+
     @Test
     public void findLowestEventSeqNr() {
         insert("test_journal", new JournalEntry("pid1").withSn(1L).getDocument());
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PidRange}.
+ */
+public final class PidRangeTest {
+
+    @Test
+    public void partitionCoversAllPidsWithoutOverlap() {
+        final List<PidRange> ranges = PidRange.partition(List.of("thing:b", "", "thing:a", "thing:b"));
+
+        assertThat(ranges).containsExactly(
+                new PidRange("", "thing:a"),
+                new PidRange("thing:a", "thing:b"),
+                new PidRange("thing:b", "")
+        );
+        assertThat(ranges.stream().filter(range -> range.contains("thing:a"))).containsExactly(ranges.get(0));
+        assertThat(ranges.stream().filter(range -> range.contains("thing:aa"))).containsExactly(ranges.get(1));
+        assertThat(ranges.stream().filter(range -> range.contains("thing:c"))).containsExactly(ranges.get(2));
+    }
+
+    @Test
+    public void partitionWithoutBoundariesIsAllPids() {
+        assertThat(PidRange.partition(List.of())).containsExactly(PidRange.all());
+    }
+
+    @Test
+    public void resumeAfterLastPidOfRangeExhaustsIt() {
+        final PidRange underTest = new PidRange("thing:a", "thing:c");
+
+        assertThat(underTest.resumeAfter("thing:b")).isEqualTo(new PidRange("thing:b", "thing:c"));
+        assertThat(underTest.resumeAfter("thing:b").isExhausted()).isFalse();
+        assertThat(underTest.resumeAfter("thing:c").isExhausted()).isTrue();
+        assertThat(PidRange.all().resumeAfter("thing:z").isExhausted()).isFalse();
+    }
+
+    @Test
+    public void checkpointTokenRoundTrip() {
+        final PidRange underTest = new PidRange("thing:ns:a:1", "thing:ns:ö");
+
+        assertThat(PidRange.fromCheckpointToken(underTest.toCheckpointToken())).isEqualTo(underTest);
+        assertThat(PidRange.fromCheckpointToken(PidRange.all().toCheckpointToken())).isEqualTo(PidRange.all());
+    }
+
+    @Test
+    public void invalidCheckpointTokenIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PidRange.fromCheckpointToken("not-a-token"));
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import java.util.stream.LongStream;
 
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.japi.Pair;
@@ -71,16 +72,55 @@ final class Cleanup {
         );
     }
 
-    Source<Source<CleanupResult, NotUsed>, NotUsed> getCleanupStream(final String lowerBound) {
-        return getSnapshotRevisions(lowerBound).flatMapConcat(sr -> cleanUpEvents(sr).concat(cleanUpSnapshots(sr)));
+    /**
+     * Get the initial progress of a cleanup stream with PIDs partitioned into ranges of roughly equal size.
+     *
+     * @param partitions the number of partitions.
+     * @return source of the progress.
+     */
+    Source<CleanupProgress, NotUsed> getInitialProgress(final int partitions) {
+        if (partitions <= 1) {
+            return Source.single(CleanupProgress.of(List.of(PidRange.all())));
+        }
+        return readJournal.samplePidRanges(partitions, partitions * readBatchSize).map(CleanupProgress::of);
+    }
+
+    /**
+     * Get the steps to clean up the PIDs of one range of this cluster member's responsibility.
+     * Each scanned PID is followed by a checkpoint with the remainder of the range, whether it is in this cluster
+     * member's responsibility or not.
+     *
+     * @param partition the index of the partition scanning the range.
+     * @param range the range to scan.
+     * @return source of steps, each deleting one batch of events or snapshots or recording a checkpoint.
+     */
+    Source<CleanupStep, NotUsed> getCleanupSteps(final int partition, final PidRange range) {
+        if (range.isExhausted()) {
+            return Source.empty();
+        }
+        return getSnapshotRevisions(range.lowerBoundExclusive())
+                .takeWhile(sr -> range.contains(sr.pid))
+                .flatMapConcat(sr -> {
+                    final var checkpoint =
+                            CleanupStep.checkpoint(new CleanupCheckpoint(partition, range.resumeAfter(sr.pid)));
+                    if (isMyResponsibility(sr)) {
+                        return cleanUp(sr).map(unit -> CleanupStep.deletion(partition, unit))
+                                .concat(Source.single(checkpoint));
+                    } else {
+                        return Source.single(checkpoint);
+                    }
+                });
+    }
+
+    private Source<Source<CleanupResult, NotUsed>, NotUsed> cleanUp(final SnapshotRevision sr) {
+        return cleanUpEvents(sr).concat(cleanUpSnapshots(sr));
     }
 
     private Source<SnapshotRevision, NotUsed> getSnapshotRevisions(final String lowerBound) {
         return readJournal.getNewestSnapshotsAbove(lowerBound, readBatchSize, true, historyRetentionDuration, materializer)
                 .map(document -> new SnapshotRevision(document.getString(S_ID),
                         document.getLong(S_SN),
-                        "DELETED".equals(document.getString(LIFECYCLE))))
-                .filter(this::isMyResponsibility);
+                        "DELETED".equals(document.getString(LIFECYCLE))));
     }
 
     private boolean isMyResponsibility(final SnapshotRevision sr) {
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
+
+/**
+ * Notification that a partition of a cleanup stream scanned all PIDs of its range up to the lower bound of the
+ * remainder.
+ *
+ * @param partition the index of the partition.
+ * @param remainder the range the partition has yet to scan.
+ */
+record CleanupCheckpoint(int partition, PidRange remainder) {}
@@ -111,6 +111,15 @@ public interface CleanupConfig {
      */
     boolean shouldDeleteFinalDeletedSnapshot();
 
+    /**
+     * Returns the number of PID ranges into which the snapshot store is partitioned for cleanup.
+     * The PIDs of each partition are cleaned up sequentially while the partitions are cleaned up concurrently.
+     *
+     * @return the number of partitions.
+     * @since 3.5.0
+     */
+    int getPartitions();
+
     /**
      * Render this object as config.
      *
@@ -167,7 +176,14 @@ public interface CleanupConfig {
         /**
          * Whether to delete the final deleted snapshot.
          */
-        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false);
+        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false),
+
+        /**
+         * Number of concurrently cleaned up PID partitions per cluster member.
+         *
+         * @since 3.5.0
+         */
+        PARTITIONS("partitions", 1);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
+
+/**
+ * The remaining PID range of each partition of a cleanup stream.
+ * Each partition scans its own range; the range is resumed after every scanned PID so that a restarted cleanup stream
+ * continues each partition where it stopped.
+ */
+@Immutable
+final class CleanupProgress {
+
+    private static final String TOKEN_DELIMITER = ",";
+
+    private final List<PidRange> ranges;
+
+    private CleanupProgress(final List<PidRange> ranges) {
+        this.ranges = Collections.unmodifiableList(ranges);
+    }
+
+    /**
+     * @return the progress of a cleanup stream which is not started yet.
+     */
+    static CleanupProgress empty() {
+        return new CleanupProgress(List.of());
+    }
+
+    /**
+     * Create the progress of a cleanup stream with one partition per range.
+     *
+     * @param ranges the remaining range of each partition.
+     * @return the progress.
+     */
+    static CleanupProgress of(final List<PidRange> ranges) {
+        return new CleanupProgress(new ArrayList<>(ranges));
+    }
+
+    /**
+     * Restore a progress from its token.
+     *
+     * @param token the token created by {@link #toToken()}.
+     * @return the progress.
+     * @throws IllegalArgumentException if the token is not a progress token.
+     */
+    static CleanupProgress fromToken(final String token) {
+        if (token.isEmpty()) {
+            return empty();
+        }
+        return of(Arrays.stream(token.split(TOKEN_DELIMITER)).map(PidRange::fromCheckpointToken).toList());
+    }
+
+    /**
+     * @return a token to persist the progress with.
+     */
+    String toToken() {
+        return ranges.stream().map(PidRange::toCheckpointToken).collect(Collectors.joining(TOKEN_DELIMITER));
+    }
+
+    /**
+     * Record the remaining range of a partition.
+     *
+     * @param checkpoint the checkpoint of the partition.
+     * @return the new progress.
+     */
+    CleanupProgress withCheckpoint(final CleanupCheckpoint checkpoint) {
+        final int partition = checkpoint.partition();
+        if (partition < 0 || partition >= ranges.size() || ranges.get(partition).equals(checkpoint.remainder())) {
+            return this;
+        }
+        final List<PidRange> newRanges = new ArrayList<>(ranges);
+        newRanges.set(partition, checkpoint.remainder());
+        return new CleanupProgress(newRanges);
+    }
+
+    /**
+     * Skip all PIDs up to a lower bound in every partition.
+     *
+     * @param lowerBound the PID above which all partitions continue.
+     * @return the new progress.
+     */
+    CleanupProgress withLowerBound(final String lowerBound) {
+        if (ranges.isEmpty()) {
+            return of(List.of(PidRange.all().resumeAfter(lowerBound)));
+        }
+        return of(ranges.stream()
+                .map(range -> range.lowerBoundExclusive().compareTo(lowerBound) < 0 ?
+                        range.resumeAfter(lowerBound) : range)
+                .toList());
+    }
+
+    /**
+     * @return whether no partition is known, i. e. the cleanup stream starts from scratch.
+     */
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * Returns the PID above which the first partition continues.
+     *
+     * @return the lower bound of the first partition, or the empty string if no partition is known.
+     */
+    String getLowerBound() {
+        return ranges.isEmpty() ? "" : ranges.get(0).lowerBoundExclusive();
+    }
+
+    /**
+     * @return the remaining range of each partition.
+     */
+    List<PidRange> getRanges() {
+        return ranges;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[ranges=" + ranges + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ranges);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof CleanupProgress that) {
+            return Objects.equals(ranges, that.ranges);
+        } else {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.javadsl.Source;
+
+/**
+ * Persists the {@link CleanupProgress} of each responsibility of cluster members next to the snapshot store, so that
+ * a restarted cleanup stream resumes each partition where it stopped.
+ */
+final class CleanupProgressPersistence {
+
+    private static final String COLLECTION_SUFFIX = "cleanup_progress_";
+    private static final String TAG_SEPARATOR = ";";
+    private static final long MAX_TAG_SIZE_IN_BYTES = 64L * 1024L;
+
+    private final IntFunction<TimestampPersistence> timestampPersistenceProvider;
+    private final Map<Integer, TimestampPersistence> timestampPersistences = new ConcurrentHashMap<>();
+
+    CleanupProgressPersistence(final IntFunction<TimestampPersistence> timestampPersistenceProvider) {
+        this.timestampPersistenceProvider = timestampPersistenceProvider;
+    }
+
+    static CleanupProgressPersistence of(final MongoReadJournal readJournal) {
+        return new CleanupProgressPersistence(remainder ->
+                readJournal.getSnapshotStoreTimestampPersistence(COLLECTION_SUFFIX + remainder,
+                        MAX_TAG_SIZE_IN_BYTES));
+    }
+
+    /**
+     * Load the progress of a responsibility. Progress persisted under a different number of cluster members is
+     * discarded, because the PIDs it skipped may have been the responsibility of another cluster member.
+     *
+     * @param responsibility the remainder and the denominator of the responsibility.
+     * @return source of the persisted progress, or an empty optional if there is none.
+     */
+    Source<Optional<CleanupProgress>, NotUsed> load(final Pair<Integer, Integer> responsibility) {
+        return getTimestampPersistence(responsibility).getTaggedTimestamp()
+                .map(taggedTimestamp -> taggedTimestamp.flatMap(pair -> Optional.ofNullable(pair.second()))
+                        .flatMap(tag -> fromTag(tag, responsibility.second())));
+    }
+
+    /**
+     * Persist the progress of a responsibility.
+     *
+     * @param responsibility the remainder and the denominator of the responsibility.
+     * @param progress the progress.
+     * @return source that completes after the progress is persisted.
+     */
+    Source<Done, NotUsed> save(final Pair<Integer, Integer> responsibility, final CleanupProgress progress) {
+        return getTimestampPersistence(responsibility)
+                .setTaggedTimestamp(Instant.now(), responsibility.second() + TAG_SEPARATOR + progress.toToken());
+    }
+
+    private TimestampPersistence getTimestampPersistence(final Pair<Integer, Integer> responsibility) {
+        return timestampPersistences.computeIfAbsent(responsibility.first(),
+                timestampPersistenceProvider::apply);
+    }
+
+    private static Optional<CleanupProgress> fromTag(final String tag, final int denominator) {
+        final int separatorIndex = tag.indexOf(TAG_SEPARATOR);
+        try {
+            if (separatorIndex < 0 || Integer.parseInt(tag.substring(0, separatorIndex)) != denominator) {
+                return Optional.empty();
+            }
+            final var progress = CleanupProgress.fromToken(tag.substring(separatorIndex + 1));
+            return progress.isEmpty() ? Optional.empty() : Optional.of(progress);
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
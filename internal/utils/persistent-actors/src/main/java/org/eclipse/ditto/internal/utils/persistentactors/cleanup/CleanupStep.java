@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+
+/**
+ * One step of a partition of a cleanup stream: either a batch of deletions producing {@link CleanupResult}s, or a
+ * {@link CleanupCheckpoint} after a PID is scanned.
+ *
+ * @param partition the index of the partition.
+ * @param source the source executing the step.
+ * @param consumesCredit whether the step writes to the persistence and thus consumes credit.
+ */
+record CleanupStep(int partition, Source<Object, NotUsed> source, boolean consumesCredit) {
+
+    static CleanupStep deletion(final int partition, final Source<CleanupResult, NotUsed> unit) {
+        return new CleanupStep(partition, unit.map(Object.class::cast), true);
+    }
+
+    static CleanupStep checkpoint(final CleanupCheckpoint checkpoint) {
+        return new CleanupStep(checkpoint.partition(), Source.single(checkpoint), false);
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Predicate;
 
 import org.eclipse.ditto.internal.utils.pekko.controlflow.Transistor;
 import org.eclipse.ditto.internal.utils.metrics.mongo.MongoMetricsBuilder;
@@ -48,11 +49,26 @@ final class Credits {
      * @param <M> the type of the source's materialized value.
      * @return the regulated source.
      */
-    @SuppressWarnings("unchecked")
     public <T, M> Source<T, M> regulate(final Source<T, M> unregulatedSource, final LoggingAdapter logger) {
+        return regulate(unregulatedSource, logger, element -> true);
+    }
+
+    /**
+     * Regulate a source with this source of credits. 1 element is requested from the source per credit; elements
+     * not consuming credit give it back.
+     *
+     * @param unregulatedSource the source to regulate.
+     * @param logger logger where credit decisions are logged.
+     * @param consumesCredit whether an element consumes credit.
+     * @param <T> the type of elements.
+     * @param <M> the type of the source's materialized value.
+     * @return the regulated source.
+     */
+    public <T, M> Source<T, M> regulate(final Source<T, M> unregulatedSource, final LoggingAdapter logger,
+            final Predicate<T> consumesCredit) {
         return Source.fromGraph(GraphDSL.create(unregulatedSource, (builder, source) -> {
             final var credits = builder.add(getCreditSource(logger));
-            final var transistor = builder.add(Transistor.<T>of());
+            final var transistor = builder.add(Transistor.of(consumesCredit));
             builder.from(source).toInlet(transistor.in0());
             builder.from(credits).toInlet(transistor.in1());
             return SourceShape.of(transistor.out());
@@ -70,7 +86,8 @@ final class Credits {
             final Duration maxDuration = Duration.ofNanos(dbTimerNanos.getThenReset());
             final Duration threshold = cleanupConfig.getTimerThreshold();
             if (maxDuration.minus(threshold).isNegative()) {
-                final var credits = cleanupConfig.getCreditsPerBatch();
+                // each partition gets the configured credits; the shared DB timer throttles all of them
+                final var credits = cleanupConfig.getCreditsPerBatch() * cleanupConfig.getPartitions();
                 logger.debug("Credits={} Timer={}/{}", credits, maxDuration, threshold);
                 return Source.single(credits);
             } else {
@@ -37,6 +37,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
     private final int readsPerQuery;
     private final int writesPerCredit;
     private final boolean deleteFinalDeletedSnapshot;
+    private final int partitions;
 
     DefaultCleanupConfig(final boolean enabled,
             final Duration historyRetentionDuration,
@@ -46,7 +47,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
             final int creditsPerBatch,
             final int readsPerQuery,
             final int writesPerCredit,
-            final boolean deleteFinalDeletedSnapshot) {
+            final boolean deleteFinalDeletedSnapshot,
+            final int partitions) {
         this.enabled = enabled;
         this.historyRetentionDuration = historyRetentionDuration;
         this.quietPeriod = quietPeriod;
@@ -56,6 +58,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
         this.readsPerQuery = readsPerQuery;
         this.writesPerCredit = writesPerCredit;
         this.deleteFinalDeletedSnapshot = deleteFinalDeletedSnapshot;
+        this.partitions = partitions;
     }
 
     DefaultCleanupConfig(final ScopedConfig conf) {
@@ -68,6 +71,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
         this.readsPerQuery = conf.getPositiveIntOrThrow(ConfigValue.READS_PER_QUERY);
         this.writesPerCredit = conf.getPositiveIntOrThrow(ConfigValue.WRITES_PER_CREDIT);
         this.deleteFinalDeletedSnapshot = conf.getBoolean(ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath());
+        this.partitions = conf.getPositiveIntOrThrow(ConfigValue.PARTITIONS);
     }
 
     @Override
@@ -81,7 +85,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
                 ConfigValue.CREDITS_PER_BATCH.getConfigPath(), creditsPerBatch,
                 ConfigValue.READS_PER_QUERY.getConfigPath(), readsPerQuery,
                 ConfigValue.WRITES_PER_CREDIT.getConfigPath(), writesPerCredit,
-                ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot
+                ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot,
+                ConfigValue.PARTITIONS.getConfigPath(), partitions
         );
         return ConfigFactory.parseMap(configMap);
     }
@@ -136,6 +141,11 @@ final class DefaultCleanupConfig implements CleanupConfig {
         return deleteFinalDeletedSnapshot;
     }
 
+    @Override
+    public int getPartitions() {
+        return partitions;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultCleanupConfig that) {
@@ -147,7 +157,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
                     creditsPerBatch == that.creditsPerBatch &&
                     readsPerQuery == that.readsPerQuery &&
                     writesPerCredit == that.writesPerCredit &&
-                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot;
+                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot &&
+                    partitions == that.partitions;
         } else {
             return false;
         }
@@ -156,7 +167,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, historyRetentionDuration, quietPeriod, interval, timerThreshold, creditsPerBatch,
-                readsPerQuery, writesPerCredit, deleteFinalDeletedSnapshot);
+                readsPerQuery, writesPerCredit, deleteFinalDeletedSnapshot, partitions);
     }
 
     @Override
@@ -171,6 +182,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
                 ", readsPerQuery=" + readsPerQuery +
                 ", writesPerCredit=" + writesPerCredit +
                 ", deleteFinalDeletedSnapshot=" + deleteFinalDeletedSnapshot +
+                ", partitions=" + partitions +
                 "]";
     }
 
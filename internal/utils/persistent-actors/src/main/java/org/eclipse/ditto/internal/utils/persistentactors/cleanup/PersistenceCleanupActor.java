@@ -13,6 +13,7 @@
 package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -31,13 +32,14 @@ import org.eclipse.ditto.internal.utils.health.StatusInfo;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
 import com.typesafe.config.Config;
-import com.typesafe.config.ConfigFactory;
 
 import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.AbstractFSM;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.CoordinatedShutdown;
@@ -50,14 +52,16 @@ import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.KillSwitches;
 import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.OverflowStrategy;
 import org.apache.pekko.stream.UniqueKillSwitch;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
 
 /**
  * Actor to control persistence cleanup.
  */
-public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanupActor.State, String>
+public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanupActor.State, CleanupProgress>
         implements RetrieveConfigBehavior, ModifyConfigBehavior {
 
     /**
@@ -85,21 +89,26 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     private final Counter deleteSnapsCounter = DittoMetrics.counter("cleanup_delete_snapshots");
     private final MongoReadJournal mongoReadJournal;
     private final Supplier<Pair<Integer, Integer>> responsibilitySupplier;
+    private final CleanupProgressPersistence progressPersistence;
 
     private CleanupConfig config;
     private Cleanup cleanup;
     private Credits credits;
     @Nullable private UniqueKillSwitch killSwitch = null;
+    private Instant lastProgressPersisted = Instant.EPOCH;
 
-    PersistenceCleanupActor(final Cleanup cleanup,
+    PersistenceCleanupActor(final CleanupConfig config,
+            final Cleanup cleanup,
             final Credits credits,
             final MongoReadJournal mongoReadJournal,
-            final Supplier<Pair<Integer, Integer>> responsibilitySupplier) {
-        this.config = CleanupConfig.of(ConfigFactory.empty());
+            final Supplier<Pair<Integer, Integer>> responsibilitySupplier,
+            final CleanupProgressPersistence progressPersistence) {
+        this.config = config;
         this.cleanup = cleanup;
         this.credits = credits;
         this.mongoReadJournal = mongoReadJournal;
         this.responsibilitySupplier = responsibilitySupplier;
+        this.progressPersistence = progressPersistence;
     }
 
     @SuppressWarnings("unused") // called by reflection
@@ -112,6 +121,7 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         this.config = config;
         cleanup = Cleanup.of(config, mongoReadJournal, materializer, responsibilitySupplier);
         credits = Credits.of(config);
+        progressPersistence = CleanupProgressPersistence.of(mongoReadJournal);
     }
 
     /**
@@ -139,10 +149,11 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
                         .thenApply(reply -> Done.done())
         );
 
+        final var initialProgress = CleanupProgress.empty();
         if (config.isEnabled()) {
-            startWith(State.IN_QUIET_PERIOD, "", randomizeQuietPeriod());
+            startWith(State.IN_QUIET_PERIOD, initialProgress, randomizeQuietPeriod());
         } else {
-            startWith(State.IN_QUIET_PERIOD, "");
+            startWith(State.IN_QUIET_PERIOD, initialProgress);
         }
         when(State.IN_QUIET_PERIOD, inQuietPeriod());
         when(State.RUNNING, running());
@@ -150,28 +161,30 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         initialize();
     }
 
-    private FSMStateFunctionBuilder<State, String> inQuietPeriod() {
+    private FSMStateFunctionBuilder<State, CleanupProgress> inQuietPeriod() {
         return matchEventEquals(StateTimeout(), this::startStream)
                 .eventEquals(Control.SHUTDOWN, this::shutdownInQuietPeriod)
                 .eventEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone);
     }
 
-    private FSMStateFunctionBuilder<State, String> running() {
+    private FSMStateFunctionBuilder<State, CleanupProgress> running() {
         return matchEvent(CleanupResult.class, this::logCleanupResult)
+                .event(CleanupCheckpoint.class, this::recordCheckpoint)
+                .event(CleanupProgress.class, this::startPartitions)
                 .eventEquals(Control.STREAM_COMPLETE, this::streamComplete)
                 .eventEquals(Control.STREAM_FAILED, this::streamFailed)
                 .eventEquals(Control.SHUTDOWN, this::shutdownRunningStream)
                 .eventEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone);
     }
 
-    private FSMStateFunctionBuilder<State, String> inAnyState() {
+    private FSMStateFunctionBuilder<State, CleanupProgress> inAnyState() {
         return matchEvent(RetrieveHealth.class, this::retrieveHealth)
-                .event(RetrieveConfig.class, (retrieveConfig, lastPid) -> {
+                .event(RetrieveConfig.class, (retrieveConfig, progress) -> {
                     retrieveConfigBehavior().onMessage().apply(retrieveConfig);
 
                     return stay();
                 })
-                .event(ModifyConfig.class, (modifyConfig, lastPid) -> {
+                .event(ModifyConfig.class, (modifyConfig, progress) -> {
                     modifyConfigBehavior().onMessage().apply(modifyConfig);
                     final var setLastPid = modifyConfig.getConfig()
                             .getValue(SET_LAST_PID)
@@ -179,39 +192,93 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
                             .map(JsonValue::asString);
                     final var stay = stay();
 
-                    return setLastPid.map(stay::using).orElse(stay);
+                    return setLastPid.map(lastPid -> stay.using(progress.withLowerBound(lastPid)))
+                            .orElse(stay);
                 })
                 .eventEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone)
-                .anyEvent((message, lastPid) -> {
+                .anyEvent((message, progress) -> {
                     logger.warning("Got unhandled message <{}> when state=<{}> lastPid=<{}>",
-                            message, stateName().name(), lastPid);
+                            message, stateName().name(), progress.getLowerBound());
 
                     return stay();
                 });
     }
 
-    private FSM.State<State, String> startStream(final StateTimeout$ stateTimeout, final String lastPid) {
-        logger.info("Quiet period expired, starting stream from <{}>", lastPid);
-        final var materializedValues =
-                credits.regulate(cleanup.getCleanupStream(lastPid), logger)
-                        .flatMapConcat(workUnit -> workUnit)
-                        .viaMat(KillSwitches.single(), Keep.right())
-                        .toMat(Sink.foreach(this::notifySelf), Keep.both())
-                        .withAttributes(Attributes.inputBuffer(1, 1))
-                        .run(materializer);
+    private FSM.State<State, CleanupProgress> startStream(final StateTimeout$ stateTimeout,
+            final CleanupProgress progress) {
+
+        final var currentCleanup = cleanup;
+        final var currentCredits = credits;
+        final var creditsPerBatch = config.getCreditsPerBatch();
+        final Source<CleanupProgress, NotUsed> progressSource;
+        if (progress.isEmpty()) {
+            final var partitions = config.getPartitions();
+            logger.info("Quiet period expired, starting stream from persisted progress or with <{}> partitions",
+                    partitions);
+            progressSource = progressPersistence.load(responsibilitySupplier.get())
+                    .flatMapConcat(persistedProgress -> persistedProgress.map(Source::single)
+                            .orElseGet(() -> currentCleanup.getInitialProgress(partitions)));
+        } else {
+            logger.info("Quiet period expired, resuming stream with <{}>", progress);
+            progressSource = Source.single(progress);
+        }
+        final var materializedValues = progressSource
+                .flatMapConcat(startProgress -> Source.<Object>single(startProgress)
+                        .concat(cleanUpPartitions(currentCleanup, currentCredits, creditsPerBatch, startProgress)))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.foreach(this::notifySelf), Keep.both())
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .run(materializer);
 
         killSwitch = materializedValues.first();
         materializedValues.second().handle(this::streamCompletedOrFailed);
 
-        return goTo(State.RUNNING);
+        return goTo(State.RUNNING).using(progress);
     }
 
-    private FSM.State<State, String> logCleanupResult(final CleanupResult result, final String lastPid) {
-        logger.debug("CleanupResult=<{}>", result);
-        final var nextPid = result.snapshotRevision.pid;
-        if (!lastPid.equals(nextPid)) {
-            logger.info("Progress=<{}>", nextPid);
+    /**
+     * Clean up the range of each partition. The steps of a partition run sequentially so that each checkpoint
+     * follows the deletions of its PID, while the partitions run concurrently.
+     */
+    private Source<Object, NotUsed> cleanUpPartitions(final Cleanup cleanup, final Credits credits,
+            final int creditsPerBatch, final CleanupProgress progress) {
+
+        final var ranges = progress.getRanges();
+        final int partitions = ranges.size();
+        final Source<CleanupStep, NotUsed> steps = Source.range(0, partitions - 1)
+                .flatMapMerge(partitions, partition -> cleanup.getCleanupSteps(partition, ranges.get(partition)));
+
+        return credits.regulate(steps, logger, CleanupStep::consumesCredit)
+                .groupBy(partitions, CleanupStep::partition)
+                .buffer(creditsPerBatch, OverflowStrategy.backpressure())
+                .flatMapConcat(CleanupStep::source)
+                .mergeSubstreams();
+    }
+
+    private FSM.State<State, CleanupProgress> startPartitions(final CleanupProgress startProgress,
+            final CleanupProgress progress) {
+
+        logger.info("Cleaning up <{}> partitions from <{}>", startProgress.getRanges().size(), startProgress);
+
+        return stay().using(startProgress);
+    }
+
+    private FSM.State<State, CleanupProgress> recordCheckpoint(final CleanupCheckpoint checkpoint,
+            final CleanupProgress progress) {
+
+        logger.debug("Checkpoint=<{}>", checkpoint);
+        final var nextProgress = progress.withCheckpoint(checkpoint);
+        if (!lastProgressPersisted.plus(config.getInterval()).isAfter(Instant.now())) {
+            persistProgress(nextProgress);
         }
+
+        return stay().using(nextProgress);
+    }
+
+    private FSM.State<State, CleanupProgress> logCleanupResult(final CleanupResult result,
+            final CleanupProgress progress) {
+
+        logger.debug("CleanupResult=<{}>", result);
         switch (result.type) {
             case SNAPSHOTS:
                 deleteSnapsCounter.increment(result.result.getDeletedCount());
@@ -222,11 +289,15 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
                 break;
         }
 
-        return stay().using(nextPid);
+        return stay();
     }
 
-    private FSM.State<State, String> streamComplete(final Control streamComplete, final String lastPid) {
-        final var result = goTo(State.IN_QUIET_PERIOD).using("");
+    private FSM.State<State, CleanupProgress> streamComplete(final Control streamComplete,
+            final CleanupProgress progress) {
+
+        final var nextProgress = CleanupProgress.empty();
+        persistProgress(nextProgress);
+        final var result = goTo(State.IN_QUIET_PERIOD).using(nextProgress);
         if (config.isEnabled()) {
             final var nextQuietPeriod = randomizeQuietPeriod();
             logger.info("Stream complete. Next stream in <{}> from start", nextQuietPeriod);
@@ -239,22 +310,28 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         }
     }
 
-    private FSM.State<State, String> streamFailed(final Control streamComplete, final String lastPid) {
-        final var result = goTo(State.IN_QUIET_PERIOD).using(lastPid);
+    private FSM.State<State, CleanupProgress> streamFailed(final Control streamComplete,
+            final CleanupProgress progress) {
+
+        if (!progress.isEmpty()) {
+            persistProgress(progress);
+        }
+        final var result = goTo(State.IN_QUIET_PERIOD).using(progress);
         if (config.isEnabled()) {
             final var nextQuietPeriod = randomizeQuietPeriod();
-            logger.info("Stream failed or shutdown. Next stream in <{}> starting from <{}>", nextQuietPeriod,
-                    lastPid);
+            logger.info("Stream failed or shutdown. Next stream in <{}> resuming <{}>", nextQuietPeriod, progress);
 
             return result.forMax(nextQuietPeriod);
         } else {
-            logger.info("Stream failed or shutdown and disabled. Last PID=<{}>", lastPid);
+            logger.info("Stream failed or shutdown and disabled. Progress=<{}>", progress);
 
             return result;
         }
     }
 
-    private FSM.State<State, String> shutdownRunningStream(final Control shutdown, final String lastPid) {
+    private FSM.State<State, CleanupProgress> shutdownRunningStream(final Control shutdown,
+            final CleanupProgress progress) {
+
         logger.info("Activating kill-switch on demand: <{}>", killSwitch);
         if (killSwitch != null) {
             // using ABORT to preserve lastPid
@@ -264,7 +341,10 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         return stay();
     }
 
-    private FSM.State<State, String> shutdownInQuietPeriod(final Control shutdown, final String lastPid) {
+    private FSM.State<State, CleanupProgress> shutdownInQuietPeriod(final Control shutdown,
+            final CleanupProgress progress) {
+
+        final var lastPid = progress.getLowerBound();
         if (config.isEnabled()) {
             logger.info("Starting stream from <{}> in <{}> on request", lastPid, config.getQuietPeriod());
 
@@ -276,13 +356,20 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         }
     }
 
-    private FSM.State<State, String> retrieveHealth(final RetrieveHealth retrieveHealth, final String lastPid) {
+    private FSM.State<State, CleanupProgress> retrieveHealth(final RetrieveHealth retrieveHealth,
+            final CleanupProgress progress) {
+
+        final var detailBuilder = JsonObject.newBuilder()
+                .set("state", stateName().name())
+                .set("pid", progress.getLowerBound());
+        if (progress.getRanges().size() > 1) {
+            detailBuilder.set("partitionPids", progress.getRanges()
+                    .stream()
+                    .map(range -> JsonValue.of(range.lowerBoundExclusive()))
+                    .collect(JsonCollectors.valuesToArray()));
+        }
         final var response = RetrieveHealthResponse.of(
-                StatusInfo.fromDetail(StatusDetailMessage.of(StatusDetailMessage.Level.INFO, JsonObject.newBuilder()
-                        .set("state", stateName().name())
-                        .set("pid", lastPid)
-                        .build())
-                ),
+                StatusInfo.fromDetail(StatusDetailMessage.of(StatusDetailMessage.Level.INFO, detailBuilder.build())),
                 DittoHeaders.empty()
         );
         getSender().tell(response, getSelf());
@@ -298,8 +385,19 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         return quietPeriod.plus(quietPeriod.multipliedBy(multiplier).dividedBy(divisor));
     }
 
-    private void notifySelf(final CleanupResult result) {
-        getSelf().tell(result, ActorRef.noSender());
+    private void notifySelf(final Object resultOrProgress) {
+        getSelf().tell(resultOrProgress, ActorRef.noSender());
+    }
+
+    private void persistProgress(final CleanupProgress progress) {
+        lastProgressPersisted = Instant.now();
+        progressPersistence.save(responsibilitySupplier.get(), progress)
+                .runWith(Sink.ignore(), materializer)
+                .whenComplete((done, error) -> {
+                    if (error != null) {
+                        logger.warning("Failed to persist <{}>: {}", progress, error);
+                    }
+                });
     }
 
     private Done streamCompletedOrFailed(@Nullable final Done done, @Nullable final Throwable error) {
@@ -331,7 +429,9 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         return this.config.render();
     }
 
-    private FSM.State<State, String> serviceRequestsDone(final Control serviceRequestsDone, final String lastPid) {
+    private FSM.State<State, CleanupProgress> serviceRequestsDone(final Control serviceRequestsDone,
+            final CleanupProgress progress) {
+
         if (killSwitch != null) {
             logger.info("Aborting stream because of graceful shutdown.");
             killSwitch.abort(KILL_SWITCH_EXCEPTION);
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link CleanupProgressPersistence}.
+ */
+public final class CleanupProgressPersistenceTest {
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void cleanUp() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void loadSavedProgressOfSameResponsibility() {
+        final var timestampPersistence = new InMemoryTimestampPersistence();
+        final var underTest = new CleanupProgressPersistence(remainder -> timestampPersistence);
+        final var progress = CleanupProgress.of(PidRange.partition(List.of("thing:m:m")))
+                .withCheckpoint(new CleanupCheckpoint(0, new PidRange("thing:a:a", "thing:m:m")));
+
+        assertThat(load(underTest, Pair.create(1, 3))).isEmpty();
+        underTest.save(Pair.create(1, 3), progress).runWith(Sink.ignore(), actorSystem).toCompletableFuture().join();
+
+        assertThat(load(underTest, Pair.create(1, 3))).contains(progress);
+    }
+
+    @Test
+    public void discardProgressOfOtherNumberOfClusterMembers() {
+        final var timestampPersistence = new InMemoryTimestampPersistence();
+        final var underTest = new CleanupProgressPersistence(remainder -> timestampPersistence);
+        final var progress = CleanupProgress.of(List.of(new PidRange("thing:a:a", "")));
+
+        underTest.save(Pair.create(1, 3), progress).runWith(Sink.ignore(), actorSystem).toCompletableFuture().join();
+
+        assertThat(load(underTest, Pair.create(1, 4))).isEmpty();
+    }
+
+    @Test
+    public void completedProgressIsNotLoaded() {
+        final var timestampPersistence = new InMemoryTimestampPersistence();
+        final var underTest = new CleanupProgressPersistence(remainder -> timestampPersistence);
+
+        underTest.save(Pair.create(0, 1), CleanupProgress.empty())
+                .runWith(Sink.ignore(), actorSystem)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(timestampPersistence.getTag()).contains("1;");
+        assertThat(load(underTest, Pair.create(0, 1))).isEmpty();
+    }
+
+    private Optional<CleanupProgress> load(final CleanupProgressPersistence underTest,
+            final Pair<Integer, Integer> responsibility) {
+        return underTest.load(responsibility).runWith(Sink.head(), actorSystem).toCompletableFuture().join();
+    }
+}
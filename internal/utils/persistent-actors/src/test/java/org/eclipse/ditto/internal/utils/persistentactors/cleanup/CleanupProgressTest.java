@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link CleanupProgress}.
+ */
+public final class CleanupProgressTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CleanupProgress.class).verify();
+    }
+
+    @Test
+    public void checkpointReplacesRangeOfItsPartition() {
+        final var ranges = PidRange.partition(List.of("thing:m:m"));
+
+        final var underTest = CleanupProgress.of(ranges)
+                .withCheckpoint(new CleanupCheckpoint(1, ranges.get(1).resumeAfter("thing:p:id")));
+
+        assertThat(underTest.getRanges()).containsExactly(new PidRange("", "thing:m:m"),
+                new PidRange("thing:p:id", ""));
+        assertThat(underTest.getLowerBound()).isEqualTo("");
+    }
+
+    @Test
+    public void checkpointOfUnknownPartitionIsIgnored() {
+        final var underTest = CleanupProgress.of(List.of(PidRange.all()));
+
+        assertThat(underTest.withCheckpoint(new CleanupCheckpoint(1, PidRange.all().resumeAfter("thing:p:id"))))
+                .isEqualTo(underTest);
+    }
+
+    @Test
+    public void lowerBoundSkipsPidsOfAllPartitions() {
+        final var ranges = PidRange.partition(List.of("thing:c:c", "thing:m:m"));
+
+        final var underTest = CleanupProgress.of(ranges).withLowerBound("thing:d:d");
+
+        assertThat(underTest.getRanges()).containsExactly(new PidRange("thing:d:d", "thing:c:c"),
+                new PidRange("thing:d:d", "thing:m:m"), new PidRange("thing:m:m", ""));
+        assertThat(underTest.getRanges().get(0).isExhausted()).isTrue();
+        assertThat(CleanupProgress.empty().withLowerBound("thing:d:d").getRanges())
+                .containsExactly(new PidRange("thing:d:d", ""));
+    }
+
+    @Test
+    public void tokenRoundTrip() {
+        final var underTest = CleanupProgress.of(PidRange.partition(List.of("thing:c,c", "thing:m;m")))
+                .withCheckpoint(new CleanupCheckpoint(1, new PidRange("thing:d:d", "thing:m;m")));
+
+        assertThat(CleanupProgress.fromToken(underTest.toToken())).isEqualTo(underTest);
+        assertThat(CleanupProgress.fromToken(CleanupProgress.empty().toToken())).isEqualTo(CleanupProgress.empty());
+    }
+
+}
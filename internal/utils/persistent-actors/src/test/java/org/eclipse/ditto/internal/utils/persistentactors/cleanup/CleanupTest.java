@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 
 import org.bson.Document;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,11 +71,7 @@ public final class CleanupTest {
 
         final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
                 Duration.ZERO, 1, 1, true);
-        final var result = underTest.getCleanupStream("")
-                .flatMapConcat(x -> x)
-                .runWith(Sink.seq(), materializer)
-                .toCompletableFuture()
-                .join();
+        final var result = getCleanupResults(underTest);
         assertThat(result).isEmpty();
     }
 
@@ -99,9 +96,7 @@ public final class CleanupTest {
         final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
                 Duration.ZERO, 1, 4, true);
 
-        final var result = underTest.getCleanupStream("")
-                .flatMapConcat(x -> x)
-                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var result = getCleanupResults(underTest);
         final var seqNrs = result.stream()
                 .map(cleanupResult -> cleanupResult.result.getDeletedCount())
                 .toList();
@@ -133,9 +128,7 @@ public final class CleanupTest {
         final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
                 Duration.ZERO, 1, 4, false);
 
-        final var result = underTest.getCleanupStream("")
-                .flatMapConcat(x -> x)
-                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var result = getCleanupResults(underTest);
         final var seqNrs = result.stream()
                 .map(cleanupResult -> cleanupResult.result.getDeletedCount())
                 .toList();
@@ -175,9 +168,7 @@ public final class CleanupTest {
         final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(2, 3),
                 Duration.ZERO, 1, 4, false);
 
-        final var result = underTest.getCleanupStream("")
-                .flatMapConcat(x -> x)
-                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var result = getCleanupResults(underTest);
         final var seqNrs = result.stream()
                 .map(cleanupResult -> cleanupResult.result.getDeletedCount())
                 .toList();
@@ -191,4 +182,61 @@ public final class CleanupTest {
                 "SNAPSHOTS");
         assertThat(pids.size()).isEqualTo(1);
     }
+
+    @Test
+    public void cleanupStepsStayWithinRangeAndCheckpointEachScannedPid() {
+        final var range = new PidRange("thing:p:id1", "thing:p:id3");
+        when(mongoReadJournal.getNewestSnapshotsAbove(eq("thing:p:id1"), anyInt(), eq(true), any(), any()))
+                .thenReturn(Source.from(List.of("thing:p:id2", "thing:p:id3", "thing:p:id4"))
+                        .map(pid -> new Document().append("_id", pid)
+                                .append("__lifecycle", "DELETED")
+                                .append("sn", 50L)));
+
+        when(mongoReadJournal.getSmallestEventSeqNo(any())).thenReturn(Source.single(Optional.of(49L)));
+        when(mongoReadJournal.getSmallestSnapshotSeqNo(any())).thenReturn(Source.single(Optional.of(50L)));
+        doAnswer(invocation -> Source.single(DeleteResult.acknowledged(1L)))
+                .when(mongoReadJournal).deleteEvents(any(), anyLong(), anyLong());
+
+        // WHEN: the instance is responsible for thing:p:id3 only
+        final var underTest = new Cleanup(mongoReadJournal, materializer,
+                () -> Pair.create(Math.abs("thing:p:id3".hashCode()) % 7, 7), Duration.ZERO, 1, 4, false);
+
+        final var result = underTest.getCleanupSteps(5, range)
+                .flatMapConcat(step -> step.source().map(element -> Pair.create(step.consumesCredit(), element)))
+                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+
+        // THEN: each PID in the range is checkpointed after its deletions, and the PID beyond the range is not scanned
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).isEqualTo(Pair.create(false,
+                new CleanupCheckpoint(5, new PidRange("thing:p:id2", "thing:p:id3"))));
+        assertThat(result.get(1).first()).isTrue();
+        assertThat(((CleanupResult) result.get(1).second()).snapshotRevision.pid).isEqualTo("thing:p:id3");
+        assertThat(result.get(2)).isEqualTo(Pair.create(false,
+                new CleanupCheckpoint(5, new PidRange("thing:p:id3", "thing:p:id3"))));
+        assertThat(((CleanupCheckpoint) result.get(2).second()).remainder().isExhausted()).isTrue();
+    }
+
+    @Test
+    public void initialProgressPartitionsSampledPids() {
+        final var ranges = PidRange.partition(List.of("thing:c:c", "thing:m:m"));
+        when(mongoReadJournal.samplePidRanges(3, 30)).thenReturn(Source.single(ranges));
+
+        final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
+                Duration.ZERO, 10, 4, false);
+
+        assertThat(underTest.getInitialProgress(1).runWith(Sink.head(), materializer).toCompletableFuture().join())
+                .isEqualTo(CleanupProgress.of(List.of(PidRange.all())));
+        assertThat(underTest.getInitialProgress(3).runWith(Sink.head(), materializer).toCompletableFuture().join())
+                .isEqualTo(CleanupProgress.of(ranges));
+    }
+
+    private List<CleanupResult> getCleanupResults(final Cleanup underTest) {
+        return underTest.getCleanupSteps(0, PidRange.all())
+                .flatMapConcat(CleanupStep::source)
+                .filter(CleanupResult.class::isInstance)
+                .map(CleanupResult.class::cast)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.LongAccumulator;
 
 import org.bson.Document;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -107,6 +108,50 @@ public final class CreditsTest {
         sourceProbe.expectNoMessage();
     }
 
+    @Test
+    public void creditIsGivenOutForEachPartition() {
+        final var mockTimerResult = new AtomicLong(0L);
+        doAnswer(inv -> mockTimerResult.getAndSet(1001L)).when(mockTimer).getThenReset();
+        final Credits underTest = new Credits(getFastCreditConfig(2, 3), mockTimer);
+        final var probePair = materializeProbePair(underTest);
+        final var sourceProbe = probePair.first();
+        final var sinkProbe = probePair.second();
+        sinkProbe.ensureSubscription();
+        sinkProbe.request(10);
+        assertThat(sourceProbe.expectRequest()).isEqualTo(1L); // initial input buffer
+        for (int i = 0; i < 6; ++i) {
+            sourceProbe.sendNext(i);
+            assertThat(sourceProbe.expectRequest()).isEqualTo(1L); // credit i+1/6
+        }
+        sourceProbe.sendNext(6);
+        sourceProbe.expectNoMessage();
+    }
+
+    @Test
+    public void elementsNotConsumingCreditGiveItBack() {
+        final var mockTimerResult = new AtomicLong(0L);
+        doAnswer(inv -> mockTimerResult.getAndSet(1001L)).when(mockTimer).getThenReset();
+        final Credits underTest = new Credits(getFastCreditConfig(2), mockTimer);
+        final Pair<TestPublisher.Probe<Integer>, TestSubscriber.Probe<Integer>> probePair =
+                underTest.regulate(TestSource.<Integer>probe(actorSystem), Logging.getLogger(actorSystem, this),
+                                i -> i >= 0)
+                        .toMat(TestSink.probe(actorSystem), Keep.both())
+                        .withAttributes(Attributes.inputBuffer(1, 1))
+                        .run(materializer);
+        final var sourceProbe = probePair.first();
+        final var sinkProbe = probePair.second();
+        sinkProbe.ensureSubscription();
+        sinkProbe.request(10);
+        assertThat(sourceProbe.expectRequest()).isEqualTo(1L); // initial input buffer
+        for (final int i : new int[]{-1, -2, 0, 1}) {
+            sourceProbe.sendNext(i);
+            assertThat(sourceProbe.expectRequest()).isEqualTo(1L); // negative elements are free
+        }
+        sourceProbe.sendNext(2);
+        sourceProbe.expectNoMessage(); // credit 2/2 used up by 0 and 1
+        sinkProbe.expectNext(-1, -2, 0, 1);
+    }
+
     @Test
     public void onePersistenceWriteAllowedPerCredit() {
         final var mongoReadJournal = mock(MongoReadJournal.class);
@@ -139,8 +184,9 @@ public final class CreditsTest {
         final var underTest = new Credits(getFastCreditConfig(4), mockTimer);
 
         final var log = Logging.getLogger(actorSystem, this);
-        final var sinkProbe = underTest.regulate(cleanup.getCleanupStream(""), log)
-                .flatMapConcat(x -> x)
+        final var sinkProbe = underTest.regulate(cleanup.getCleanupSteps(0, PidRange.all()), log,
+                        CleanupStep::consumesCredit)
+                .flatMapConcat(CleanupStep::source)
                 .toMat(TestSink.probe(actorSystem), Keep.right())
                 .withAttributes(Attributes.inputBuffer(1, 1))
                 .run(materializer);
@@ -165,7 +211,11 @@ public final class CreditsTest {
     }
 
     private static CleanupConfig getFastCreditConfig(final int creditPerBatch) {
+        return getFastCreditConfig(creditPerBatch, 1);
+    }
+
+    private static CleanupConfig getFastCreditConfig(final int creditPerBatch, final int partitions) {
         return new DefaultCleanupConfig(true, Duration.ZERO, Duration.ZERO, Duration.ofMillis(100), Duration.ofNanos(1000),
-                creditPerBatch, 100, 100, false);
+                creditPerBatch, 100, 100, false, partitions);
     }
 }
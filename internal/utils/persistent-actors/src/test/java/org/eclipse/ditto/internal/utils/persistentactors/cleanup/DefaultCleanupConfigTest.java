@@ -78,5 +78,9 @@ public final class DefaultCleanupConfigTest {
         assertThat(underTest.shouldDeleteFinalDeletedSnapshot())
                 .describedAs(CleanupConfig.ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath())
                 .isEqualTo(true);
+
+        assertThat(underTest.getPartitions())
+                .describedAs(CleanupConfig.ConfigValue.PARTITIONS.getConfigPath())
+                .isEqualTo(7);
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.javadsl.Source;
+
+/**
+ * Timestamp persistence keeping the last tagged timestamp in memory.
+ */
+final class InMemoryTimestampPersistence implements TimestampPersistence {
+
+    private final AtomicReference<Optional<Pair<Instant, String>>> taggedTimestamp =
+            new AtomicReference<>(Optional.empty());
+
+    @Override
+    public Source<NotUsed, NotUsed> setTimestamp(final Instant timestamp) {
+        return setTaggedTimestamp(timestamp, null).map(done -> NotUsed.getInstance());
+    }
+
+    @Override
+    public Source<Done, NotUsed> setTaggedTimestamp(final Instant timestamp, @Nullable final String tag) {
+        return Source.lazySingle(() -> {
+            taggedTimestamp.set(Optional.of(Pair.create(timestamp, tag)));
+            return Done.getInstance();
+        });
+    }
+
+    @Override
+    public Source<Optional<Instant>, NotUsed> getTimestampAsync() {
+        return getTaggedTimestamp().map(optional -> optional.map(Pair::first));
+    }
+
+    @Override
+    public Source<Optional<Pair<Instant, String>>, NotUsed> getTaggedTimestamp() {
+        return Source.lazySingle(taggedTimestamp::get);
+    }
+
+    Optional<String> getTag() {
+        return taggedTimestamp.get().map(Pair::second);
+    }
+}
@@ -14,15 +14,19 @@ package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.ditto.base.api.common.ModifyConfig;
@@ -35,6 +39,8 @@ import org.eclipse.ditto.internal.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.internal.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.internal.utils.health.StatusInfo;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.PidRange;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.junit.After;
@@ -50,6 +56,7 @@ import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.FSM;
+import org.apache.pekko.actor.PoisonPill;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.event.Logging;
 import org.apache.pekko.japi.Pair;
@@ -57,6 +64,7 @@ import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.KillSwitches;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.testkit.TestPublisher;
 import org.apache.pekko.stream.testkit.javadsl.TestSource;
 import org.apache.pekko.testkit.javadsl.TestKit;
 
@@ -67,8 +75,8 @@ public final class PersistenceCleanupActorTest {
 
     private final ActorSystem actorSystem = ActorSystem.create("test",
             ConfigFactory.load("test.conf"));
-    private final AtomicReference<Source<Source<CleanupResult, NotUsed>, NotUsed>> sourceBox =
-            new AtomicReference<>(Source.empty());
+    private final AtomicReference<Source<CleanupStep, NotUsed>> sourceBox = new AtomicReference<>(Source.empty());
+    private final InMemoryTimestampPersistence timestampPersistence = new InMemoryTimestampPersistence();
     private Cleanup cleanup;
     private Credits credits;
 
@@ -76,8 +84,10 @@ public final class PersistenceCleanupActorTest {
     public void init() {
         cleanup = mock(Cleanup.class);
         credits = mock(Credits.class);
-        doAnswer(inv -> Source.empty()).when(cleanup).getCleanupStream(any());
-        doAnswer(inv -> sourceBox.get()).when(credits).regulate(any(), any());
+        doAnswer(inv -> Source.single(CleanupProgress.of(List.of(PidRange.all()))))
+                .when(cleanup).getInitialProgress(anyInt());
+        doAnswer(inv -> sourceBox.get()).when(cleanup).getCleanupSteps(anyInt(), any());
+        doAnswer(inv -> inv.getArgument(0)).when(credits).regulate(any(), any(), any());
     }
 
     @After
@@ -91,7 +101,7 @@ public final class PersistenceCleanupActorTest {
             final ActorRef underTest = childActorOf(testProps());
             final var retrieveHealth = RetrieveHealth.newInstance();
             final var probeSource =
-                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+                    TestSource.<CleanupStep>probe(actorSystem);
             final var probeSourcePair = probeSource.preMaterialize(actorSystem);
             final var probe = probeSourcePair.first();
             sourceBox.set(probeSourcePair.second());
@@ -102,7 +112,8 @@ public final class PersistenceCleanupActorTest {
             underTest.tell(retrieveHealth, getRef());
             expectMsg(retrieveHealthResponse("RUNNING", ""));
             probe.sendComplete();
-            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""), probe::expectNoMsg);
+            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""),
+                    PersistenceCleanupActorTest::waitShortly);
         }};
     }
 
@@ -112,33 +123,32 @@ public final class PersistenceCleanupActorTest {
             final ActorRef underTest = childActorOf(testProps());
             final var retrieveHealth = RetrieveHealth.newInstance();
             final var probeSource =
-                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+                    TestSource.<CleanupStep>probe(actorSystem);
             final var probeSourcePair = probeSource.preMaterialize(actorSystem);
             final var probe = probeSourcePair.first();
             sourceBox.set(probeSourcePair.second());
             underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
             probe.expectRequest();
 
-            probe.sendNext(Source.single(new CleanupResult(
-                    CleanupResult.Type.SNAPSHOTS,
-                    new SnapshotRevision("thing:p:id", 1234, true),
-                    DeleteResult.acknowledged(4)
-            )));
-            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:p:id"), probe::expectNoMsg);
+            sendCleanedUpPid(probe, 0, PidRange.all(), "thing:p:id");
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:p:id"),
+                    PersistenceCleanupActorTest::waitShortly);
 
             // WHEN stream completes successfully
             probe.sendComplete();
-            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""), probe::expectNoMsg);
+            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""),
+                    PersistenceCleanupActorTest::waitShortly);
 
             // THEN the starting PID is reset
-            final var killSwitchPair = Source.<Source<CleanupResult, NotUsed>>never()
+            final var killSwitchPair = Source.<CleanupStep>never()
                     .viaMat(KillSwitches.single(), Keep.right())
                     .preMaterialize(actorSystem);
             sourceBox.set(killSwitchPair.second());
             underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
             underTest.tell(retrieveHealth, getRef());
             expectMsg(retrieveHealthResponse("RUNNING", ""));
-            verify(cleanup, timeout(5000L).times(2)).getCleanupStream(eq(""));
+            verify(cleanup, timeout(5000L).times(2)).getCleanupSteps(eq(0), eq(PidRange.all()));
+            verify(cleanup, times(2)).getInitialProgress(eq(1));
             killSwitchPair.first().shutdown();
         }};
     }
@@ -152,7 +162,7 @@ public final class PersistenceCleanupActorTest {
             final ActorRef underTest = childActorOf(testProps());
             final var retrieveHealth = RetrieveHealth.newInstance();
             final var probeSource =
-                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+                    TestSource.<CleanupStep>probe(actorSystem);
             final var probeSourcePair = probeSource.preMaterialize(actorSystem);
             final var probe = probeSourcePair.first();
             sourceBox.set(probeSourcePair.second());
@@ -160,30 +170,78 @@ public final class PersistenceCleanupActorTest {
             probe.expectRequest();
 
             final var pid = "thing:p:id";
-            probe.sendNext(Source.single(new CleanupResult(
-                    CleanupResult.Type.SNAPSHOTS,
-                    new SnapshotRevision(pid, 1234, true),
-                    DeleteResult.acknowledged(4)
-            )));
-            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", pid), probe::expectNoMsg);
+            sendCleanedUpPid(probe, 0, PidRange.all(), pid);
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", pid),
+                    PersistenceCleanupActorTest::waitShortly);
 
             // WHEN stream fails
             probe.sendError(new IllegalStateException("Expected error"));
-            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", pid), probe::expectNoMsg);
+            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", pid),
+                    PersistenceCleanupActorTest::waitShortly);
 
             // THEN the starting PID is set to the last successful pid
-            final var killSwitchPair = Source.<Source<CleanupResult, NotUsed>>never()
+            final var killSwitchPair = Source.<CleanupStep>never()
                     .viaMat(KillSwitches.single(), Keep.right())
                     .preMaterialize(actorSystem);
             sourceBox.set(killSwitchPair.second());
             underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
             underTest.tell(retrieveHealth, getRef());
             expectMsg(retrieveHealthResponse("RUNNING", pid));
-            verify(cleanup, timeout(5000L)).getCleanupStream(eq(pid));
+            verify(cleanup, timeout(5000L)).getCleanupSteps(eq(0), eq(new PidRange(pid, "")));
             killSwitchPair.first().shutdown();
         }};
     }
 
+    @Test
+    public void partitionedStreamResumesEachPartitionAfterFailure() {
+        new TestKit(actorSystem) {{
+            actorSystem.eventStream().setLogLevel(Attributes.logLevelOff());
+
+            // GIVEN the cleanup is partitioned into 2 ranges
+            final var config = CleanupConfig.of(ConfigFactory.parseMap(Map.of("cleanup.partitions", 2)));
+            final var ranges = PidRange.partition(List.of("thing:m:m"));
+            doAnswer(inv -> Source.single(CleanupProgress.of(ranges))).when(cleanup).getInitialProgress(eq(2));
+            final Map<Integer, Source<CleanupStep, NotUsed>> partitionSources = new ConcurrentHashMap<>();
+            doAnswer(inv -> partitionSources.getOrDefault(inv.<Integer>getArgument(0), Source.never()))
+                    .when(cleanup).getCleanupSteps(anyInt(), any());
+            final var probePair0 = TestSource.<CleanupStep>probe(actorSystem).preMaterialize(actorSystem);
+            final var probePair1 = TestSource.<CleanupStep>probe(actorSystem).preMaterialize(actorSystem);
+            partitionSources.put(0, probePair0.second());
+            partitionSources.put(1, probePair1.second());
+            final ActorRef underTest = childActorOf(testProps(config));
+            underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+            probePair0.first().expectRequest();
+            probePair1.first().expectRequest();
+
+            // WHEN each partition scans a PID and then the stream fails
+            sendCleanedUpPid(probePair0.first(), 0, ranges.get(0), "thing:a:1");
+            sendCleanedUpPid(probePair1.first(), 1, ranges.get(1), "thing:n:1");
+            waitForResponse(this, underTest,
+                    retrieveHealthResponse("RUNNING", "thing:a:1", JsonArray.of("thing:a:1", "thing:n:1")),
+                    PersistenceCleanupActorTest::waitShortly);
+            probePair0.first().sendError(new IllegalStateException("Expected error"));
+            waitForResponse(this, underTest,
+                    retrieveHealthResponse("IN_QUIET_PERIOD", "thing:a:1", JsonArray.of("thing:a:1", "thing:n:1")),
+                    PersistenceCleanupActorTest::waitShortly);
+
+            // THEN the restarted stream resumes each partition at its own last PID
+            partitionSources.clear();
+            underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+            final var resumedRange0 = new PidRange("thing:a:1", "thing:m:m");
+            final var resumedRange1 = new PidRange("thing:n:1", "");
+            verify(cleanup, timeout(5000L)).getCleanupSteps(eq(0), eq(resumedRange0));
+            verify(cleanup, timeout(5000L)).getCleanupSteps(eq(1), eq(resumedRange1));
+
+            // THEN a new actor resumes each partition from the persisted progress
+            underTest.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            final ActorRef restarted = childActorOf(testProps(config));
+            restarted.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+            verify(cleanup, timeout(5000L).times(2)).getCleanupSteps(eq(0), eq(resumedRange0));
+            verify(cleanup, timeout(5000L).times(2)).getCleanupSteps(eq(1), eq(resumedRange1));
+            verify(cleanup, times(1)).getInitialProgress(eq(2));
+        }};
+    }
+
     @Test
     public void retrieveConfig() {
         new TestKit(actorSystem) {{
@@ -217,11 +275,11 @@ public final class PersistenceCleanupActorTest {
             final ActorRef underTest = childActorOf(testProps());
 
             // GIVEN a cleanup stream is running
-            final var retrieveHealth = RetrieveHealth.newInstance();
+            doAnswer(inv -> Source.single(CleanupProgress.of(List.of(new PidRange("thing:a:a", "")))))
+                    .when(cleanup).getInitialProgress(anyInt());
             sourceBox.set(Source.never());
             underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
-            underTest.tell(retrieveHealth, getRef());
-            expectMsg(retrieveHealthResponse("RUNNING", ""));
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:a:a"), () -> {});
 
             // WHEN config is modified
             final var modifyConfig = ModifyConfig.of(JsonObject.newBuilder()
@@ -264,7 +322,7 @@ public final class PersistenceCleanupActorTest {
             // GIVEN a cleanup stream is running
             final var retrieveHealth = RetrieveHealth.newInstance();
             final var probeSource =
-                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+                    TestSource.<CleanupStep>probe(actorSystem);
             final var probeSourcePair = probeSource.preMaterialize(actorSystem);
             final var probe = probeSourcePair.first();
             sourceBox.set(probeSourcePair.second());
@@ -287,23 +345,21 @@ public final class PersistenceCleanupActorTest {
             final ActorRef underTest = childActorOf(testProps());
             final var retrieveHealth = RetrieveHealth.newInstance();
             final var probeSource =
-                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+                    TestSource.<CleanupStep>probe(actorSystem);
             final var probeSourcePair = probeSource.preMaterialize(actorSystem);
             final var probe = probeSourcePair.first();
             sourceBox.set(probeSourcePair.second());
             underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
             probe.expectRequest();
 
-            probe.sendNext(Source.single(new CleanupResult(
-                    CleanupResult.Type.SNAPSHOTS,
-                    new SnapshotRevision("thing:p:id", 1234, true),
-                    DeleteResult.acknowledged(4)
-            )));
-            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:p:id"), probe::expectNoMsg);
+            sendCleanedUpPid(probe, 0, PidRange.all(), "thing:p:id");
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:p:id"),
+                    PersistenceCleanupActorTest::waitShortly);
 
             // WHEN stream completes successfully and graceful shutdown is initiated
             probe.sendComplete();
-            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""), probe::expectNoMsg);
+            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", ""),
+                    PersistenceCleanupActorTest::waitShortly);
             underTest.tell(PersistenceCleanupActor.Control.SERVICE_REQUESTS_DONE, getRef());
 
             // THEN expect Done
@@ -332,9 +388,46 @@ public final class PersistenceCleanupActorTest {
     }
 
     private Props testProps() {
+        return testProps(CleanupConfig.of(ConfigFactory.empty()));
+    }
+
+    private Props testProps(final CleanupConfig config) {
         return Props.create(PersistenceCleanupActor.class,
-                () -> new PersistenceCleanupActor(cleanup, credits, mock(MongoReadJournal.class),
-                        () -> Pair.create(0, 1)));
+                () -> new PersistenceCleanupActor(config, cleanup, credits, mock(MongoReadJournal.class),
+                        () -> Pair.create(0, 1), new CleanupProgressPersistence(remainder -> timestampPersistence)));
+    }
+
+    private static void waitShortly() {
+        try {
+            Thread.sleep(100L);
+        } catch (final InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void sendCleanedUpPid(final TestPublisher.Probe<CleanupStep> probe, final int partition,
+            final PidRange range, final String pid) {
+
+        probe.sendNext(CleanupStep.deletion(partition, Source.single(new CleanupResult(
+                CleanupResult.Type.SNAPSHOTS,
+                new SnapshotRevision(pid, 1234, true),
+                DeleteResult.acknowledged(4)
+        ))));
+        probe.sendNext(CleanupStep.checkpoint(new CleanupCheckpoint(partition, range.resumeAfter(pid))));
+    }
+
+    private static RetrieveHealthResponse retrieveHealthResponse(final String stateName, final String lastPid,
+            final JsonArray partitionPids) {
+
+        return RetrieveHealthResponse.of(
+                StatusInfo.fromDetail(StatusDetailMessage.of(StatusDetailMessage.Level.INFO, JsonObject.newBuilder()
+                        .set("state", stateName)
+                        .set("pid", lastPid)
+                        .set("partitionPids", partitionPids)
+                        .build())
+                ),
+                DittoHeaders.empty()
+        );
     }
 
     private static RetrieveHealthResponse retrieveHealthResponse(final String stateName, final String lastPid) {
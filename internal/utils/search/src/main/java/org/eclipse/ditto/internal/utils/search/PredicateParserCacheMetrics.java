@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.search;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.rql.parser.CachingPredicateParser;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+
+/**
+ * Counts the hits and misses of the node-wide cache of {@link RqlPredicateParser} as metrics.
+ * It is loaded by {@link RqlPredicateParser} via {@link java.util.ServiceLoader} in each service parsing RQL
+ * predicates.
+ *
+ * @since 3.5.0
+ */
+@ThreadSafe
+public final class PredicateParserCacheMetrics implements CachingPredicateParser.Listener {
+
+    private static final String HITS = "rql_predicate_parser_cache_hits";
+    private static final String MISSES = "rql_predicate_parser_cache_misses";
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs a new {@code PredicateParserCacheMetrics} object, called by {@link java.util.ServiceLoader}.
+     */
+    public PredicateParserCacheMetrics() {
+        hits = DittoMetrics.counter(HITS);
+        misses = DittoMetrics.counter(MISSES);
+    }
+
+    @Override
+    public void onHit() {
+        hits.increment();
+    }
+
+    @Override
+    public void onMiss() {
+        misses.increment();
+    }
+
+}
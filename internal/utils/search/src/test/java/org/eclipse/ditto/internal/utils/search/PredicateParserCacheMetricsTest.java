@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.ditto.rql.parser.CachingPredicateParser;
+import org.junit.Test;
+
+/**
+ * Tests {@link PredicateParserCacheMetrics}.
+ */
+public final class PredicateParserCacheMetricsTest {
+
+    @Test
+    public void isLoadedAsCacheListener() {
+        assertThat(ServiceLoader.load(CachingPredicateParser.Listener.class))
+                .hasAtLeastOneElementOfType(PredicateParserCacheMetrics.class);
+    }
+
+}
@@ -93,4 +93,19 @@ public final class SerializationRoundTripTest {
         assertThat(string).isEqualTo(string1);
         assertThat(jsonValue1).isEqualTo(testObject);
     }
+
+    @Test
+    public void largeAlteredObject2cbor2object() throws IOException {
+        JsonObject testObject = JsonFactory.newObject();
+        for (int i = 0; i < 100; i++) {
+            testObject = testObject.setValue("key" + i, i);
+        }
+        testObject = testObject.setValue("key0", "altered").remove("key1");
+
+        final ByteBuffer byteBuffer = cborFactory.toByteBuffer(testObject);
+        final JsonValue jsonValue = cborFactory.readFrom(byteBuffer);
+
+        assertThat(jsonValue).isEqualTo(testObject);
+        assertThat(jsonValue.toString()).isEqualTo(testObject.toString());
+    }
 }
@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,9 +54,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    private final FieldMap fieldMap;
 
-    ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    ImmutableJsonObject(final FieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -571,7 +572,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
         final ImmutableJsonObject that = (ImmutableJsonObject) o;
 
-        return Objects.equals(fieldMap, that.fieldMap);
+        if (fieldMap.getClass() == that.fieldMap.getClass()) {
+            return Objects.equals(fieldMap, that.fieldMap);
+        }
+        return FieldMap.haveEqualFields(fieldMap, that.fieldMap);
     }
 
     @Override
@@ -594,11 +598,77 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    FieldMap getFieldMap() {
+        return fieldMap;
+    }
+
+    /**
+     * The internal storage of the fields of an {@code ImmutableJsonObject}.
+     * Implementations are immutable; all altering methods return a new field map.
+     * The hash code of a field map is the one of a {@code Map<String, JsonField>} with the same content.
+     */
+    interface FieldMap {
+
+        int getSize();
+
+        boolean isEmpty();
+
+        boolean containsKey(String key);
+
+        @Nullable
+        JsonField getOrNull(String key);
+
+        FieldMap put(String key, JsonField value);
+
+        FieldMap putAll(Iterable<JsonField> jsonFields);
+
+        FieldMap remove(String key);
+
+        Stream<JsonField> getStream();
+
+        Iterator<JsonField> getIterator();
+
+        String asJsonObjectString();
+
+        void writeValue(SerializationContext serializationContext) throws IOException;
+
+        long upperBoundForStringSize();
+
+        /**
+         * Compares the fields of two field maps regardless of their implementation and of the order of fields, like
+         * {@link Map#equals(Object)} does.
+         *
+         * @param fieldMap the first field map.
+         * @param otherFieldMap the second field map.
+         * @return {@code true} if both maps contain equal fields for the same keys.
+         */
+        static boolean haveEqualFields(final FieldMap fieldMap, final FieldMap otherFieldMap) {
+            if (fieldMap.getSize() != otherFieldMap.getSize()) {
+                return false;
+            }
+            final Iterator<JsonField> iterator = fieldMap.getIterator();
+            while (iterator.hasNext()) {
+                final JsonField jsonField = iterator.next();
+                if (!jsonField.equals(otherFieldMap.getOrNull(jsonField.getKeyName()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
     @Immutable
-    static final class SoftReferencedFieldMap {
+    static final class SoftReferencedFieldMap implements FieldMap {
 
-        private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
-        private static final CborFactory CBOR_FACTORY;
+        static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        static final CborFactory CBOR_FACTORY;
+
+        /**
+         * Objects with at least this many fields switch to a {@link PersistentFieldMap} when they are altered, so that
+         * subsequent alterations neither copy all fields nor serialize the whole object again.
+         */
+        static final int PERSISTENT_FIELD_MAP_THRESHOLD = 32;
 
         static {
             final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
@@ -610,13 +680,20 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+
+        private static final AtomicReferenceFieldUpdater<SoftReferencedFieldMap, JsonFieldMapRetention.RetainedFields>
+                RETENTION = AtomicReferenceFieldUpdater.newUpdater(SoftReferencedFieldMap.class,
+                JsonFieldMapRetention.RetainedFields.class, "retention");
+
+        // either the fields are softly referenced or they are retained by the budget of JsonFieldMapRetention
+        @Nullable private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private volatile JsonFieldMapRetention.RetainedFields retention;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            final Map<String, JsonField> fields = Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -633,6 +710,14 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 }
             }
             hashCode = 0;
+            if (JsonFieldMapRetention.isBudgeted()) {
+                fieldsReference = null;
+                retention = JsonFieldMapRetention.newRetainedFields(fields, getOwnSerializedSize(fields));
+                JsonFieldMapRetention.admit(retention);
+            } else {
+                fieldsReference = new SoftReference<>(fields);
+                retention = null;
+            }
         }
 
         static SoftReferencedFieldMap empty() {
@@ -673,55 +758,81 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return stringBuilder.toString();
         }
 
-        int getSize() {
+        @Override
+        public int getSize() {
             return fields().size();
         }
 
-        boolean isEmpty() {
+        @Override
+        public boolean isEmpty() {
             return fields().isEmpty();
         }
 
-        boolean containsKey(final String key) {
+        @Override
+        public boolean containsKey(final String key) {
             return fields().containsKey(key);
         }
 
         @Nullable
-        JsonField getOrNull(final String key) {
+        @Override
+        public JsonField getOrNull(final String key) {
             return fields().get(key);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
+        @Override
+        public FieldMap put(final String key, final JsonField value) {
+            if (isPersistentOnAlteration()) {
+                return PersistentFieldMap.of(fields()).put(key, value);
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.put(key, value);
             return of(fieldsCopy);
         }
 
+        private boolean isPersistentOnAlteration() {
+            return fields().size() >= PERSISTENT_FIELD_MAP_THRESHOLD;
+        }
+
         private Map<String, JsonField> copyFields() {
             return new LinkedHashMap<>(fields());
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        @Override
+        public FieldMap putAll(final Iterable<JsonField> jsonFields) {
+            if (isPersistentOnAlteration()) {
+                return PersistentFieldMap.of(fields()).putAll(jsonFields);
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
             return of(fieldsCopy);
         }
 
-        SoftReferencedFieldMap remove(final String key) {
+        @Override
+        public FieldMap remove(final String key) {
+            if (isPersistentOnAlteration()) {
+                return PersistentFieldMap.of(fields()).remove(key);
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.remove(key);
             return of(fieldsCopy);
         }
 
-        Stream<JsonField> getStream() {
+        @Override
+        public Stream<JsonField> getStream() {
             return fields().values().stream();
         }
 
-        Iterator<JsonField> getIterator() {
+        @Override
+        public Iterator<JsonField> getIterator() {
             return fields().values().iterator();
         }
 
         private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+            final SoftReference<Map<String, JsonField>> softReference = fieldsReference;
+            if (null == softReference) {
+                return retainedFields();
+            }
+            Map<String, JsonField> result = softReference.get();
             if (null == result) {
                 result = recoverFields();
                 fieldsReference = new SoftReference<>(result);
@@ -729,11 +840,72 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
+        private Map<String, JsonField> retainedFields() {
+            final JsonFieldMapRetention.RetainedFields currentRetention = retention;
+            if (null != currentRetention) {
+                final Map<String, JsonField> currentFields = currentRetention.getFields();
+                if (null != currentFields) {
+                    return currentFields;
+                }
+            }
+            final Map<String, JsonField> recoveredFields = recoverFields();
+            final JsonFieldMapRetention.RetainedFields newRetention =
+                    JsonFieldMapRetention.newRetainedFields(recoveredFields, getOwnSerializedSize(recoveredFields));
+            if (RETENTION.compareAndSet(this, currentRetention, newRetention)) {
+                JsonFieldMapRetention.admit(newRetention);
+                return recoveredFields;
+            }
+            // another thread retained the fields concurrently: only its entry is admitted
+            final JsonFieldMapRetention.RetainedFields concurrentRetention = retention;
+            final Map<String, JsonField> concurrentFields =
+                    null != concurrentRetention ? concurrentRetention.getFields() : null;
+            return null != concurrentFields ? concurrentFields : recoveredFields;
+        }
+
+        /*
+         * The size of the serialized representation without the nested objects which are accounted themselves.
+         */
+        private long getOwnSerializedSize(final Map<String, JsonField> fields) {
+            long result = getSerializedSize();
+            for (final JsonField field : fields.values()) {
+                result -= getAccountedSerializedSize(field.getValue());
+            }
+            return result;
+        }
+
+        private static long getAccountedSerializedSize(final JsonValue value) {
+            long result = 0L;
+            if (value instanceof ImmutableJsonObject) {
+                final FieldMap nestedFieldMap = ((ImmutableJsonObject) value).getFieldMap();
+                if (nestedFieldMap instanceof SoftReferencedFieldMap &&
+                        null == ((SoftReferencedFieldMap) nestedFieldMap).fieldsReference) {
+                    result = ((SoftReferencedFieldMap) nestedFieldMap).getSerializedSize();
+                }
+            } else if (value instanceof ImmutableJsonArray) {
+                for (final JsonValue element : (ImmutableJsonArray) value) {
+                    result += getAccountedSerializedSize(element);
+                }
+            }
+            return result;
+        }
+
+        private long getSerializedSize() {
+            if (cborObjectRepresentation != null) {
+                return cborObjectRepresentation.length;
+            }
+            if (jsonObjectStringRepresentation != null) {
+                return jsonObjectStringRepresentation.length();
+            }
+            return 0L;
+        }
+
         private Map<String, JsonField> recoverFields() {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
+                JsonFieldMapRetention.recordReparse(cborObjectRepresentation.length);
                 return parseToMap(cborObjectRepresentation);
             }
             if (jsonObjectStringRepresentation != null) {
+                JsonFieldMapRetention.recordReparse(jsonObjectStringRepresentation.length());
                 return parseToMap(jsonObjectStringRepresentation);
             }
             throw new IllegalStateException("Fatal cache miss on JsonObject");
@@ -759,6 +931,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (this == o) {
                 return true;
             }
+            if (o instanceof PersistentFieldMap) {
+                return FieldMap.haveEqualFields(this, (FieldMap) o);
+            }
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
@@ -789,14 +964,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
-        String asJsonObjectString() {
+        @Override
+        public String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
                 jsonObjectStringRepresentation = createStringRepresentation(this.fields());
             }
             return jsonObjectStringRepresentation;
         }
 
-        void writeValue(final SerializationContext serializationContext) throws IOException {
+        @Override
+        public void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
             }
@@ -814,6 +991,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return 512;
         }
 
+        @Override
         public long upperBoundForStringSize() {
             if (jsonObjectStringRepresentation != null) {
                 return jsonObjectStringRepresentation.length();
@@ -29,6 +29,12 @@ import javax.annotation.concurrent.NotThreadSafe;
  * Builder for creating instances of {@link ImmutableJsonObject}.
  * This builder does not allow duplicate JSON fields; i. e. there is at most one association per JSON key in the
  * resulting JSON object.
+ * <p>
+ * If an empty builder is initialised with a large {@code ImmutableJsonObject} or a type wrapping it, the builder
+ * does not copy the fields but shares the field map of the object: building without alterations reuses the map
+ * including its cached serialized representations and alterations are applied to the shared field map, which
+ * switches to a {@link PersistentFieldMap} on the first alteration.
+ * </p>
  */
 @NotThreadSafe
 final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
@@ -36,9 +42,11 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
     private static final JsonKey ROOT_KEY = JsonFactory.newKey("/");
 
     private final Map<String, JsonField> fields;
+    @Nullable private ImmutableJsonObject.FieldMap sharedFields;
 
     private ImmutableJsonObjectBuilder() {
         fields = new LinkedHashMap<>();
+        sharedFields = null;
     }
 
     /**
@@ -135,7 +143,7 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
 
         final ImmutableJsonObjectBuilder newTarget = newInstance();
-        final JsonField rootJsonField = target.fields.get(rootKey.toString());
+        final JsonField rootJsonField = target.getField(rootKey.toString());
         if (null != rootJsonField) {
             final JsonValue rootValue = rootJsonField.getValue();
             if (rootValue.isObject() && !rootValue.isNull()) {
@@ -153,11 +161,39 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
         requireNonNull(field, "The field to be set must not be null!");
 
         if (predicate.test(field)) {
-            fields.put(field.getKeyName(), field);
+            putField(field);
         }
         return this;
     }
 
+    @Nullable
+    private JsonField getField(final String key) {
+        if (null != sharedFields) {
+            return sharedFields.getOrNull(key);
+        }
+        return fields.get(key);
+    }
+
+    private void putField(final JsonField field) {
+        if (null != sharedFields) {
+            if (!field.equals(sharedFields.getOrNull(field.getKeyName()))) {
+                sharedFields = sharedFields.put(field.getKeyName(), field);
+            }
+        } else {
+            fields.put(field.getKeyName(), field);
+        }
+    }
+
+    private void removeField(final String key) {
+        if (null != sharedFields) {
+            if (sharedFields.containsKey(key)) {
+                sharedFields = sharedFields.remove(key);
+            }
+        } else {
+            fields.remove(key);
+        }
+    }
+
     @Override
     public ImmutableJsonObjectBuilder remove(final CharSequence key) {
         return remove(JsonFactory.newPointer(key));
@@ -166,7 +202,7 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
     private ImmutableJsonObjectBuilder remove(final JsonPointer pointer) {
         pointer.getRoot()
                 .map(JsonKey::toString)
-                .map(fields::get)
+                .map(this::getField)
                 .ifPresent(jsonField -> {
                     final JsonValue rootValue = jsonField.getValue();
                     final JsonPointer nextPointerLevel = pointer.nextLevel();
@@ -176,7 +212,7 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
                         set(JsonFactory.newField(jsonField.getKey(), rootObject,
                                 jsonField.getDefinition().orElse(null)));
                     } else if (nextPointerLevel.isEmpty()) {
-                        fields.remove(jsonField.getKeyName());
+                        removeField(jsonField.getKeyName());
                     }
                 });
 
@@ -196,7 +232,7 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
 
         StreamSupport.stream(fields.spliterator(), false)
                 .filter(field -> !field.getDefinition().isPresent() || predicate.test(field))
-                .forEach(fieldToBeSet -> this.fields.put(fieldToBeSet.getKeyName(), fieldToBeSet));
+                .forEach(this::putField);
 
         return this;
     }
@@ -205,8 +241,15 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
     public ImmutableJsonObjectBuilder setAll(final Iterable<JsonField> fields) {
         requireNonNull(fields, "The JSON fields to be set must not be null!");
 
-        for (final JsonField jsonField : fields) {
-            this.fields.put(jsonField.getKeyName(), jsonField);
+        final Iterable<JsonField> unwrappedFields = WrappedJsonObjects.unwrap(fields);
+        if (unwrappedFields instanceof ImmutableJsonObject && isEmpty() &&
+                ((ImmutableJsonObject) unwrappedFields).getSize() >=
+                        ImmutableJsonObject.SoftReferencedFieldMap.PERSISTENT_FIELD_MAP_THRESHOLD) {
+            sharedFields = ((ImmutableJsonObject) unwrappedFields).getFieldMap();
+        } else {
+            for (final JsonField jsonField : unwrappedFields) {
+                putField(jsonField);
+            }
         }
 
         return this;
@@ -215,34 +258,59 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
     @Override
     public ImmutableJsonObjectBuilder removeAll() {
         fields.clear();
+        sharedFields = null;
         return this;
     }
 
     @Override
     public Iterator<JsonField> iterator() {
+        if (null != sharedFields) {
+            return sharedFields.getIterator();
+        }
         return fields.values().iterator();
     }
 
     @Override
     public boolean isEmpty() {
+        if (null != sharedFields) {
+            return sharedFields.isEmpty();
+        }
         return fields.isEmpty();
     }
 
     @Override
     public int getSize() {
+        if (null != sharedFields) {
+            return sharedFields.getSize();
+        }
         return fields.size();
     }
 
     @Override
     public Stream<JsonField> stream() {
+        if (null != sharedFields) {
+            return sharedFields.getStream();
+        }
         return fields.values().stream();
     }
 
     @Override
     public JsonObject build() {
+        if (null != sharedFields) {
+            return new ImmutableJsonObject(sharedFields);
+        }
         return ImmutableJsonObject.of(fields);
     }
 
+    private Map<String, JsonField> getFieldsAsMap() {
+        if (null != sharedFields) {
+            final Map<String, JsonField> result = new LinkedHashMap<>();
+            sharedFields.getStream().forEach(field -> result.put(field.getKeyName(), field));
+            return result;
+        }
+        return fields;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -252,17 +320,17 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
             return false;
         }
         final ImmutableJsonObjectBuilder that = (ImmutableJsonObjectBuilder) o;
-        return Objects.equals(fields, that.fields);
+        return Objects.equals(getFieldsAsMap(), that.getFieldsAsMap());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(fields);
+        return Objects.hash(getFieldsAsMap());
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + " [" + "fields=" + fields.values() + "]";
+        return getClass().getSimpleName() + " [" + "fields=" + getFieldsAsMap().values() + "]";
     }
 
 }
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Controls how long the parsed fields of JSON objects are retained in memory.
+ * A JSON object always keeps its serialized representation (JSON string or CBOR); its parsed fields are retained
+ * according to the configured {@link Strategy} and are re-parsed from the serialized representation once they were
+ * released.
+ * <p>
+ * With {@link Strategy#SOFT_REFERENCES} the parsed fields are held by a soft reference per object, which lets the
+ * garbage collector release them at will - typically all at once under heap pressure.
+ * With {@link Strategy#BUDGETED} the parsed fields are held strongly as long as the total size of all retained objects
+ * stays within the configured budget.
+ * Each object is charged with its own bytes only, i.e. the size of its serialized representation minus the sizes of
+ * the nested objects which are charged themselves, so that nested data is not accounted several times.
+ * If the budget is exceeded, the least recently used objects are released first (approximated by the "clock" or
+ * "second chance" algorithm).
+ * The fields of objects which are no longer referenced stay retained until they are released this way, which keeps
+ * the bookkeeping free of a reference per object which the garbage collector would have to process.
+ * The strategy is applied to JSON objects which are created after the strategy was configured.
+ * </p>
+ * <p>
+ * Objects parsed from a JSON string or CBOR as well as objects created by a builder take part in the retention, as the
+ * latter eagerly create their CBOR (or JSON string) representation to re-parse their fields from.
+ * Only objects altered field by field, e.g. by {@code setValue} on a large object, hold their fields in a
+ * {@code PersistentFieldMap} which shares them with the original object; those fields are always retained strongly
+ * and are accounted in neither {@link #getRetainedBytes()} nor {@link #getRetainedCount()}.
+ * </p>
+ * <p>
+ * <b>This is a Ditto internal API is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@ThreadSafe
+public final class JsonFieldMapRetention {
+
+    /**
+     * System property name of the property defining the retention strategy, either {@code soft-references} or
+     * {@code budgeted}.
+     */
+    public static final String STRATEGY_PROPERTY = "ditto.json.field-map-retention.strategy";
+
+    /**
+     * System property name of the property defining the budget in bytes of the {@link Strategy#BUDGETED} strategy.
+     */
+    public static final String BUDGET_PROPERTY = "ditto.json.field-map-retention.budget";
+
+    static final long DEFAULT_BUDGET_BYTES = 64L * 1024L * 1024L;
+
+    private static final ConcurrentLinkedQueue<RetainedFields> CLOCK = new ConcurrentLinkedQueue<>();
+    private static final ReentrantLock MAINTENANCE_LOCK = new ReentrantLock();
+    private static final AtomicLong RETAINED_BYTES = new AtomicLong();
+    private static final AtomicInteger RETAINED_COUNT = new AtomicInteger();
+    private static final LongAdder REPARSE_COUNT = new LongAdder();
+    private static final LongAdder REPARSED_BYTES = new LongAdder();
+    private static final LongAdder EVICTION_COUNT = new LongAdder();
+
+    private static volatile Strategy strategy = Strategy.forName(System.getProperty(STRATEGY_PROPERTY));
+    private static volatile long budgetBytes = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_BYTES);
+
+    private JsonFieldMapRetention() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Configures the retention strategy for JSON objects which are created from now on.
+     *
+     * @param strategy the retention strategy.
+     * @param budgetBytes the budget of the {@link Strategy#BUDGETED} strategy in bytes of serialized representation.
+     * @throws NullPointerException if {@code strategy} is {@code null}.
+     * @throws IllegalArgumentException if {@code budgetBytes} is negative.
+     */
+    public static void configure(final Strategy strategy, final long budgetBytes) {
+        requireNonNull(strategy, "The strategy must not be null!");
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("The budget must not be negative but was <" + budgetBytes + ">!");
+        }
+        JsonFieldMapRetention.strategy = strategy;
+        JsonFieldMapRetention.budgetBytes = budgetBytes;
+        maintain();
+    }
+
+    /**
+     * @return the retention strategy applied to newly created JSON objects.
+     */
+    public static Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the budget of the {@link Strategy#BUDGETED} strategy in bytes.
+     */
+    public static long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * @return how often parsed fields had to be re-parsed from a serialized representation since startup.
+     */
+    public static long getReparseCount() {
+        return REPARSE_COUNT.sum();
+    }
+
+    /**
+     * @return the total size of the serialized representations which had to be re-parsed since startup.
+     */
+    public static long getReparsedBytes() {
+        return REPARSED_BYTES.sum();
+    }
+
+    /**
+     * @return the bytes charged for the objects whose fields are currently retained by the {@link Strategy#BUDGETED}
+     * strategy, excluding objects with a {@code PersistentFieldMap}.
+     */
+    public static long getRetainedBytes() {
+        return RETAINED_BYTES.get();
+    }
+
+    /**
+     * @return the number of objects whose fields are currently retained by the {@link Strategy#BUDGETED} strategy,
+     * excluding objects with a {@code PersistentFieldMap}.
+     */
+    public static int getRetainedCount() {
+        return RETAINED_COUNT.get();
+    }
+
+    /**
+     * @return how often the {@link Strategy#BUDGETED} strategy released fields to stay within its budget since startup.
+     */
+    public static long getEvictionCount() {
+        return EVICTION_COUNT.sum();
+    }
+
+    static boolean isBudgeted() {
+        return Strategy.BUDGETED == strategy;
+    }
+
+    static void recordReparse(final long serializedBytes) {
+        REPARSE_COUNT.increment();
+        REPARSED_BYTES.add(serializedBytes);
+    }
+
+    /**
+     * Creates the retention entry of the given fields.
+     * The entry is not accounted before it is {@link #admit(RetainedFields)}ted.
+     */
+    static RetainedFields newRetainedFields(final Map<String, JsonField> fields, final long ownBytes) {
+        return new RetainedFields(fields, Math.max(1L, ownBytes));
+    }
+
+    /**
+     * Accounts the given entry in the budget.
+     * Callers have to admit each entry only once, i.e. only the thread which installed the entry at its owner.
+     */
+    static void admit(final RetainedFields retainedFields) {
+        RETAINED_BYTES.addAndGet(retainedFields.weight);
+        RETAINED_COUNT.incrementAndGet();
+        CLOCK.add(retainedFields);
+        if (RETAINED_BYTES.get() > budgetBytes) {
+            maintain();
+        }
+    }
+
+    private static void maintain() {
+        if (MAINTENANCE_LOCK.tryLock()) {
+            try {
+                evictWhileOverBudget();
+            } finally {
+                MAINTENANCE_LOCK.unlock();
+            }
+        }
+    }
+
+    private static void evictWhileOverBudget() {
+        int secondChances = RETAINED_COUNT.get();
+        RetainedFields candidate;
+        while (RETAINED_BYTES.get() > budgetBytes && null != (candidate = CLOCK.poll())) {
+            if (candidate.referenced && secondChances-- > 0) {
+                candidate.referenced = false;
+                CLOCK.add(candidate);
+            } else {
+                candidate.release();
+                EVICTION_COUNT.increment();
+            }
+        }
+    }
+
+    /**
+     * The retention strategies for parsed fields of JSON objects.
+     */
+    public enum Strategy {
+        /**
+         * Parsed fields are held by a soft reference per JSON object.
+         */
+        SOFT_REFERENCES("soft-references"),
+
+        /**
+         * Parsed fields are held strongly within a size-accounted budget and released in least recently used order.
+         */
+        BUDGETED("budgeted");
+
+        private final String name;
+
+        Strategy(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the strategy with the given name, falling back to {@link #SOFT_REFERENCES} for unknown names.
+         *
+         * @param name the name of the strategy, e.g. {@code budgeted}.
+         * @return the strategy.
+         */
+        public static Strategy forName(final CharSequence name) {
+            if (null != name) {
+                final String lowerCaseName = name.toString().toLowerCase(Locale.ENGLISH);
+                for (final Strategy strategy : values()) {
+                    if (strategy.name.equals(lowerCaseName)) {
+                        return strategy;
+                    }
+                }
+            }
+            return SOFT_REFERENCES;
+        }
+
+        /**
+         * @return the name of the strategy as used in configuration.
+         */
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    /**
+     * Retention entry of the fields of one JSON object.
+     * The entry holds the fields strongly until it is released; it does not reference the owning object.
+     */
+    static final class RetainedFields {
+
+        private final long weight;
+        @Nullable private volatile Map<String, JsonField> fields;
+        private volatile boolean referenced;
+
+        private RetainedFields(final Map<String, JsonField> fields, final long weight) {
+            this.weight = weight;
+            this.fields = fields;
+            referenced = false;
+        }
+
+        /**
+         * Returns the retained fields and marks them as recently used.
+         *
+         * @return the fields or {@code null} if they were released.
+         */
+        @Nullable
+        Map<String, JsonField> getFields() {
+            final Map<String, JsonField> result = fields;
+            if (null != result && !referenced) {
+                referenced = true;
+            }
+            return result;
+        }
+
+        private void release() {
+            fields = null;
+            RETAINED_BYTES.addAndGet(-weight);
+            RETAINED_COUNT.decrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A persistent field map of a JSON object based on a hash array mapped trie (HAMT).
+ * Adding, replacing or removing a field copies only the path from the root of the trie to the affected entry while
+ * all other nodes are shared with the original map.
+ * <p>
+ * Insertion order is preserved like in a {@link LinkedHashMap}: each entry carries a sequence number which is kept
+ * when the field of an existing key is replaced and which is only used to order the fields lazily on iteration or
+ * serialization.
+ * The hash code is the one of a {@code Map<String, JsonField>} with the same content and is maintained incrementally.
+ * String and CBOR representations are only created on demand.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+final class PersistentFieldMap implements ImmutableJsonObject.FieldMap {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int MAX_SHIFT = Integer.SIZE;
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(BitmapNode.EMPTY, 0, 0L, 0);
+
+    private final Node root;
+    private final int size;
+    private final long nextSequenceNumber;
+    private final int hashCode;
+
+    // lazily created caches; racy initialisation is fine as they are always derived from the same immutable content
+    @Nullable private volatile JsonField[] orderedFields;
+    @Nullable private volatile String jsonObjectStringRepresentation;
+    @Nullable private volatile byte[] cborObjectRepresentation;
+
+    private PersistentFieldMap(final Node root, final int size, final long nextSequenceNumber, final int hashCode) {
+        this.root = root;
+        this.size = size;
+        this.nextSequenceNumber = nextSequenceNumber;
+        this.hashCode = hashCode;
+        orderedFields = null;
+        jsonObjectStringRepresentation = null;
+        cborObjectRepresentation = null;
+    }
+
+    /**
+     * Returns an empty persistent field map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a persistent field map containing the given fields in the iteration order of the given map.
+     *
+     * @param fields the fields.
+     * @return the persistent map.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fields) {
+        requireNonNull(fields, "The fields of JSON object must not be null!");
+        PersistentFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> entry : fields.entrySet()) {
+            result = result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return null != root.find(key, spread(key.hashCode()), 0);
+    }
+
+    @Nullable
+    @Override
+    public JsonField getOrNull(final String key) {
+        final Entry entry = root.find(key, spread(key.hashCode()), 0);
+        return null != entry ? entry.field : null;
+    }
+
+    @Override
+    public PersistentFieldMap put(final String key, final JsonField value) {
+        final int hash = spread(key.hashCode());
+        final Entry existing = root.find(key, hash, 0);
+        final PersistentFieldMap result;
+        if (null == existing) {
+            final Entry entry = new Entry(key, hash, value, nextSequenceNumber);
+            result = new PersistentFieldMap(root.put(entry, 0), size + 1, nextSequenceNumber + 1,
+                    hashCode + entry.mapEntryHashCode());
+        } else if (existing.field == value) {
+            result = this;
+        } else {
+            final Entry entry = new Entry(key, hash, value, existing.sequenceNumber);
+            result = new PersistentFieldMap(root.put(entry, 0), size, nextSequenceNumber,
+                    hashCode - existing.mapEntryHashCode() + entry.mapEntryHashCode());
+        }
+        return result;
+    }
+
+    @Override
+    public PersistentFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        PersistentFieldMap result = this;
+        for (final JsonField jsonField : jsonFields) {
+            result = result.put(jsonField.getKeyName(), jsonField);
+        }
+        return result;
+    }
+
+    @Override
+    public PersistentFieldMap remove(final String key) {
+        final int hash = spread(key.hashCode());
+        final Entry existing = root.find(key, hash, 0);
+        if (null == existing) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        final Node newRoot = root.remove(key, hash, 0);
+        return new PersistentFieldMap(null != newRoot ? newRoot : BitmapNode.EMPTY, size - 1, nextSequenceNumber,
+                hashCode - existing.mapEntryHashCode());
+    }
+
+    @Override
+    public Stream<JsonField> getStream() {
+        return Arrays.stream(getOrderedFields());
+    }
+
+    @Override
+    public Iterator<JsonField> getIterator() {
+        return Arrays.asList(getOrderedFields()).iterator();
+    }
+
+    private JsonField[] getOrderedFields() {
+        JsonField[] result = orderedFields;
+        if (null == result) {
+            result = orderFields();
+            orderedFields = result;
+        }
+        return result;
+    }
+
+    private JsonField[] orderFields() {
+        final Entry[] entries = new Entry[size];
+        final int[] index = {0};
+        root.forEach(entry -> entries[index[0]++] = entry);
+
+        final JsonField[] result = new JsonField[size];
+        if (nextSequenceNumber <= 2L * size) {
+            // sequence numbers are dense enough to order the entries by bucketing them
+            final JsonField[] buckets = new JsonField[(int) nextSequenceNumber];
+            for (final Entry entry : entries) {
+                buckets[(int) entry.sequenceNumber] = entry.field;
+            }
+            int i = 0;
+            for (final JsonField field : buckets) {
+                if (null != field) {
+                    result[i++] = field;
+                }
+            }
+        } else {
+            Arrays.sort(entries, Comparator.comparingLong(entry -> entry.sequenceNumber));
+            for (int i = 0; i < entries.length; i++) {
+                result[i] = entries[i].field;
+            }
+        }
+        return result;
+    }
+
+    private Map<String, JsonField> toLinkedHashMap() {
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        for (final JsonField field : getOrderedFields()) {
+            result.put(field.getKeyName(), field);
+        }
+        return result;
+    }
+
+    @Override
+    public String asJsonObjectString() {
+        String result = jsonObjectStringRepresentation;
+        if (null == result) {
+            final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
+            stringBuilder.append('{');
+            String delimiter = "";
+            for (final JsonField jsonField : getOrderedFields()) {
+                stringBuilder.append(delimiter);
+                stringBuilder.append(jsonField);
+                delimiter = ",";
+            }
+            stringBuilder.append('}');
+            result = stringBuilder.toString();
+            jsonObjectStringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        final CborFactory cborFactory = ImmutableJsonObject.SoftReferencedFieldMap.CBOR_FACTORY;
+        byte[] cbor = cborObjectRepresentation;
+        if (null == cbor && cborFactory.isCborAvailable()) {
+            cbor = cborFactory.createCborRepresentation(toLinkedHashMap(), guessSerializedSize());
+            cborObjectRepresentation = cbor;
+        }
+        serializationContext.writeCachedElement(cbor);
+    }
+
+    @Override
+    public long upperBoundForStringSize() {
+        final String jsonString = jsonObjectStringRepresentation;
+        if (null != jsonString) {
+            return jsonString.length();
+        }
+        final byte[] cbor = cborObjectRepresentation;
+        if (null != cbor) {
+            return cbor.length * ImmutableJsonObject.SoftReferencedFieldMap.CBOR_MAX_COMPRESSION_RATIO;
+        }
+        return asJsonObjectString().length();
+    }
+
+    private int guessSerializedSize() {
+        final String jsonString = jsonObjectStringRepresentation;
+        if (null != jsonString) {
+            return jsonString.length();
+        }
+        final byte[] cbor = cborObjectRepresentation;
+        if (null != cbor) {
+            return cbor.length;
+        }
+        return 512;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableJsonObject.FieldMap)) {
+            return false;
+        }
+        if (o instanceof PersistentFieldMap && hashCode != ((PersistentFieldMap) o).hashCode) {
+            return false;
+        }
+        return ImmutableJsonObject.FieldMap.haveEqualFields(this, (ImmutableJsonObject.FieldMap) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return asJsonObjectString();
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitFor(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    @Immutable
+    private static final class Entry {
+
+        private final String key;
+        private final int hash;
+        private final JsonField field;
+        private final long sequenceNumber;
+
+        private Entry(final String key, final int hash, final JsonField field, final long sequenceNumber) {
+            this.key = key;
+            this.hash = hash;
+            this.field = field;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        private int mapEntryHashCode() {
+            // same as Map.Entry#hashCode to keep the hash code compatible with the LinkedHashMap based field map
+            return key.hashCode() ^ field.hashCode();
+        }
+
+    }
+
+    private interface Node {
+
+        @Nullable
+        Entry find(String key, int hash, int shift);
+
+        Node put(Entry entry, int shift);
+
+        /**
+         * @return the node without the entry of the given key or {@code null} if the node became empty.
+         */
+        @Nullable
+        Node remove(String key, int hash, int shift);
+
+        /**
+         * @return the only entry of this node if it has exactly one entry and no child nodes, {@code null} else.
+         */
+        @Nullable
+        Entry getSingleEntry();
+
+        void forEach(Consumer<Entry> action);
+
+    }
+
+    /**
+     * A trie node whose slots are either entries or child nodes; the bitmap indicates which of the 32 possible
+     * hash fragments at the node's level are occupied.
+     */
+    @Immutable
+    private static final class BitmapNode implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int indexOf(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            final int bit = bitFor(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object slot = slots[indexOf(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            final Entry entry = (Entry) slot;
+            return entry.hash == hash && entry.key.equals(key) ? entry : null;
+        }
+
+        @Override
+        public BitmapNode put(final Entry entry, final int shift) {
+            final int bit = bitFor(entry.hash, shift);
+            final int index = indexOf(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof Node) {
+                newSlot = ((Node) slot).put(entry, shift + BITS_PER_LEVEL);
+            } else {
+                final Entry existing = (Entry) slot;
+                if (existing.hash == entry.hash && existing.key.equals(entry.key)) {
+                    newSlot = entry;
+                } else {
+                    newSlot = createNode(existing, entry, shift + BITS_PER_LEVEL);
+                }
+            }
+            return withSlot(index, newSlot);
+        }
+
+        private BitmapNode withSlot(final int index, final Object slot) {
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        private static Node createNode(final Entry first, final Entry second, final int shift) {
+            if (first.hash == second.hash) {
+                return new CollisionNode(first.hash, new Entry[]{first, second});
+            }
+            return EMPTY.put(first, shift).put(second, shift);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            final int bit = bitFor(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = indexOf(bit);
+            final Object slot = slots[index];
+            if (slot instanceof Node) {
+                final Node newChild = ((Node) slot).remove(key, hash, shift + BITS_PER_LEVEL);
+                if (null == newChild) {
+                    return withoutSlot(bit, index);
+                }
+                final Entry singleEntry = newChild.getSingleEntry();
+                return withSlot(index, null != singleEntry ? singleEntry : newChild);
+            }
+            final Entry entry = (Entry) slot;
+            if (entry.hash == hash && entry.key.equals(key)) {
+                return withoutSlot(bit, index);
+            }
+            return this;
+        }
+
+        @Nullable
+        private BitmapNode withoutSlot(final int bit, final int index) {
+            if (1 == slots.length) {
+                return null;
+            }
+            final Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        @Nullable
+        @Override
+        public Entry getSingleEntry() {
+            if (1 == slots.length && slots[0] instanceof Entry) {
+                return (Entry) slots[0];
+            }
+            return null;
+        }
+
+        @Override
+        public void forEach(final Consumer<Entry> action) {
+            for (final Object slot : slots) {
+                if (slot instanceof Node) {
+                    ((Node) slot).forEach(action);
+                } else {
+                    action.accept((Entry) slot);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A node for entries whose keys have the same (spread) hash code.
+     */
+    @Immutable
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Entry[] entries;
+
+        private CollisionNode(final int hash, final Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            if (this.hash != hash) {
+                return null;
+            }
+            final int index = indexOf(key);
+            return 0 <= index ? entries[index] : null;
+        }
+
+        @Override
+        public Node put(final Entry entry, final int shift) {
+            if (hash != entry.hash) {
+                // a colliding pair was split off early; re-root this node below a bitmap node of the current level
+                if (shift >= MAX_SHIFT) {
+                    throw new IllegalStateException("Hash codes differ although all bits were consumed!");
+                }
+                return new BitmapNode(bitFor(hash, shift), new Object[]{this}).put(entry, shift);
+            }
+            final int index = indexOf(entry.key);
+            final Entry[] newEntries;
+            if (0 <= index) {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            } else {
+                newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+            }
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            final int index = this.hash == hash ? indexOf(key) : -1;
+            if (0 > index) {
+                return this;
+            }
+            if (1 == entries.length) {
+                return null;
+            }
+            final Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        public Entry getSingleEntry() {
+            return 1 == entries.length ? entries[0] : null;
+        }
+
+        @Override
+        public void forEach(final Consumer<Entry> action) {
+            for (final Entry entry : entries) {
+                action.accept(entry);
+            }
+        }
+
+    }
+
+}
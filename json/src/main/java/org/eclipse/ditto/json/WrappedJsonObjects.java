@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Package internal helper for JSON objects which are wrapped by another type, e. g. attributes or feature properties
+ * of the things model.
+ */
+@Immutable
+final class WrappedJsonObjects {
+
+    private WrappedJsonObjects() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the JSON object which is wrapped by the given fields if they are a non-null {@link JsonObject}.
+     * Unwrapping allows a JSON object builder to share large field maps instead of copying them.
+     *
+     * @param fields the fields to be unwrapped.
+     * @return the wrapped JSON object or {@code fields} if they are no JSON object or a JSON NULL.
+     */
+    @Nullable
+    static Iterable<JsonField> unwrap(@Nullable final Iterable<JsonField> fields) {
+        if (fields instanceof JsonObject && !((JsonObject) fields).isNull()) {
+            return ((JsonObject) fields).asObject();
+        }
+        return fields;
+    }
+
+}
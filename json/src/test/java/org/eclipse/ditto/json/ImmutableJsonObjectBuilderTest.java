@@ -27,9 +27,11 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 
 /**
  * Unit test for {@link ImmutableJsonObjectBuilder}.
@@ -79,9 +81,52 @@ public final class ImmutableJsonObjectBuilderTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableJsonObjectBuilder.class)
                 .usingGetClass()
+                .withPrefabValues(ImmutableJsonObject.FieldMap.class,
+                        PersistentFieldMap.empty().put("foo", createField("foo", "1")),
+                        PersistentFieldMap.empty().put("foo", createField("foo", "2")))
+                // equality is based on the contained fields, no matter whether they are shared or copied
+                .suppress(Warning.NONFINAL_FIELDS, Warning.ALL_FIELDS_SHOULD_BE_USED)
                 .verify();
     }
 
+    @Test
+    public void buildingFromLargeObjectSharesItsFields() {
+        JsonObject largeObject = JsonObject.empty();
+        for (int i = 0; i < ImmutableJsonObject.SoftReferencedFieldMap.PERSISTENT_FIELD_MAP_THRESHOLD; i++) {
+            largeObject = largeObject.setValue("key" + i, i);
+        }
+
+        final JsonObject unaltered = ImmutableJsonObjectBuilder.newInstance().setAll(largeObject).build();
+        final JsonObject altered = ImmutableJsonObjectBuilder.newInstance()
+                .setAll(largeObject)
+                .set("key0", "altered")
+                .set(JsonPointer.of("nested/key"), true)
+                .remove("key1")
+                .build();
+
+        assertThat(unaltered).isEqualTo(largeObject);
+        assertThat(altered).isEqualTo(largeObject.setValue("key0", "altered")
+                .setValue(JsonPointer.of("nested/key"), true)
+                .remove("key1"));
+        assertThat(largeObject.getValue("key1")).isPresent();
+    }
+
+    @Test
+    public void buildingFromWrappedLargeObjectSharesItsFields() {
+        JsonObject largeObject = JsonObject.empty();
+        for (int i = 0; i < ImmutableJsonObject.SoftReferencedFieldMap.PERSISTENT_FIELD_MAP_THRESHOLD; i++) {
+            largeObject = largeObject.setValue("key" + i, i);
+        }
+        final JsonObject wrapper = Mockito.mock(JsonObject.class);
+        Mockito.when(wrapper.isNull()).thenReturn(false);
+        Mockito.when(wrapper.asObject()).thenReturn(largeObject);
+
+        final JsonObject built = ImmutableJsonObjectBuilder.newInstance().setAll(wrapper).build();
+
+        assertThat(((ImmutableJsonObject) built).getFieldMap())
+                .isSameAs(((ImmutableJsonObject) largeObject).getFieldMap());
+    }
+
     @Test
     public void tryToInvokeSetAllWithNullIterator() {
         assertThatExceptionOfType(NullPointerException.class)
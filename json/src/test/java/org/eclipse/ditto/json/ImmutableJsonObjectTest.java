@@ -85,7 +85,7 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                provided(ImmutableJsonObject.SoftReferencedFieldMap.class).isAlsoImmutable());
+                provided(ImmutableJsonObject.FieldMap.class).isAlsoImmutable());
     }
 
     @Test
@@ -101,6 +101,7 @@ public final class ImmutableJsonObjectTest {
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
+                .withPrefabValues(ImmutableJsonObject.FieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonFieldMapRetention}.
+ */
+public final class JsonFieldMapRetentionTest {
+
+    @After
+    public void resetStrategy() {
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.SOFT_REFERENCES,
+                JsonFieldMapRetention.DEFAULT_BUDGET_BYTES);
+    }
+
+    @Test
+    public void tryToConfigureNegativeBudget() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, -1L));
+    }
+
+    @Test
+    public void strategiesAreResolvedByName() {
+        assertThat(JsonFieldMapRetention.Strategy.forName("BUDGETED"))
+                .isEqualTo(JsonFieldMapRetention.Strategy.BUDGETED);
+        assertThat(JsonFieldMapRetention.Strategy.forName("soft-references"))
+                .isEqualTo(JsonFieldMapRetention.Strategy.SOFT_REFERENCES);
+        assertThat(JsonFieldMapRetention.Strategy.forName("unknown"))
+                .isEqualTo(JsonFieldMapRetention.Strategy.SOFT_REFERENCES);
+        assertThat(JsonFieldMapRetention.Strategy.forName(null))
+                .isEqualTo(JsonFieldMapRetention.Strategy.SOFT_REFERENCES);
+    }
+
+    @Test
+    public void fieldsWithinBudgetAreNotReparsed() {
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, 1024L * 1024L);
+        final long reparseCountBefore = JsonFieldMapRetention.getReparseCount();
+
+        final List<JsonObject> objects = createObjects(100);
+        for (int i = 0; i < objects.size(); i++) {
+            assertThat(objects.get(i).getValue("index")).contains(JsonValue.of(i));
+        }
+
+        assertThat(JsonFieldMapRetention.getReparseCount()).isEqualTo(reparseCountBefore);
+        assertThat(JsonFieldMapRetention.getRetainedBytes()).isPositive();
+    }
+
+    @Test
+    public void leastRecentlyUsedFieldsAreReleasedWhenBudgetIsExceeded() {
+        final JsonObject first = createObjects(1).get(0);
+        final long serializedSize = first.toString().length();
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, 10 * serializedSize);
+        final long evictionCountBefore = JsonFieldMapRetention.getEvictionCount();
+        final long reparseCountBefore = JsonFieldMapRetention.getReparseCount();
+        final long reparsedBytesBefore = JsonFieldMapRetention.getReparsedBytes();
+
+        final List<JsonObject> objects = createObjects(30);
+
+        assertThat(JsonFieldMapRetention.getRetainedBytes()).isLessThanOrEqualTo(10 * serializedSize);
+        assertThat(JsonFieldMapRetention.getEvictionCount() - evictionCountBefore).isGreaterThanOrEqualTo(20);
+
+        // the oldest object was released and has to be re-parsed from its string representation
+        assertThat(objects.get(0).getValue("index")).contains(JsonValue.of(0));
+        assertThat(JsonFieldMapRetention.getReparseCount()).isEqualTo(reparseCountBefore + 1);
+        assertThat(JsonFieldMapRetention.getReparsedBytes()).isEqualTo(reparsedBytesBefore + serializedSize);
+
+        // the most recent object is still retained
+        assertThat(objects.get(29).getValue("index")).contains(JsonValue.of(29));
+        assertThat(JsonFieldMapRetention.getReparseCount()).isEqualTo(reparseCountBefore + 1);
+    }
+
+    @Test
+    public void nestedObjectsAreChargedOnlyOnce() {
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, 1024L * 1024L);
+        final String jsonString = "{\"a\":{\"b\":{\"c\":1},\"d\":[{\"e\":true},{\"f\":\"g\"}]},\"h\":2}";
+        final long retainedBytesBefore = JsonFieldMapRetention.getRetainedBytes();
+        final int retainedCountBefore = JsonFieldMapRetention.getRetainedCount();
+
+        final JsonObject jsonObject = JsonFactory.newObject(jsonString);
+
+        assertThat(JsonFieldMapRetention.getRetainedCount() - retainedCountBefore).isEqualTo(5);
+        assertThat(JsonFieldMapRetention.getRetainedBytes() - retainedBytesBefore).isEqualTo(jsonString.length());
+        assertThat(jsonObject.getValue("a/b/c")).contains(JsonValue.of(1));
+    }
+
+    @Test
+    public void concurrentlyReparsedFieldsAreAdmittedOnce() throws Exception {
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, 0L);
+        final JsonObject released = createObjects(1).get(0);
+        JsonFieldMapRetention.configure(JsonFieldMapRetention.Strategy.BUDGETED, 1024L * 1024L);
+        final int retainedCountBefore = JsonFieldMapRetention.getRetainedCount();
+
+        final int threadCount = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Optional<JsonValue>>> results = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return released.getValue("index");
+                }));
+            }
+            start.countDown();
+            for (final Future<Optional<JsonValue>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).contains(JsonValue.of(0));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(JsonFieldMapRetention.getRetainedCount()).isEqualTo(retainedCountBefore + 1);
+    }
+
+    private static List<JsonObject> createObjects(final int count) {
+        final List<JsonObject> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(JsonObject.newBuilder()
+                    .set("index", i)
+                    .set("padding", "abcdefghijklmnopqrstuvwxyz")
+                    .build());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void behavesLikeLinkedHashMapOnRandomAlterations() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        for (int i = 0; i < 5_000; i++) {
+            final String key = "key" + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                underTest = underTest.remove(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.put(key, field);
+            }
+        }
+
+        assertThat(underTest.getSize()).isEqualTo(expected.size());
+        assertThat(toList(underTest)).containsExactlyElementsOf(expected.values());
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.asJsonObjectString()).isEqualTo(ImmutableJsonObject.of(expected).toString());
+        for (final Map.Entry<String, JsonField> entry : expected.entrySet()) {
+            assertThat(underTest.getOrNull(entry.getKey())).isEqualTo(entry.getValue());
+        }
+    }
+
+    @Test
+    public void alterationsDoNotAffectOriginal() {
+        final PersistentFieldMap original = PersistentFieldMap.empty()
+                .put("a", field("a", 1))
+                .put("b", field("b", 2));
+
+        final PersistentFieldMap altered = original.put("a", field("a", 3)).remove("b").put("c", field("c", 4));
+
+        assertThat(original.asJsonObjectString()).isEqualTo("{\"a\":1,\"b\":2}");
+        assertThat(altered.asJsonObjectString()).isEqualTo("{\"a\":3,\"c\":4}");
+    }
+
+    @Test
+    public void replacingKeepsAndReAddingChangesPosition() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .put("a", field("a", 1))
+                .put("b", field("b", 2))
+                .put("c", field("c", 3))
+                .put("a", field("a", 4))
+                .remove("b")
+                .put("b", field("b", 5));
+
+        assertThat(underTest.asJsonObjectString()).isEqualTo("{\"a\":4,\"c\":3,\"b\":5}");
+    }
+
+    @Test
+    public void keysWithCollidingHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .put("Aa", field("Aa", 1))
+                .put("BB", field("BB", 2))
+                .put("C#", field("C#", 3));
+
+        assertThat(underTest.getOrNull("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.getOrNull("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.remove("Aa").getOrNull("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.remove("Aa").containsKey("Aa")).isFalse();
+        assertThat(underTest.remove("Aa").remove("BB").remove("C#").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void equalsSoftReferencedFieldMapWithSameFields() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        fields.put("a", field("a", 1));
+        fields.put("b", field("b", 2));
+        final Map<String, JsonField> reversedFields = new LinkedHashMap<>();
+        reversedFields.put("b", field("b", 2));
+        reversedFields.put("a", field("a", 1));
+
+        final ImmutableJsonObject softReferenced = ImmutableJsonObject.of(fields);
+        final ImmutableJsonObject persistent = new ImmutableJsonObject(PersistentFieldMap.of(reversedFields));
+
+        assertThat(persistent).isEqualTo(softReferenced);
+        assertThat(softReferenced).isEqualTo(persistent);
+        assertThat(persistent.hashCode()).isEqualTo(softReferenced.hashCode());
+        assertThat(persistent.setValue("a", 2)).isNotEqualTo(softReferenced);
+    }
+
+    @Test
+    public void largeObjectsBecomePersistentOnAlteration() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < ImmutableJsonObject.SoftReferencedFieldMap.PERSISTENT_FIELD_MAP_THRESHOLD; i++) {
+            builder.set("key" + i, i);
+        }
+        final JsonObject original = builder.build();
+        final JsonObject expected = builder.set("key0", -1)
+                .set("nested", JsonObject.newBuilder().set("value", true).build()).remove("key1").build();
+
+        final JsonObject altered = original.setValue("key0", -1).setValue(JsonPointer.of("nested/value"), true)
+                .remove("key1");
+
+        assertThat(altered).isEqualTo(expected);
+        assertThat(altered.toString()).isEqualTo(expected.toString());
+        assertThat(JsonObject.of(altered.toString())).isEqualTo(altered);
+        assertThat(original.getValue("key1")).contains(JsonValue.of(1));
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+    private static List<JsonField> toList(final ImmutableJsonObject.FieldMap fieldMap) {
+        final List<JsonField> result = new ArrayList<>();
+        fieldMap.getIterator().forEachRemaining(result::add);
+        return result;
+    }
+
+}
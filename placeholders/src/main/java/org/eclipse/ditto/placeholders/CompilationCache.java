@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Node-wide cache of compiled templates or expressions keyed by their source string.
+ * <p>
+ * The sources usually stem from connection or policy configurations and are therefore few. To stay bounded if
+ * sources are derived from message contents, the least recently used compilations are evicted once the cache exceeds
+ * its maximum number of entries or the maximum total length of the cached sources, to which the size of their
+ * compilations is proportional. Sources longer than the maximum source length are compiled without being cached.
+ * Compilation failures are not cached.
+ * </p>
+ *
+ * @param <T> the type of the compiled sources.
+ */
+@ThreadSafe
+final class CompilationCache<T> {
+
+    private final int maxSize;
+    private final long maxTotalSourceLength;
+    private final int maxSourceLength;
+    private final Function<String, T> compiler;
+
+    // guarded by this; iterates from the least to the most recently used compilation
+    private final LinkedHashMap<String, T> compiled;
+    private long totalSourceLength;
+
+    private CompilationCache(final int maxSize, final long maxTotalSourceLength, final int maxSourceLength,
+            final Function<String, T> compiler) {
+
+        this.maxSize = maxSize;
+        this.maxTotalSourceLength = maxTotalSourceLength;
+        this.maxSourceLength = maxSourceLength;
+        this.compiler = compiler;
+        compiled = new LinkedHashMap<>(16, 0.75f, true);
+        totalSourceLength = 0L;
+    }
+
+    /**
+     * Returns a new instance of {@code CompilationCache}.
+     *
+     * @param maxSize the maximum number of cached compilations.
+     * @param maxTotalSourceLength the maximum total length of the sources of the cached compilations.
+     * @param maxSourceLength the maximum length of a source to cache its compilation.
+     * @param compiler compiles a source string.
+     * @param <T> the type of the compiled sources.
+     * @return the instance.
+     * @throws NullPointerException if {@code compiler} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxSourceLength} is not positive or if
+     * {@code maxTotalSourceLength} is less than {@code maxSourceLength}.
+     */
+    static <T> CompilationCache<T> of(final int maxSize, final long maxTotalSourceLength, final int maxSourceLength,
+            final Function<String, T> compiler) {
+
+        checkArgument(maxSize, size -> size > 0, () -> "The maxSize must be positive!");
+        checkArgument(maxSourceLength, length -> length > 0, () -> "The maxSourceLength must be positive!");
+        checkArgument(maxTotalSourceLength, length -> length >= maxSourceLength,
+                () -> "The maxTotalSourceLength must not be less than the maxSourceLength!");
+        return new CompilationCache<>(maxSize, maxTotalSourceLength, maxSourceLength,
+                checkNotNull(compiler, "compiler"));
+    }
+
+    /**
+     * Returns the compilation of the given source, compiling it if it is not cached yet.
+     *
+     * @param source the source to compile.
+     * @return the compiled source.
+     * @throws RuntimeException any exception the compiler throws for an invalid source.
+     */
+    T get(final String source) {
+        if (source.length() > maxSourceLength) {
+            return compiler.apply(source);
+        }
+        T result;
+        synchronized (this) {
+            result = compiled.get(source);
+        }
+        if (null == result) {
+            // compile outside the lock; concurrent compilations of the same source yield equal results
+            result = compiler.apply(source);
+            put(source, result);
+        }
+
+        return result;
+    }
+
+    private synchronized void put(final String source, final T compilation) {
+        if (null == compiled.put(source, compilation)) {
+            totalSourceLength += source.length();
+        }
+        final Iterator<Map.Entry<String, T>> leastRecentlyUsedFirst = compiled.entrySet().iterator();
+        while (compiled.size() > maxSize || totalSourceLength > maxTotalSourceLength) {
+            totalSourceLength -= leastRecentlyUsedFirst.next().getKey().length();
+            leastRecentlyUsedFirst.remove();
+        }
+    }
+
+    /**
+     * @return the number of currently cached compilations.
+     */
+    synchronized int size() {
+        return compiled.size();
+    }
+
+    /**
+     * @return the total length of the sources of the currently cached compilations.
+     */
+    synchronized long getTotalSourceLength() {
+        return totalSourceLength;
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link Pipeline} which was parsed once from a pipeline expression like
+ * {@code thing:name | fn:substring-before(':') | fn:default(thing:id)} into its input placeholder and its function
+ * stages.
+ * <p>
+ * Executing it neither matches the expression against regular expressions again nor looks up the functions by name.
+ * The parameters of the functions are still resolved by the functions on each execution as they may refer to
+ * placeholders. Compiled pipelines are cached node-wide, see {@link #of(String)}.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+final class CompiledPipeline implements Pipeline {
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+    private static final int MAX_CACHED_PIPELINES = 10_000;
+    private static final long MAX_CACHED_PIPELINES_TOTAL_LENGTH = 1_000_000L;
+    private static final int MAX_CACHED_PIPELINE_LENGTH = 4_096;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    private static final CompilationCache<CompiledPipeline> CACHE =
+            CompilationCache.of(MAX_CACHED_PIPELINES, MAX_CACHED_PIPELINES_TOTAL_LENGTH, MAX_CACHED_PIPELINE_LENGTH,
+                    CompiledPipeline::compile);
+
+    @Nullable private final String inputPlaceholder;
+    private final List<FunctionStage> functionStages;
+
+    private CompiledPipeline(@Nullable final String inputPlaceholder, final List<FunctionStage> functionStages) {
+        this.inputPlaceholder = inputPlaceholder;
+        this.functionStages = Collections.unmodifiableList(new ArrayList<>(functionStages));
+    }
+
+    /**
+     * Returns the compiled pipeline of the given expression from the node-wide cache, compiling it if necessary.
+     *
+     * @param pipelineExpression the pipeline expression without the surrounding curly braces.
+     * @return the compiled pipeline.
+     * @throws UnresolvedPlaceholderException if {@code pipelineExpression} is no valid pipeline expression.
+     * @throws PlaceholderFunctionTooComplexException if {@code pipelineExpression} contains too many functions.
+     */
+    static CompiledPipeline of(final String pipelineExpression) {
+        return CACHE.get(pipelineExpression);
+    }
+
+    /**
+     * Parses the given pipeline expression without consulting the cache.
+     *
+     * @param pipelineExpression the pipeline expression without the surrounding curly braces.
+     * @return the compiled pipeline.
+     * @throws UnresolvedPlaceholderException if {@code pipelineExpression} is no valid pipeline expression.
+     * @throws PlaceholderFunctionTooComplexException if {@code pipelineExpression} contains too many functions.
+     */
+    static CompiledPipeline compile(final String pipelineExpression) {
+        final List<String> stageExpressions = getPipelineStagesExpressions(pipelineExpression);
+        final String firstStageExpression = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        if (isFunctionExpression(firstStageExpression)) {
+            return new CompiledPipeline(null, compileFunctionStages(stageExpressions));
+        } else {
+            return new CompiledPipeline(firstStageExpression,
+                    compileFunctionStages(stageExpressions.subList(1, stageExpressions.size())));
+        }
+    }
+
+    private static List<String> getPipelineStagesExpressions(final String pipelineExpression) {
+        if (!PIPE_PATTERN.matcher(pipelineExpression).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(pipelineExpression).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(pipelineExpression);
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+
+        return pipelineStagesExpressions;
+    }
+
+    private static boolean isFunctionExpression(final String stageExpression) {
+        return stageExpression.startsWith(FunctionExpression.PREFIX + SEPARATOR);
+    }
+
+    private static List<FunctionStage> compileFunctionStages(final List<String> stageExpressions) {
+        final List<FunctionStage> result = new ArrayList<>(stageExpressions.size());
+        for (final String stageExpression : stageExpressions) {
+            result.add(ImmutableFunctionExpression.INSTANCE.findFunction(stageExpression)
+                    .map(function -> new FunctionStage(stageExpression, function,
+                            ImmutableFunctionExpression.INSTANCE.getParametersIncludingParentheses(stageExpression,
+                                    function)))
+                    .orElseGet(() -> new FunctionStage(stageExpression, null, "")));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the expression of the placeholder whose resolved value is the input of the pipeline.
+     *
+     * @return the placeholder expression, e.g. {@code thing:id}, or an empty Optional if the first stage of the
+     * pipeline is a function.
+     */
+    Optional<String> getInputPlaceholder() {
+        return Optional.ofNullable(inputPlaceholder);
+    }
+
+    @Override
+    public PipelineElement execute(final PipelineElement pipelineInput, final ExpressionResolver expressionResolver) {
+        PipelineElement result = pipelineInput;
+        for (final FunctionStage functionStage : functionStages) {
+            result = functionStage.execute(result, expressionResolver);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void validate() {
+        functionStages.stream()
+                .filter(functionStage -> null == functionStage.function)
+                .findFirst()
+                .ifPresent(functionStage -> {
+                    throw PlaceholderFunctionUnknownException.newBuilder(functionStage.expression
+                            .replaceFirst(FunctionExpression.PREFIX + SEPARATOR, "")).build();
+                });
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledPipeline that = (CompiledPipeline) o;
+        return Objects.equals(inputPlaceholder, that.inputPlaceholder) &&
+                Objects.equals(functionStages, that.functionStages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(inputPlaceholder, functionStages);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "inputPlaceholder=" + inputPlaceholder +
+                ", functionStages=" + functionStages +
+                "]";
+    }
+
+    /**
+     * A function stage of a compiled pipeline.
+     * The function is {@code null} if the stage expression does not invoke a supported function; executing such a
+     * stage fails the same way the uncompiled expression would.
+     */
+    @Immutable
+    private static final class FunctionStage {
+
+        private final String expression;
+        @Nullable private final PipelineFunction function;
+        private final String paramsIncludingParentheses;
+
+        private FunctionStage(final String expression, @Nullable final PipelineFunction function,
+                final String paramsIncludingParentheses) {
+
+            this.expression = expression;
+            this.function = function;
+            this.paramsIncludingParentheses = paramsIncludingParentheses;
+        }
+
+        private PipelineElement execute(final PipelineElement input, final ExpressionResolver expressionResolver) {
+            if (null != function) {
+                return function.apply(input, paramsIncludingParentheses, expressionResolver);
+            } else {
+                return ImmutableFunctionExpression.INSTANCE.resolve(expression, input, expressionResolver);
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final FunctionStage that = (FunctionStage) o;
+            return Objects.equals(expression, that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression);
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.Placeholders;
+
+/**
+ * A template like {@code prefix/{{ thing:id | fn:lower() }}/suffix} which was split once into its literal parts and
+ * the pipeline expressions of its placeholders.
+ * <p>
+ * Substituting the placeholders of a compiled template does not match the template against the placeholder pattern
+ * again. Compiled templates are cached node-wide, see {@link #of(String)}.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+final class CompiledTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final long MAX_CACHED_TEMPLATES_TOTAL_LENGTH = 1_000_000L;
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 4_096;
+
+    private static final CompilationCache<CompiledTemplate> CACHE =
+            CompilationCache.of(MAX_CACHED_TEMPLATES, MAX_CACHED_TEMPLATES_TOTAL_LENGTH, MAX_CACHED_TEMPLATE_LENGTH,
+                    CompiledTemplate::compile);
+
+    private final List<Segment> segments;
+
+    private CompiledTemplate(final List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    /**
+     * Returns the compiled template of the given template from the node-wide cache, compiling it if necessary.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     */
+    static CompiledTemplate of(final String template) {
+        return CACHE.get(template);
+    }
+
+    /**
+     * Splits the given template without consulting the cache.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     */
+    static CompiledTemplate compile(final String template) {
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        final List<Segment> segments = new ArrayList<>();
+
+        while (matcher.find()) {
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+
+            final StringBuffer replacementBuffer = new StringBuffer();
+            matcher.appendReplacement(replacementBuffer, "");
+            if (replacementBuffer.length() > 0) {
+                segments.add(Segment.literal(replacementBuffer.toString()));
+            }
+
+            segments.add(Segment.expression(placeholderExpression));
+        }
+
+        final StringBuffer tailBuffer = new StringBuffer();
+        matcher.appendTail(tailBuffer);
+        if (tailBuffer.length() > 0) {
+            segments.add(Segment.literal(tailBuffer.toString()));
+        }
+
+        return new CompiledTemplate(segments);
+    }
+
+    /**
+     * Substitutes the placeholders of this template.
+     *
+     * @param substitutionFunction the substitution function turning the content of each placeholder into a result.
+     * @return the substitution result.
+     */
+    PipelineElement substitute(final Function<String, PipelineElement> substitutionFunction) {
+        final List<PipelineElement> elements = new ArrayList<>(segments.size());
+        for (final Segment segment : segments) {
+            elements.add(segment.apply(substitutionFunction));
+        }
+
+        if (elements.isEmpty()) {
+            return PipelineElement.resolved("");
+        } else if (elements.stream().allMatch(PipelineElementDeleted.class::isInstance)) {
+            return PipelineElement.deleted();
+        } else {
+            return PipelineElement.resolved(elements.stream()
+                    .filter(e -> !(e instanceof PipelineElementDeleted))
+                    .reduce(Collections.singletonList(""), (results, nextElement) -> results.stream()
+                                    .flatMap(result -> nextElement.toStream().map(next -> result + next))
+                                    .collect(Collectors.toList()),
+                            (x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList())));
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledTemplate that = (CompiledTemplate) o;
+        return Objects.equals(segments, that.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segments);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "segments=" + segments +
+                "]";
+    }
+
+    /**
+     * Either a literal part of a template or the pipeline expression of a placeholder.
+     */
+    @Immutable
+    private static final class Segment {
+
+        @Nullable private final PipelineElement literal;
+        @Nullable private final String expression;
+
+        private Segment(@Nullable final PipelineElement literal, @Nullable final String expression) {
+            this.literal = literal;
+            this.expression = expression;
+        }
+
+        private static Segment literal(final String literal) {
+            return new Segment(PipelineElement.resolved(literal), null);
+        }
+
+        private static Segment expression(final String expression) {
+            return new Segment(null, expression);
+        }
+
+        private PipelineElement apply(final Function<String, PipelineElement> substitutionFunction) {
+            if (null != literal) {
+                return literal;
+            } else {
+                return substitutionFunction.apply(Objects.requireNonNull(expression));
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Segment that = (Segment) o;
+            return Objects.equals(literal, that.literal) && Objects.equals(expression, that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(literal, expression);
+        }
+
+        @Override
+        public String toString() {
+            return null != literal ? "literal=" + literal : "expression=" + expression;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.placeholders;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
@@ -79,14 +80,37 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
-        return SUPPORTED.stream()
-                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
+        return findFunction(expression)
                 .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
+                        getParametersIncludingParentheses(expression, pf),
                         expressionResolver)
                 )
-                .findFirst()
                 .orElse(PipelineElement.unresolved());
     }
 
+    /**
+     * Finds the supported function which is invoked by the given function expression.
+     *
+     * @param expression the function expression, e.g. {@code fn:substring-before(':')}.
+     * @return the invoked function or an empty Optional if the expression invokes no supported function.
+     * @since 3.5.0
+     */
+    Optional<PipelineFunction> findFunction(final String expression) {
+        return SUPPORTED.stream()
+                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
+                .findFirst();
+    }
+
+    /**
+     * Extracts the parameters of a function expression which invokes the given function.
+     *
+     * @param expression the function expression, e.g. {@code fn:substring-before(':')}.
+     * @param function the function invoked by {@code expression}.
+     * @return the parameters including the parentheses, e.g. {@code (':')}.
+     * @since 3.5.0
+     */
+    String getParametersIncludingParentheses(final String expression, final PipelineFunction function) {
+        return expression.replaceFirst(getPrefix() + ":" + function.getName(), "").trim();
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompilationCache}.
+ */
+public final class CompilationCacheTest {
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CompilationCache.of(0, 100, 10, String::length));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxSourceLength() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CompilationCache.of(10, 100, 0, String::length));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithMaxTotalSourceLengthBelowMaxSourceLength() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CompilationCache.of(10, 9, 10, String::length));
+    }
+
+    @Test
+    public void compilesEachSourceOnce() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final CompilationCache<Integer> underTest = CompilationCache.of(10, 100, 10, source -> {
+            compilations.incrementAndGet();
+            return source.length();
+        });
+
+        assertThat(underTest.get("foo")).isEqualTo(3);
+        assertThat(underTest.get("foo")).isEqualTo(3);
+        assertThat(underTest.get("bar!")).isEqualTo(4);
+        assertThat(compilations).hasValue(2);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedWhenFull() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final CompilationCache<Integer> underTest = CompilationCache.of(2, 100, 10, source -> {
+            compilations.incrementAndGet();
+            return source.length();
+        });
+        underTest.get("a");
+        underTest.get("bb");
+        underTest.get("a");
+
+        underTest.get("ccc");
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getTotalSourceLength()).isEqualTo(4L);
+        underTest.get("a");
+        assertThat(compilations).describedAs("compilations of a, bb and ccc").hasValue(3);
+        underTest.get("bb");
+        assertThat(compilations).describedAs("bb was evicted").hasValue(4);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedWhenTotalSourceLengthIsExceeded() {
+        final CompilationCache<Integer> underTest = CompilationCache.of(10, 5, 5, String::length);
+        underTest.get("aa");
+        underTest.get("bb");
+
+        underTest.get("ccc");
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getTotalSourceLength()).isEqualTo(5L);
+    }
+
+    @Test
+    public void longSourcesAreNotCached() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final CompilationCache<Integer> underTest = CompilationCache.of(10, 100, 3, source -> {
+            compilations.incrementAndGet();
+            return source.length();
+        });
+
+        underTest.get("long");
+        underTest.get("long");
+
+        assertThat(underTest.size()).isZero();
+        assertThat(compilations).hasValue(2);
+    }
+
+    @Test
+    public void failedCompilationsAreNotCached() {
+        final CompilationCache<Integer> underTest = CompilationCache.of(2, 100, 10, source -> {
+            throw new IllegalStateException(source);
+        });
+
+        assertThatIllegalStateException().isThrownBy(() -> underTest.get("invalid"));
+        assertThat(underTest.size()).isZero();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledPipeline}.
+ */
+public final class CompiledPipelineTest {
+
+    private final ExpressionResolver expressionResolver = mock(ExpressionResolver.class);
+
+    @Test
+    public void compileSplitsInputPlaceholderAndFunctionStages() {
+        final CompiledPipeline underTest =
+                CompiledPipeline.compile("thing:name | fn:substring-before(':') | fn:upper()");
+
+        assertThat(underTest.getInputPlaceholder()).contains("thing:name");
+        assertThat(underTest.execute(PipelineElement.resolved("my-gateway:my-thing"), expressionResolver))
+                .isEqualTo(PipelineElement.resolved("MY-GATEWAY"));
+    }
+
+    @Test
+    public void functionAsFirstStageHasNoInputPlaceholder() {
+        final CompiledPipeline underTest = CompiledPipeline.compile("fn:default('fallback') | fn:upper()");
+
+        assertThat(underTest.getInputPlaceholder()).isEmpty();
+        assertThat(underTest.execute(PipelineElement.unresolved(), expressionResolver))
+                .isEqualTo(PipelineElement.resolved("FALLBACK"));
+    }
+
+    @Test
+    public void compileInvalidExpression() {
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> CompiledPipeline.compile("thing:id | fn:default('unterminated)"));
+    }
+
+    @Test
+    public void compileTooComplexExpression() {
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> CompiledPipeline.compile("thing:id" + " | fn:lower()".repeat(11)));
+    }
+
+    @Test
+    public void unknownFunctionFailsOnValidationAndExecution() {
+        final CompiledPipeline underTest = CompiledPipeline.compile("thing:id | fn:unknown('foo')");
+
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(underTest::validate);
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> underTest.execute(PipelineElement.resolved("foo"), expressionResolver));
+    }
+
+    @Test
+    public void compiledPipelinesAreCached() {
+        final String expression = "thing:id | fn:substring-after(':')";
+
+        assertThat(CompiledPipeline.of(expression))
+                .isSameAs(CompiledPipeline.of(expression))
+                .isEqualTo(CompiledPipeline.compile(expression));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the resolution of typical connection templates via the node-wide cached
+ * {@link CompiledTemplate}s and {@link CompiledPipeline}s with parsing the templates again on each resolution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompiledTemplateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({
+            "{{ thing:id }}",
+            "{{ thing:id | fn:substring-before(':') }}",
+            "devices/{{ thing:id | fn:substring-before(':') | fn:lower() }}/{{ header:device_id | fn:default('none') }}"
+    })
+    public String template;
+
+    private ExpressionResolver expressionResolver;
+
+    @Setup
+    public void setUp() {
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(new ThingIdPlaceholder(), "org.eclipse.ditto:my-thing"),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        Map.of("device_id", "my-device")));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public PipelineElement resolveCompiled() {
+        return expressionResolver.resolve(template);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public PipelineElement resolveParsingEachTime() {
+        return CompiledTemplate.compile(template).substitute(expression -> {
+            final CompiledPipeline pipeline = CompiledPipeline.compile(expression);
+            final PipelineElement pipelineInput = pipeline.getInputPlaceholder()
+                    .map(expressionResolver::resolveAsPipelineElement)
+                    .orElseGet(PipelineElement::unresolved);
+            return pipeline.execute(pipelineInput, expressionResolver);
+        });
+    }
+
+    private static final class ThingIdPlaceholder implements Placeholder<String> {
+
+        @Override
+        public String getPrefix() {
+            return "thing";
+        }
+
+        @Override
+        public List<String> getSupportedNames() {
+            return List.of("id");
+        }
+
+        @Override
+        public boolean supports(final String name) {
+            return "id".equals(name);
+        }
+
+        @Override
+        public List<String> resolveValues(final String thingId, final String name) {
+            return List.of(thingId);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateTest {
+
+    @Test
+    public void substituteLiteralsAndExpressions() {
+        final List<String> substitutedExpressions = new ArrayList<>();
+        final CompiledTemplate underTest = CompiledTemplate.compile("prefix/{{ thing:id }}/{{header:foo}}");
+
+        final PipelineElement result = underTest.substitute(expression -> {
+            substitutedExpressions.add(expression);
+            return PipelineElement.resolved("x" + substitutedExpressions.size());
+        });
+
+        assertThat(result).isEqualTo(PipelineElement.resolved("prefix/x1/x2"));
+        assertThat(substitutedExpressions).containsExactly("thing:id ", "header:foo");
+    }
+
+    @Test
+    public void substituteWithoutPlaceholders() {
+        assertThat(CompiledTemplate.compile("no placeholder").substitute(expression -> {
+            throw new AssertionError("unexpected expression " + expression);
+        })).isEqualTo(PipelineElement.resolved("no placeholder"));
+        assertThat(CompiledTemplate.compile("").substitute(PipelineElement::resolved))
+                .isEqualTo(PipelineElement.resolved(""));
+    }
+
+    @Test
+    public void substituteDeletedExpressions() {
+        assertThat(CompiledTemplate.compile("{{ a:b }}{{ c:d }}").substitute(expression -> PipelineElement.deleted()))
+                .isEqualTo(PipelineElement.deleted());
+        assertThat(CompiledTemplate.compile("a{{ a:b }}").substitute(expression -> PipelineElement.deleted()))
+                .isEqualTo(PipelineElement.resolved("a"));
+    }
+
+    @Test
+    public void substituteExpressionsWithMultipleValues() {
+        final PipelineElement result = CompiledTemplate.compile("{{ a:b }}-{{ c:d }}")
+                .substitute(expression -> PipelineElement.resolved(List.of("1", "2")));
+
+        assertThat(result.toStream()).containsExactly("1-1", "1-2", "2-1", "2-2");
+    }
+
+    @Test
+    public void compiledTemplatesAreCached() {
+        final String template = "{{ thing:namespace }}/{{ thing:name }}";
+
+        assertThat(CompiledTemplate.of(template))
+                .isSameAs(CompiledTemplate.of(template))
+                .isEqualTo(CompiledTemplate.compile(template));
+    }
+
+}
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.policies.enforcement;
 
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.policies.enforcement.config.DefaultEnforcementConfig;
 import org.eclipse.ditto.policies.model.PolicyId;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
@@ -33,7 +35,9 @@ abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider
             final ActorSystem actorSystem) {
 
         final PolicyCacheLoader policyCacheLoader = PolicyCacheLoader.getSingletonInstance(actorSystem);
-        return new PolicyEnforcerCacheLoader(policyCacheLoader);
+        final var enforcementConfig =
+                DefaultEnforcementConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
+        return new PolicyEnforcerCacheLoader(policyCacheLoader, PolicyEnforcer.getEvaluator(enforcementConfig));
     }
 
     protected static MessageDispatcher enforcementCacheDispatcher(final ActorSystem actorSystem) {
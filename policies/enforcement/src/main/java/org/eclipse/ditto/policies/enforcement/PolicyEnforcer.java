@@ -12,7 +12,12 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -20,8 +25,12 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.enforcement.config.EnforcementConfig;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.PolicyImporter;
 import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
@@ -33,10 +42,40 @@ public final class PolicyEnforcer {
 
     @Nullable private final Policy policy;
     private final Enforcer enforcer;
+    @Nullable private final Policy unresolvedPolicy;
+    private final Map<PolicyId, Set<PolicyEntry>> importedPolicyEntries;
+    private final Function<Iterable<PolicyEntry>, Enforcer> evaluator;
 
     private PolicyEnforcer(@Nullable final Policy policy, final Enforcer enforcer) {
+        this(policy, enforcer, null, Map.of(), PolicyEnforcers::defaultEvaluator);
+    }
+
+    private PolicyEnforcer(@Nullable final Policy policy,
+            final Enforcer enforcer,
+            @Nullable final Policy unresolvedPolicy,
+            final Map<PolicyId, Set<PolicyEntry>> importedPolicyEntries,
+            final Function<Iterable<PolicyEntry>, Enforcer> evaluator) {
         this.policy = policy;
         this.enforcer = enforcer;
+        this.unresolvedPolicy = unresolvedPolicy;
+        this.importedPolicyEntries = importedPolicyEntries;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Returns the function creating the {@link Enforcer} of policies as configured.
+     *
+     * @param enforcementConfig the enforcement config.
+     * @return the compact throughput optimized evaluator if the compact policy enforcer is enabled, the default
+     * evaluator otherwise.
+     * @since 3.5.0
+     */
+    public static Function<Iterable<PolicyEntry>, Enforcer> getEvaluator(final EnforcementConfig enforcementConfig) {
+        if (enforcementConfig.isCompactPolicyEnforcerEnabled()) {
+            return PolicyEnforcers::compactThroughputOptimizedEvaluator;
+        } else {
+            return PolicyEnforcers::defaultEvaluator;
+        }
     }
 
     /**
@@ -47,11 +86,75 @@ public final class PolicyEnforcer {
      */
     public static CompletionStage<PolicyEnforcer> withResolvedImports(final Policy policy,
             final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver) {
-        return policy.withResolvedImports(policyResolver)
-                .thenApply(resolvedPolicy -> {
-                    final var enforcer = PolicyEnforcers.defaultEvaluator(resolvedPolicy);
-                    return new PolicyEnforcer(resolvedPolicy, enforcer);
-                });
+
+        return withResolvedImports(policy, policyResolver, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Create a policy enforcer from policy, using the given evaluator to create its enforcer.
+     *
+     * @param policy the policy
+     * @param policyResolver resolves imported policies.
+     * @param evaluator creates the enforcer of the resolved policy, e.g. {@link #getEvaluator(EnforcementConfig)}.
+     * @return the pair
+     * @since 3.5.0
+     */
+    public static CompletionStage<PolicyEnforcer> withResolvedImports(final Policy policy,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver,
+            final Function<Iterable<PolicyEntry>, Enforcer> evaluator) {
+        CompletionStage<Map<PolicyId, Set<PolicyEntry>>> importedEntriesCs =
+                CompletableFuture.completedFuture(new LinkedHashMap<>());
+        for (final PolicyImport policyImport : policy.getPolicyImports()) {
+            final CompletionStage<Set<PolicyEntry>> entriesOfImportCs =
+                    policyResolver.apply(policyImport.getImportedPolicyId())
+                            .thenApply(importedPolicy -> importedPolicy
+                                    .map(p -> PolicyImporter.getImportedPolicyEntries(policyImport, p))
+                                    .orElse(Set.of()));
+            importedEntriesCs = importedEntriesCs.thenCombine(entriesOfImportCs, (importedEntries, entries) -> {
+                importedEntries.put(policyImport.getImportedPolicyId(), entries);
+                return importedEntries;
+            });
+        }
+        return importedEntriesCs.thenApply(importedEntries -> resolve(policy, importedEntries, evaluator));
+    }
+
+    private static PolicyEnforcer resolve(final Policy unresolvedPolicy,
+            final Map<PolicyId, Set<PolicyEntry>> importedPolicyEntries,
+            final Function<Iterable<PolicyEntry>, Enforcer> evaluator) {
+        final Policy resolvedPolicy;
+        if (importedPolicyEntries.isEmpty()) {
+            resolvedPolicy = unresolvedPolicy;
+        } else {
+            final Set<PolicyEntry> mergedEntries = new HashSet<>(unresolvedPolicy.getEntriesSet());
+            importedPolicyEntries.values().forEach(mergedEntries::addAll);
+            resolvedPolicy = unresolvedPolicy.toBuilder().setAll(mergedEntries).build();
+        }
+        final var enforcer = evaluator.apply(resolvedPolicy);
+        return new PolicyEnforcer(resolvedPolicy, enforcer, unresolvedPolicy, Map.copyOf(importedPolicyEntries),
+                evaluator);
+    }
+
+    /**
+     * Re-evaluates the single import of {@code importedPolicyId} with the passed new state of the imported policy,
+     * keeping the already resolved entries of all other imports.
+     * Only possible for policy enforcers created via {@link #withResolvedImports(Policy, Function)} which import
+     * {@code importedPolicyId}.
+     *
+     * @param importedPolicyId the ID of the changed imported policy.
+     * @param importedPolicy the new (unresolved) state of the imported policy or {@code null} if it does not exist.
+     * @return the re-evaluated policy enforcer or an empty Optional if it could not be re-evaluated incrementally.
+     */
+    Optional<PolicyEnforcer> withReimportedPolicy(final PolicyId importedPolicyId,
+            @Nullable final Policy importedPolicy) {
+        if (null == unresolvedPolicy) {
+            return Optional.empty();
+        }
+        return unresolvedPolicy.getPolicyImports().getPolicyImport(importedPolicyId).map(policyImport -> {
+            final Map<PolicyId, Set<PolicyEntry>> newImportedEntries = new LinkedHashMap<>(importedPolicyEntries);
+            newImportedEntries.put(importedPolicyId, null == importedPolicy ? Set.of() :
+                    PolicyImporter.getImportedPolicyEntries(policyImport, importedPolicy));
+            return resolve(unresolvedPolicy, newImportedEntries, evaluator);
+        });
     }
 
     /**
@@ -101,6 +204,16 @@ public final class PolicyEnforcer {
         return Optional.ofNullable(policy);
     }
 
+    /**
+     * Retrieve the policy as it was loaded, without the entries of its imports being resolved.
+     * Only present for policy enforcers created via {@link #withResolvedImports(Policy, Function)}.
+     *
+     * @return the unresolved policy.
+     */
+    Optional<Policy> getUnresolvedPolicy() {
+        return Optional.ofNullable(unresolvedPolicy);
+    }
+
     /**
      * Retrieve the enforcer.
      *
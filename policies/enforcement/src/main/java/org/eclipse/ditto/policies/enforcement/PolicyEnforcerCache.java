@@ -12,14 +12,17 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -35,18 +38,29 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import scala.concurrent.ExecutionContextExecutor;
 
+/**
+ * Cache of {@link PolicyEnforcer}s which keeps track of which cached policies import which other policies.
+ * When an imported policy changes, the cached enforcers of its importing policies are not loaded from scratch but
+ * re-evaluated incrementally: only the entries imported from the changed policy are replaced, the changed policy
+ * is loaded once for all of its importers.
+ */
 final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>> {
 
+    private final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader;
     private final Cache<PolicyId, Entry<PolicyEnforcer>> delegate;
     private final Map<PolicyId, Set<PolicyId>> policyIdToImportingMap;
+    private final Map<PolicyId, PendingReimport> pendingReimports;
 
     PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig) {
+        this.policyEnforcerCacheLoader = policyEnforcerCacheLoader;
         policyIdToImportingMap = new ConcurrentHashMap<>();
+        pendingReimports = new ConcurrentHashMap<>();
         this.delegate = CacheFactory.createCache(
-                (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
-                        .whenComplete(((policyEnforcerEntry, throwable) -> policyEnforcerEntry.get()
+                (policyId, executor) -> load(policyId, executor)
+                        .whenComplete(((policyEnforcerEntry, throwable) -> Optional.ofNullable(policyEnforcerEntry)
+                                .flatMap(Entry::get)
                                 .flatMap(PolicyEnforcer::getPolicy)
                                 .map(Policy::getPolicyImports)
                                 .filter(imports -> !imports.isEmpty())
@@ -66,6 +80,54 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
         );
     }
 
+    private CompletableFuture<Entry<PolicyEnforcer>> load(final PolicyId policyId, final Executor executor) {
+        final PendingReimport pendingReimport = pendingReimports.remove(policyId);
+        if (null == pendingReimport) {
+            return loadFromCacheLoader(policyId, executor);
+        }
+        return reimport(pendingReimport)
+                .exceptionally(throwable -> Optional.empty())
+                .thenCompose(reimported -> reimported.map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> loadFromCacheLoader(policyId, executor)));
+    }
+
+    private CompletableFuture<Entry<PolicyEnforcer>> loadFromCacheLoader(final PolicyId policyId,
+            final Executor executor) {
+        try {
+            return policyEnforcerCacheLoader.asyncLoad(policyId, executor).thenApply(Function.identity());
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Optional<Entry<PolicyEnforcer>>> reimport(final PendingReimport pendingReimport) {
+        final Entry<PolicyEnforcer> previousEntry = pendingReimport.previousEntry();
+        CompletableFuture<Optional<PolicyEnforcer>> result = CompletableFuture.completedFuture(previousEntry.get());
+        for (final PolicyId changedImportedPolicyId : pendingReimport.changedImportedPolicyIds()) {
+            result = result.thenCompose(policyEnforcer -> policyEnforcer.isEmpty() ?
+                    CompletableFuture.completedFuture(Optional.empty()) :
+                    delegate.get(changedImportedPolicyId).thenApply(importedEntry ->
+                            reimport(policyEnforcer.get(), changedImportedPolicyId, importedEntry)));
+        }
+        return result.thenApply(policyEnforcer -> policyEnforcer.map(enforcer ->
+                Entry.of(previousEntry.getRevision(), enforcer)));
+    }
+
+    private static Optional<PolicyEnforcer> reimport(final PolicyEnforcer importingPolicyEnforcer,
+            final PolicyId importedPolicyId,
+            final Optional<Entry<PolicyEnforcer>> importedPolicyEnforcerEntry) {
+        return importedPolicyEnforcerEntry.flatMap(importedEntry -> {
+            if (importedEntry.exists()) {
+                return importedEntry.getValueOrThrow()
+                        .getUnresolvedPolicy()
+                        .flatMap(importedPolicy ->
+                                importingPolicyEnforcer.withReimportedPolicy(importedPolicyId, importedPolicy));
+            } else {
+                return importingPolicyEnforcer.withReimportedPolicy(importedPolicyId, null);
+            }
+        });
+    }
+
     @Override
     public CompletableFuture<Optional<Entry<PolicyEnforcer>>> get(final PolicyId key) {
         return delegate.get(key);
@@ -89,23 +151,45 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
 
     @Override
     public boolean invalidate(final PolicyId policyId) {
+        // A pending re-import of the changed policy is based on its outdated state
+        pendingReimports.remove(policyId);
+
         // Invalidate the changed policy
         final boolean directlyCached = delegate.invalidate(policyId);
 
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
-                .map(delegate::invalidate)
-                .reduce((previous, next) -> previous || next)
-                .orElse(false);
+        // Invalidate all policies that import the changed policy, re-evaluating only the changed import if possible
+        final Collection<PolicyId> importingPolicyIds =
+                Optional.ofNullable(policyIdToImportingMap.remove(policyId)).orElseGet(Set::of);
+        final List<PolicyId> policyIdsToReimport = new ArrayList<>(importingPolicyIds.size());
+        boolean indirectlyCachedViaImport = false;
+        for (final PolicyId importingPolicyId : importingPolicyIds) {
+            getCompletedEntry(importingPolicyId)
+                    .filter(entry -> entry.get().flatMap(PolicyEnforcer::getUnresolvedPolicy).isPresent())
+                    .ifPresent(entry -> {
+                        pendingReimports.merge(importingPolicyId, new PendingReimport(entry, Set.of(policyId)),
+                                PendingReimport::mergeWith);
+                        policyIdsToReimport.add(importingPolicyId);
+                    });
+            indirectlyCachedViaImport |= delegate.invalidate(importingPolicyId);
+        }
+        policyIdsToReimport.forEach(delegate::get);
 
         return directlyCached || indirectlyCachedViaImport;
     }
 
+    private Optional<Entry<PolicyEnforcer>> getCompletedEntry(final PolicyId policyId) {
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry = delegate.getIfPresent(policyId);
+        if (cachedEntry.isDone() && !cachedEntry.isCompletedExceptionally()) {
+            return cachedEntry.join().filter(Entry::exists);
+        }
+        return Optional.empty();
+    }
+
     @Override
     public boolean invalidateConditionally(final PolicyId policyId,
             final Predicate<Entry<PolicyEnforcer>> valueCondition) {
+        pendingReimports.remove(policyId);
+
         // Invalidate the changed policy
         final boolean directlyCached = delegate.invalidateConditionally(policyId, valueCondition);
 
@@ -130,4 +214,16 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
         return delegate.asMap();
     }
 
+    /**
+     * The cached entry of an importing policy, together with the imported policies which changed since it was cached.
+     */
+    private record PendingReimport(Entry<PolicyEnforcer> previousEntry, Set<PolicyId> changedImportedPolicyIds) {
+
+        private PendingReimport mergeWith(final PendingReimport other) {
+            final Set<PolicyId> mergedPolicyIds = new HashSet<>(changedImportedPolicyIds);
+            mergedPolicyIds.addAll(other.changedImportedPolicyIds);
+            return new PendingReimport(previousEntry, Set.copyOf(mergedPolicyIds));
+        }
+    }
+
 }
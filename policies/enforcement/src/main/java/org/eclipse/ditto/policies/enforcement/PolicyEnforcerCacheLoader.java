@@ -22,7 +22,10 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -35,6 +38,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
     public static final String ENFORCEMENT_CACHE_DISPATCHER = "enforcement-cache-dispatcher";
 
     private final PolicyCacheLoader delegate;
+    private final Function<Iterable<PolicyEntry>, Enforcer> evaluator;
 
     /**
      * Constructor.
@@ -42,8 +46,21 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
      * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
      */
     public PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader) {
+        this(policyCacheLoader, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
+     * @param evaluator creates the enforcers of the loaded policies.
+     * @since 3.5.0
+     */
+    public PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader,
+            final Function<Iterable<PolicyEntry>, Enforcer> evaluator) {
 
         delegate = policyCacheLoader;
+        this.evaluator = evaluator;
     }
 
     @Override
@@ -61,7 +78,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
         if (entry.exists()) {
             final var revision = entry.getRevision();
             final var policy = entry.getValueOrThrow();
-            return PolicyEnforcer.withResolvedImports(policy, policyResolver)
+            return PolicyEnforcer.withResolvedImports(policy, policyResolver, evaluator)
                     .thenApply(enforcer -> Entry.of(revision, enforcer));
         } else {
             return CompletableFuture.completedFuture(Entry.nonexistent());
@@ -38,6 +38,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
 
     private final boolean globalLiveResponseDispatching;
     private final Set<String> specialLoggingInspectedNamespaces;
+    private final boolean compactPolicyEnforcerEnabled;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askWithRetryConfig = DefaultAskWithRetryConfig.of(configWithFallback, ASK_WITH_RETRY_CONFIG_PATH);
@@ -45,6 +46,8 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
         specialLoggingInspectedNamespaces = Collections.unmodifiableSet(new HashSet<>(configWithFallback.getStringList(
                         EnforcementConfigValue.SPECIAL_LOGGING_INSPECTED_NAMESPACES.getConfigPath())));
+        compactPolicyEnforcerEnabled =
+                configWithFallback.getBoolean(EnforcementConfigValue.COMPACT_POLICY_ENFORCER_ENABLED.getConfigPath());
     }
 
     /**
@@ -74,6 +77,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return specialLoggingInspectedNamespaces;
     }
 
+    @Override
+    public boolean isCompactPolicyEnforcerEnabled() {
+        return compactPolicyEnforcerEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -85,12 +93,14 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
-                specialLoggingInspectedNamespaces.equals(that.specialLoggingInspectedNamespaces);
+                specialLoggingInspectedNamespaces.equals(that.specialLoggingInspectedNamespaces) &&
+                compactPolicyEnforcerEnabled == that.compactPolicyEnforcerEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askWithRetryConfig, globalLiveResponseDispatching, specialLoggingInspectedNamespaces);
+        return Objects.hash(askWithRetryConfig, globalLiveResponseDispatching, specialLoggingInspectedNamespaces,
+                compactPolicyEnforcerEnabled);
     }
 
     @Override
@@ -99,6 +109,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askWithRetryConfig=" + askWithRetryConfig +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
                 ", specialLoggingInspectedNamespaces=" + specialLoggingInspectedNamespaces +
+                ", compactPolicyEnforcerEnabled=" + compactPolicyEnforcerEnabled +
                 "]";
     }
 }
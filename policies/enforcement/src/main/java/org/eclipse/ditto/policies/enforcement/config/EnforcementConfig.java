@@ -49,6 +49,15 @@ public interface EnforcementConfig {
      */
     Set<String> getSpecialLoggingInspectedNamespaces();
 
+    /**
+     * Returns whether policies are evaluated with the compact flattened trie based enforcer, which retains less
+     * memory per cached policy enforcer than the default trie based enforcer.
+     *
+     * @return whether the compact policy enforcer is enabled.
+     * @since 3.5.0
+     */
+    boolean isCompactPolicyEnforcerEnabled();
+
     /**
      * Check if global dispatch of a signal should be supported.
      *
@@ -75,7 +84,12 @@ public interface EnforcementConfig {
         /**
          * List of namespaces for which a special usage logging should be enabled in enforcement.
          */
-        SPECIAL_LOGGING_INSPECTED_NAMESPACES("special-logging-inspected-namespaces", List.of());
+        SPECIAL_LOGGING_INSPECTED_NAMESPACES("special-logging-inspected-namespaces", List.of()),
+
+        /**
+         * Whether to evaluate policies with the compact flattened trie based enforcer.
+         */
+        COMPACT_POLICY_ENFORCER_ENABLED("compact-policy-enforcer-enabled", false);
 
         private final String path;
         private final Object defaultValue;
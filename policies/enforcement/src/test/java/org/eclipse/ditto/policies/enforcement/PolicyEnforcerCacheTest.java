@@ -17,18 +17,25 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Label;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -125,6 +132,91 @@ public final class PolicyEnforcerCacheTest {
 
     }
 
+    @Test
+    public void changedImportedPolicyIsReimportedIntoCachedImportingPolicies() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                executor,
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
+        );
+
+        final var importedPolicyId = PolicyId.generateRandom();
+        final var importingPolicyId = PolicyId.generateRandom();
+        final var otherImportedPolicyId = PolicyId.generateRandom();
+
+        final Policy importedPolicy = Policy.newBuilder(importedPolicyId)
+                .forLabel("template")
+                .setSubject(SubjectIssuer.GOOGLE, "before")
+                .setGrantedPermissions("thing", "/", "READ")
+                .build();
+        final Policy otherImportedPolicy = Policy.newBuilder(otherImportedPolicyId)
+                .forLabel("other")
+                .setSubject(SubjectIssuer.GOOGLE, "other")
+                .setGrantedPermissions("thing", "/", "READ")
+                .build();
+        final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
+                .forLabel("own")
+                .setSubject(SubjectIssuer.GOOGLE, "owner")
+                .setGrantedPermissions("policy", "/", "READ", "WRITE")
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(otherImportedPolicyId))
+                .build();
+        final Policy changedImportedPolicy = Policy.newBuilder(importedPolicyId)
+                .forLabel("template")
+                .setSubject(SubjectIssuer.GOOGLE, "after")
+                .setGrantedPermissions("thing", "/", "READ")
+                .build();
+
+        mockLoadedWithResolvedImports(cacheLoader, importedPolicy);
+        mockLoadedWithResolvedImports(cacheLoader, otherImportedPolicy);
+        mockLoadedWithResolvedImports(cacheLoader, importingPolicy, importedPolicy, otherImportedPolicy);
+        underTest.get(importedPolicyId).join();
+        underTest.get(importingPolicyId).join();
+        reset(cacheLoader);
+
+        mockLoadedWithResolvedImports(cacheLoader, changedImportedPolicy);
+        underTest.invalidate(importedPolicyId);
+
+        verify(cacheLoader, timeout(3000)).asyncLoad(eq(importedPolicyId), any());
+        final Policy reimportedPolicy = underTest.get(importingPolicyId)
+                .join()
+                .flatMap(Entry::get)
+                .flatMap(PolicyEnforcer::getPolicy)
+                .orElseThrow();
+        final Label importedLabel = PoliciesModelFactory.newImportedLabel(importedPolicyId, Label.of("template"));
+        assertThat(reimportedPolicy.getEntryFor(importedLabel).map(PolicyEntry::getSubjects))
+                .isEqualTo(changedImportedPolicy.getEntryFor("template").map(PolicyEntry::getSubjects));
+        assertThat(reimportedPolicy.getEntryFor(
+                PoliciesModelFactory.newImportedLabel(otherImportedPolicyId, Label.of("other")))).isPresent();
+        assertThat(reimportedPolicy.getEntryFor("own")).isPresent();
+        assertThat(underTest.get(importingPolicyId).join().flatMap(Entry::get).orElseThrow()
+                .getEnforcer()
+                .getSubjectsWithUnrestrictedPermission(
+                        PoliciesModelFactory.newResourceKey("thing", JsonPointer.empty()),
+                        PoliciesModelFactory.newPermissions("READ")))
+                .extracting(AuthorizationSubject::getId)
+                .contains("google:after", "google:other")
+                .doesNotContain("google:before");
+
+        verify(cacheLoader, never()).asyncLoad(eq(importingPolicyId), any());
+        verify(cacheLoader, never()).asyncLoad(eq(otherImportedPolicyId), any());
+    }
+
+    private static void mockLoadedWithResolvedImports(
+            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader,
+            final Policy policy,
+            final Policy... importedPolicies) throws Exception {
+        final PolicyEnforcer enforcer = PolicyEnforcer.withResolvedImports(policy, importedPolicyId ->
+                CompletableFuture.completedFuture(Arrays.stream(importedPolicies)
+                        .filter(p -> p.getEntityId().orElseThrow().equals(importedPolicyId))
+                        .findAny())
+        ).toCompletableFuture().join();
+        when(cacheLoader.asyncLoad(eq(policy.getEntityId().orElseThrow()), any()))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(Entry.of(1L, enforcer)));
+    }
+
     private void verifyLoadedFromCacheLoader(final Policy policy,
             final PolicyEnforcerCache cache,
             final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
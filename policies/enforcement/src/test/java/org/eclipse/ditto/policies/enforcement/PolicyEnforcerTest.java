@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.enforcement.config.DefaultEnforcementConfig;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.PolicyImports;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.enforcers.trie.FlattenedTrieBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link PolicyEnforcer}.
+ */
+public final class PolicyEnforcerTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto:policy");
+    private static final PolicyId IMPORTED_POLICY_ID = PolicyId.of("org.eclipse.ditto:imported");
+
+    @Test
+    public void defaultEvaluatorIsUsedUnlessCompactPolicyEnforcerIsEnabled() throws Exception {
+        final var enforcementConfig = DefaultEnforcementConfig.of(ConfigFactory.empty());
+
+        final var underTest = PolicyEnforcer.withResolvedImports(policy(), this::resolveNothing,
+                PolicyEnforcer.getEvaluator(enforcementConfig)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(underTest.getEnforcer()).isInstanceOf(TrieBasedPolicyEnforcer.class);
+        assertThat(PolicyEnforcer.of(policy()).getEnforcer()).isInstanceOf(TrieBasedPolicyEnforcer.class);
+    }
+
+    @Test
+    public void compactEvaluatorIsUsedIfEnabledAlsoWhenReimporting() throws Exception {
+        final var enforcementConfig = DefaultEnforcementConfig.of(ConfigFactory.parseString(
+                "enforcement.compact-policy-enforcer-enabled = true"));
+        final var policy = policy().toBuilder()
+                .setPolicyImports(PolicyImports.newInstance(PolicyImport.newInstance(IMPORTED_POLICY_ID, null)))
+                .build();
+
+        final var underTest = PolicyEnforcer.withResolvedImports(policy, this::resolveNothing,
+                PolicyEnforcer.getEvaluator(enforcementConfig)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(underTest.getEnforcer()).isInstanceOf(FlattenedTrieBasedPolicyEnforcer.class);
+        assertThat(underTest.withReimportedPolicy(IMPORTED_POLICY_ID, null).orElseThrow().getEnforcer())
+                .isInstanceOf(FlattenedTrieBasedPolicyEnforcer.class);
+    }
+
+    private CompletableFuture<Optional<Policy>> resolveNothing(final PolicyId policyId) {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    private static Policy policy() {
+        return Policy.newBuilder(POLICY_ID)
+                .forLabel("DEFAULT")
+                .setSubject(SubjectIssuer.GOOGLE, "subject")
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), "READ")
+                .build();
+    }
+
+}
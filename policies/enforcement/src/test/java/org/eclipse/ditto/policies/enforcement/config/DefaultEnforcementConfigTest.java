@@ -64,6 +64,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getAskWithRetryConfig().getAskTimeout())
                 .as(AskWithRetryConfig.AskWithRetryConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(AskWithRetryConfig.AskWithRetryConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.isCompactPolicyEnforcerEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.COMPACT_POLICY_ENFORCER_ENABLED.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.COMPACT_POLICY_ENFORCER_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -73,6 +76,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getAskWithRetryConfig().getAskTimeout())
                 .as(AskWithRetryConfig.AskWithRetryConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(33L));
+        softly.assertThat(underTest.isCompactPolicyEnforcerEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.COMPACT_POLICY_ENFORCER_ENABLED.getConfigPath())
+                .isTrue();
     }
 
 }
@@ -50,17 +50,32 @@ public final class PolicyImporter {
                 .map(policyImport -> {
                     final PolicyId importedPolicyId = policyImport.getImportedPolicyId();
                     final CompletionStage<Optional<Policy>> loadedPolicyOptCs = policyLoader.apply(importedPolicyId);
-                    return loadedPolicyOptCs.thenApply(loadedPolicyOpt -> loadedPolicyOpt.map(loadedPolicy -> {
-                        final ImportedLabels importedLabels = policyImport.getEffectedImports()
-                                .map(EffectedImports::getImportedLabels)
-                                .orElse(ImportedLabels.none());
-                        return rewriteImportedLabels(importedPolicyId, loadedPolicy, importedLabels);
-                    }).orElse(Collections.emptySet()));
+                    return loadedPolicyOptCs.thenApply(loadedPolicyOpt -> loadedPolicyOpt
+                            .map(loadedPolicy -> getImportedPolicyEntries(policyImport, loadedPolicy))
+                            .orElse(Collections.emptySet()));
                 })
                 .reduce(CompletableFuture.completedFuture(policy.getEntriesSet()), PolicyImporter::combineSets,
                         PolicyImporter::combineSets);
     }
 
+    /**
+     * Determines the {@link PolicyEntry}s which the passed {@code policyImport} imports from the passed
+     * {@code importedPolicy}, with their labels rewritten to imported labels.
+     * This allows to re-evaluate a single import of an importing policy when only the imported policy changed.
+     *
+     * @param policyImport the import of the importing policy.
+     * @param importedPolicy the (unresolved) policy referenced by {@code policyImport}.
+     * @return the policy entries imported from {@code importedPolicy}.
+     * @since 3.5.0
+     */
+    public static Set<PolicyEntry> getImportedPolicyEntries(final PolicyImport policyImport,
+            final Policy importedPolicy) {
+        final ImportedLabels importedLabels = policyImport.getEffectedImports()
+                .map(EffectedImports::getImportedLabels)
+                .orElse(ImportedLabels.none());
+        return rewriteImportedLabels(policyImport.getImportedPolicyId(), importedPolicy, importedLabels);
+    }
+
     private static Set<PolicyEntry> rewriteImportedLabels(final PolicyId importedPolicyId, final Policy importedPolicy,
             final Collection<Label> importedLabels) {
 
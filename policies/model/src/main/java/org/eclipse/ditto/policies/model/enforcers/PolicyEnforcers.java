@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.FlattenedTrieBasedPolicyEnforcer;
 import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
 
 /**
@@ -40,6 +41,20 @@ public final class PolicyEnforcers {
         return throughputOptimizedEvaluator(policyEntries);
     }
 
+    /**
+     * Returns an Enforcer with the same throughput characteristics as {@link #throughputOptimizedEvaluator(Iterable)},
+     * but retaining a fraction of its memory (factor 4-5 less for large Policies), which makes it suitable for
+     * caching many Enforcers. Building it takes somewhat longer.
+     *
+     * @param policyEntries the Policy entries to initialize the evaluator with.
+     * @return the initialized compact throughput optimized Enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     * @since 3.5.0
+     */
+    public static Enforcer compactThroughputOptimizedEvaluator(final Iterable<PolicyEntry> policyEntries) {
+        return FlattenedTrieBasedPolicyEnforcer.newInstance(policyEntries);
+    }
+
     /**
      * Returns an Enforcer which requires more memory (factor 2-4 more than {@link
      * #memoryOptimizedEvaluator(Iterable)}) but delivers very high throughput for most of the Policies, especially good
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable, array-based form of a {@link GrantRevokeIndex}.
+ */
+@Immutable
+final class CompactGrantRevokeIndex {
+
+    private final CompactPermissionSubjectsMap granted;
+    private final CompactPermissionSubjectsMap revoked;
+
+    private CompactGrantRevokeIndex(final CompactPermissionSubjectsMap granted,
+            final CompactPermissionSubjectsMap revoked) {
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Converts a {@link GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to convert.
+     * @param subjectIndex the interned index of each subject ID occurring in {@code grantRevokeIndex}.
+     * @param permissionIndex the interned index of each permission occurring in {@code grantRevokeIndex}.
+     * @param permissionWords number of longs of each permission bitset.
+     * @return the converted index.
+     */
+    static CompactGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex,
+            final ToIntFunction<String> subjectIndex,
+            final ToIntFunction<String> permissionIndex,
+            final int permissionWords) {
+
+        return new CompactGrantRevokeIndex(
+                CompactPermissionSubjectsMap.of(grantRevokeIndex.getGranted(), subjectIndex, permissionIndex,
+                        permissionWords),
+                CompactPermissionSubjectsMap.of(grantRevokeIndex.getRevoked(), subjectIndex, permissionIndex,
+                        permissionWords));
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     * All checked permissions must be known to the trie this index belongs to.
+     *
+     * @param subjectIndices sorted indices of the subjects to check.
+     * @param permissions non-empty bitset of the permissions to check.
+     * @return result of the check.
+     * @see GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)
+     */
+    boolean hasPermissions(final int[] subjectIndices, final long[] permissions) {
+        final int grantWeight = granted.getMaxNonemptyWeight(subjectIndices, permissions);
+        if (grantWeight == CompactPermissionSubjectsMap.NO_WEIGHT) {
+            return false;
+        }
+        final int revokeWeight = revoked.getMaxWeight(subjectIndices, permissions);
+        return revokeWeight == CompactPermissionSubjectsMap.NO_WEIGHT || revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the map of permissions granted to subjects.
+     *
+     * @return the grant-map.
+     */
+    CompactPermissionSubjectsMap getGranted() {
+        return granted;
+    }
+
+    /**
+     * Returns the map of permissions revoked from subjects.
+     *
+     * @return the revoke-map.
+     */
+    CompactPermissionSubjectsMap getRevoked() {
+        return revoked;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompactGrantRevokeIndex that = (CompactGrantRevokeIndex) o;
+        return granted.equals(that.granted) && revoked.equals(that.revoked);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * granted.hashCode() + revoked.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "granted=" + granted +
+                ", revoked=" + revoked +
+                "]";
+    }
+
+}
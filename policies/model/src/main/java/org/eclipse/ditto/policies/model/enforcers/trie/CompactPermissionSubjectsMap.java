@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable, array-based form of a {@link PermissionSubjectsMap}.
+ * <p>
+ * Subjects and permissions are referenced by their index in the interned tables of the {@link FlattenedPolicyTrie}
+ * the map belongs to. The relation is stored as one entry per pair of subject and weight, each entry holding the
+ * related permissions as bitset of {@code permissionWords} longs. Entries are sorted by subject index.
+ * Like in {@code PermissionSubjectsMap}, a permission may be present in the map without any related subject.
+ */
+@Immutable
+final class CompactPermissionSubjectsMap {
+
+    /**
+     * Weight returned by the weight computations if no pair of given subject and permission is related.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final int[] subjects;
+    private final int[] weights;
+    private final long[] permissionMasks;
+    private final long[] presentPermissions;
+
+    private CompactPermissionSubjectsMap(final int[] subjects, final int[] weights, final long[] permissionMasks,
+            final long[] presentPermissions) {
+        this.subjects = subjects;
+        this.weights = weights;
+        this.permissionMasks = permissionMasks;
+        this.presentPermissions = presentPermissions;
+    }
+
+    /**
+     * Converts a {@link PermissionSubjectsMap}.
+     *
+     * @param map the map to convert.
+     * @param subjectIndex the interned index of each subject ID occurring in {@code map}.
+     * @param permissionIndex the interned index of each permission occurring in {@code map}.
+     * @param permissionWords number of longs of each permission bitset.
+     * @return the converted map.
+     */
+    static CompactPermissionSubjectsMap of(final Map<String, Map<String, Integer>> map,
+            final ToIntFunction<String> subjectIndex,
+            final ToIntFunction<String> permissionIndex,
+            final int permissionWords) {
+
+        final Map<Long, long[]> masksBySubjectAndWeight = new HashMap<>();
+        final long[] presentPermissions = new long[permissionWords];
+        map.forEach((permission, subjectWeights) -> {
+            final int permissionIdx = permissionIndex.applyAsInt(permission);
+            setBit(presentPermissions, 0, permissionIdx);
+            subjectWeights.forEach((subjectId, weight) -> {
+                final long[] mask = masksBySubjectAndWeight.computeIfAbsent(
+                        toSortKey(subjectIndex.applyAsInt(subjectId), weight), key -> new long[permissionWords]);
+                setBit(mask, 0, permissionIdx);
+            });
+        });
+
+        final long[] sortKeys = new long[masksBySubjectAndWeight.size()];
+        int size = 0;
+        for (final Long sortKey : masksBySubjectAndWeight.keySet()) {
+            sortKeys[size++] = sortKey;
+        }
+        Arrays.sort(sortKeys);
+
+        final int[] subjects = new int[size];
+        final int[] weights = new int[size];
+        final long[] masks = new long[size * permissionWords];
+        for (int i = 0; i < size; i++) {
+            subjects[i] = (int) (sortKeys[i] >>> 32);
+            weights[i] = ((int) sortKeys[i]) ^ Integer.MIN_VALUE;
+            System.arraycopy(masksBySubjectAndWeight.get(sortKeys[i]), 0, masks, i * permissionWords,
+                    permissionWords);
+        }
+
+        return new CompactPermissionSubjectsMap(subjects, weights, masks, presentPermissions);
+    }
+
+    /**
+     * Combines subject index and weight to a long ordered by subject index first and weight second.
+     */
+    private static long toSortKey(final int subjectIndex, final int weight) {
+        return ((long) subjectIndex << 32) | ((weight ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    private static void setBit(final long[] words, final int offset, final int bit) {
+        words[offset + (bit >>> 6)] |= 1L << bit;
+    }
+
+    /**
+     * Returns the maximum weight of the pairs of the given subjects and <em>some</em> of the given permissions.
+     *
+     * @param subjectIndices sorted indices of the subjects to check.
+     * @param permissions bitset of the permissions to check.
+     * @return the maximum weight or {@link #NO_WEIGHT}.
+     * @see PermissionSubjectsMap#getMaxWeightForAllPermissions(Collection, Collection)
+     */
+    int getMaxWeight(final int[] subjectIndices, final long[] permissions) {
+        int maxWeight = NO_WEIGHT;
+        for (final int subjectIndex : subjectIndices) {
+            for (int i = firstEntryOf(subjectIndex); i < subjects.length && subjects[i] == subjectIndex; i++) {
+                if (intersects(i, permissions) && weights[i] > maxWeight) {
+                    maxWeight = weights[i];
+                }
+            }
+        }
+        return maxWeight;
+    }
+
+    /**
+     * Returns the maximum weight of the pairs of the given subjects and the given permissions if <em>each</em> of
+     * the given permissions is related to some of the given subjects.
+     *
+     * @param subjectIndices sorted indices of the subjects to check.
+     * @param permissions bitset of the permissions to check.
+     * @return the maximum weight or {@link #NO_WEIGHT}.
+     * @see PermissionSubjectsMap#getMaxNonemptyWeightForAllPermissions(Collection, Collection)
+     */
+    int getMaxNonemptyWeight(final int[] subjectIndices, final long[] permissions) {
+        final long[] covered = new long[permissions.length];
+        int maxWeight = NO_WEIGHT;
+        for (final int subjectIndex : subjectIndices) {
+            for (int i = firstEntryOf(subjectIndex); i < subjects.length && subjects[i] == subjectIndex; i++) {
+                if (intersects(i, permissions)) {
+                    final int offset = i * permissions.length;
+                    for (int word = 0; word < permissions.length; word++) {
+                        covered[word] |= permissionMasks[offset + word] & permissions[word];
+                    }
+                    maxWeight = Math.max(maxWeight, weights[i]);
+                }
+            }
+        }
+        return Arrays.equals(covered, permissions) ? maxWeight : NO_WEIGHT;
+    }
+
+    /**
+     * Calls {@code consumer} with each subject related to <em>all</em> of the given permissions which are present
+     * in this map at all.
+     *
+     * @param permissions bitset of the permissions to check.
+     * @param consumer receives the matching subject indices.
+     * @see PermissionSubjectsMap#getSubjectIntersect(java.util.Set)
+     */
+    void forEachSubjectRelatedToAll(final long[] permissions, final IntConsumer consumer) {
+        final long[] relevant = new long[permissions.length];
+        boolean anyRelevant = false;
+        for (int word = 0; word < permissions.length; word++) {
+            relevant[word] = permissions[word] & presentPermissions[word];
+            anyRelevant |= relevant[word] != 0L;
+        }
+        if (!anyRelevant) {
+            return;
+        }
+        final long[] subjectPermissions = new long[permissions.length];
+        int i = 0;
+        while (i < subjects.length) {
+            final int subjectIndex = subjects[i];
+            Arrays.fill(subjectPermissions, 0L);
+            for (; i < subjects.length && subjects[i] == subjectIndex; i++) {
+                final int offset = i * permissions.length;
+                for (int word = 0; word < permissions.length; word++) {
+                    subjectPermissions[word] |= permissionMasks[offset + word] & relevant[word];
+                }
+            }
+            if (Arrays.equals(subjectPermissions, relevant)) {
+                consumer.accept(subjectIndex);
+            }
+        }
+    }
+
+    /**
+     * Calls {@code consumer} with each subject related to <em>some</em> of the given permissions.
+     *
+     * @param permissions bitset of the permissions to check.
+     * @param consumer receives the matching subject indices, possibly more than once.
+     * @see PermissionSubjectsMap#getSubjectUnion(java.util.Set)
+     */
+    void forEachSubjectRelatedToAny(final long[] permissions, final IntConsumer consumer) {
+        for (int i = 0; i < subjects.length; i++) {
+            if (intersects(i, permissions)) {
+                consumer.accept(subjects[i]);
+            }
+        }
+    }
+
+    private boolean intersects(final int entry, final long[] permissions) {
+        final int offset = entry * permissions.length;
+        for (int word = 0; word < permissions.length; word++) {
+            if ((permissionMasks[offset + word] & permissions[word]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int firstEntryOf(final int subjectIndex) {
+        int low = 0;
+        int high = subjects.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (subjects[mid] < subjectIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompactPermissionSubjectsMap that = (CompactPermissionSubjectsMap) o;
+        return Arrays.equals(subjects, that.subjects) &&
+                Arrays.equals(weights, that.weights) &&
+                Arrays.equals(permissionMasks, that.permissionMasks) &&
+                Arrays.equals(presentPermissions, that.presentPermissions);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(subjects);
+        result = 31 * result + Arrays.hashCode(weights);
+        result = 31 * result + Arrays.hashCode(permissionMasks);
+        result = 31 * result + Arrays.hashCode(presentPermissions);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subjects=" + Arrays.toString(subjects) +
+                ", weights=" + Arrays.toString(weights) +
+                ", permissionMasks=" + Arrays.toString(permissionMasks) +
+                ", presentPermissions=" + Arrays.toString(presentPermissions) +
+                "]";
+    }
+
+}
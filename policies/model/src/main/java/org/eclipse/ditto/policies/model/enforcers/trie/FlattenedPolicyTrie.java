@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+
+/**
+ * Immutable, array-flattened combination of the inherited, the bottom-up-grant and the bottom-up-revoke
+ * {@link PolicyTrie} of a policy.
+ * <p>
+ * The three tries share the same shape, so their nodes are stored only once, numbered in breadth-first order. The
+ * children of a node are therefore numbered consecutively and are addressed by the offsets in {@code childOffsets}:
+ * the {@code i}th edge in {@code childKeys} leads to node {@code i + 1}. Within each node, edges are sorted by key so
+ * that children are found by binary search.
+ * <p>
+ * Resource keys, subject IDs and permissions are interned per trie and referenced by index; equal grant-revoke-indices
+ * are shared between nodes and between the three tries.
+ */
+@Immutable
+final class FlattenedPolicyTrie {
+
+    private static final int ROOT = 0;
+    private static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> keyIndices;
+    private final Map<String, Integer> subjectIndices;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIndices;
+    private final int permissionWords;
+    private final int[] childOffsets;
+    private final int[] childKeys;
+    private final CompactGrantRevokeIndex[] inherited;
+    private final CompactGrantRevokeIndex[] bottomUpGrant;
+    private final CompactGrantRevokeIndex[] bottomUpRevoke;
+
+    private FlattenedPolicyTrie(final Builder builder) {
+        keyIndices = builder.keyIndices;
+        subjectIndices = builder.subjectIndices;
+        subjects = builder.subjects;
+        permissionIndices = builder.permissionIndices;
+        permissionWords = builder.permissionWords;
+        childOffsets = builder.childOffsets;
+        childKeys = builder.childKeys;
+        inherited = builder.inherited;
+        bottomUpGrant = builder.bottomUpGrant;
+        bottomUpRevoke = builder.bottomUpRevoke;
+    }
+
+    /**
+     * Interprets policy entries as flattened trie.
+     *
+     * @param policy the policy entries to interpret.
+     * @return the flattened trie.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    static FlattenedPolicyTrie fromPolicy(final Iterable<PolicyEntry> policy) {
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        return new Builder(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(), inheritedTrie.getBottomUpRevokeTrie())
+                .build();
+    }
+
+    /**
+     * @see TrieBasedPolicyEnforcer#hasUnrestrictedPermissions
+     */
+    boolean hasUnrestrictedPermissions(final ResourceKey resourceKey, final Collection<String> subjectIds,
+            final Collection<String> permissions) {
+
+        return hasPermissions(seekWithFallback(resourceKey, bottomUpRevoke), subjectIds, permissions);
+    }
+
+    /**
+     * @see TrieBasedPolicyEnforcer#hasPartialPermissions
+     */
+    boolean hasPartialPermissions(final ResourceKey resourceKey, final Collection<String> subjectIds,
+            final Collection<String> permissions) {
+
+        return hasPermissions(seekWithFallback(resourceKey, bottomUpGrant), subjectIds, permissions);
+    }
+
+    /**
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithPermission
+     */
+    EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Collection<String> permissions) {
+        final CompactGrantRevokeIndex index = inherited[nodeOf(seek(resourceKey))];
+        final long[] permissionBits = toPermissionBits(permissions);
+        return DefaultEffectedSubjects.of(getGrantedSubjects(index, permissionBits),
+                getRevokedSubjects(index, permissionBits));
+    }
+
+    /**
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithPartialPermission
+     */
+    Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Collection<String> permissions) {
+
+        return getGrantedSubjects(seekWithFallback(resourceKey, bottomUpGrant), toPermissionBits(permissions));
+    }
+
+    /**
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithUnrestrictedPermission
+     */
+    Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Collection<String> permissions) {
+
+        final CompactGrantRevokeIndex index = seekWithFallback(resourceKey, bottomUpRevoke);
+        final long[] permissionBits = toPermissionBits(permissions);
+        final Set<AuthorizationSubject> grantedSubjects = getGrantedSubjects(index, permissionBits);
+        grantedSubjects.removeAll(getRevokedSubjects(index, permissionBits));
+        return grantedSubjects;
+    }
+
+    /**
+     * Returns whether the root node has a child for the given key.
+     *
+     * @param childKey key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasRootChild(final JsonKey childKey) {
+        return findChild(ROOT, keyIndexOf(childKey)) != UNKNOWN;
+    }
+
+    /**
+     * @see PolicyTrie#buildJsonView(Iterable, Collection, org.eclipse.ditto.policies.model.Permissions)
+     */
+    JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Collection<String> permissions) {
+
+        final Query query = new Query(toSubjectIndices(subjectIds), permissions);
+        return buildJsonView(nodeOf(seek(resourceKey)), false, jsonFields, query);
+    }
+
+    private JsonObject buildJsonView(final int node, final boolean withoutChildren,
+            final Iterable<JsonField> jsonFields, final Query query) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final int child = withoutChildren ? UNKNOWN : findChild(node, keyIndexOf(field.getKey()));
+            final JsonValue jsonView = child == UNKNOWN
+                    ? getViewForJsonValueOrNull(node, true, field.getValue(), query)
+                    : getViewForJsonValueOrNull(child, false, field.getValue(), query);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final int node, final boolean withoutChildren,
+            final JsonValue jsonValue, final Query query) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(node, buildJsonView(node, withoutChildren, jsonValue.asObject(), query), query);
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = jsonValue.asArray().stream()
+                    .map(value -> getViewForJsonValueOrNull(node, withoutChildren, value, query))
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
+            result = filterCandidate(node, candidate, query);
+        } else if (query.isGrantedAt(inherited[node])) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final int node, final T candidate,
+            final Query query) {
+
+        if (!candidate.isEmpty() || query.isGrantedAt(inherited[node])) {
+            return candidate;
+        }
+        return null;
+    }
+
+    private boolean hasPermissions(final CompactGrantRevokeIndex index, final Collection<String> subjectIds,
+            final Collection<String> permissions) {
+
+        return new Query(toSubjectIndices(subjectIds), permissions).isGrantedAt(index);
+    }
+
+    /**
+     * Returns the index of the node in {@code firstTry} whose path from root matches the given resource key exactly
+     * if it exists, otherwise the index of {@link #inherited} at the node matching the resource key the best.
+     */
+    private CompactGrantRevokeIndex seekWithFallback(final ResourceKey resourceKey,
+            final CompactGrantRevokeIndex[] firstTry) {
+
+        final int seekResult = seek(resourceKey);
+        return isExactMatch(seekResult) ? firstTry[seekResult] : inherited[nodeOf(seekResult)];
+    }
+
+    /**
+     * Traverses along the path of the resource key as far as possible.
+     *
+     * @return the matched node if the path was fully traversed, or the bitwise complement of the best matched node
+     * otherwise.
+     */
+    private int seek(final ResourceKey resourceKey) {
+        final Iterator<JsonKey> path = PolicyTrie.getJsonKeyIterator(resourceKey);
+        int node = ROOT;
+        while (path.hasNext()) {
+            final int child = findChild(node, keyIndexOf(path.next()));
+            if (child == UNKNOWN) {
+                return ~node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private static boolean isExactMatch(final int seekResult) {
+        return seekResult >= 0;
+    }
+
+    private static int nodeOf(final int seekResult) {
+        return isExactMatch(seekResult) ? seekResult : ~seekResult;
+    }
+
+    private int findChild(final int node, final int keyIndex) {
+        if (keyIndex == UNKNOWN) {
+            return UNKNOWN;
+        }
+        int low = childOffsets[node];
+        int high = childOffsets[node + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midKey = childKeys[mid];
+            if (midKey < keyIndex) {
+                low = mid + 1;
+            } else if (midKey > keyIndex) {
+                high = mid - 1;
+            } else {
+                return mid + 1;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private int keyIndexOf(final JsonKey key) {
+        return keyIndices.getOrDefault(key.toString(), UNKNOWN);
+    }
+
+    private int[] toSubjectIndices(final Collection<String> subjectIds) {
+        return subjectIds.stream()
+                .mapToInt(subjectId -> subjectIndices.getOrDefault(subjectId, UNKNOWN))
+                .filter(index -> index != UNKNOWN)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Converts permissions to a bitset, ignoring permissions which occur nowhere in this trie.
+     */
+    private long[] toPermissionBits(final Collection<String> permissions) {
+        final long[] permissionBits = new long[permissionWords];
+        for (final String permission : permissions) {
+            final int index = permissionIndices.getOrDefault(permission, UNKNOWN);
+            if (index != UNKNOWN) {
+                permissionBits[index >>> 6] |= 1L << index;
+            }
+        }
+        return permissionBits;
+    }
+
+    private Set<AuthorizationSubject> getGrantedSubjects(final CompactGrantRevokeIndex index,
+            final long[] permissionBits) {
+
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        index.getGranted().forEachSubjectRelatedToAll(permissionBits, subject -> result.add(subjects[subject]));
+        return result;
+    }
+
+    private Set<AuthorizationSubject> getRevokedSubjects(final CompactGrantRevokeIndex index,
+            final long[] permissionBits) {
+
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        index.getRevoked().forEachSubjectRelatedToAny(permissionBits, subject -> result.add(subjects[subject]));
+        return result;
+    }
+
+    /**
+     * Subjects and permissions of a permission check, resolved against the interned tables of this trie.
+     */
+    private final class Query {
+
+        private final int[] subjectIndices;
+        private final long[] permissionBits;
+        private final boolean satisfiable;
+
+        private Query(final int[] subjectIndices, final Collection<String> permissions) {
+            this.subjectIndices = subjectIndices;
+            permissionBits = toPermissionBits(permissions);
+            // a permission occurring nowhere in the trie can't be granted, neither can an empty set of permissions
+            satisfiable = !permissions.isEmpty() && permissions.stream().allMatch(permissionIndices::containsKey);
+        }
+
+        private boolean isGrantedAt(final CompactGrantRevokeIndex index) {
+            return satisfiable && index.hasPermissions(subjectIndices, permissionBits);
+        }
+    }
+
+    /**
+     * Flattens the three tries of the same shape in breadth-first order.
+     */
+    private static final class Builder {
+
+        private final PolicyTrie inheritedTrie;
+        private final PolicyTrie bottomUpGrantTrie;
+        private final PolicyTrie bottomUpRevokeTrie;
+        private final Map<CompactGrantRevokeIndex, CompactGrantRevokeIndex> internedIndices;
+
+        private final Map<String, Integer> keyIndices;
+        private final Map<String, Integer> subjectIndices;
+        private final List<String> subjectIds;
+        private final Map<String, Integer> permissionIndices;
+        private AuthorizationSubject[] subjects;
+        private int permissionWords;
+        private int[] childOffsets;
+        private int[] childKeys;
+        private CompactGrantRevokeIndex[] inherited;
+        private CompactGrantRevokeIndex[] bottomUpGrant;
+        private CompactGrantRevokeIndex[] bottomUpRevoke;
+
+        private Builder(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+                final PolicyTrie bottomUpRevokeTrie) {
+            this.inheritedTrie = checkNotNull(inheritedTrie, "inheritedTrie");
+            this.bottomUpGrantTrie = bottomUpGrantTrie;
+            this.bottomUpRevokeTrie = bottomUpRevokeTrie;
+            internedIndices = new HashMap<>();
+            keyIndices = new HashMap<>();
+            subjectIndices = new HashMap<>();
+            subjectIds = new ArrayList<>();
+            permissionIndices = new HashMap<>();
+        }
+
+        private FlattenedPolicyTrie build() {
+            // the bottom-up tries are derived from the inherited trie and contain no further permissions
+            collectPermissions(inheritedTrie);
+            permissionWords = Math.max(1, (permissionIndices.size() + 63) >>> 6);
+
+            final List<PolicyTrie[]> nodes = new ArrayList<>();
+            final List<Integer> edgeKeys = new ArrayList<>();
+            final List<Integer> edgeOffsets = new ArrayList<>();
+            final Queue<PolicyTrie[]> queue = new ArrayDeque<>();
+            queue.add(new PolicyTrie[]{inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie});
+            while (!queue.isEmpty()) {
+                final PolicyTrie[] node = queue.remove();
+                nodes.add(node);
+                edgeOffsets.add(edgeKeys.size());
+                final Map<Integer, JsonKey> childKeysByIndex = new TreeMap<>();
+                node[0].getChildren().keySet().forEach(key -> childKeysByIndex.put(
+                        keyIndices.computeIfAbsent(key.toString(), k -> keyIndices.size()), key));
+                childKeysByIndex.forEach((keyIndex, key) -> {
+                    edgeKeys.add(keyIndex);
+                    queue.add(new PolicyTrie[]{
+                            node[0].getChildren().get(key),
+                            node[1].getChildren().get(key),
+                            node[2].getChildren().get(key)
+                    });
+                });
+            }
+            edgeOffsets.add(edgeKeys.size());
+
+            childOffsets = edgeOffsets.stream().mapToInt(Integer::intValue).toArray();
+            childKeys = edgeKeys.stream().mapToInt(Integer::intValue).toArray();
+            inherited = new CompactGrantRevokeIndex[nodes.size()];
+            bottomUpGrant = new CompactGrantRevokeIndex[nodes.size()];
+            bottomUpRevoke = new CompactGrantRevokeIndex[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                inherited[i] = compact(nodes.get(i)[0]);
+                bottomUpGrant[i] = compact(nodes.get(i)[1]);
+                bottomUpRevoke[i] = compact(nodes.get(i)[2]);
+            }
+            subjects = subjectIds.stream().map(AuthorizationSubject::newInstance).toArray(AuthorizationSubject[]::new);
+
+            return new FlattenedPolicyTrie(this);
+        }
+
+        private void collectPermissions(final PolicyTrie trie) {
+            final GrantRevokeIndex grantRevokeIndex = trie.getGrantRevokeIndex();
+            grantRevokeIndex.getGranted().keySet().forEach(this::internPermission);
+            grantRevokeIndex.getRevoked().keySet().forEach(this::internPermission);
+            trie.getChildren().values().forEach(this::collectPermissions);
+        }
+
+        private void internPermission(final String permission) {
+            permissionIndices.computeIfAbsent(permission, p -> permissionIndices.size());
+        }
+
+        private int internSubject(final String subjectId) {
+            return subjectIndices.computeIfAbsent(subjectId, s -> {
+                subjectIds.add(s);
+                return subjectIds.size() - 1;
+            });
+        }
+
+        private CompactGrantRevokeIndex compact(final PolicyTrie trie) {
+            final CompactGrantRevokeIndex index = CompactGrantRevokeIndex.of(trie.getGrantRevokeIndex(),
+                    this::internSubject, permissionIndices::get, permissionWords);
+            return internedIndices.computeIfAbsent(index, i -> i);
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Trie-based policy enforcer with the same semantics as {@link TrieBasedPolicyEnforcer}, but a much smaller memory
+ * footprint per policy.
+ * <p>
+ * The inherited, bottom-up-grant and bottom-up-revoke tries described in {@link TrieBasedPolicyEnforcer} are built
+ * as usual and then flattened into a single immutable {@link FlattenedPolicyTrie}: all three tries share one array
+ * representation of their common shape, resource keys, subjects and permissions are interned, and the granted and
+ * revoked permissions per subject are encoded as bitsets. The intermediate tries are discarded after construction.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class FlattenedTrieBasedPolicyEnforcer implements Enforcer {
+
+    private final FlattenedPolicyTrie trie;
+
+    private FlattenedTrieBasedPolicyEnforcer(final FlattenedPolicyTrie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Constructs a flattened trie-based policy enforcer from a policy.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    public static FlattenedTrieBasedPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries) {
+        checkNotNull(policyEntries, "policy entries to interpret");
+        return new FlattenedTrieBasedPolicyEnforcer(FlattenedPolicyTrie.fromPolicy(policyEntries));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return trie.hasUnrestrictedPermissions(resourceKey, authorizationContext.getAuthorizationSubjectIds(),
+                permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        return trie.hasPartialPermissions(resourceKey, authorizationContext.getAuthorizationSubjectIds(), permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return trie.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return trie.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return trie.getSubjectsWithUnrestrictedPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (trie.hasRootChild(JsonKey.of(resourceKey.getResourceType()))) {
+            return trie.buildJsonView(resourceKey, jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                    permissions);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+}
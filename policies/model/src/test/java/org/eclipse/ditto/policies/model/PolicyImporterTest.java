@@ -143,6 +143,20 @@ public final class PolicyImporterTest {
         assertThat(entries).containsExactlyInAnyOrder(KNOWN_POLICY_ENTRY_OWN);
     }
 
+    @Test
+    public void getImportedPolicyEntriesOfSingleImport() {
+        final EffectedImports importedLabels = PoliciesModelFactory.newEffectedImportedLabels(
+                Collections.singletonList(Label.of(ImportableType.EXPLICIT.getName() + "SupportGroup")));
+        final PolicyImport policyImport = PoliciesModelFactory.newPolicyImport(IMPORTED_POLICY_ID2, importedLabels);
+
+        final Set<PolicyEntry> entries = PolicyImporter.getImportedPolicyEntries(policyImport, IMPORTED_POLICY_2);
+
+        assertThat(entries).containsExactlyInAnyOrder(
+                importedPolicyEntry(IMPORTED_POLICY_ID2, policyEntry(ImportableType.EXPLICIT)),
+                importedPolicyEntry(IMPORTED_POLICY_ID2, policyEntry(ImportableType.IMPLICIT))
+        );
+    }
+
     private static Policy createImportedPolicy(final PolicyId importedPolicyId) {
         final List<PolicyEntry> policyEntries =
                 Arrays.asList(policyEntry(ImportableType.IMPLICIT), policyEntry(ImportableType.EXPLICIT),
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.FlattenedTrieBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link TrieBasedPolicyEnforcer} and {@link FlattenedTrieBasedPolicyEnforcer} for a large policy with
+ * hundreds of entries on deep resource paths: throughput of building an enforcer and of permission checks, and
+ * the heap retained per enforcer, which is printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class TrieBasedPolicyEnforcerFootprintBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int ENTRIES = 300;
+    private static final int RETAINED_ENFORCERS = 200;
+    private static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+
+    @Param({"trie", "flattened"})
+    public String algorithm;
+
+    private Function<Iterable<PolicyEntry>, Enforcer> enforcerFactory;
+    private Policy policy;
+    private Enforcer enforcer;
+    private AuthorizationContext authorizationContext;
+    private ResourceKey grantedResource;
+    private ResourceKey revokedResource;
+
+    @Setup
+    public void setup() {
+        enforcerFactory = "flattened".equals(algorithm)
+                ? FlattenedTrieBasedPolicyEnforcer::newInstance
+                : TrieBasedPolicyEnforcer::newInstance;
+        policy = createLargePolicy();
+        enforcer = enforcerFactory.apply(policy);
+        authorizationContext = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance("integration:user-17"),
+                AuthorizationSubject.newInstance("integration:group-3"));
+        grantedResource = ResourceKey.newInstance("thing", "/features/feature-17/properties/status/level/value");
+        revokedResource = ResourceKey.newInstance("thing", "/features/feature-17/properties/secret");
+
+        System.out.printf("%n%s: ~%d bytes retained per enforcer of a policy with %d entries%n", algorithm,
+                measureRetainedBytesPerEnforcer(), ENTRIES);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Enforcer buildEnforcer() {
+        return enforcerFactory.apply(policy);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean hasUnrestrictedPermissions() {
+        return enforcer.hasUnrestrictedPermissions(grantedResource, authorizationContext, READ_WRITE) ^
+                enforcer.hasUnrestrictedPermissions(revokedResource, authorizationContext, READ_WRITE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean hasPartialPermissions() {
+        return enforcer.hasPartialPermissions(ResourceKey.newInstance("thing", "/features"), authorizationContext,
+                READ_WRITE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int getSubjectsWithUnrestrictedPermission() {
+        return enforcer.getSubjectsWithUnrestrictedPermission(grantedResource, READ_WRITE).size();
+    }
+
+    private long measureRetainedBytesPerEnforcer() {
+        final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        final long before = usedHeapAfterGc(memoryBean);
+        final List<Enforcer> retained = new ArrayList<>(RETAINED_ENFORCERS);
+        for (int i = 0; i < RETAINED_ENFORCERS; i++) {
+            retained.add(enforcerFactory.apply(policy));
+        }
+        final long after = usedHeapAfterGc(memoryBean);
+        final long bytesPerEnforcer = (after - before) / retained.size();
+        retained.clear();
+        return bytesPerEnforcer;
+    }
+
+    private static long usedHeapAfterGc(final MemoryMXBean memoryBean) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Policy createLargePolicy() {
+        PolicyBuilder builder = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("com.example", "large"));
+        for (int i = 0; i < ENTRIES; i++) {
+            final String feature = "/features/feature-" + (i % 100);
+            builder = builder.forLabel("entry-" + i)
+                    .setSubject("integration:user-" + i, SubjectType.GENERATED)
+                    .setSubject("integration:group-" + (i % 10), SubjectType.GENERATED)
+                    .setGrantedPermissions("thing", feature + "/properties/status/level/value", "READ", "WRITE")
+                    .setGrantedPermissions("thing", feature + "/properties/config/" + (i % 7), "READ")
+                    .setRevokedPermissions("thing", feature + "/properties/secret", "READ", "WRITE")
+                    .setGrantedPermissions("message", feature + "/inbox/messages/cmd-" + (i % 5), "WRITE")
+                    .exitLabel();
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Resource;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.junit.Test;
+
+/**
+ * Tests {@link FlattenedTrieBasedPolicyEnforcer} against {@link TrieBasedPolicyEnforcer} for randomly generated
+ * policies.
+ */
+public final class FlattenedTrieBasedPolicyEnforcerTest {
+
+    private static final String[] RESOURCE_TYPES = {"thing", "policy", "message"};
+    private static final String[] PATH_KEYS = {"attributes", "features", "lamp", "color", "on"};
+    private static final String[] SUBJECTS = {"s:a", "s:b", "s:c", "s:d", "s:e"};
+    private static final JsonObject THING = JsonFactory.newObjectBuilder()
+            .set("attributes", JsonFactory.newObjectBuilder()
+                    .set("lamp", JsonFactory.newObjectBuilder().set("on", true).set("color", "red").build())
+                    .set("color", JsonFactory.newArrayBuilder().add("red", "green").build())
+                    .build())
+            .set("features", JsonFactory.newObjectBuilder()
+                    .set("lamp", JsonFactory.newObjectBuilder()
+                            .set("on", false)
+                            .set("features", JsonFactory.newObject())
+                            .build())
+                    .build())
+            .set("on", 42)
+            .build();
+
+    @Test
+    public void behavesLikeTrieBasedPolicyEnforcerWithFewPermissions() {
+        assertEquivalentForRandomPolicies(new Random(3L), List.of("READ", "WRITE", "EXECUTE"));
+    }
+
+    @Test
+    public void behavesLikeTrieBasedPolicyEnforcerWithMorePermissionsThanBitsOfALong() {
+        final List<String> permissions = new ArrayList<>(List.of("READ", "WRITE"));
+        for (int i = 0; i < 70; i++) {
+            permissions.add("P" + i);
+        }
+        assertEquivalentForRandomPolicies(new Random(7L), permissions);
+    }
+
+    private static void assertEquivalentForRandomPolicies(final Random random, final List<String> permissions) {
+        for (int i = 0; i < 50; i++) {
+            final List<PolicyEntry> policyEntries = randomPolicyEntries(random, permissions);
+            final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policyEntries);
+            final FlattenedTrieBasedPolicyEnforcer underTest =
+                    FlattenedTrieBasedPolicyEnforcer.newInstance(policyEntries);
+
+            for (int j = 0; j < 100; j++) {
+                final ResourceKey resourceKey = randomResourceKey(random);
+                final AuthorizationContext authorizationContext = randomAuthorizationContext(random);
+                final Permissions checkedPermissions = randomPermissions(random, permissions);
+                final String description = policyEntries + " " + resourceKey + " " + authorizationContext + " " +
+                        checkedPermissions;
+
+                assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                        checkedPermissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                checkedPermissions));
+                assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, checkedPermissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                checkedPermissions));
+                final EffectedSubjects effectedSubjects =
+                        underTest.getSubjectsWithPermission(resourceKey, checkedPermissions);
+                final EffectedSubjects expectedEffectedSubjects =
+                        expected.getSubjectsWithPermission(resourceKey, checkedPermissions);
+                assertThat(effectedSubjects.getGranted())
+                        .describedAs(description)
+                        .isEqualTo(expectedEffectedSubjects.getGranted());
+                assertThat(effectedSubjects.getRevoked())
+                        .describedAs(description)
+                        .isEqualTo(expectedEffectedSubjects.getRevoked());
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, checkedPermissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, checkedPermissions));
+                assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, checkedPermissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectsWithUnrestrictedPermission(resourceKey, checkedPermissions));
+                assertThat(underTest.buildJsonView(resourceKey, THING, authorizationContext, checkedPermissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.buildJsonView(resourceKey, THING, authorizationContext,
+                                checkedPermissions));
+            }
+        }
+    }
+
+    private static List<PolicyEntry> randomPolicyEntries(final Random random, final List<String> permissions) {
+        final List<PolicyEntry> entries = new ArrayList<>();
+        final int entryCount = 1 + random.nextInt(8);
+        for (int i = 0; i < entryCount; i++) {
+            final Map<String, Subject> subjects = new LinkedHashMap<>();
+            final int subjectCount = 1 + random.nextInt(3);
+            for (int j = 0; j < subjectCount; j++) {
+                final String subjectId = randomElement(random, SUBJECTS);
+                subjects.put(subjectId, Subject.newInstance(subjectId, SubjectType.GENERATED));
+            }
+            final Map<ResourceKey, Resource> resources = new LinkedHashMap<>();
+            final int resourceCount = 1 + random.nextInt(4);
+            for (int j = 0; j < resourceCount; j++) {
+                final ResourceKey resourceKey = randomResourceKey(random);
+                resources.put(resourceKey, PoliciesModelFactory.newResource(resourceKey.getResourceType(),
+                        resourceKey.getResourcePath(),
+                        EffectedPermissions.newInstance(randomPermissions(random, permissions),
+                                random.nextInt(3) == 0 ? randomPermissions(random, permissions) :
+                                        Permissions.none())));
+            }
+            entries.add(PoliciesModelFactory.newPolicyEntry("label" + i, subjects.values(), resources.values()));
+        }
+        return entries;
+    }
+
+    private static ResourceKey randomResourceKey(final Random random) {
+        JsonPointer path = JsonPointer.empty();
+        final int depth = random.nextInt(4);
+        for (int i = 0; i < depth; i++) {
+            path = path.addLeaf(JsonFactory.newKey(randomElement(random, PATH_KEYS)));
+        }
+        return ResourceKey.newInstance(randomElement(random, RESOURCE_TYPES), path);
+    }
+
+    private static AuthorizationContext randomAuthorizationContext(final Random random) {
+        final List<AuthorizationSubject> subjects = new ArrayList<>();
+        final int subjectCount = 1 + random.nextInt(2);
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(AuthorizationSubject.newInstance(
+                    random.nextInt(6) == 0 ? "s:unknown" : randomElement(random, SUBJECTS)));
+        }
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects);
+    }
+
+    private static Permissions randomPermissions(final Random random, final List<String> permissions) {
+        final List<String> result = new ArrayList<>();
+        final int permissionCount = 1 + random.nextInt(3);
+        for (int i = 0; i < permissionCount; i++) {
+            result.add(random.nextInt(10) == 0 ? "UNKNOWN" : permissions.get(random.nextInt(permissions.size())));
+        }
+        return PoliciesModelFactory.newPermissions(result);
+    }
+
+    private static String randomElement(final Random random, final String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+}
@@ -38,6 +38,10 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
 
     private final Duration defaultRandomizationInterval;
     private final ExponentialBackOffConfig exponentialBackOffConfig;
+    private final boolean timingWheelEnabled;
+    private final Duration timingWheelTick;
+    private final int timingWheelSize;
+    private final Duration wakeUpLeadTime;
 
     private DefaultPolicyAnnouncementConfig(final ScopedConfig scopedConfig) {
         gracePeriod = scopedConfig.getDuration(ConfigValue.GRACE_PERIOD.getConfigPath());
@@ -46,6 +50,10 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 scopedConfig.getBoolean(ConfigValue.ENABLE_ANNOUNCEMENTS_WHEN_DELETED.getConfigPath());
         defaultRandomizationInterval = scopedConfig.getDuration(ConfigValue.DEFAULT_RANDOMIZATION_INTERVAL.getConfigPath());
         exponentialBackOffConfig = DefaultExponentialBackOffConfig.of(scopedConfig);
+        timingWheelEnabled = scopedConfig.getBoolean(ConfigValue.TIMING_WHEEL_ENABLED.getConfigPath());
+        timingWheelTick = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.TIMING_WHEEL_TICK);
+        timingWheelSize = scopedConfig.getPositiveIntOrThrow(ConfigValue.TIMING_WHEEL_SIZE);
+        wakeUpLeadTime = scopedConfig.getNonNegativeDurationOrThrow(ConfigValue.WAKE_UP_LEAD_TIME);
     }
 
     static DefaultPolicyAnnouncementConfig of(final Config config) {
@@ -79,6 +87,26 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
         return exponentialBackOffConfig;
     }
 
+    @Override
+    public boolean isTimingWheelEnabled() {
+        return timingWheelEnabled;
+    }
+
+    @Override
+    public Duration getTimingWheelTick() {
+        return timingWheelTick;
+    }
+
+    @Override
+    public int getTimingWheelSize() {
+        return timingWheelSize;
+    }
+
+    @Override
+    public Duration getWakeUpLeadTime() {
+        return wakeUpLeadTime;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -92,13 +120,17 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 Objects.equals(maxTimeout, that.maxTimeout) &&
                 enableAnnouncementsWhenDeleted == that.enableAnnouncementsWhenDeleted &&
                 Objects.equals(defaultRandomizationInterval, that.defaultRandomizationInterval) &&
-                Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig);
+                Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig) &&
+                timingWheelEnabled == that.timingWheelEnabled &&
+                Objects.equals(timingWheelTick, that.timingWheelTick) &&
+                timingWheelSize == that.timingWheelSize &&
+                Objects.equals(wakeUpLeadTime, that.wakeUpLeadTime);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(gracePeriod, maxTimeout, enableAnnouncementsWhenDeleted, defaultRandomizationInterval,
-                exponentialBackOffConfig);
+                exponentialBackOffConfig, timingWheelEnabled, timingWheelTick, timingWheelSize, wakeUpLeadTime);
     }
 
     @Override
@@ -109,6 +141,10 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 ", enableAnnouncementsWhenDeleted=" + enableAnnouncementsWhenDeleted +
                 ", defaultRandomizationInterval=" + defaultRandomizationInterval +
                 ", exponentialBackOffConfig" + exponentialBackOffConfig +
+                ", timingWheelEnabled=" + timingWheelEnabled +
+                ", timingWheelTick=" + timingWheelTick +
+                ", timingWheelSize=" + timingWheelSize +
+                ", wakeUpLeadTime=" + wakeUpLeadTime +
                 "]";
     }
 
@@ -64,6 +64,39 @@ public interface PolicyAnnouncementConfig {
      */
     ExponentialBackOffConfig getExponentialBackOffConfig();
 
+    /**
+     * Returns whether upcoming subject expiries and announcements are tracked by the node-level timing wheel, which
+     * allows policies to passivate until shortly before their next subject is due.
+     *
+     * @return whether the subject expiry timing wheel is enabled.
+     * @since 3.5.0
+     */
+    boolean isTimingWheelEnabled();
+
+    /**
+     * Returns the duration of one tick of the subject expiry timing wheel.
+     *
+     * @return the tick duration.
+     * @since 3.5.0
+     */
+    Duration getTimingWheelTick();
+
+    /**
+     * Returns the number of buckets of the subject expiry timing wheel.
+     *
+     * @return the wheel size.
+     * @since 3.5.0
+     */
+    int getTimingWheelSize();
+
+    /**
+     * Returns how long before the next subject expiry or announcement a passivated policy is woken up.
+     *
+     * @return the wake-up lead time.
+     * @since 3.5.0
+     */
+    Duration getWakeUpLeadTime();
+
     /**
      * Returns an instance of the policy announcement config based on the settings of the specified Config.
      *
@@ -99,7 +132,27 @@ public interface PolicyAnnouncementConfig {
         /**
          * Whether when-deleted announcements are enabled.
          */
-        ENABLE_ANNOUNCEMENTS_WHEN_DELETED("enable-announcements-when-deleted", true);
+        ENABLE_ANNOUNCEMENTS_WHEN_DELETED("enable-announcements-when-deleted", true),
+
+        /**
+         * Whether the subject expiry timing wheel is enabled.
+         */
+        TIMING_WHEEL_ENABLED("timing-wheel-enabled", true),
+
+        /**
+         * The tick duration of the subject expiry timing wheel.
+         */
+        TIMING_WHEEL_TICK("timing-wheel-tick", Duration.ofSeconds(1L)),
+
+        /**
+         * The number of buckets of the subject expiry timing wheel.
+         */
+        TIMING_WHEEL_SIZE("timing-wheel-size", 512),
+
+        /**
+         * How long before the next due subject a passivated policy is woken up.
+         */
+        WAKE_UP_LEAD_TIME("wake-up-lead-time", Duration.ofMinutes(1L));
 
         private final String path;
         private final Object defaultValue;
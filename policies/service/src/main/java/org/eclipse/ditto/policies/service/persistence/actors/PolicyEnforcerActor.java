@@ -20,12 +20,16 @@ import java.util.function.Function;
 import org.apache.pekko.actor.Props;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.policies.enforcement.AbstractPolicyLoadingEnforcerActor;
 import org.eclipse.ditto.policies.enforcement.PolicyCacheLoader;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.enforcement.config.DefaultEnforcementConfig;
+import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 import org.eclipse.ditto.policies.model.signals.commands.PolicyCommand;
 import org.eclipse.ditto.policies.model.signals.commands.PolicyCommandResponse;
 import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicy;
@@ -40,10 +44,14 @@ public final class PolicyEnforcerActor extends
 
     private static final String ENFORCEMENT_DISPATCHER = "enforcement-dispatcher";
 
+    private final Function<Iterable<PolicyEntry>, Enforcer> evaluator;
+
     @SuppressWarnings("unused")
     private PolicyEnforcerActor(final PolicyId policyId, final PolicyCommandEnforcement policyCommandEnforcement,
             final PolicyEnforcerProvider policyEnforcerProvider) {
         super(policyId, policyCommandEnforcement, policyEnforcerProvider);
+        evaluator = PolicyEnforcer.getEvaluator(DefaultEnforcementConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())));
     }
 
     /**
@@ -72,7 +80,7 @@ public final class PolicyEnforcerActor extends
             final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver =
                     importedPolicyId -> policyCacheLoader.asyncLoad(importedPolicyId, getContext().dispatcher())
                             .thenApply(Entry::get);
-            return PolicyEnforcer.withResolvedImports(createPolicy.getPolicy(), importedPolicyResolver)
+            return PolicyEnforcer.withResolvedImports(createPolicy.getPolicy(), importedPolicyResolver, evaluator)
                     .thenApply(Optional::of);
         }
         return super.loadPolicyEnforcer(signal);
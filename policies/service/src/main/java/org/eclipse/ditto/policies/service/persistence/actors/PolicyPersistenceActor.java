@@ -32,6 +32,7 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
@@ -50,6 +51,7 @@ import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAcc
 import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
 import org.eclipse.ditto.policies.service.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.policies.service.common.config.PolicyConfig;
+import org.eclipse.ditto.policies.service.persistence.actors.announcements.SubjectExpiryTimingWheel;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.events.PolicyEventStrategies;
 
@@ -78,6 +80,7 @@ public final class PolicyPersistenceActor
     private final PolicyConfig policyConfig;
     private final ActorRef announcementManager;
     private final ActorRef supervisor;
+    @Nullable private final SubjectExpiryTimingWheel subjectExpiryTimingWheel;
 
     @SuppressWarnings("unused")
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -91,6 +94,7 @@ public final class PolicyPersistenceActor
         this.announcementManager = announcementManager;
         this.policyConfig = policyConfig;
         this.supervisor = getContext().getParent();
+        subjectExpiryTimingWheel = getSubjectExpiryTimingWheel(policyConfig);
     }
 
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -108,6 +112,7 @@ public final class PolicyPersistenceActor
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         this.policyConfig = policiesConfig.getPolicyConfig();
+        subjectExpiryTimingWheel = getSubjectExpiryTimingWheel(policyConfig);
     }
 
     /**
@@ -305,9 +310,22 @@ public final class PolicyPersistenceActor
 
     @Override
     protected boolean isEntityAlwaysAlive() {
+        if (null != subjectExpiryTimingWheel && null != entity) {
+            // subjects due later are tracked by the timing wheel, which wakes this actor up in time
+            return subjectExpiryTimingWheel.hasSubjectsDueSoon(entity, Instant.now());
+        }
         return isAlwaysAlive(entity);
     }
 
+    @Override
+    protected void processPingCommand(final PingCommand ping) {
+        super.processPingCommand(ping);
+        // the ping may be the wake-up of the subject expiry timing wheel for a subject which is due soon
+        if (entity != null) {
+            announcementManager.tell(entity, ActorRef.noSender());
+        }
+    }
+
     @Override
     protected void recoveryCompleted(final RecoveryCompleted event) {
         if (entity != null) {
@@ -343,6 +361,14 @@ public final class PolicyPersistenceActor
         return supervisor;
     }
 
+    @Nullable
+    private SubjectExpiryTimingWheel getSubjectExpiryTimingWheel(final PolicyConfig policyConfig) {
+        if (policyConfig.getPolicyAnnouncementConfig().isTimingWheelEnabled()) {
+            return SubjectExpiryTimingWheel.get(getContext().getSystem());
+        }
+        return null;
+    }
+
     private boolean willEntityBeAlwaysAlive(final PolicyEvent<?> policyEvent) {
         return isAlwaysAlive(getEventStrategy().handle(policyEvent, entity, getRevisionNumber()));
     }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Hashed timing wheel holding at most one deadline per key.
+ * <p>
+ * Deadlines are rounded up to whole ticks and placed into the bucket {@code tick % wheelSize}; deadlines more than
+ * one revolution ahead simply stay in their bucket until the wheel has reached their tick. Scheduling, rescheduling
+ * and cancelling a key are constant-time, and advancing the wheel only touches the buckets of the elapsed ticks.
+ *
+ * @param <K> type of keys.
+ */
+@NotThreadSafe
+final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Long> deadlineTicks;
+    private long currentTick;
+
+    /**
+     * Creates an empty timing wheel.
+     *
+     * @param tickDuration duration of one tick.
+     * @param wheelSize number of buckets.
+     * @param nowMillis the current time in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the tick duration is shorter than 1 millisecond or the wheel size is not
+     * positive.
+     */
+    HashedTimingWheel(final Duration tickDuration, final int wheelSize, final long nowMillis) {
+        tickMillis = tickDuration.toMillis();
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be at least 1ms: " + tickDuration);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("Wheel size must be positive: " + wheelSize);
+        }
+        buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; ++i) {
+            buckets.add(new LinkedHashMap<>());
+        }
+        deadlineTicks = new HashMap<>();
+        currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Schedules the deadline of a key, replacing any deadline scheduled for it before. Deadlines that are not in the
+     * future expire with the next tick.
+     *
+     * @param key the key.
+     * @param deadlineMillis the deadline in milliseconds since the epoch.
+     */
+    void schedule(final K key, final long deadlineMillis) {
+        cancel(key);
+        final long deadlineTick = Math.max(currentTick + 1, -Math.floorDiv(-deadlineMillis, tickMillis));
+        deadlineTicks.put(key, deadlineTick);
+        bucketOf(deadlineTick).put(key, deadlineTick);
+    }
+
+    /**
+     * Removes the deadline of a key if there is any.
+     *
+     * @param key the key.
+     */
+    void cancel(final K key) {
+        final Long deadlineTick = deadlineTicks.remove(key);
+        if (deadlineTick != null) {
+            bucketOf(deadlineTick).remove(key);
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time and removes all keys whose deadline has passed.
+     *
+     * @param nowMillis the current time in milliseconds since the epoch.
+     * @return the expired keys.
+     */
+    List<K> advance(final long nowMillis) {
+        final long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        final List<K> expired = new ArrayList<>();
+        // after a full revolution every bucket has been visited; only the target tick matters from then on
+        final long firstTick = Math.max(currentTick + 1, targetTick - buckets.size() + 1);
+        for (long tick = firstTick; tick <= targetTick; ++tick) {
+            final var iterator = bucketOf(tick).entrySet().iterator();
+            while (iterator.hasNext()) {
+                final var entry = iterator.next();
+                if (entry.getValue() <= targetTick) {
+                    iterator.remove();
+                    deadlineTicks.remove(entry.getKey());
+                    expired.add(entry.getKey());
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    /**
+     * @return the number of scheduled keys.
+     */
+    int size() {
+        return deadlineTicks.size();
+    }
+
+    private Map<K, Long> bucketOf(final long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+}
@@ -12,15 +12,20 @@
  */
 package org.eclipse.ditto.policies.service.persistence.actors.announcements;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
@@ -43,15 +48,21 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 
 /**
  * Manager of actors responsible for policy announcements.
+ * <p>
+ * If the {@link SubjectExpiryTimingWheel} is enabled, no actors are started for subjects which are due later than
+ * the wake-up lead time; the timing wheel wakes up the policy shortly before the earliest of them is due instead.
  */
 public final class PolicyAnnouncementManager extends AbstractActor {
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
+    private final PolicyId policyId;
     private final Function<Subject, Props> createChildProps;
+    @Nullable private final SubjectExpiryTimingWheel timingWheel;
     private final Map<Subject, ActorRef> subjectExpiryActors;
     private final Map<ActorRef, Subject> activeSubjects;
     private final Map<SubjectId, Integer> activeSubjectIds;
+    @Nullable private Instant scheduledDueInstant;
 
     @SuppressWarnings("unused")
     private PolicyAnnouncementManager(final PolicyId policyId,
@@ -59,15 +70,28 @@ public final class PolicyAnnouncementManager extends AbstractActor {
             final ActorRef commandForwarder,
             final PolicyAnnouncementConfig config) {
 
-        this(subject -> SubjectExpiryActor.props(policyId, subject, config.getGracePeriod(), policyAnnouncementPub,
-                config.getMaxTimeout(), commandForwarder, config));
+        // not possible to call other constructor because "getContext()" is not available as argument of "this()"
+        this.policyId = policyId;
+        createChildProps = subject -> SubjectExpiryActor.props(policyId, subject, config.getGracePeriod(),
+                policyAnnouncementPub, config.getMaxTimeout(), commandForwarder, config);
+        timingWheel = config.isTimingWheelEnabled() ? SubjectExpiryTimingWheel.get(getContext().getSystem()) : null;
+        subjectExpiryActors = new HashMap<>();
+        activeSubjects = new HashMap<>();
+        activeSubjectIds = new HashMap<>();
+        scheduledDueInstant = null;
     }
 
-    PolicyAnnouncementManager(final Function<Subject, Props> createChildProps) {
+    PolicyAnnouncementManager(final PolicyId policyId,
+            final Function<Subject, Props> createChildProps,
+            @Nullable final SubjectExpiryTimingWheel timingWheel) {
+
+        this.policyId = policyId;
+        this.createChildProps = createChildProps;
+        this.timingWheel = timingWheel;
         subjectExpiryActors = new HashMap<>();
         activeSubjects = new HashMap<>();
         activeSubjectIds = new HashMap<>();
-        this.createChildProps = createChildProps;
+        scheduledDueInstant = null;
     }
 
     /**
@@ -97,10 +121,13 @@ public final class PolicyAnnouncementManager extends AbstractActor {
 
     private void onPolicyModified(final Policy policy) {
         final var subjects = getSubjectsWithExpiryOrAnnouncements(policy);
-        final var newSubjects = calculateDifference(subjects, subjectExpiryActors.keySet());
+        final var dormantSubjects = getDormantSubjects(subjects, Instant.now());
+        final var newSubjects = calculateDifference(calculateDifference(subjects, subjectExpiryActors.keySet()),
+                dormantSubjects);
         final var deletedSubjects = calculateDifference(subjectExpiryActors.keySet(), subjects);
-        log.debug("OnPolicyModified policy=<{}> newSubjects=<{}> deletedSubjects=<{}>", policy, newSubjects,
-                deletedSubjects);
+        log.debug("OnPolicyModified policy=<{}> newSubjects=<{}> deletedSubjects=<{}> dormantSubjects=<{}>", policy,
+                newSubjects, deletedSubjects, dormantSubjects);
+        scheduleWakeUp(dormantSubjects);
         for (final var newSubject : newSubjects) {
             startChild(newSubject);
         }
@@ -112,6 +139,34 @@ public final class PolicyAnnouncementManager extends AbstractActor {
         }
     }
 
+    private List<Subject> getDormantSubjects(final Collection<Subject> subjects, final Instant now) {
+        if (timingWheel == null) {
+            return List.of();
+        }
+        return subjects.stream()
+                .filter(subject -> !subjectExpiryActors.containsKey(subject) && timingWheel.isDormant(subject, now))
+                .toList();
+    }
+
+    private void scheduleWakeUp(final Collection<Subject> dormantSubjects) {
+        if (timingWheel == null) {
+            return;
+        }
+        final Optional<Instant> earliestDueInstant = dormantSubjects.stream()
+                .map(timingWheel::getDueInstant)
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder());
+        if (earliestDueInstant.isPresent()) {
+            if (!earliestDueInstant.get().equals(scheduledDueInstant)) {
+                scheduledDueInstant = earliestDueInstant.get();
+                timingWheel.scheduleWakeUp(policyId, scheduledDueInstant);
+            }
+        } else if (scheduledDueInstant != null) {
+            scheduledDueInstant = null;
+            timingWheel.cancelWakeUp(policyId);
+        }
+    }
+
     private void startChild(final Subject subject) {
         final var child = getContext().actorOf(createChildProps.apply(subject));
         getContext().watch(child);
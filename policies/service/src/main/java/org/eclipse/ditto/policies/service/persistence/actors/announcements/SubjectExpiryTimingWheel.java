@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
+import org.eclipse.ditto.policies.model.Subjects;
+import org.eclipse.ditto.policies.service.common.config.DittoPoliciesConfig;
+import org.eclipse.ditto.policies.service.common.config.PolicyAnnouncementConfig;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+
+/**
+ * Node-level hashed timing wheel tracking the upcoming subject expiries and announcements of all policies of a node.
+ * <p>
+ * Subjects which are due later than the configured wake-up lead time are "dormant": no {@link SubjectExpiryActor} is
+ * started for them and they do not keep their policy alive. Instead, the {@link PolicyAnnouncementManager} schedules
+ * a wake-up for the earliest dormant subject of its policy, and the timing wheel pings the policy via the shard region
+ * shortly before that subject is due - starting the policy again if it was passivated in the meantime.
+ * <p>
+ * Subjects requesting an announcement when deleted are never dormant, as the deletion of a subject from a passivated
+ * policy could not be announced.
+ *
+ * @since 3.5.0
+ */
+public final class SubjectExpiryTimingWheel implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final ActorRef timingWheelActor;
+    private final PolicyAnnouncementConfig config;
+
+    SubjectExpiryTimingWheel(final ActorRef timingWheelActor, final PolicyAnnouncementConfig config) {
+        this.timingWheelActor = timingWheelActor;
+        this.config = config;
+    }
+
+    /**
+     * Look up the subject expiry timing wheel extension.
+     *
+     * @param system the actor system.
+     * @return the subject expiry timing wheel of the actor system.
+     */
+    public static SubjectExpiryTimingWheel get(final ActorSystem system) {
+        return EXTENSION_ID.get(system);
+    }
+
+    /**
+     * Checks whether the policy has subjects with an expiry that are not dormant, i.e. which require the policy to
+     * stay alive until they are processed.
+     *
+     * @param policy the policy.
+     * @param now the current instant.
+     * @return whether the policy has subjects with an expiry that are due within the wake-up lead time.
+     */
+    public boolean hasSubjectsDueSoon(final Policy policy, final Instant now) {
+        return StreamSupport.stream(policy.spliterator(), false)
+                .map(PolicyEntry::getSubjects)
+                .flatMap(Subjects::stream)
+                .anyMatch(subject -> subject.getExpiry().isPresent() && !isDormant(subject, now));
+    }
+
+    /**
+     * Checks whether a subject may be left to the timing wheel until it is due.
+     *
+     * @param subject the subject.
+     * @param now the current instant.
+     * @return whether the subject has an expiry, requests no announcement when deleted and is not due within the
+     * wake-up lead time.
+     */
+    boolean isDormant(final Subject subject, final Instant now) {
+        if (config.isEnableAnnouncementsWhenDeleted() &&
+                subject.getAnnouncement().filter(SubjectAnnouncement::isWhenDeleted).isPresent()) {
+            return false;
+        }
+        return getDueInstant(subject)
+                .filter(dueInstant -> dueInstant.isAfter(now.plus(config.getWakeUpLeadTime())))
+                .isPresent();
+    }
+
+    /**
+     * Returns the earliest instant at which a subject has to be processed: its announcement instant before any
+     * randomization if it requests an announcement before expiry, or its expiry otherwise.
+     *
+     * @param subject the subject.
+     * @return the due instant or an empty optional if the subject does not expire.
+     */
+    Optional<Instant> getDueInstant(final Subject subject) {
+        return subject.getExpiry()
+                .map(SubjectExpiry::getTimestamp)
+                .map(expiry -> subject.getAnnouncement()
+                        .flatMap(announcement -> announcement.getBeforeExpiry()
+                                .map(beforeExpiry -> expiry.minus(beforeExpiry.getDuration())
+                                        .minus(getRandomizationInterval(announcement))))
+                        .orElse(expiry));
+    }
+
+    /**
+     * Schedules the wake-up of a policy shortly before the given due instant, replacing any wake-up scheduled for the
+     * policy before.
+     *
+     * @param policyId the policy.
+     * @param dueInstant the instant at which the earliest dormant subject of the policy is due.
+     */
+    void scheduleWakeUp(final PolicyId policyId, final Instant dueInstant) {
+        timingWheelActor.tell(new SubjectExpiryTimingWheelActor.ScheduleWakeUp(policyId,
+                dueInstant.minus(config.getWakeUpLeadTime())), ActorRef.noSender());
+    }
+
+    /**
+     * Cancels the wake-up of a policy.
+     *
+     * @param policyId the policy.
+     */
+    void cancelWakeUp(final PolicyId policyId) {
+        timingWheelActor.tell(new SubjectExpiryTimingWheelActor.CancelWakeUp(policyId), ActorRef.noSender());
+    }
+
+    private Duration getRandomizationInterval(final SubjectAnnouncement announcement) {
+        return announcement.getRandomizationInterval()
+                .map(DittoDuration::getDuration)
+                .orElseGet(config::getDefaultRandomizationInterval);
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<SubjectExpiryTimingWheel> {
+
+        private ExtensionId() {}
+
+        @Override
+        public SubjectExpiryTimingWheel createExtension(final ExtendedActorSystem system) {
+            final var config = DittoPoliciesConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
+                    .getPolicyConfig()
+                    .getPolicyAnnouncementConfig();
+            final var timingWheelActor = system.systemActorOf(
+                    SubjectExpiryTimingWheelActor.props(config.getTimingWheelTick(), config.getTimingWheelSize()),
+                    SubjectExpiryTimingWheelActor.ACTOR_NAME);
+            return new SubjectExpiryTimingWheel(timingWheelActor, config);
+        }
+    }
+
+}
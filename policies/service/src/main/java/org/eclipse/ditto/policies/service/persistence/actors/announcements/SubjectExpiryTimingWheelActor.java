@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.PingCommandResponse;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
+import org.eclipse.ditto.policies.model.PolicyId;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.sharding.ClusterSharding;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+
+/**
+ * Node-level actor holding the {@link HashedTimingWheel} of the {@link SubjectExpiryTimingWheel} extension.
+ * <p>
+ * When the wake-up time of a policy has come, a {@link PingCommand} is sent to the policies shard region, which
+ * starts the policy again if it was passivated in the meantime.
+ */
+final class SubjectExpiryTimingWheelActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    static final String ACTOR_NAME = "subjectExpiryTimingWheel";
+
+    /**
+     * Payload of the ping commands waking up policies.
+     */
+    static final JsonValue PING_PAYLOAD = JsonValue.of("subject-expiry");
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final Duration tickDuration;
+    private final HashedTimingWheel<PolicyId> timingWheel;
+    @Nullable private ActorRef wakeUpRecipient;
+
+    @SuppressWarnings("unused")
+    private SubjectExpiryTimingWheelActor(final Duration tickDuration, final Integer wheelSize) {
+        this(tickDuration, wheelSize, null);
+    }
+
+    @SuppressWarnings("unused")
+    private SubjectExpiryTimingWheelActor(final Duration tickDuration, final Integer wheelSize,
+            @Nullable final ActorRef wakeUpRecipient) {
+
+        this.tickDuration = tickDuration;
+        this.wakeUpRecipient = wakeUpRecipient;
+        timingWheel = new HashedTimingWheel<>(tickDuration, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Create the Props object for this actor waking up policies via the policies shard region.
+     *
+     * @param tickDuration duration of one tick of the timing wheel.
+     * @param wheelSize number of buckets of the timing wheel.
+     * @return The Props object.
+     */
+    static Props props(final Duration tickDuration, final int wheelSize) {
+        return Props.create(SubjectExpiryTimingWheelActor.class, tickDuration, wheelSize);
+    }
+
+    /**
+     * Create the Props object for this actor waking up policies via the given recipient.
+     *
+     * @param tickDuration duration of one tick of the timing wheel.
+     * @param wheelSize number of buckets of the timing wheel.
+     * @param wakeUpRecipient recipient of the ping commands waking up policies.
+     * @return The Props object.
+     */
+    static Props props(final Duration tickDuration, final int wheelSize, final ActorRef wakeUpRecipient) {
+        return Props.create(SubjectExpiryTimingWheelActor.class, tickDuration, wheelSize, wakeUpRecipient);
+    }
+
+    @Override
+    public void preStart() {
+        timers().startTimerAtFixedRate(Control.TICK, Control.TICK, tickDuration);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ScheduleWakeUp.class, this::scheduleWakeUp)
+                .match(CancelWakeUp.class, cancel -> timingWheel.cancel(cancel.policyId()))
+                .matchEquals(Control.TICK, tick -> onTick())
+                .match(PingCommandResponse.class, response ->
+                        log.debug("Got PingCommandResponse with correlation-id <{}>",
+                                response.getCorrelationId().orElse(null)))
+                .build();
+    }
+
+    private void scheduleWakeUp(final ScheduleWakeUp scheduleWakeUp) {
+        log.debug("Scheduling wake-up of policy <{}> at <{}>", scheduleWakeUp.policyId(), scheduleWakeUp.wakeUpAt());
+        timingWheel.schedule(scheduleWakeUp.policyId(), scheduleWakeUp.wakeUpAt().toEpochMilli());
+    }
+
+    private void onTick() {
+        final var expiredPolicyIds = timingWheel.advance(System.currentTimeMillis());
+        if (!expiredPolicyIds.isEmpty()) {
+            final ActorRef recipient = getWakeUpRecipient();
+            if (recipient != null) {
+                log.debug("Waking up <{}> policies, <{}> wake-ups remaining", expiredPolicyIds.size(),
+                        timingWheel.size());
+                expiredPolicyIds.forEach(policyId -> recipient.tell(PingCommand.of(policyId,
+                        ACTOR_NAME + ":" + policyId, PING_PAYLOAD), getSelf()));
+            } else {
+                log.warning("Policies shard region not available, dropping <{}> wake-ups: <{}>",
+                        expiredPolicyIds.size(), expiredPolicyIds);
+            }
+        }
+    }
+
+    @Nullable
+    private ActorRef getWakeUpRecipient() {
+        if (wakeUpRecipient == null) {
+            try {
+                wakeUpRecipient = ClusterSharding.get(getContext().getSystem())
+                        .shardRegion(PoliciesMessagingConstants.SHARD_REGION);
+            } catch (final RuntimeException e) {
+                // the shard region is not started on this node (yet)
+                log.debug("Policies shard region not available: <{}: {}>", e.getClass().getSimpleName(),
+                        e.getMessage());
+            }
+        }
+        return wakeUpRecipient;
+    }
+
+    /**
+     * Request to wake up a policy at the given instant, replacing any wake-up scheduled for it before.
+     *
+     * @param policyId the policy to wake up.
+     * @param wakeUpAt when to wake the policy up.
+     */
+    record ScheduleWakeUp(PolicyId policyId, Instant wakeUpAt) {}
+
+    /**
+     * Request to cancel the wake-up of a policy.
+     *
+     * @param policyId the policy not to wake up.
+     */
+    record CancelWakeUp(PolicyId policyId) {}
+
+    private enum Control {
+        TICK
+    }
+
+}
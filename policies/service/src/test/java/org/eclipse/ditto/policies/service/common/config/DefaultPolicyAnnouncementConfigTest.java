@@ -73,6 +73,22 @@ public final class DefaultPolicyAnnouncementConfigTest {
         softly.assertThat(underTest.isEnableAnnouncementsWhenDeleted())
                 .as(PolicyAnnouncementConfig.ConfigValue.ENABLE_ANNOUNCEMENTS_WHEN_DELETED.getConfigPath())
                 .isTrue();
+
+        softly.assertThat(underTest.isTimingWheelEnabled())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getTimingWheelTick())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_TICK.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+
+        softly.assertThat(underTest.getTimingWheelSize())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_SIZE.getConfigPath())
+                .isEqualTo(512);
+
+        softly.assertThat(underTest.getWakeUpLeadTime())
+                .as(PolicyAnnouncementConfig.ConfigValue.WAKE_UP_LEAD_TIME.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
     }
 
     @Test
@@ -91,6 +107,22 @@ public final class DefaultPolicyAnnouncementConfigTest {
                 .as(PolicyAnnouncementConfig.ConfigValue.ENABLE_ANNOUNCEMENTS_WHEN_DELETED.getConfigPath())
                 .isFalse();
 
+        softly.assertThat(underTest.isTimingWheelEnabled())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getTimingWheelTick())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_TICK.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+
+        softly.assertThat(underTest.getTimingWheelSize())
+                .as(PolicyAnnouncementConfig.ConfigValue.TIMING_WHEEL_SIZE.getConfigPath())
+                .isEqualTo(64);
+
+        softly.assertThat(underTest.getWakeUpLeadTime())
+                .as(PolicyAnnouncementConfig.ConfigValue.WAKE_UP_LEAD_TIME.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(3L));
+
         softly.assertThat(underTest.getExponentialBackOffConfig().getMin())
                 .as("exponential-backoff.min")
                 .isEqualTo(Duration.ofSeconds(9));
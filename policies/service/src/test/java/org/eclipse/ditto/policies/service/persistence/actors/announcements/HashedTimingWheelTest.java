@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HashedTimingWheel}.
+ */
+public final class HashedTimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(100);
+
+    @Test
+    public void keysExpireOnceTheirDeadlineHasPassed() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 8, 0L);
+        underTest.schedule("a", 200L);
+        underTest.schedule("b", 250L);
+        underTest.schedule("c", 1_000L);
+
+        assertThat(underTest.advance(199L)).isEmpty();
+        assertThat(underTest.advance(200L)).containsExactly("a");
+        // deadlines are rounded up to whole ticks
+        assertThat(underTest.advance(299L)).isEmpty();
+        assertThat(underTest.advance(300L)).containsExactly("b");
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.advance(999L)).isEmpty();
+        assertThat(underTest.advance(1_000L)).containsExactly("c");
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void deadlinesBeyondOneRevolutionStayInTheirBucket() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 4, 0L);
+        underTest.schedule("near", 100L);
+        underTest.schedule("far", 500L);
+
+        assertThat(underTest.advance(100L)).containsExactly("near");
+        assertThat(underTest.advance(400L)).isEmpty();
+        assertThat(underTest.advance(500L)).containsExactly("far");
+    }
+
+    @Test
+    public void advancingByMoreThanOneRevolutionExpiresEverythingDue() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 4, 0L);
+        underTest.schedule("a", 100L);
+        underTest.schedule("b", 700L);
+        underTest.schedule("c", 5_000L);
+
+        assertThat(underTest.advance(3_000L)).containsExactlyInAnyOrder("a", "b");
+        assertThat(underTest.advance(5_000L)).containsExactly("c");
+    }
+
+    @Test
+    public void reschedulingReplacesThePreviousDeadline() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 8, 0L);
+        underTest.schedule("a", 200L);
+        underTest.schedule("a", 600L);
+
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.advance(500L)).isEmpty();
+        assertThat(underTest.advance(600L)).containsExactly("a");
+    }
+
+    @Test
+    public void cancelledKeysDoNotExpire() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 8, 0L);
+        underTest.schedule("a", 200L);
+        underTest.cancel("a");
+        underTest.cancel("unknown");
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.advance(1_000L)).isEmpty();
+    }
+
+    @Test
+    public void pastDeadlinesExpireWithTheNextTick() {
+        final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(TICK, 8, 1_000L);
+        underTest.schedule("a", 0L);
+
+        assertThat(underTest.advance(1_050L)).isEmpty();
+        assertThat(underTest.advance(1_100L)).containsExactly("a");
+    }
+
+    @Test
+    public void rejectsInvalidDimensions() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedTimingWheel<>(Duration.ZERO, 8, 0L));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedTimingWheel<>(TICK, 0, 0L));
+    }
+
+}
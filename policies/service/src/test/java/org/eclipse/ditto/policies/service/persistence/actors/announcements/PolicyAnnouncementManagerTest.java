@@ -14,6 +14,10 @@ package org.eclipse.ditto.policies.service.persistence.actors.announcements;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -24,9 +28,12 @@ import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.PolicyLifecycle;
 import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.base.model.common.DittoDuration;
 import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
 import org.eclipse.ditto.policies.model.SubjectId;
 import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.service.common.config.PolicyAnnouncementConfig;
 import org.junit.After;
 import org.junit.Test;
 
@@ -38,6 +45,8 @@ import org.apache.pekko.actor.Terminated;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.testkit.javadsl.TestKit;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Tests {@link PolicyAnnouncementManager}.
  */
@@ -55,7 +64,7 @@ public final class PolicyAnnouncementManagerTest {
         new TestKit(system) {{
             final Props forwarderProps = Props.create(Forwarder.class, () -> new Forwarder(getRef()));
             final Props propsUnderTest = Props.create(PolicyAnnouncementManager.class,
-                    () -> new PolicyAnnouncementManager(s -> forwarderProps));
+                    () -> new PolicyAnnouncementManager(PolicyId.of("policy:id"), s -> forwarderProps, null));
 
             final var subjectId = SubjectId.newInstance("issue:subject");
             final var announcement = SubjectAnnouncement.of(null, true);
@@ -108,6 +117,71 @@ public final class PolicyAnnouncementManagerTest {
         }};
     }
 
+    @Test
+    public void dormantSubjectsAreLeftToTheTimingWheel() {
+        new TestKit(system) {{
+            final TestKit timingWheelProbe = new TestKit(system);
+            final var timingWheel = new SubjectExpiryTimingWheel(timingWheelProbe.getRef(),
+                    PolicyAnnouncementConfig.of(ConfigFactory.empty()));
+            final PolicyId policyId = PolicyId.of("policy:dormant");
+            final Props forwarderProps = Props.create(Forwarder.class, () -> new Forwarder(getRef()));
+            final Props propsUnderTest = Props.create(PolicyAnnouncementManager.class,
+                    () -> new PolicyAnnouncementManager(policyId, s -> forwarderProps, timingWheel));
+
+            final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            final Instant farExpiry = now.plus(Duration.ofHours(2));
+            final Instant laterExpiry = now.plus(Duration.ofHours(3));
+            final var dueSoon = Subject.newInstance(SubjectId.newInstance("issuer:due-soon"),
+                    SubjectType.GENERATED, SubjectExpiry.newInstance(now.plusSeconds(30)), null);
+            final var dormant = Subject.newInstance(SubjectId.newInstance("issuer:dormant"),
+                    SubjectType.GENERATED, SubjectExpiry.newInstance(laterExpiry), null);
+            final var announcedDormant = Subject.newInstance(SubjectId.newInstance("issuer:announced"),
+                    SubjectType.GENERATED, SubjectExpiry.newInstance(farExpiry),
+                    SubjectAnnouncement.of(DittoDuration.parseDuration("10m"), false, List.of(), null,
+                            DittoDuration.parseDuration("1m")));
+            final var announcedWhenDeleted = Subject.newInstance(SubjectId.newInstance("issuer:when-deleted"),
+                    SubjectType.GENERATED, SubjectExpiry.newInstance(laterExpiry), SubjectAnnouncement.of(null, true));
+            final Policy policy = PoliciesModelFactory.newPolicyBuilder(policyId)
+                    .setLifecycle(PolicyLifecycle.ACTIVE)
+                    .forLabel("label")
+                    .setSubject(dueSoon)
+                    .setSubject(dormant)
+                    .setSubject(announcedDormant)
+                    .setSubject(announcedWhenDeleted)
+                    .setGrantedPermissions("policy", JsonPointer.empty(), "READ", "WRITE")
+                    .build();
+
+            final ActorRef underTest = childActorOf(propsUnderTest, "underTest");
+            underTest.tell(policy, getRef());
+
+            // children only for the subject due soon and the subject to announce when deleted
+            expectMsgClass(ActorRef.class);
+            expectMsgClass(ActorRef.class);
+            expectNoMessage(Duration.ofMillis(200));
+
+            // wake up before the earliest possible announcement minus the wake-up lead time
+            final var scheduleWakeUp =
+                    timingWheelProbe.expectMsgClass(SubjectExpiryTimingWheelActor.ScheduleWakeUp.class);
+            assertThat((CharSequence) scheduleWakeUp.policyId()).isEqualTo(policyId);
+            assertThat(scheduleWakeUp.wakeUpAt())
+                    .isEqualTo(farExpiry.minus(Duration.ofMinutes(10)).minus(Duration.ofMinutes(2)));
+
+            // re-sending the same policy does not reschedule
+            underTest.tell(policy, getRef());
+            timingWheelProbe.expectNoMessage(Duration.ofMillis(200));
+
+            final Policy policyWithoutDormantSubjects = policy.toBuilder()
+                    .forLabel("label")
+                    .removeSubject(dormant)
+                    .removeSubject(announcedDormant)
+                    .build();
+            underTest.tell(policyWithoutDormantSubjects, getRef());
+            assertThat((CharSequence) timingWheelProbe.expectMsgClass(SubjectExpiryTimingWheelActor.CancelWakeUp.class)
+                    .policyId())
+                    .isEqualTo(policyId);
+        }};
+    }
+
     private static final class Forwarder extends AbstractActor {
 
         private final ActorRef actorRef;
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link SubjectExpiryTimingWheelActor}.
+ */
+public final class SubjectExpiryTimingWheelActorTest {
+
+    private static final Duration TICK = Duration.ofMillis(50);
+
+    private final ActorSystem system = ActorSystem.create();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void wakesUpPoliciesViaPingCommandsWhenTheirTimeHasCome() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(SubjectExpiryTimingWheelActor.props(TICK, 16, getRef()));
+            final PolicyId first = PolicyId.of("policy:first");
+            final PolicyId second = PolicyId.of("policy:second");
+            final Instant now = Instant.now();
+
+            underTest.tell(new SubjectExpiryTimingWheelActor.ScheduleWakeUp(second, now.plusMillis(1_500)),
+                    ActorRef.noSender());
+            underTest.tell(new SubjectExpiryTimingWheelActor.ScheduleWakeUp(first, now.plusMillis(300)),
+                    ActorRef.noSender());
+
+            final PingCommand firstPing = expectMsgClass(PingCommand.class);
+            assertThat((CharSequence) firstPing.getEntityId()).isEqualTo(first);
+            assertThat(firstPing.getPayload()).contains(SubjectExpiryTimingWheelActor.PING_PAYLOAD);
+            assertThat(Instant.now()).isAfterOrEqualTo(now.plusMillis(300));
+
+            final PingCommand secondPing = expectMsgClass(Duration.ofSeconds(3), PingCommand.class);
+            assertThat((CharSequence) secondPing.getEntityId()).isEqualTo(second);
+            assertThat(Instant.now()).isAfterOrEqualTo(now.plusMillis(1_500));
+        }};
+    }
+
+    @Test
+    public void cancelledWakeUpsDoNotPingPolicies() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(SubjectExpiryTimingWheelActor.props(TICK, 16, getRef()));
+            final PolicyId policyId = PolicyId.of("policy:cancelled");
+
+            underTest.tell(new SubjectExpiryTimingWheelActor.ScheduleWakeUp(policyId, Instant.now().plusMillis(300)),
+                    ActorRef.noSender());
+            underTest.tell(new SubjectExpiryTimingWheelActor.CancelWakeUp(policyId), ActorRef.noSender());
+
+            expectNoMessage(Duration.ofMillis(800));
+        }};
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.rql.model.predicates.ast;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -21,6 +22,7 @@ import java.util.List;
 public abstract class SuperNode implements Node {
 
     private final List<Node> children;
+    private boolean unmodifiable;
 
     /**
      * Constructor. Creates an instance of a super node.
@@ -32,10 +34,41 @@ public abstract class SuperNode implements Node {
     /**
      * Retrieve all children of this super node.
      *
-     * @return a list of all children.
+     * @return a list of all children, which is unmodifiable after {@link #makeUnmodifiable()}.
      */
     public List<Node> getChildren() {
-        return children;
+        return unmodifiable ? Collections.unmodifiableList(children) : children;
+    }
+
+    /**
+     * Makes the children of this node and the nodes below it unmodifiable, e.g. before the node is shared between
+     * callers. Values of {@link MultiComparisonNode}s below this node become unmodifiable as well.
+     *
+     * @return this node.
+     * @since 3.5.0
+     */
+    public SuperNode makeUnmodifiable() {
+        if (!unmodifiable) {
+            children.replaceAll(SuperNode::makeUnmodifiable);
+            unmodifiable = true;
+        }
+        return this;
+    }
+
+    private static Node makeUnmodifiable(final Node node) {
+        final Node result;
+        if (node instanceof SuperNode) {
+            result = ((SuperNode) node).makeUnmodifiable();
+        } else if (node instanceof MultiComparisonNode &&
+                null != ((MultiComparisonNode) node).getComparisonValue()) {
+            final MultiComparisonNode multiComparisonNode = (MultiComparisonNode) node;
+            result = new MultiComparisonNode(multiComparisonNode.getComparisonType(),
+                    multiComparisonNode.getComparisonProperty(),
+                    Collections.unmodifiableList(new ArrayList<>(multiComparisonNode.getComparisonValue())));
+        } else {
+            result = node;
+        }
+        return result;
     }
 
     /**
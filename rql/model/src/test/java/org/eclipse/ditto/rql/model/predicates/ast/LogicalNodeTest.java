@@ -13,9 +13,12 @@
 package org.eclipse.ditto.rql.model.predicates.ast;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -27,7 +30,7 @@ public class LogicalNodeTest {
 
     @Test
     public void hashcodeAndEquals() {
-        EqualsVerifier.forClass(LogicalNode.class).usingGetClass().verify();
+        EqualsVerifier.forClass(LogicalNode.class).usingGetClass().withIgnoredFields("unmodifiable").verify();
     }
 
     @Test
@@ -67,4 +70,25 @@ public class LogicalNodeTest {
         verify(visitorMock).visit(logicalNode);
     }
 
+    @Test
+    public void makeUnmodifiableMakesChildrenAndValuesBelowUnmodifiable() {
+        final MultiComparisonNode in = new MultiComparisonNode(MultiComparisonNode.Type.IN, "a");
+        in.addValue(1);
+        final LogicalNode not = new LogicalNode(LogicalNode.Type.NOT, in);
+        final LogicalNode and = new LogicalNode(LogicalNode.Type.AND, not);
+        final LogicalNode expected = new LogicalNode(LogicalNode.Type.AND,
+                new LogicalNode(LogicalNode.Type.NOT,
+                        new MultiComparisonNode(MultiComparisonNode.Type.IN, "a", Collections.singletonList(1))));
+
+        assertThat(and.makeUnmodifiable()).isSameAs(and).isEqualTo(expected);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> and.getChildren().add(new ExistsNode("b")));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> not.getChildren().clear());
+        final MultiComparisonNode unmodifiableIn = (MultiComparisonNode) not.getChildren().get(0);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> unmodifiableIn.addValue(2));
+    }
+
 }
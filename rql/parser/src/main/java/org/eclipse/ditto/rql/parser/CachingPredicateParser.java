@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+
+/**
+ * Predicate parser which caches the parsed {@link RootNode}s of a delegate parser keyed by their input string.
+ * <p>
+ * The same filters, e.g. of search queries, conditional requests or streaming sessions, are parsed over and over
+ * again. To stay bounded if inputs are arbitrary, the cache is cleared completely once it reaches its maximum size and
+ * inputs longer than the maximum input length are not cached at all. Parse failures are not cached.
+ * </p>
+ * <p>
+ * The cached root nodes are shared between all callers and are therefore made unmodifiable before they are cached.
+ * Each cache hit and miss is reported to a {@link Listener}, e.g. in order to count them as metrics.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@ThreadSafe
+public final class CachingPredicateParser implements PredicateParser {
+
+    private final PredicateParser delegate;
+    private final int maxSize;
+    private final int maxInputLength;
+    private final Map<String, RootNode> parsed;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final Listener listener;
+
+    private CachingPredicateParser(final PredicateParser delegate, final int maxSize, final int maxInputLength,
+            final Listener listener) {
+
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.maxInputLength = maxInputLength;
+        this.listener = listener;
+        parsed = new ConcurrentHashMap<>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+    }
+
+    /**
+     * Returns a new instance of {@code CachingPredicateParser} without listener.
+     *
+     * @param delegate the parser to parse inputs not cached yet.
+     * @param maxSize the maximum number of cached root nodes.
+     * @param maxInputLength the maximum length of inputs to cache.
+     * @return the instance.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxInputLength} is not positive.
+     */
+    public static CachingPredicateParser of(final PredicateParser delegate, final int maxSize,
+            final int maxInputLength) {
+
+        return of(delegate, maxSize, maxInputLength, NoOpListener.INSTANCE);
+    }
+
+    /**
+     * Returns a new instance of {@code CachingPredicateParser}.
+     *
+     * @param delegate the parser to parse inputs not cached yet.
+     * @param maxSize the maximum number of cached root nodes.
+     * @param maxInputLength the maximum length of inputs to cache.
+     * @param listener the listener to notify about cache hits and misses.
+     * @return the instance.
+     * @throws NullPointerException if {@code delegate} or {@code listener} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxInputLength} is not positive.
+     */
+    public static CachingPredicateParser of(final PredicateParser delegate, final int maxSize,
+            final int maxInputLength, final Listener listener) {
+
+        checkNotNull(delegate, "delegate");
+        checkArgument(maxSize, size -> size > 0, () -> "The maxSize must be positive!");
+        checkArgument(maxInputLength, length -> length > 0, () -> "The maxInputLength must be positive!");
+        checkNotNull(listener, "listener");
+        return new CachingPredicateParser(delegate, maxSize, maxInputLength, listener);
+    }
+
+    @Override
+    public RootNode parse(final String input) {
+        if (input.length() > maxInputLength) {
+            onMiss();
+            return delegate.parse(input);
+        }
+        RootNode result = parsed.get(input);
+        if (null == result) {
+            onMiss();
+            result = delegate.parse(input);
+            result.makeUnmodifiable();
+            if (parsed.size() >= maxSize) {
+                parsed.clear();
+            }
+            parsed.put(input, result);
+        } else {
+            hits.increment();
+            listener.onHit();
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the number of parsed inputs which were found in the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of parsed inputs which were not found in the cache, including failed and uncacheable ones.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of currently cached root nodes.
+     */
+    public int size() {
+        return parsed.size();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", maxSize=" + maxSize +
+                ", maxInputLength=" + maxInputLength +
+                ", size=" + parsed.size() +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                "]";
+    }
+
+    private void onMiss() {
+        misses.increment();
+        listener.onMiss();
+    }
+
+    /**
+     * Listener notified about each parsed input, e.g. in order to count cache hits and misses as metrics.
+     * Implementations must be thread-safe and fast, as they are called on every parse.
+     *
+     * @since 3.5.0
+     */
+    public interface Listener {
+
+        /**
+         * Called when a parsed input was found in the cache.
+         */
+        void onHit();
+
+        /**
+         * Called when a parsed input was not found in the cache, including failed and uncacheable ones.
+         */
+        void onMiss();
+
+    }
+
+    private enum NoOpListener implements Listener {
+
+        INSTANCE;
+
+        @Override
+        public void onHit() {
+            // no-op
+        }
+
+        @Override
+        public void onMiss() {
+            // no-op
+        }
+
+    }
+
+}
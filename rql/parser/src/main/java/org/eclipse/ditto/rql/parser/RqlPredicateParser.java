@@ -12,17 +12,31 @@
  */
 package org.eclipse.ditto.rql.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
 import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * Parsed predicates are cached node-wide by their input string, see {@link #getCache()}. The returned root nodes are
+ * therefore shared and unmodifiable. The cache reports its hits and misses to all
+ * {@link CachingPredicateParser.Listener}s provided via {@link ServiceLoader}.
+ * </p>
  */
 public class RqlPredicateParser implements PredicateParser {
 
+    private static final int MAX_CACHED_PREDICATES = 10_000;
+    private static final int MAX_CACHED_INPUT_LENGTH = 4_096;
+
     private static final RqlPredicateParser INSTANCE = new RqlPredicateParser();
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
+    private static final CachingPredicateParser PARSER =
+            CachingPredicateParser.of(RqlPredicateParser$.MODULE$, MAX_CACHED_PREDICATES, MAX_CACHED_INPUT_LENGTH,
+                    loadCacheListener());
 
     private RqlPredicateParser() {
         // private
@@ -37,8 +51,35 @@ public class RqlPredicateParser implements PredicateParser {
         return INSTANCE;
     }
 
+    /**
+     * Returns the node-wide cache of parsed predicates, e.g. in order to report its hits and misses.
+     *
+     * @return the cache.
+     * @since 3.5.0
+     */
+    public static CachingPredicateParser getCache() {
+        return PARSER;
+    }
+
     @Override
     public RootNode parse(final String input) {
         return PARSER.parse(input);
     }
+
+    private static CachingPredicateParser.Listener loadCacheListener() {
+        final List<CachingPredicateParser.Listener> listeners = new ArrayList<>();
+        ServiceLoader.load(CachingPredicateParser.Listener.class, RqlPredicateParser.class.getClassLoader())
+                .forEach(listeners::add);
+        return new CachingPredicateParser.Listener() {
+            @Override
+            public void onHit() {
+                listeners.forEach(CachingPredicateParser.Listener::onHit);
+            }
+
+            @Override
+            public void onMiss() {
+                listeners.forEach(CachingPredicateParser.Listener::onMiss);
+            }
+        };
+    }
 }
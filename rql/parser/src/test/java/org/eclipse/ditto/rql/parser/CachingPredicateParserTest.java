@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SuperNode;
+import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
+import org.junit.Test;
+
+/**
+ * Tests {@link CachingPredicateParser}.
+ */
+public final class CachingPredicateParserTest {
+
+    private static final PredicateParser RQL_PARSER = RqlPredicateParser$.MODULE$;
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CachingPredicateParser.of(RQL_PARSER, 0, 10));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxInputLength() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CachingPredicateParser.of(RQL_PARSER, 10, 0));
+    }
+
+    @Test
+    public void parsesEachInputOnce() {
+        final AtomicInteger parses = new AtomicInteger();
+        final CachingPredicateParser underTest = CachingPredicateParser.of(input -> {
+            parses.incrementAndGet();
+            return RQL_PARSER.parse(input);
+        }, 10, 100);
+
+        final RootNode first = underTest.parse("eq(attributes/a,1)");
+        final RootNode second = underTest.parse("eq(attributes/a,1)");
+        underTest.parse("exists(attributes/b)");
+
+        assertThat(second).isSameAs(first).isEqualTo(RQL_PARSER.parse("eq(attributes/a,1)"));
+        assertThat(parses).hasValue(2);
+        assertThat(underTest.getHitCount()).isEqualTo(1L);
+        assertThat(underTest.getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void cachedNodesAreUnmodifiable() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(RQL_PARSER, 10, 100);
+
+        final RootNode rootNode = underTest.parse("and(eq(attributes/a,1),in(attributes/b,2,3))");
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> rootNode.getChildren().clear());
+        final SuperNode and = (SuperNode) rootNode.getChildren().get(0);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> and.getChildren().remove(0));
+        final MultiComparisonNode in = (MultiComparisonNode) and.getChildren().get(1);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> in.addValue(4));
+        assertThat(underTest.parse("and(eq(attributes/a,1),in(attributes/b,2,3))"))
+                .isEqualTo(RQL_PARSER.parse("and(eq(attributes/a,1),in(attributes/b,2,3))"));
+    }
+
+    @Test
+    public void notifiesListenerOfHitsAndMisses() {
+        final List<String> events = new ArrayList<>();
+        final CachingPredicateParser underTest =
+                CachingPredicateParser.of(RQL_PARSER, 10, 10, new CachingPredicateParser.Listener() {
+                    @Override
+                    public void onHit() {
+                        events.add("hit");
+                    }
+
+                    @Override
+                    public void onMiss() {
+                        events.add("miss");
+                    }
+                });
+
+        underTest.parse("exists(a)");
+        underTest.parse("exists(a)");
+        underTest.parse("eq(attributes/a,1)");
+
+        assertThat(events).containsExactly("miss", "hit", "miss");
+    }
+
+    @Test
+    public void isClearedWhenFull() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(RQL_PARSER, 2, 100);
+        underTest.parse("exists(a)");
+        underTest.parse("exists(b)");
+
+        underTest.parse("exists(c)");
+
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void longInputsAreNotCached() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(RQL_PARSER, 2, 10);
+
+        underTest.parse("eq(attributes/a,1)");
+        underTest.parse("eq(attributes/a,1)");
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void failedParsesAreNotCached() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(RQL_PARSER, 2, 100);
+
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.parse("eq(a"));
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.getMissCount()).isEqualTo(1L);
+    }
+
+}
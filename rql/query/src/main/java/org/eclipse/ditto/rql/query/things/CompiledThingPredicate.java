@@ -0,0 +1,857 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * An RQL {@link Criteria} compiled into a tree of specialized nodes which are evaluated directly on the JSON
+ * representation of a Thing.
+ * <p>
+ * In contrast to {@link ThingPredicateVisitor}, the criteria is visited only once: the JSON pointers of all fields are
+ * split into their keys, literal values are converted to their comparable form and the regular expressions of
+ * {@code like} and {@code ilike} are compiled upfront. Placeholders, both as field names and as values, are resolved
+ * late with the placeholder resolvers passed to each evaluation, so one compiled predicate may be shared by all
+ * evaluations of the same filter.
+ * <p>
+ * The evaluation semantics are the same as those of {@link ThingPredicateVisitor}.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class CompiledThingPredicate {
+
+    private static final String NULL_LITERAL_STRING = String.valueOf(new Object());
+    private static final String SPECIAL_FIELD_PREFIX = "_";
+
+    private final Node root;
+
+    private CompiledThingPredicate(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the passed {@code criteria}.
+     *
+     * @param criteria the RQL criteria to compile.
+     * @return the compiled predicate.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static CompiledThingPredicate compile(final Criteria criteria) {
+        requireNonNull(criteria, "The criteria must not be null!");
+        return new CompiledThingPredicate(criteria.accept(new CriteriaCompiler()));
+    }
+
+    /**
+     * Evaluates this predicate on the JSON representation of a Thing.
+     *
+     * @param thingJson the Thing as JSON including its special fields, e.g. {@code thing.toJson(p -> true)}.
+     * @param placeholderResolvers the placeholder resolvers to resolve placeholders in the criteria with.
+     * @return whether the Thing matches.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+        requireNonNull(thingJson, "The Thing JSON must not be null!");
+        requireNonNull(placeholderResolvers, "The placeholder resolvers must not be null!");
+        return root.test(thingJson, placeholderResolvers);
+    }
+
+    /**
+     * Evaluates this predicate on the JSON representation of a Thing.
+     *
+     * @param thingJson the Thing as JSON including its special fields, e.g. {@code thing.toJson(p -> true)}.
+     * @param placeholderResolvers the placeholder resolvers to resolve placeholders in the criteria with.
+     * @return whether the Thing matches.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public boolean test(final JsonObject thingJson, final PlaceholderResolver<?>... placeholderResolvers) {
+        return test(thingJson, Arrays.asList(placeholderResolvers));
+    }
+
+    /**
+     * Evaluates this predicate on a Thing.
+     *
+     * @param thing the Thing.
+     * @param placeholderResolvers the placeholder resolvers to resolve placeholders in the criteria with.
+     * @return whether the Thing matches.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public boolean test(final Thing thing, final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+        requireNonNull(thing, "The Thing must not be null!");
+        return test(thing.toJson(p -> true), placeholderResolvers);
+    }
+
+    /**
+     * Evaluates this predicate on a Thing.
+     *
+     * @param thing the Thing.
+     * @param placeholderResolvers the placeholder resolvers to resolve placeholders in the criteria with.
+     * @return whether the Thing matches.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public boolean test(final Thing thing, final PlaceholderResolver<?>... placeholderResolvers) {
+        return test(thing, Arrays.asList(placeholderResolvers));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "root=" + root +
+                "]";
+    }
+
+    @Nullable
+    private static String resolvePlaceholder(final String prefix, final String name,
+            final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+
+        for (final PlaceholderResolver<?> resolver : placeholderResolvers) {
+            if (prefix.equals(resolver.getPrefix()) && resolver.supports(name)) {
+                final List<String> values = resolver.resolveValues(name);
+                if (!values.isEmpty()) {
+                    return values.get(0);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean existsInPlaceholderResolvers(final String prefix, final String name,
+            final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+
+        return resolvePlaceholder(prefix, name, placeholderResolvers) != null;
+    }
+
+    private static JsonPointer[] toSingleLevelPointers(final JsonPointer pointer) {
+        final JsonPointer[] levels = new JsonPointer[pointer.getLevelCount()];
+        int i = 0;
+        for (final JsonKey key : pointer) {
+            levels[i++] = JsonPointer.empty().addLeaf(key);
+        }
+        return levels;
+    }
+
+    @Nullable
+    private static BigDecimal parseBigDecimal(final String string) {
+        try {
+            return new BigDecimal(string);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A node of the compiled predicate tree.
+     */
+    private interface Node {
+
+        boolean test(JsonObject thingJson, Collection<PlaceholderResolver<?>> placeholderResolvers);
+    }
+
+    /**
+     * Matcher of a single scalar value found in the Thing JSON.
+     */
+    private interface ValueMatcher {
+
+        boolean matches(JsonValue scalar);
+    }
+
+    private enum Lookup {
+        NOT_FOUND,
+        FOUND,
+        MATCHED
+    }
+
+    /**
+     * Visits the criteria tree once and creates the node tree.
+     */
+    private static final class CriteriaCompiler implements CriteriaVisitor<Node> {
+
+        @Override
+        public Node visitAnd(final List<Node> conjuncts) {
+            final Node[] nodes = conjuncts.toArray(new Node[0]);
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    for (final Node node : nodes) {
+                        if (!node.test(thingJson, resolvers)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public String toString() {
+                    return "and" + Arrays.toString(nodes);
+                }
+            };
+        }
+
+        @Override
+        public Node visitAny() {
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    return true;
+                }
+
+                @Override
+                public String toString() {
+                    return "any";
+                }
+            };
+        }
+
+        @Override
+        public Node visitExists(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(new ExistsCompiler());
+        }
+
+        @Override
+        public Node visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.rql.query.criteria.Predicate predicate) {
+
+            final String fieldName = fieldExpression.acceptFilterVisitor(new FieldNameCompiler());
+            return predicate.accept(new PredicateCompiler()).toNode(new FieldAccess(fieldName));
+        }
+
+        @Override
+        public Node visitNor(final List<Node> negativeDisjoints) {
+            final Node[] nodes = negativeDisjoints.toArray(new Node[0]);
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    for (final Node node : nodes) {
+                        if (node.test(thingJson, resolvers)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public String toString() {
+                    return "nor" + Arrays.toString(nodes);
+                }
+            };
+        }
+
+        @Override
+        public Node visitOr(final List<Node> disjoints) {
+            final Node[] nodes = disjoints.toArray(new Node[0]);
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    for (final Node node : nodes) {
+                        if (node.test(thingJson, resolvers)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @Override
+                public String toString() {
+                    return "or" + Arrays.toString(nodes);
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Maps filter field expressions to the field names used by {@link FilterThingPredicateVisitor}.
+     */
+    private static final class FieldNameCompiler implements FilterFieldExpressionVisitor<String> {
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureDefinition(final String featureId) {
+            return "/features/" + featureId + "/definition";
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return "/features/" + featureId + "/desiredProperties/" + desiredProperty;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+        @Override
+        public String visitMetadata(final String key) {
+            return "_metadata/" + key;
+        }
+
+    }
+
+    /**
+     * Compiles "exists" expressions to lookups of pre-parsed pointers.
+     */
+    private static final class ExistsCompiler implements ExistsFieldExpressionVisitor<Node> {
+
+        @Override
+        public Node visitAttribute(final String key) {
+            return exists("/attributes/" + key);
+        }
+
+        @Override
+        public Node visitFeature(final String featureId) {
+            return exists(JsonPointer.of("/features").addLeaf(JsonKey.of(featureId)));
+        }
+
+        @Override
+        public Node visitFeatureDefinition(final String featureId) {
+            return exists(JsonPointer.of("/features").addLeaf(JsonKey.of(featureId)).addLeaf(JsonKey.of("definition")));
+        }
+
+        @Override
+        public Node visitFeatureProperties(final CharSequence featureId) {
+            return exists(JsonPointer.of("/features").addLeaf(JsonKey.of(featureId)).addLeaf(JsonKey.of("properties")));
+        }
+
+        @Override
+        public Node visitFeatureDesiredProperties(final CharSequence featureId) {
+            return exists(JsonPointer.of("/features")
+                    .addLeaf(JsonKey.of(featureId))
+                    .addLeaf(JsonKey.of("desiredProperties")));
+        }
+
+        @Override
+        public Node visitFeatureIdProperty(final String featureId, final String property) {
+            return exists(JsonPointer.of("/features")
+                    .addLeaf(JsonKey.of(featureId))
+                    .addLeaf(JsonKey.of("properties"))
+                    .append(JsonPointer.of(property)));
+        }
+
+        @Override
+        public Node visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return exists(JsonPointer.of("/features")
+                    .addLeaf(JsonKey.of(featureId))
+                    .addLeaf(JsonKey.of("desiredProperties"))
+                    .append(JsonPointer.of(property)));
+        }
+
+        @Override
+        public Node visitSimple(final String fieldName) {
+            final JsonPointer pointer = JsonPointer.of(fieldName);
+            // like "thing.toJson()", only regular fields of the Thing are considered:
+            final boolean isSpecialField = pointer.getRoot()
+                    .filter(rootKey -> rootKey.toString().startsWith(SPECIAL_FIELD_PREFIX))
+                    .isPresent();
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            @Nullable final String placeholderPrefix = fieldNameSplit.length > 1 ? fieldNameSplit[0] : null;
+            @Nullable final String placeholderName = fieldNameSplit.length > 1 ? fieldNameSplit[1] : null;
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    if (!isSpecialField && thingJson.getValue(pointer).isPresent()) {
+                        return true;
+                    }
+                    return placeholderPrefix != null &&
+                            existsInPlaceholderResolvers(placeholderPrefix, placeholderName, resolvers);
+                }
+
+                @Override
+                public String toString() {
+                    return "exists(" + fieldName + ")";
+                }
+            };
+        }
+
+        @Override
+        public Node visitMetadata(final String key) {
+            return exists(JsonPointer.of("/_metadata").append(JsonPointer.of(key)));
+        }
+
+        private static Node exists(final CharSequence pointerString) {
+            return exists(JsonPointer.of(pointerString));
+        }
+
+        private static Node exists(final JsonPointer pointer) {
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    return thingJson.getValue(pointer).isPresent();
+                }
+
+                @Override
+                public String toString() {
+                    return "exists(" + pointer + ")";
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Pre-parsed access to a field of the Thing JSON which falls back to the placeholder resolvers if the Thing does
+     * not contain the field. Arrays along the path are flattened like
+     * {@link JsonObject#getValueFlatteningArrays(CharSequence)} does.
+     */
+    private static final class FieldAccess {
+
+        private final String fieldName;
+        private final JsonPointer[] levels;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+
+        private FieldAccess(final String fieldName) {
+            this.fieldName = fieldName;
+            levels = toSingleLevelPointers(JsonPointer.of(fieldName));
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                placeholderPrefix = fieldNameSplit[0];
+                placeholderName = fieldNameSplit[1];
+            } else {
+                placeholderPrefix = null;
+                placeholderName = null;
+            }
+        }
+
+        private Lookup lookup(final JsonObject thingJson, final ValueMatcher matcher,
+                final Collection<PlaceholderResolver<?>> resolvers) {
+
+            final Lookup result;
+            if (levels.length == 0) {
+                result = matchValue(thingJson, matcher);
+            } else {
+                result = lookup(thingJson, 0, matcher);
+            }
+            if (result == Lookup.NOT_FOUND && placeholderPrefix != null) {
+                @Nullable final String resolved = resolvePlaceholder(placeholderPrefix, placeholderName, resolvers);
+                if (resolved != null) {
+                    return matcher.matches(JsonValue.of(resolved)) ? Lookup.MATCHED : Lookup.FOUND;
+                }
+            }
+            return result;
+        }
+
+        private Lookup lookup(final JsonObject jsonObject, final int level, final ValueMatcher matcher) {
+
+            final Optional<JsonValue> valueOptional = jsonObject.getValue(levels[level]);
+            if (!valueOptional.isPresent()) {
+                return Lookup.NOT_FOUND;
+            }
+            final JsonValue value = valueOptional.get();
+            if (level == levels.length - 1) {
+                return matchValue(value, matcher);
+            } else if (value.isObject()) {
+                return lookup(value.asObject(), level + 1, matcher);
+            } else if (value.isArray()) {
+                Lookup result = Lookup.NOT_FOUND;
+                for (final JsonValue element : value.asArray()) {
+                    if (element.isObject()) {
+                        final Lookup elementResult = lookup(element.asObject(), level + 1, matcher);
+                        if (elementResult == Lookup.MATCHED) {
+                            return Lookup.MATCHED;
+                        } else if (elementResult == Lookup.FOUND) {
+                            result = Lookup.FOUND;
+                        }
+                    }
+                }
+                return result;
+            } else {
+                return Lookup.NOT_FOUND;
+            }
+        }
+
+        private static Lookup matchValue(final JsonValue value, final ValueMatcher matcher) {
+            return anyScalarMatches(value, matcher) ? Lookup.MATCHED : Lookup.FOUND;
+        }
+
+        private static boolean anyScalarMatches(final JsonValue value, final ValueMatcher matcher) {
+
+            if (value.isNull()) {
+                return matcher.matches(value);
+            } else if (value.isArray()) {
+                final JsonArray array = value.asArray();
+                for (final JsonValue element : array) {
+                    if (anyScalarMatches(element, matcher)) {
+                        return true;
+                    }
+                }
+                return false;
+            } else if (value.isObject()) {
+                // filtering objects is not supported
+                return false;
+            } else {
+                return matcher.matches(value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return fieldName;
+        }
+
+    }
+
+    /**
+     * A comparable operand: either a literal of the criteria or a resolved placeholder value.
+     */
+    private static final class Operand {
+
+        @Nullable private final Comparable<?> value;
+        @Nullable private final BigDecimal numberFromString;
+        private final boolean isLong;
+        private final long longValue;
+
+        private Operand(@Nullable final Comparable<?> value) {
+            this.value = value;
+            numberFromString = value instanceof String ? parseBigDecimal((String) value) : null;
+            if (value instanceof BigDecimal && isIntegralLong((BigDecimal) value)) {
+                isLong = true;
+                longValue = ((BigDecimal) value).longValue();
+            } else {
+                isLong = false;
+                longValue = 0L;
+            }
+        }
+
+        private static Operand of(@Nullable final Object literal) {
+            if (literal instanceof Number) {
+                return new Operand(new BigDecimal(literal.toString()));
+            } else if (literal instanceof Comparable) {
+                return new Operand((Comparable<?>) literal);
+            } else {
+                return new Operand(null);
+            }
+        }
+
+        private static boolean isIntegralLong(final BigDecimal bigDecimal) {
+            if (bigDecimal.scale() > 0 && bigDecimal.stripTrailingZeros().scale() > 0) {
+                return false;
+            }
+            try {
+                bigDecimal.longValueExact();
+                return true;
+            } catch (final ArithmeticException e) {
+                return false;
+            }
+        }
+
+        private boolean isNull() {
+            return value == null;
+        }
+
+        /**
+         * Compares the passed scalar JSON value with this operand like
+         * {@code ThingPredicatePredicateVisitor.compare(operand, scalar)} does.
+         *
+         * @param scalar a scalar JSON value which is not {@code null}.
+         * @return the comparison result of the scalar in relation to this operand.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes", "java:S3740"})
+        private int compareScalar(final JsonValue scalar) {
+            final Comparable self = requireNonNull(value);
+            if (scalar.isNumber()) {
+                if (isLong && scalar.isLong()) {
+                    return Long.compare(scalar.asLong(), longValue);
+                }
+                final BigDecimal number = toBigDecimal(scalar);
+                if (numberFromString != null) {
+                    return number.compareTo(numberFromString);
+                } else if (self instanceof BigDecimal) {
+                    return number.compareTo((BigDecimal) self);
+                }
+                return number.toString().compareTo(self.toString());
+            } else if (scalar.isString()) {
+                final String string = scalar.asString();
+                if (self instanceof BigDecimal) {
+                    @Nullable final BigDecimal number = parseBigDecimal(string);
+                    if (number != null) {
+                        return number.compareTo((BigDecimal) self);
+                    }
+                } else if (self instanceof String) {
+                    return string.compareTo((String) self);
+                }
+                return string.compareTo(self.toString());
+            } else {
+                final Boolean bool = scalar.asBoolean();
+                if (self instanceof Boolean) {
+                    return bool.compareTo((Boolean) self);
+                }
+                return bool.toString().compareTo(self.toString());
+            }
+        }
+
+        private static BigDecimal toBigDecimal(final JsonValue number) {
+            if (number.isInt()) {
+                return new BigDecimal(Integer.toString(number.asInt()));
+            } else if (number.isLong()) {
+                return new BigDecimal(Long.toString(number.asLong()));
+            } else {
+                return new BigDecimal(Double.toString(number.asDouble()));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+
+    }
+
+    /**
+     * A value which is either a pre-converted literal or a placeholder resolved on each evaluation.
+     */
+    private static final class OperandSource {
+
+        @Nullable private final Operand constant;
+        @Nullable private final ParsedPlaceholder placeholder;
+
+        private OperandSource(@Nullable final Operand constant, @Nullable final ParsedPlaceholder placeholder) {
+            this.constant = constant;
+            this.placeholder = placeholder;
+        }
+
+        private static OperandSource of(@Nullable final Object value) {
+            if (value instanceof ParsedPlaceholder) {
+                return new OperandSource(null, (ParsedPlaceholder) value);
+            }
+            return new OperandSource(Operand.of(value), null);
+        }
+
+        private Operand get(final Collection<PlaceholderResolver<?>> resolvers) {
+            if (constant != null) {
+                return constant;
+            }
+            final ParsedPlaceholder p = requireNonNull(placeholder);
+            return new Operand(resolvePlaceholder(p.getPrefix(), p.getName(), resolvers));
+        }
+
+        @Override
+        public String toString() {
+            return constant != null ? constant.toString() : String.valueOf(placeholder);
+        }
+
+    }
+
+    /**
+     * Compiles a predicate to a factory of nodes for a field.
+     */
+    @FunctionalInterface
+    private interface FieldNodeFactory {
+
+        Node toNode(FieldAccess fieldAccess);
+    }
+
+    @FunctionalInterface
+    private interface ComparisonResultPredicate {
+
+        boolean test(int comparisonResult);
+    }
+
+    private static final class PredicateCompiler implements PredicateVisitor<FieldNodeFactory> {
+
+        @Override
+        public FieldNodeFactory visitEq(@Nullable final Object value) {
+            final OperandSource operandSource = OperandSource.of(value);
+            return field -> anyMatchNode("eq", field, operandSource, false);
+        }
+
+        @Override
+        public FieldNodeFactory visitNe(@Nullable final Object value) {
+            final OperandSource operandSource = OperandSource.of(value);
+            return field -> anyMatchNode("ne", field, operandSource, true);
+        }
+
+        @Override
+        public FieldNodeFactory visitGe(@Nullable final Object value) {
+            return comparison("ge", value, result -> result >= 0);
+        }
+
+        @Override
+        public FieldNodeFactory visitGt(@Nullable final Object value) {
+            return comparison("gt", value, result -> result > 0);
+        }
+
+        @Override
+        public FieldNodeFactory visitLe(@Nullable final Object value) {
+            return comparison("le", value, result -> result <= 0);
+        }
+
+        @Override
+        public FieldNodeFactory visitLt(@Nullable final Object value) {
+            return comparison("lt", value, result -> result < 0);
+        }
+
+        @Override
+        public FieldNodeFactory visitIn(final List<?> values) {
+            final OperandSource[] operandSources = values.stream().map(OperandSource::of).toArray(OperandSource[]::new);
+            return field -> new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    final Operand[] operands = new Operand[operandSources.length];
+                    for (int i = 0; i < operands.length; i++) {
+                        operands[i] = operandSources[i].get(resolvers);
+                    }
+                    return field.lookup(thingJson, scalar -> {
+                        if (scalar.isNull()) {
+                            return false;
+                        }
+                        for (final Operand operand : operands) {
+                            if (!operand.isNull() && operand.compareScalar(scalar) == 0) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }, resolvers) == Lookup.MATCHED;
+                }
+
+                @Override
+                public String toString() {
+                    return "in(" + field + "," + Arrays.toString(operandSources) + ")";
+                }
+            };
+        }
+
+        @Override
+        public FieldNodeFactory visitLike(@Nullable final String value) {
+            return like("like", value, 0);
+        }
+
+        @Override
+        public FieldNodeFactory visitILike(@Nullable final String value) {
+            return like("ilike", value, Pattern.CASE_INSENSITIVE);
+        }
+
+        private static FieldNodeFactory comparison(final String name, @Nullable final Object value,
+                final ComparisonResultPredicate resultPredicate) {
+
+            final OperandSource operandSource = OperandSource.of(value);
+            return field -> new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    final Operand operand = operandSource.get(resolvers);
+                    if (operand.isNull()) {
+                        return false;
+                    }
+                    return field.lookup(thingJson, scalar ->
+                                    !scalar.isNull() && resultPredicate.test(operand.compareScalar(scalar)),
+                            resolvers) == Lookup.MATCHED;
+                }
+
+                @Override
+                public String toString() {
+                    return name + "(" + field + "," + operandSource + ")";
+                }
+            };
+        }
+
+        private static Node anyMatchNode(final String name, final FieldAccess field,
+                final OperandSource operandSource, final boolean negate) {
+
+            return new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    final Operand operand = operandSource.get(resolvers);
+                    final boolean anyMatch = field.lookup(thingJson, scalar -> {
+                        if (scalar.isNull()) {
+                            // special NULL handling
+                            return operand.isNull();
+                        }
+                        return !operand.isNull() && operand.compareScalar(scalar) == 0;
+                    }, resolvers) == Lookup.MATCHED;
+                    return negate != anyMatch;
+                }
+
+                @Override
+                public String toString() {
+                    return name + "(" + field + "," + operandSource + ")";
+                }
+            };
+        }
+
+        private static FieldNodeFactory like(final String name, @Nullable final String value, final int flags) {
+            @Nullable final Pattern pattern = value != null ? Pattern.compile(value, flags) : null;
+            return field -> new Node() {
+                @Override
+                public boolean test(final JsonObject thingJson, final Collection<PlaceholderResolver<?>> resolvers) {
+                    if (pattern == null) {
+                        return false;
+                    }
+                    return field.lookup(thingJson, scalar -> pattern.matcher(toLikeString(scalar)).matches(),
+                            resolvers) == Lookup.MATCHED;
+                }
+
+                @Override
+                public String toString() {
+                    return name + "(" + field + "," + value + ")";
+                }
+            };
+        }
+
+        private static String toLikeString(final JsonValue scalar) {
+            if (scalar.isString()) {
+                return scalar.asString();
+            } else if (scalar.isNull()) {
+                return NULL_LITERAL_STRING;
+            } else if (scalar.isNumber()) {
+                if (scalar.isInt()) {
+                    return Integer.toString(scalar.asInt());
+                } else if (scalar.isLong()) {
+                    return Long.toString(scalar.asLong());
+                } else {
+                    return Double.toString(scalar.asDouble());
+                }
+            } else {
+                return Boolean.toString(scalar.asBoolean());
+            }
+        }
+
+    }
+
+}
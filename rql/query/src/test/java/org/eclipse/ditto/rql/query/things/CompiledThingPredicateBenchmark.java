@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the in-memory evaluation of typical connection target, WebSocket/SSE and conditional
+ * request filters via a {@link CompiledThingPredicate} with the evaluation via {@link ThingPredicateVisitor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompiledThingPredicateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final List<PlaceholderResolver<?>> NO_RESOLVERS = Collections.emptyList();
+
+    @Param({
+            "eq(attributes/location,\"kitchen\")",
+            "and(gt(features/sensor/properties/temperature,20),lt(features/sensor/properties/temperature,30))",
+            "or(eq(attributes/manufacturer,\"ACME\"),in(attributes/model,\"a\",\"b\",\"c\"))",
+            "and(exists(features/sensor),like(thingId,\"org.eclipse.ditto:*\"),ne(attributes/tags,\"broken\"))"
+    })
+    public String filter;
+
+    private Thing thing;
+    private JsonObject thingJson;
+    private Criteria criteria;
+    private CompiledThingPredicate compiledThingPredicate;
+
+    @Setup
+    public void setUp() {
+        thing = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "benchmark"))
+                .setAttributes(JsonObject.newBuilder()
+                        .set("location", "kitchen")
+                        .set("manufacturer", "ACME")
+                        .set("model", "b")
+                        .set("serial", 4711)
+                        .set("tags", JsonArray.of("indoor", "wifi"))
+                        .build())
+                .setFeature(ThingsModelFactory.newFeatureBuilder()
+                        .properties(JsonObject.newBuilder()
+                                .set("temperature", 23.5)
+                                .set("humidity", 42)
+                                .set("status", "running")
+                                .build())
+                        .withId("sensor")
+                        .build())
+                .setRevision(42L)
+                .build();
+        thingJson = thing.toJson(p -> true);
+        criteria = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance())
+                .filterCriteria(filter, DittoHeaders.empty());
+        compiledThingPredicate = CompiledThingPredicate.compile(criteria);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compiledOnJson() {
+        return compiledThingPredicate.test(thingJson, NO_RESOLVERS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean compiledOnThing() {
+        return compiledThingPredicate.test(thing, NO_RESOLVERS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean visitorOnThing() {
+        return ThingPredicateVisitor.apply(criteria, NO_RESOLVERS).test(thing);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.entity.metadata.Metadata;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}, verifying that it evaluates each filter exactly like
+ * {@link ThingPredicateVisitor}.
+ */
+@RunWith(Parameterized.class)
+public final class CompiledThingPredicateTest {
+
+    private static final PlaceholderResolver<String> PLACEHOLDER_RESOLVER = PlaceholderFactory.newPlaceholderResolver(
+            new ThingPredicateTestPlaceholder(), "LoreM");
+
+    private static final List<PlaceholderResolver<?>> PLACEHOLDER_RESOLVERS = Arrays.asList(PLACEHOLDER_RESOLVER,
+            PlaceholderFactory.newPlaceholderResolver(TimePlaceholder.getInstance(), new Object()));
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), PLACEHOLDER_RESOLVER,
+                    TimePlaceholder.getInstance());
+
+    private static final Thing THING = ThingsModelFactory.newThingBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setAttributes(JsonObject.newBuilder()
+                    .set("anInteger", 42)
+                    .set("aLong", 42456489489489L)
+                    .set("aDouble", 22.26)
+                    .set("anIntegralDouble", 5.0)
+                    .set("aBoolean", true)
+                    .set("aString", "ccc_string")
+                    .set("aNumericString", "17")
+                    .set("aNull", JsonValue.nullLiteral())
+                    .set("upper", "LOREM")
+                    .set("nested", JsonObject.newBuilder().set("level", JsonObject.newBuilder()
+                            .set("value", 7)
+                            .build()).build())
+                    .set("list", JsonArray.of(1, 2, "three", JsonValue.nullLiteral(), JsonArray.of(4, 5)))
+                    .set("objects", JsonArray.of(
+                            JsonObject.newBuilder().set("name", "a").set("count", 1).build(),
+                            JsonObject.newBuilder().set("name", "b").set("count", 2).build(),
+                            JsonValue.of("no-object")))
+                    .build())
+            .setFeature(ThingsModelFactory.newFeatureBuilder()
+                    .properties(JsonObject.newBuilder().set("temperature", 23.5).set("status", "running").build())
+                    .desiredProperties(JsonObject.newBuilder().set("temperature", 20).build())
+                    .withId("sensor")
+                    .build())
+            .setMetadata(Metadata.newBuilder().set("/attributes/aString", "meta").build())
+            .setRevision(3L)
+            .build();
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<String> filters() {
+        return Arrays.asList(
+                "eq(attributes/anInteger,42)",
+                "eq(attributes/anInteger,42.0)",
+                "eq(attributes/anInteger,\"42\")",
+                "ne(attributes/anInteger,42)",
+                "ne(attributes/missing,42)",
+                "gt(attributes/anInteger,41)",
+                "ge(attributes/anInteger,42)",
+                "lt(attributes/anInteger,42)",
+                "le(attributes/aLong,42456489489489)",
+                "gt(attributes/aDouble,22.25)",
+                "lt(attributes/aDouble,22)",
+                "eq(attributes/anIntegralDouble,5)",
+                "gt(attributes/aNumericString,16)",
+                "lt(attributes/aNumericString,\"2\")",
+                "eq(attributes/aBoolean,true)",
+                "eq(attributes/aBoolean,\"true\")",
+                "ne(attributes/aBoolean,false)",
+                "eq(attributes/aString,\"ccc_string\")",
+                "gt(attributes/aString,\"bbb\")",
+                "lt(attributes/aString,1)",
+                "eq(attributes/aNull,null)",
+                "ne(attributes/aNull,null)",
+                "eq(attributes/aString,null)",
+                "gt(attributes/aNull,1)",
+                "eq(attributes/nested/level/value,7)",
+                "eq(attributes/nested/level,7)",
+                "eq(attributes/list,\"three\")",
+                "eq(attributes/list,5)",
+                "gt(attributes/list,4)",
+                "eq(attributes/list,null)",
+                "eq(attributes/objects/name,\"b\")",
+                "gt(attributes/objects/count,1)",
+                "eq(attributes/objects/missing,1)",
+                "ne(attributes/objects/name,\"c\")",
+                "in(attributes/anInteger,1,2,42)",
+                "in(attributes/aString,\"a\",\"b\")",
+                "in(attributes/list,\"three\",99)",
+                "like(attributes/aString,\"ccc*\")",
+                "like(attributes/anInteger,\"4?\")",
+                "ilike(attributes/aString,\"CCC*\")",
+                "like(attributes/list,\"thr*\")",
+                "exists(attributes/anInteger)",
+                "exists(attributes/missing)",
+                "exists(attributes/nested/level)",
+                "exists(features/sensor)",
+                "exists(features/missing)",
+                "exists(features/sensor/properties)",
+                "exists(features/sensor/desiredProperties)",
+                "exists(features/sensor/definition)",
+                "exists(features/sensor/properties/temperature)",
+                "exists(features/sensor/desiredProperties/temperature)",
+                "exists(thingId)",
+                "exists(_revision)",
+                "exists(_metadata/attributes/aString)",
+                "exists(test:upper)",
+                "eq(features/sensor/properties/temperature,23.5)",
+                "lt(features/sensor/desiredProperties/temperature,23.5)",
+                "eq(thingId,\"org.eclipse.ditto:compiled\")",
+                "like(thingId,\"org.eclipse.ditto:*\")",
+                "eq(_revision,3)",
+                "eq(_metadata/attributes/aString,\"meta\")",
+                "gt(attributes/aString,time:now)",
+                "lt(attributes/aString,time:now)",
+                "in(attributes/aString,\"x\",time:now)",
+                "eq(test:upper,\"LOREM\")",
+                "eq(test:lower,\"LOREM\")",
+                "ne(test:lower,\"LOREM\")",
+                "and(eq(attributes/anInteger,42),eq(attributes/aBoolean,true))",
+                "and(eq(attributes/anInteger,42),eq(attributes/aBoolean,false))",
+                "or(eq(attributes/anInteger,1),eq(attributes/aBoolean,true))",
+                "or(eq(attributes/anInteger,1),eq(attributes/aBoolean,false))",
+                "not(eq(attributes/anInteger,42))",
+                "not(or(eq(attributes/anInteger,1),exists(attributes/missing)))"
+        );
+    }
+
+    @Parameterized.Parameter
+    public String filter;
+
+    @Test
+    public void evaluatesLikeThingPredicateVisitor() {
+        final Criteria criteria = CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+        final boolean expected = ThingPredicateVisitor.apply(criteria, PLACEHOLDER_RESOLVERS).test(THING);
+
+        final CompiledThingPredicate underTest = CompiledThingPredicate.compile(criteria);
+
+        assertThat(underTest.test(THING, PLACEHOLDER_RESOLVERS)).isEqualTo(expected);
+        assertThat(underTest.test(THING.toJson(p -> true), PLACEHOLDER_RESOLVERS)).isEqualTo(expected);
+    }
+
+}
@@ -124,6 +124,12 @@ final class ImmutableAttributesBuilder implements AttributesBuilder {
         return this;
     }
 
+    @Override
+    public AttributesBuilder setAll(final Iterable<JsonField> fields) {
+        jsonObjectBuilder.setAll(fields);
+        return this;
+    }
+
     @Override
     public AttributesBuilder setAll(final Iterable<JsonField> fields, final Predicate<JsonField> predicate) {
         jsonObjectBuilder.setAll(fields, predicate);
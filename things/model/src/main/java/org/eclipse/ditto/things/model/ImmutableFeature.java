@@ -42,6 +42,12 @@ final class ImmutableFeature implements Feature {
     @Nullable private final FeatureProperties properties;
     @Nullable private final FeatureProperties desiredProperties;
 
+    /**
+     * Lazily calculated hash code. As properties cache their own hash codes, the entity tag of a feature is only
+     * calculated again for the parts which were changed.
+     */
+    private int hashCode;
+
     private ImmutableFeature(final String featureId,
             @Nullable final FeatureDefinition definition,
             @Nullable final FeatureProperties properties,
@@ -296,6 +302,15 @@ final class ImmutableFeature implements Feature {
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(featureId, definition, properties, desiredProperties);
     }
 
@@ -134,6 +134,12 @@ final class ImmutableFeaturePropertiesBuilder implements FeaturePropertiesBuilde
         return this;
     }
 
+    @Override
+    public FeaturePropertiesBuilder setAll(final Iterable<JsonField> fields) {
+        jsonObjectBuilder.setAll(fields);
+        return this;
+    }
+
     @Override
     public FeaturePropertiesBuilder setAll(final Iterable<JsonField> fields, final Predicate<JsonField> predicate) {
         jsonObjectBuilder.setAll(fields, predicate);
@@ -46,6 +46,12 @@ final class ImmutableFeatures implements Features {
 
     private final Map<String, Feature> features;
 
+    /**
+     * Lazily calculated hash code which is used e.g. as entity tag of the features. It is combined from the cached
+     * hash codes of the single features, so that only the features which were changed are hashed again.
+     */
+    private int hashCode;
+
     private ImmutableFeatures(final Map<String, Feature> features) {
         this.features = Collections.unmodifiableMap(new LinkedHashMap<>(checkNotNull(features, "features")));
     }
@@ -318,6 +324,15 @@ final class ImmutableFeatures implements Features {
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(features);
     }
 
@@ -59,8 +59,12 @@ public final class ImmutableFeatureTest {
         final SoftReference<JsonObject> red = new SoftReference<>(JsonFactory.newObject("{\"foo\": 1}"));
         final SoftReference<JsonObject> black = new SoftReference<>(JsonFactory.newObject("{\"foo\": 2}"));
 
+        final ImmutableFeature cachedHashCodeExample = ImmutableFeature.of("myFeature", FLUX_CAPACITOR_PROPERTIES);
+        cachedHashCodeExample.hashCode();
+
         EqualsVerifier.forClass(ImmutableFeature.class)
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", cachedHashCodeExample)
                 .verify();
     }
 
@@ -76,7 +80,7 @@ public final class ImmutableFeatureTest {
         assertInstancesOf(ImmutableFeature.class,
                 areImmutable(),
                 provided(knownImmutableTypes).areAlsoImmutable(),
-                assumingFields("cachedJsonObject").areModifiedAsPartOfAnUnobservableCachingStrategy());
+                assumingFields("cachedJsonObject", "hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test(expected = NullPointerException.class)
@@ -60,9 +60,13 @@ public final class ImmutableFeaturesTest {
         final SoftReference<JsonObject> red = new SoftReference<>(JsonFactory.newObject("{\"foo\": 1}"));
         final SoftReference<JsonObject> black = new SoftReference<>(JsonFactory.newObject("{\"foo\": 2}"));
 
+        final ImmutableFeatures cachedHashCodeExample = ImmutableFeatures.of(FLUX_CAPACITOR);
+        cachedHashCodeExample.hashCode();
+
         EqualsVerifier.forClass(ImmutableFeatures.class)
                 .usingGetClass()
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", cachedHashCodeExample)
                 .verify();
     }
 
@@ -71,7 +75,8 @@ public final class ImmutableFeaturesTest {
         assertInstancesOf(ImmutableFeatures.class,
                 areImmutable(),
                 provided(JsonObject.class, Feature.class).isAlsoImmutable(),
-                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test(expected = NullPointerException.class)
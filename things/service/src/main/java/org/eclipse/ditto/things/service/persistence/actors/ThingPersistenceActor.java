@@ -79,6 +79,11 @@ public final class ThingPersistenceActor
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The config path of the mailbox this persistence actor uses.
+     */
+    static final String MAILBOX_ID = "thing-persistence-actor-mailbox";
+
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
@@ -115,7 +120,7 @@ public final class ThingPersistenceActor
             @Nullable final ActorRef searchShardRegionProxy) {
 
         return Props.create(ThingPersistenceActor.class, thingId, mongoReadJournal, distributedPub,
-                searchShardRegionProxy);
+                searchShardRegionProxy).withMailbox(MAILBOX_ID);
     }
 
     @Override
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MailboxType;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.dispatch.ProducesMessageQueue;
+import org.apache.pekko.dispatch.UnboundedDequeBasedMessageQueueSemantics;
+import org.apache.pekko.event.Logging;
+import org.apache.pekko.event.LoggingAdapter;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
+
+import com.typesafe.config.Config;
+
+/**
+ * Non-blocking alternative to the {@link ThingPersistenceActorMailbox}.
+ * <p>
+ * Messages are kept in a lock-free {@link ConcurrentLinkedDeque} and the number of messages is tracked separately, so
+ * that enqueueing neither takes a lock nor has to count the queue. {@link ThingModifyCommand}s are rejected in the same
+ * way as by the {@code ThingPersistenceActorMailbox} if the mailbox size exceeds the configured capacity.
+ * </p>
+ * <p>
+ * If {@code mailbox-coalesce-modify-commands} is enabled, a fire-and-forget modify command replaces a still queued
+ * fire-and-forget modify command on the same resource path instead of being enqueued, so that only the latest value
+ * is persisted during bursts. A command is fire-and-forget if it neither requires a response nor requests
+ * acknowledgements nor contains conditional headers. Commands on the thing itself and merge commands are never
+ * coalesced. A queued command is no longer replaced once any other message or a modify command on an overlapping
+ * resource path was enqueued after it.
+ * </p>
+ * <p>
+ * The mailbox is selected for the {@link ThingPersistenceActor} via the {@code thing-persistence-actor-mailbox}
+ * config section.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+public final class ThingPersistenceActorNonBlockingMailbox implements MailboxType,
+        ProducesMessageQueue<ThingPersistenceActorNonBlockingMailbox.NonBlockingMessageQueue> {
+
+    private static final Counter COALESCED_COMMANDS = DittoMetrics.counter("thing_persistence_coalesced_commands");
+
+    private final int capacity;
+    private final boolean coalesceModifyCommands;
+
+    /**
+     * Creates a new {@code ThingPersistenceActorNonBlockingMailbox}.
+     * This constructor signature must exist, it will be called by Pekko.
+     *
+     * @param settings the ActorSystem settings.
+     * @param config the config.
+     */
+    public ThingPersistenceActorNonBlockingMailbox(final ActorSystem.Settings settings, final Config config) {
+        capacity = config.getInt("mailbox-capacity");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Mailbox capacity must not be less than 1");
+        }
+        coalesceModifyCommands = config.hasPath("mailbox-coalesce-modify-commands") &&
+                config.getBoolean("mailbox-coalesce-modify-commands");
+    }
+
+    @Override
+    public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
+        return new NonBlockingMessageQueue(capacity, coalesceModifyCommands,
+                Logging.getLogger(system.get(), NonBlockingMessageQueue.class));
+    }
+
+    /**
+     * The MessageQueue implementation.
+     */
+    public static final class NonBlockingMessageQueue implements MessageQueue,
+            UnboundedDequeBasedMessageQueueSemantics {
+
+        private final int capacity;
+        private final boolean coalesceModifyCommands;
+        private final LoggingAdapter log;
+        private final Deque<Envelope> queue;
+        private final AtomicInteger queueSize;
+        private final Map<String, CoalescingSlot> openSlots;
+
+        NonBlockingMessageQueue(final int capacity, final boolean coalesceModifyCommands, final LoggingAdapter log) {
+            this.capacity = capacity;
+            this.coalesceModifyCommands = coalesceModifyCommands;
+            this.log = log;
+            queue = new ConcurrentLinkedDeque<>();
+            queueSize = new AtomicInteger();
+            openSlots = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public void enqueue(final ActorRef receiver, final Envelope handle) {
+            final Object message = handle.message();
+            if (message instanceof ThingModifyCommand<?> command && coalesceModifyCommands &&
+                    isCoalescable(command)) {
+                enqueueCoalescable(handle, command);
+            } else if (message instanceof ThingModifyCommand<?> command) {
+                closeAllSlots();
+                if (isWithinCapacity(handle.sender(), command)) {
+                    add(handle);
+                }
+            } else {
+                closeAllSlots();
+                // all other messages are enqueued right away and with no "limit":
+                add(handle);
+            }
+        }
+
+        @Override
+        public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
+            final Object message = handle.message();
+            if (!(message instanceof ThingModifyCommand<?> command) || isWithinCapacity(handle.sender(), command)) {
+                queue.addFirst(handle);
+                queueSize.incrementAndGet();
+            }
+        }
+
+        @Override
+        @Nullable
+        public Envelope dequeue() {
+            final Envelope envelope = queue.poll();
+            final Envelope result;
+            if (null == envelope) {
+                result = null;
+            } else {
+                queueSize.decrementAndGet();
+                if (envelope.message() instanceof CoalescingSlot slot) {
+                    openSlots.remove(slot.resourcePath, slot);
+                    result = slot.close();
+                } else {
+                    result = envelope;
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return queueSize.get();
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
+            Envelope envelope = dequeue();
+            while (envelope != null) {
+                deadLetters.enqueue(owner, envelope);
+                envelope = dequeue();
+            }
+        }
+
+        private void enqueueCoalescable(final Envelope handle, final ThingModifyCommand<?> command) {
+            final String resourcePath = command.getResourcePath().toString();
+            openSlots.keySet().removeIf(path -> !path.equals(resourcePath) && overlap(path, resourcePath));
+
+            final CoalescingSlot openSlot = openSlots.get(resourcePath);
+            if (null != openSlot && openSlot.replace(handle)) {
+                COALESCED_COMMANDS.increment();
+                log.debug("Coalesced ThingModifyCommand <{}> on <{}> of thing with ID <{}> with a queued command.",
+                        command.getType(), resourcePath, command.getEntityId());
+            } else if (isWithinCapacity(handle.sender(), command)) {
+                final CoalescingSlot slot = new CoalescingSlot(resourcePath, handle);
+                openSlots.put(resourcePath, slot);
+                add(new Envelope(slot, handle.sender()));
+            }
+        }
+
+        private void closeAllSlots() {
+            if (!openSlots.isEmpty()) {
+                openSlots.clear();
+            }
+        }
+
+        private void add(final Envelope handle) {
+            queue.add(handle);
+            queueSize.incrementAndGet();
+        }
+
+        private boolean isWithinCapacity(final ActorRef sender, final ThingModifyCommand<?> command) {
+            // instead of blocking return "too many requests" response if numberOfMessages > capacity
+            final int numberOfMessages = numberOfMessages();
+            final boolean result = numberOfMessages <= capacity;
+            if (!result) {
+                log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity " +
+                                "of {} -> rejecting ThingModifyCommand '{}'", numberOfMessages, command.getEntityId(),
+                        capacity, command.getType());
+
+                final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getEntityId(),
+                        ThingTooManyModifyingRequestsException.newBuilder(command.getEntityId())
+                                .dittoHeaders(command.getDittoHeaders())
+                                .build());
+                sender.tell(errorResponse, null);
+            }
+
+            return result;
+        }
+
+        private static boolean isCoalescable(final ThingModifyCommand<?> command) {
+            final DittoHeaders dittoHeaders = command.getDittoHeaders();
+            return !command.getResourcePath().isEmpty() &&
+                    !(command instanceof MergeThing) &&
+                    !dittoHeaders.isResponseRequired() &&
+                    dittoHeaders.getAcknowledgementRequests().isEmpty() &&
+                    dittoHeaders.getIfMatch().isEmpty() &&
+                    dittoHeaders.getIfNoneMatch().isEmpty() &&
+                    dittoHeaders.getIfEqual().isEmpty() &&
+                    dittoHeaders.getCondition().isEmpty() &&
+                    dittoHeaders.getLiveChannelCondition().isEmpty();
+        }
+
+        private static boolean overlap(final String path, final String otherPath) {
+            return path.equals(otherPath) || otherPath.startsWith(path + "/") || path.startsWith(otherPath + "/");
+        }
+
+    }
+
+    /**
+     * Placeholder in the queue for the latest of a sequence of coalesced commands.
+     */
+    private static final class CoalescingSlot {
+
+        private static final Envelope CLOSED = new Envelope(null, ActorRef.noSender());
+
+        private final String resourcePath;
+        private final AtomicReference<Envelope> latest;
+
+        private CoalescingSlot(final String resourcePath, final Envelope envelope) {
+            this.resourcePath = resourcePath;
+            latest = new AtomicReference<>(envelope);
+        }
+
+        private boolean replace(final Envelope envelope) {
+            Envelope current = latest.get();
+            while (CLOSED != current) {
+                if (latest.compareAndSet(current, envelope)) {
+                    return true;
+                }
+                current = latest.get();
+            }
+            return false;
+        }
+
+        private Envelope close() {
+            return latest.getAndSet(CLOSED);
+        }
+
+    }
+
+}
@@ -69,7 +69,7 @@ import org.eclipse.ditto.policies.model.signals.commands.modify.DeletePolicy;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.api.ThingsMessagingConstants;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
@@ -490,7 +490,7 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                         .orElse(null);
                 final Thing thing = ThingEventToThingConverter.thingEventToThing(thingEvent)
                         .orElseGet(() -> Thing.newBuilder().build());
-                return ThingPredicateVisitor.apply(criteria).test(thing);
+                return CompiledThingPredicate.compile(criteria).test(thing);
             } catch (final DittoRuntimeException e) {
                 log.info("Got 'DittoRuntimeException' when parsing 'filter' during " +
                                 "'SubscribeForPersistedEvents' processing: {}: <{}>", e.getClass().getSimpleName(),
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies;
+
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Attributes;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.FeatureProperties;
+import org.eclipse.ditto.things.model.Features;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingBuilder;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Applies a JSON merge patch according to <a href="https://datatracker.ietf.org/doc/html/rfc7396">RFC 7396</a> on a
+ * {@link Thing} while only touching the parts of the Thing which are named in the patch.
+ * <p>
+ * Instead of converting the whole Thing to JSON, merging the patch and parsing the result back into a Thing, the
+ * patch is walked along the Thing's model: attributes, features and the properties, desired properties and
+ * definitions of the named features are merged separately and set on a copy of the Thing.
+ * Unchanged features and their properties are shared with the original Thing.
+ * Patches which cannot be mapped onto the model (e.g. patching the Thing ID, the policy ID, the definition or using
+ * regex keys on the level of features) fall back to merging the complete JSON representation of the Thing.
+ * </p>
+ * <p>
+ * Objects which already exist are merged with {@link JsonMergePatch#applyOn(JsonValue)}.
+ * Objects which do not exist yet (attributes, features, a single feature or its (desired) properties) are created
+ * from the patch with the rule {@code JsonMergePatch} applies to newly added objects: the patch object is taken as
+ * it is after {@link JsonObject#filter(java.util.function.Predicate)} removed its {@code null} fields.
+ * Thus the result is the same as the one of merging the patch into the complete JSON representation of the Thing.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class ThingMergePatch {
+
+    private static final JsonKey ATTRIBUTES = Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey FEATURES = Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey PROPERTIES = Feature.JsonFields.PROPERTIES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey DESIRED_PROPERTIES =
+            Feature.JsonFields.DESIRED_PROPERTIES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey FEATURE_DEFINITION =
+            Feature.JsonFields.DEFINITION.getPointer().getRoot().orElseThrow();
+
+    /**
+     * Assumed maximum length of the JSON punctuation and keys which surround the contents of a single feature.
+     */
+    private static final int FEATURE_OVERHEAD = 64;
+
+    private final JsonValue patch;
+
+    private ThingMergePatch(final JsonValue patch) {
+        this.patch = patch;
+    }
+
+    /**
+     * Creates a {@code ThingMergePatch} which applies the given {@code mergePatch} at the given {@code path} of a
+     * Thing.
+     *
+     * @param path the path on which the patch is applied.
+     * @param mergePatch the actual patch.
+     * @return the merge patch.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingMergePatch of(final JsonPointer path, final JsonValue mergePatch) {
+        return new ThingMergePatch(JsonFactory.newObject(path, mergePatch));
+    }
+
+    /**
+     * Applies this merge patch on the given Thing.
+     * Revision, modified timestamp and lifecycle of the result are the ones of the given Thing.
+     *
+     * @param thing the Thing to be patched.
+     * @return the patched Thing.
+     * @throws org.eclipse.ditto.json.JsonRuntimeException if the patched JSON is no valid Thing.
+     * @throws org.eclipse.ditto.base.model.exceptions.DittoRuntimeException if the patched JSON contains invalid
+     * values, e.g. an invalid feature ID.
+     */
+    public Thing applyOn(final Thing thing) {
+        return tryToApplyOnModel(thing).orElseGet(() -> applyOnJson(thing));
+    }
+
+    /**
+     * Returns an upper bound for the length of the JSON string of the given Thing without serializing unchanged
+     * attributes and feature properties again.
+     *
+     * @param thing the Thing.
+     * @return the upper bound.
+     */
+    public static long getUpperBoundForStringSize(final Thing thing) {
+        final Thing withoutContents = ThingsModelFactory.newThingBuilder(thing)
+                .removeAllAttributes()
+                .removeAllFeatures()
+                .build();
+        long upperBound = withoutContents.toJsonString(JsonSchemaVersion.LATEST, FieldType.all()).length();
+        upperBound += thing.getAttributes().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+        final Optional<Features> features = thing.getFeatures();
+        if (features.isPresent()) {
+            for (final Feature feature : features.get()) {
+                upperBound += FEATURE_OVERHEAD + feature.getId().length();
+                upperBound += feature.getProperties().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+                upperBound += feature.getDesiredProperties().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+                upperBound += feature.getDefinition().map(definition -> definition.toJson().toString().length())
+                        .orElse(0);
+            }
+        }
+        return upperBound;
+    }
+
+    private Thing applyOnJson(final Thing thing) {
+        final JsonObject mergedJson = JsonMergePatch.of(patch).applyOn(thing.toJson(FieldType.all())).asObject();
+        return ThingsModelFactory.newThingBuilder(mergedJson).build();
+    }
+
+    private Optional<Thing> tryToApplyOnModel(final Thing thing) {
+        if (!patch.isObject()) {
+            return Optional.empty();
+        }
+        final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
+        for (final JsonField field : patch.asObject()) {
+            final JsonKey key = field.getKey();
+            final JsonValue value = field.getValue();
+            final boolean applied;
+            if (ATTRIBUTES.equals(key)) {
+                applied = mergeAttributes(thing, value, thingBuilder);
+            } else if (FEATURES.equals(key)) {
+                applied = mergeFeatures(thing, value, thingBuilder);
+            } else {
+                applied = false;
+            }
+            if (!applied) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(thingBuilder.build());
+    }
+
+    private static boolean mergeAttributes(final Thing thing, final JsonValue attributesPatch,
+            final ThingBuilder.FromCopy thingBuilder) {
+
+        final Optional<Attributes> existingAttributes = thing.getAttributes();
+        if (existingAttributes.isPresent() && existingAttributes.get().isNull()) {
+            return false;
+        } else if (attributesPatch.isNull()) {
+            thingBuilder.removeAllAttributes();
+            return true;
+        } else if (attributesPatch.isObject()) {
+            final JsonObject mergedAttributes = existingAttributes
+                    .map(attributes -> mergeObjects(attributesPatch.asObject(), attributes))
+                    .orElseGet(() -> withoutNullFields(attributesPatch.asObject()));
+            thingBuilder.setAttributes(ThingsModelFactory.newAttributes(mergedAttributes));
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean mergeFeatures(final Thing thing, final JsonValue featuresPatch,
+            final ThingBuilder.FromCopy thingBuilder) {
+
+        final Optional<Features> existingFeatures = thing.getFeatures();
+        if (existingFeatures.isPresent() && existingFeatures.get().isNull()) {
+            return false;
+        } else if (featuresPatch.isNull()) {
+            thingBuilder.removeAllFeatures();
+            return true;
+        } else if (!featuresPatch.isObject()) {
+            return false;
+        } else if (existingFeatures.isEmpty()) {
+            thingBuilder.setFeatures(ThingsModelFactory.newFeatures(withoutNullFields(featuresPatch.asObject())));
+            return true;
+        }
+
+        Features features = existingFeatures.get();
+        for (final JsonField featurePatch : featuresPatch.asObject()) {
+            final JsonKey featureKey = featurePatch.getKey();
+            final JsonValue featureValue = featurePatch.getValue();
+            if (isSpecialKey(featureKey)) {
+                return false;
+            }
+            final String featureId = featureKey.toString();
+            if (featureValue.isNull()) {
+                features = features.removeFeature(featureId);
+            } else if (featureValue.isObject()) {
+                final JsonObject featureObject = featureValue.asObject();
+                final Feature mergedFeature = features.getFeature(featureId)
+                        .map(existingFeature -> mergeFeature(featureId, featureObject, existingFeature))
+                        .orElseGet(() -> ThingsModelFactory.newFeatureBuilder(withoutNullFields(featureObject))
+                                .useId(featureId)
+                                .build());
+                features = features.setFeature(mergedFeature);
+            } else {
+                return false;
+            }
+        }
+        thingBuilder.setFeatures(features);
+        return true;
+    }
+
+    private static Feature mergeFeature(final String featureId, final JsonObject featurePatch,
+            final Feature existingFeature) {
+
+        Feature feature = existingFeature;
+        for (final JsonField field : featurePatch) {
+            final JsonKey key = field.getKey();
+            final JsonValue value = field.getValue();
+            if (PROPERTIES.equals(key) && (value.isNull() || value.isObject())) {
+                feature = value.isNull()
+                        ? feature.removeProperties()
+                        : feature.setProperties(mergeProperties(value.asObject(), feature.getProperties()));
+            } else if (DESIRED_PROPERTIES.equals(key) && (value.isNull() || value.isObject())) {
+                feature = value.isNull()
+                        ? feature.removeDesiredProperties()
+                        : feature.setDesiredProperties(
+                        mergeProperties(value.asObject(), feature.getDesiredProperties()));
+            } else if (FEATURE_DEFINITION.equals(key) && (value.isNull() || value.isArray())) {
+                feature = value.isNull()
+                        ? feature.removeDefinition()
+                        : feature.setDefinition(ThingsModelFactory.newFeatureDefinition(value.asArray()));
+            } else {
+                return mergeFeatureJson(featureId, featurePatch, existingFeature);
+            }
+        }
+        return feature;
+    }
+
+    private static Feature mergeFeatureJson(final String featureId, final JsonObject featurePatch,
+            final Feature existingFeature) {
+
+        final JsonValue mergedFeatureJson =
+                JsonMergePatch.of(featurePatch).applyOn(existingFeature.toJson(FieldType.all()));
+        return ThingsModelFactory.newFeatureBuilder(mergedFeatureJson.asObject())
+                .useId(featureId)
+                .build();
+    }
+
+    private static FeatureProperties mergeProperties(final JsonObject propertiesPatch,
+            final Optional<FeatureProperties> existingProperties) {
+
+        return ThingsModelFactory.newFeatureProperties(existingProperties
+                .filter(properties -> !properties.isNull())
+                .map(properties -> mergeObjects(propertiesPatch, properties))
+                .orElseGet(() -> withoutNullFields(propertiesPatch)));
+    }
+
+    private static JsonObject mergeObjects(final JsonObject objectPatch, final JsonObject existingObject) {
+        return JsonMergePatch.of(objectPatch).applyOn(existingObject).asObject();
+    }
+
+    /*
+     * The rule JsonMergePatch applies to an object of the patch whose key does not exist in the patched object yet.
+     */
+    private static JsonObject withoutNullFields(final JsonObject objectPatch) {
+        return objectPatch.filter(field -> !field.getValue().isNull());
+    }
+
+    private static boolean isSpecialKey(final JsonKey key) {
+        final String keyString = key.toString();
+        return keyString.startsWith("{{") || JsonSchemaVersion.getJsonKey().equals(key);
+    }
+
+}
@@ -24,10 +24,9 @@ import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
-import org.eclipse.ditto.json.JsonMergePatch;
-import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
@@ -41,6 +40,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.ThingMergePatch;
 
 /**
  * This strategy handles the {@link MergeThing} command for an already existing Thing.
@@ -108,21 +108,18 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
 
     private Thing mergeThing(final Context<ThingId> context, final MergeThing command, final Thing thing,
             final Instant eventTs, final long nextRevision) {
-        final JsonObject existingThingJson = thing.toJson(FieldType.all());
-        final JsonMergePatch jsonMergePatch = JsonMergePatch.of(command.getPath(),
+        final ThingMergePatch thingMergePatch = ThingMergePatch.of(command.getPath(),
                 command.getEntity().orElseGet(command::getValue));
-        final JsonObject mergedJson = jsonMergePatch.applyOn(existingThingJson).asObject();
+        final Thing mergedThing = ThingsModelFactory.newThingBuilder(thingMergePatch.applyOn(thing))
+                .setRevision(nextRevision)
+                .setModified(eventTs).build();
 
         ThingCommandSizeValidator.getInstance().ensureValidSize(
-                mergedJson::getUpperBoundForStringSize,
-                () -> mergedJson.toString().length(),
+                () -> ThingMergePatch.getUpperBoundForStringSize(mergedThing),
+                () -> mergedThing.toJsonString(JsonSchemaVersion.LATEST, FieldType.all()).length(),
                 command::getDittoHeaders);
 
-        context.getLog().debug("Result of JSON merge: {}", mergedJson);
-        final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
-                .setRevision(nextRevision)
-                .setModified(eventTs).build();
-        context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
+        context.getLog().debug("Thing created from merge: {}", mergedThing);
         return mergedThing;
     }
 
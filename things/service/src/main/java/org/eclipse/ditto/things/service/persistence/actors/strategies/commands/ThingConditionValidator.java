@@ -25,7 +25,7 @@ import org.eclipse.ditto.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingConditionFailedException;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
@@ -69,11 +69,10 @@ public final class ThingConditionValidator {
                 .modelBased(RqlPredicateParser.getInstance())
                 .filterCriteria(condition, dittoHeaders);
 
-        final var predicate = ThingPredicateVisitor.apply(criteria,
-                PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()));
+        final var predicate = CompiledThingPredicate.compile(criteria);
 
         final ThingConditionFailedException validationError;
-        if (predicate.test(entity)) {
+        if (predicate.test(entity, PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()))) {
             validationError = null;
         } else {
             validationError = ThingConditionFailedException.newBuilder(dittoHeaders).build();
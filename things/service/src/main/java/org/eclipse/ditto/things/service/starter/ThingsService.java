@@ -14,6 +14,7 @@ package org.eclipse.ditto.things.service.starter;
 
 import org.eclipse.ditto.base.service.DittoService;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BatchingMongoSnapshots;
 import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
 import org.eclipse.ditto.things.service.common.config.ThingsConfig;
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor;
@@ -41,6 +42,8 @@ public final class ThingsService extends DittoService<ThingsConfig> {
      */
     public static final String SERVICE_NAME = "things";
 
+    private static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-snapshots";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ThingsService.class);
 
     private ThingsService() {
@@ -71,7 +74,9 @@ public final class ThingsService extends DittoService<ThingsConfig> {
     protected Config appendPekkoPersistenceMongoUriToRawConfig() {
         final var mongoDbConfig = serviceSpecificConfig.getMongoDbConfig();
         final String mongoDbUri = mongoDbConfig.getMongoDbUri();
-        return rawConfig.withValue(MONGO_URI_CONFIG_PATH, ConfigValueFactory.fromAnyRef(mongoDbUri));
+        return BatchingMongoSnapshots.withBatchingPluginIfEnabled(
+                rawConfig.withValue(MONGO_URI_CONFIG_PATH, ConfigValueFactory.fromAnyRef(mongoDbUri)),
+                SNAPSHOT_PLUGIN_ID);
     }
 
 }
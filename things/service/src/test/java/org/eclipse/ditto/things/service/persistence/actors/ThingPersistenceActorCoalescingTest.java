@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests that a {@link ThingPersistenceActor} uses the {@link ThingPersistenceActorNonBlockingMailbox} configured as
+ * {@code thing-persistence-actor-mailbox} and thereby coalesces queued modify commands.
+ */
+public final class ThingPersistenceActorCoalescingTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final String SINGLE_THREAD_DISPATCHER = "single-thread-dispatcher";
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("temperature");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(20L);
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("""
+                thing-persistence-actor-mailbox {
+                  mailbox-type = "org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActorNonBlockingMailbox"
+                  mailbox-capacity = 100
+                  mailbox-coalesce-modify-commands = true
+                }
+                single-thread-dispatcher {
+                  type = Dispatcher
+                  executor = "thread-pool-executor"
+                  thread-pool-executor.fixed-pool-size = 1
+                  throughput = 1
+                }
+                """));
+    }
+
+    @Test
+    public void queuedFireAndForgetModifyCommandsAreCoalesced() throws InterruptedException {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+        final DittoHeaders fireAndForget = dittoHeadersV2.toBuilder().responseRequired(false).build();
+        final TestKit testKit = new TestKit(actorSystem);
+
+        final ActorRef underTest = actorSystem.actorOf(
+                ThingPersistenceActor.props(thingId, Mockito.mock(MongoReadJournal.class), getDistributedPub(), null)
+                        .withDispatcher(SINGLE_THREAD_DISPATCHER));
+        underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), testKit.getRef());
+        testKit.expectMsgClass(STARTUP_TIMEOUT, CreateThingResponse.class);
+        underTest.tell(retrieveRevisionAndAttributes(thingId), testKit.getRef());
+        final long createdRevision = testKit.expectMsgClass(RetrieveThingResponse.class)
+                .getThing()
+                .getRevision()
+                .orElseThrow()
+                .toLong();
+
+        // occupy the only thread of the actor's dispatcher so that the following commands stay in its mailbox
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        actorSystem.dispatchers().lookup(SINGLE_THREAD_DISPATCHER).execute(() -> {
+            blocking.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(blocking.await(3, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i <= 5; i++) {
+            underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(i), fireAndForget), testKit.getRef());
+        }
+        underTest.tell(retrieveRevisionAndAttributes(thingId), testKit.getRef());
+        release.countDown();
+
+        final Thing retrievedThing = testKit.expectMsgClass(RetrieveThingResponse.class).getThing();
+        assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE)))
+                .contains(JsonValue.of(5));
+        assertThat(retrievedThing.getRevision().orElseThrow().toLong()).isEqualTo(createdRevision + 1);
+    }
+
+    private RetrieveThing retrieveRevisionAndAttributes(final ThingId thingId) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(JsonFieldSelector.newInstance("_revision", "attributes"))
+                .build();
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.event.NoLogging;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Attributes;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributes;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttribute;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingPersistenceActorNonBlockingMailbox}.
+ */
+public final class ThingPersistenceActorNonBlockingMailboxTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:mailbox");
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("temperature");
+    private static final DittoHeaders FIRE_AND_FORGET = DittoHeaders.newBuilder().responseRequired(false).build();
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = ActorSystem.create(ThingPersistenceActorNonBlockingMailboxTest.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void messagesAreDequeuedInOrder() {
+        final var underTest = newQueue(10, false);
+        final var first = modifyAttribute(1, FIRE_AND_FORGET);
+        final var second = "second";
+
+        underTest.enqueue(ActorRef.noSender(), envelope(first));
+        underTest.enqueue(ActorRef.noSender(), envelope(second));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope("stashed"));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(3);
+        assertThat(underTest.dequeue().message()).isEqualTo("stashed");
+        assertThat(underTest.dequeue().message()).isEqualTo(first);
+        assertThat(underTest.dequeue().message()).isEqualTo(second);
+        assertThat(underTest.dequeue()).isNull();
+        assertThat(underTest.hasMessages()).isFalse();
+    }
+
+    @Test
+    public void modifyCommandsExceedingCapacityAreRejected() {
+        final var sender = TestProbe.apply(actorSystem);
+        final var underTest = newQueue(1, false);
+
+        underTest.enqueue(ActorRef.noSender(), envelope("first"));
+        underTest.enqueue(ActorRef.noSender(), envelope("second"));
+        underTest.enqueue(ActorRef.noSender(), new Envelope(modifyAttribute(1, DittoHeaders.empty()), sender.ref()));
+
+        sender.expectMsgClass(ThingErrorResponse.class);
+        assertThat(underTest.numberOfMessages()).isEqualTo(2);
+    }
+
+    @Test
+    public void fireAndForgetCommandsOnSameResourceAreCoalesced() {
+        final var underTest = newQueue(10, true);
+        final var latest = modifyAttribute(3, FIRE_AND_FORGET);
+
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(1, FIRE_AND_FORGET)));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(2, FIRE_AND_FORGET)));
+        underTest.enqueue(ActorRef.noSender(), envelope(latest));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(1);
+        assertThat(underTest.dequeue().message()).isEqualTo(latest);
+        assertThat(underTest.dequeue()).isNull();
+    }
+
+    @Test
+    public void commandsRequiringResponseAreNotCoalesced() {
+        final var underTest = newQueue(10, true);
+
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(1, DittoHeaders.empty())));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(2, DittoHeaders.empty())));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(2);
+    }
+
+    @Test
+    public void commandsAreNotCoalescedAcrossOverlappingCommandsAndQueries() {
+        final var underTest = newQueue(10, true);
+        final var modifyAttributes = ModifyAttributes.of(THING_ID,
+                Attributes.newBuilder().build(), FIRE_AND_FORGET);
+        final var retrieveAttribute = RetrieveAttribute.of(THING_ID, ATTRIBUTE, DittoHeaders.empty());
+
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(1, FIRE_AND_FORGET)));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttributes));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(2, FIRE_AND_FORGET)));
+        underTest.enqueue(ActorRef.noSender(), envelope(retrieveAttribute));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(3, FIRE_AND_FORGET)));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(5);
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(1, FIRE_AND_FORGET));
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttributes);
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(2, FIRE_AND_FORGET));
+        assertThat(underTest.dequeue().message()).isEqualTo(retrieveAttribute);
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(3, FIRE_AND_FORGET));
+    }
+
+    @Test
+    public void dequeuedCommandIsNoLongerReplaced() {
+        final var underTest = newQueue(10, true);
+
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(1, FIRE_AND_FORGET)));
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(1, FIRE_AND_FORGET));
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(2, FIRE_AND_FORGET)));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(1);
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(2, FIRE_AND_FORGET));
+    }
+
+    private static ThingPersistenceActorNonBlockingMailbox.NonBlockingMessageQueue newQueue(final int capacity,
+            final boolean coalesce) {
+
+        return new ThingPersistenceActorNonBlockingMailbox.NonBlockingMessageQueue(capacity, coalesce,
+                NoLogging.getInstance());
+    }
+
+    private static ModifyAttribute modifyAttribute(final int value, final DittoHeaders dittoHeaders) {
+        return ModifyAttribute.of(THING_ID, ATTRIBUTE, JsonValue.of(value), dittoHeaders);
+    }
+
+    private static Envelope envelope(final Object message) {
+        return new Envelope(message, ActorRef.noSender());
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing merging small patches into a Thing of about 1 MB via {@link ThingMergePatch} with merging
+ * them into the complete JSON representation of the Thing via {@link JsonMergePatch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThingMergePatchBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURES = 100;
+    private static final int PROPERTIES_PER_FEATURE = 100;
+    private static final String PROPERTY_VALUE = "x".repeat(80);
+
+    @Param({
+            "/attributes/location/latitude",
+            "/features/feature-42/properties/property-42",
+            "/features/feature-42/properties"
+    })
+    public String path;
+
+    private Thing thing;
+    private JsonPointer patchPath;
+    private JsonValue patchValue;
+
+    @Setup
+    public void setUp() {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < FEATURES; i++) {
+            final JsonObjectBuilder properties = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < PROPERTIES_PER_FEATURE; j++) {
+                properties.set("property-" + j, PROPERTY_VALUE);
+            }
+            features.set("feature-" + i, JsonFactory.newObjectBuilder().set("properties", properties.build()).build());
+        }
+        final JsonObject thingJson = JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, "org.eclipse.ditto:large-thing")
+                .set(Thing.JsonFields.POLICY_ID, "org.eclipse.ditto:large-thing")
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.readFrom("{\"location\":{\"latitude\":1.0}}").asObject())
+                .set(Thing.JsonFields.FEATURES, features.build())
+                .set(Thing.JsonFields.REVISION, 1L)
+                .build();
+        // parse the serialized Thing like it is done when recovering it from the persistence
+        thing = ThingsModelFactory.newThing(JsonFactory.readFrom(thingJson.toString()).asObject());
+        patchPath = JsonPointer.of(path);
+        patchValue = path.endsWith("/properties")
+                ? JsonFactory.newObjectBuilder().set("property-42", "changed").set("property-43", JsonValue.nullLiteral())
+                .build()
+                : JsonValue.of("changed");
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing mergeWithThingMergePatch() {
+        return ThingMergePatch.of(patchPath, patchValue).applyOn(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing mergeWithJsonMergePatch() {
+        final JsonObject mergedJson = JsonMergePatch.of(patchPath, patchValue)
+                .applyOn(thing.toJson(FieldType.all()))
+                .asObject();
+        return ThingsModelFactory.newThingBuilder(mergedJson).build();
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.things.model.TestConstants.Thing.THING_V2;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingMergePatch}.
+ */
+public final class ThingMergePatchTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ThingMergePatch.class, areImmutable(), provided(JsonValue.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void mergeAttributes() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/attributes"),
+                JsonFactory.readFrom("{\"location\":{\"latitude\":1.5},\"maker\":null,\"new\":{\"a\":null,\"b\":2}}"));
+    }
+
+    @Test
+    public void mergeSingleAttribute() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/attributes/location/longitude"), JsonValue.of(42));
+    }
+
+    @Test
+    public void deleteAttributes() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/attributes"), JsonValue.nullLiteral());
+    }
+
+    @Test
+    public void mergeFeatureProperties() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features/FluxCapacitor/properties"),
+                JsonFactory.readFrom("{\"target_year_1\":null,\"new\":{\"nested\":true}}"));
+    }
+
+    @Test
+    public void mergeFeatures() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features"), JsonFactory.readFrom("{" +
+                "\"FluxCapacitor\":{\"desiredProperties\":{\"target_year_1\":1985},\"definition\":null}," +
+                "\"new\":{\"properties\":{\"x\":null,\"y\":1},\"definition\":[\"ns:name:1.0\"]}," +
+                "\"empty\":{}" +
+                "}"));
+    }
+
+    @Test
+    public void deleteFeature() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features/FluxCapacitor"), JsonValue.nullLiteral());
+    }
+
+    @Test
+    public void mergeFeatureWithUnknownKey() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features/FluxCapacitor"),
+                JsonFactory.readFrom("{\"properties\":{\"a\":1},\"unknown\":\"value\"}"));
+    }
+
+    @Test
+    public void mergeWithRegexKeys() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features"),
+                JsonFactory.readFrom("{\"{{ /Flux.*/ }}\":null}"));
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/attributes"),
+                JsonFactory.readFrom("{\"{{ /ma.*/ }}\":null}"));
+    }
+
+    @Test
+    public void mergeWholeThing() {
+        assertSameResultAsJsonMergePatch(JsonPointer.empty(), JsonFactory.readFrom("{" +
+                "\"policyId\":\"org.eclipse.ditto:other-policy\"," +
+                "\"attributes\":{\"maker\":\"ACME\"}," +
+                "\"features\":{\"new\":{\"properties\":{\"on\":true}}}" +
+                "}"));
+    }
+
+    @Test
+    public void mergeIntoThingWithoutAttributesAndFeatures() {
+        final Thing thing = THING_V2.toBuilder().removeAllAttributes().removeAllFeatures().build();
+        final JsonValue patch = JsonFactory.readFrom("{" +
+                "\"attributes\":{\"a\":{\"b\":null,\"c\":1}}," +
+                "\"features\":{\"f\":{\"properties\":{\"d\":null}}}" +
+                "}");
+
+        assertSameResultAsJsonMergePatch(thing, JsonPointer.empty(), patch);
+    }
+
+    @Test
+    public void mergeNestedNullsIntoThingWithoutAttributes() {
+        final Thing thing = THING_V2.toBuilder().removeAllAttributes().build();
+
+        assertSameResultAsJsonMergePatch(thing, JsonPointer.empty(),
+                JsonFactory.readFrom("{\"attributes\":{\"a\":{\"b\":null}}}"));
+        assertSameResultAsJsonMergePatch(thing, JsonPointer.of("/attributes"),
+                JsonFactory.readFrom("{\"a\":{\"b\":null,\"c\":{\"d\":null}},\"e\":null}"));
+    }
+
+    @Test
+    public void mergeNestedNullsIntoNewFeatureAndNewProperties() {
+        final Thing thing = THING_V2.toBuilder()
+                .setFeature(ThingsModelFactory.newFeature("withoutProperties"))
+                .build();
+
+        assertSameResultAsJsonMergePatch(thing, JsonPointer.of("/features"), JsonFactory.readFrom("{" +
+                "\"new\":{\"properties\":{\"a\":{\"b\":null}},\"desiredProperties\":null}," +
+                "\"withoutProperties\":{\"properties\":{\"a\":{\"b\":null},\"c\":null}}" +
+                "}"));
+    }
+
+    @Test
+    public void mergeNestedNullsIntoThingWithoutFeatures() {
+        final Thing thing = THING_V2.toBuilder().removeAllFeatures().build();
+
+        assertSameResultAsJsonMergePatch(thing, JsonPointer.of("/features"), JsonFactory.readFrom("{" +
+                "\"f\":{\"properties\":{\"a\":{\"b\":null}},\"desiredProperties\":null}," +
+                "\"g\":null" +
+                "}"));
+    }
+
+    @Test
+    public void mergeWithRegexKeyDeletionsInsideAttributesAndProperties() {
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/attributes"),
+                JsonFactory.readFrom("{\"location\":{\"{{ /lat.*/ }}\":null},\"{{ /ma.*/ }}\":null}"));
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features/FluxCapacitor/properties"),
+                JsonFactory.readFrom("{\"{{ /target_year_.*/ }}\":null,\"new\":1}"));
+        assertSameResultAsJsonMergePatch(JsonPointer.of("/features/FluxCapacitor"),
+                JsonFactory.readFrom("{\"{{ /.*roperties/ }}\":null}"));
+        assertSameResultAsJsonMergePatch(THING_V2.toBuilder().removeAllAttributes().build(),
+                JsonPointer.of("/attributes"), JsonFactory.readFrom("{\"{{ /ma.*/ }}\":null,\"a\":1}"));
+    }
+
+    @Test
+    public void unchangedFeaturesAreShared() {
+        final Thing merged = ThingMergePatch.of(JsonPointer.of("/attributes/foo"), JsonValue.of("bar"))
+                .applyOn(THING_V2);
+
+        assertThat(merged.getFeatures().orElseThrow().getFeature("FluxCapacitor").orElseThrow())
+                .isSameAs(THING_V2.getFeatures().orElseThrow().getFeature("FluxCapacitor").orElseThrow());
+    }
+
+    @Test
+    public void upperBoundForStringSizeIsNotLessThanActualSize() {
+        final Thing merged = ThingMergePatch.of(JsonPointer.of("/features/FluxCapacitor/properties/x"),
+                JsonValue.of("some value")).applyOn(THING_V2);
+
+        assertThat(ThingMergePatch.getUpperBoundForStringSize(merged))
+                .isGreaterThanOrEqualTo(merged.toJsonString(JsonSchemaVersion.LATEST, FieldType.all()).length());
+    }
+
+    private static void assertSameResultAsJsonMergePatch(final JsonPointer path, final JsonValue value) {
+        assertSameResultAsJsonMergePatch(THING_V2, path, value);
+    }
+
+    private static void assertSameResultAsJsonMergePatch(final Thing thing, final JsonPointer path,
+            final JsonValue value) {
+
+        final JsonObject expectedJson =
+                JsonMergePatch.of(path, value).applyOn(thing.toJson(FieldType.all())).asObject();
+        final Thing expected = ThingsModelFactory.newThingBuilder(expectedJson).build();
+
+        final Thing actual = ThingMergePatch.of(path, value).applyOn(thing);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toJson(FieldType.all())).isEqualTo(expected.toJson(FieldType.all()));
+    }
+
+}
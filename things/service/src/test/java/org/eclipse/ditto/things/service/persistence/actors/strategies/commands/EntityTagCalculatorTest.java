@@ -18,10 +18,14 @@ import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITO
 import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES;
 import static org.eclipse.ditto.things.model.TestConstants.Thing.LOCATION_ATTRIBUTE;
 
+import java.util.Optional;
+
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.things.model.TestConstants;
 import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -75,6 +79,23 @@ class EntityTagCalculatorTest {
                 .isEqualTo(EntityTag.fromEntity(TestConstants.Feature.FEATURES));
     }
 
+    @Test
+    void testVisitFeaturesOfModifiedThing() {
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final JsonPointer featuresPointer = Thing.JsonFields.FEATURES.getPointer();
+        final EntityTag featuresETag = underTest.visitFeatures(featuresPointer, thing).orElseThrow();
+
+        final Thing withModifiedAttribute = thing.setAttribute(JsonPointer.of("maker"), JsonValue.of("ACME"));
+        final Thing withModifiedProperty =
+                thing.setFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("target_year_1"), JsonValue.of(2026));
+        final Thing reparsedModifiedProperty = ThingsModelFactory.newThing(withModifiedProperty.toJsonString());
+
+        assertThat(underTest.visitFeatures(featuresPointer, withModifiedAttribute)).contains(featuresETag);
+        assertThat(underTest.visitFeatures(featuresPointer, withModifiedProperty))
+                .isNotEqualTo(Optional.of(featuresETag))
+                .isEqualTo(underTest.visitFeatures(featuresPointer, reparsedModifiedProperty));
+    }
+
     @Test
     void testVisitFeature() {
         final JsonPointer pointer = JsonPointer.of("features/" + FLUX_CAPACITOR_ID);
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.thingsearch.service.common.config;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 import org.eclipse.ditto.internal.utils.health.config.BackgroundStreamingConfig;
@@ -105,6 +106,15 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * Get the thing IDs at which the thing ID space is split into ranges synchronized independently of each other.
+     * Each boundary is the last thing ID of its range. An empty list means a single range synchronized by one
+     * cluster singleton.
+     *
+     * @return the range boundaries in ascending order.
+     */
+    List<String> getRangeBoundaries();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +179,12 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * Thing IDs splitting the thing ID space into ranges synchronized in parallel by different search nodes.
+         */
+        RANGE_BOUNDARIES("range-boundaries", List.of());
 
         private final String path;
         private final Object defaultValue;
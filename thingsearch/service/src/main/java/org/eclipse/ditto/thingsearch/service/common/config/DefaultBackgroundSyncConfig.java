@@ -13,6 +13,7 @@
 package org.eclipse.ditto.thingsearch.service.common.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
@@ -39,6 +40,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     private final Duration maxBackoff;
     private final int maxRestarts;
     private final Duration recovery;
+    private final List<String> rangeBoundaries;
 
     private DefaultBackgroundSyncConfig(final Config config) {
         this.config = config;
@@ -54,6 +56,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         this.maxBackoff = config.getDuration(ConfigValue.MAX_BACKOFF.getConfigPath());
         this.maxRestarts = config.getInt(ConfigValue.MAX_RESTARTS.getConfigPath());
         this.recovery = config.getDuration(ConfigValue.RECOVERY.getConfigPath());
+        rangeBoundaries = List.copyOf(config.getStringList(ConfigValue.RANGE_BOUNDARIES.getConfigPath()));
     }
 
     /**
@@ -156,6 +159,11 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         return recovery;
     }
 
+    @Override
+    public List<String> getRangeBoundaries() {
+        return rangeBoundaries;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultBackgroundSyncConfig) {
@@ -172,6 +180,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
                     Objects.equals(maxBackoff, that.maxBackoff) &&
                     maxRestarts == that.maxRestarts &&
                     Objects.equals(recovery, that.recovery) &&
+                    Objects.equals(rangeBoundaries, that.rangeBoundaries) &&
                     Objects.equals(config, that.config);
         } else {
             return false;
@@ -181,7 +190,8 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, quietPeriod, idleTimeout, keptEvents, toleranceWindow, policyAskTimeout,
-                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, config);
+                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, rangeBoundaries,
+                config);
     }
 
     @Override
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link QueryShapeRecorderConfig}.
+ */
+@Immutable
+public final class DefaultQueryShapeRecorderConfig implements QueryShapeRecorderConfig {
+
+    /**
+     * Path where the query shape recorder config values are expected.
+     */
+    static final String CONFIG_PATH = "query-shape-recorder";
+
+    private final boolean enabled;
+    private final int maxShapes;
+    private final Duration reportInterval;
+    private final int reportSize;
+
+    private DefaultQueryShapeRecorderConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(QueryShapeRecorderConfigValue.ENABLED.getConfigPath());
+        maxShapes = config.getPositiveIntOrThrow(QueryShapeRecorderConfigValue.MAX_SHAPES);
+        reportInterval =
+                config.getNonNegativeAndNonZeroDurationOrThrow(QueryShapeRecorderConfigValue.REPORT_INTERVAL);
+        reportSize = config.getPositiveIntOrThrow(QueryShapeRecorderConfigValue.REPORT_SIZE);
+    }
+
+    /**
+     * Returns an instance of DefaultQueryShapeRecorderConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the search config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryShapeRecorderConfig of(final Config config) {
+        return new DefaultQueryShapeRecorderConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryShapeRecorderConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    @Override
+    public Duration getReportInterval() {
+        return reportInterval;
+    }
+
+    @Override
+    public int getReportSize() {
+        return reportSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryShapeRecorderConfig that = (DefaultQueryShapeRecorderConfig) o;
+        return enabled == that.enabled &&
+                maxShapes == that.maxShapes &&
+                reportSize == that.reportSize &&
+                Objects.equals(reportInterval, that.reportInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxShapes, reportInterval, reportSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxShapes=" + maxShapes +
+                ", reportInterval=" + reportInterval +
+                ", reportSize=" + reportSize +
+                "]";
+    }
+
+}
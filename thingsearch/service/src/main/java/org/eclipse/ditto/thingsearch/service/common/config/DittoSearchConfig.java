@@ -51,6 +51,7 @@ import org.eclipse.ditto.internal.utils.tracing.config.TracingConfig;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigUtil;
 import com.typesafe.config.ConfigValue;
 
 
@@ -75,6 +76,10 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final Map<String, String> simpleFieldMappings;
     private final List<NamespaceSearchIndexConfig> namespaceIndexedFields;
     private final DefaultOperatorMetricsConfig operatorMetricsConfig;
+    private final Map<String, String> keysetSortKeys;
+    private final Set<String> backfilledKeysetSortKeys;
+    private final Map<String, List<String>> declaredIndexes;
+    private final DefaultQueryShapeRecorderConfig queryShapeRecorderConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -96,6 +101,13 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
         namespaceIndexedFields = loadNamespaceSearchIndexList(configWithFallback);
         operatorMetricsConfig = DefaultOperatorMetricsConfig.of(configWithFallback);
+        keysetSortKeys =
+                convertToMap(configWithFallback.getConfig(SearchConfigValue.KEYSET_SORT_KEYS.getConfigPath()));
+        backfilledKeysetSortKeys = Set.copyOf(
+                configWithFallback.getStringList(SearchConfigValue.BACKFILLED_KEYSET_SORT_KEYS.getConfigPath()));
+        declaredIndexes = convertToListMap(
+                configWithFallback.getConfig(SearchConfigValue.DECLARED_INDEXES.getConfigPath()));
+        queryShapeRecorderConfig = DefaultQueryShapeRecorderConfig.of(configWithFallback);
     }
 
     /**
@@ -134,6 +146,26 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return simpleFieldMappings;
     }
 
+    @Override
+    public Map<String, String> getKeysetSortKeys() {
+        return keysetSortKeys;
+    }
+
+    @Override
+    public Set<String> getBackfilledKeysetSortKeys() {
+        return backfilledKeysetSortKeys;
+    }
+
+    @Override
+    public Map<String, List<String>> getDeclaredIndexes() {
+        return declaredIndexes;
+    }
+
+    @Override
+    public DefaultQueryShapeRecorderConfig getQueryShapeRecorderConfig() {
+        return queryShapeRecorderConfig;
+    }
+
     @Override
     public DefaultOperatorMetricsConfig getOperatorMetricsConfig() {
         return operatorMetricsConfig;
@@ -204,14 +236,19 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(queryPersistenceConfig, that.queryPersistenceConfig) &&
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings) &&
                 Objects.equals(operatorMetricsConfig, that.operatorMetricsConfig) &&
-                Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields);
+                Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields) &&
+                Objects.equals(keysetSortKeys, that.keysetSortKeys) &&
+                Objects.equals(backfilledKeysetSortKeys, that.backfilledKeysetSortKeys) &&
+                Objects.equals(declaredIndexes, that.declaredIndexes) &&
+                Objects.equals(queryShapeRecorderConfig, that.queryShapeRecorderConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, updaterConfig, dittoServiceConfig, healthCheckConfig,
                 indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, queryPersistenceConfig,
-                simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields);
+                simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields, keysetSortKeys,
+                backfilledKeysetSortKeys, declaredIndexes, queryShapeRecorderConfig);
     }
 
     @Override
@@ -228,6 +265,10 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", simpleFieldMappings=" + simpleFieldMappings +
                 ", namespaceIndexedFields=" + namespaceIndexedFields +
                 ", operatorMetricsConfig=" + operatorMetricsConfig +
+                ", keysetSortKeys=" + keysetSortKeys +
+                ", backfilledKeysetSortKeys=" + backfilledKeysetSortKeys +
+                ", declaredIndexes=" + declaredIndexes +
+                ", queryShapeRecorderConfig=" + queryShapeRecorderConfig +
                 "]";
     }
 
@@ -245,6 +286,14 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> (String) entry.getValue()));
     }
 
+    private static Map<String, List<String>> convertToListMap(final Config config) {
+        return config.root()
+                .keySet()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                        key -> List.copyOf(config.getStringList(ConfigUtil.joinPath(key)))));
+    }
+
     private static List<NamespaceSearchIndexConfig> loadNamespaceSearchIndexList(final ConfigWithFallback config) {
 
         final ConfigList namespaceIndexedFieldsConfig = config.getList(
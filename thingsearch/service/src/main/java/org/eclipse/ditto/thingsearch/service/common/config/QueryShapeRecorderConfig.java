@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for recording the shapes of search queries.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public interface QueryShapeRecorderConfig {
+
+    /**
+     * Returns whether the shapes of search queries are recorded.
+     *
+     * @return true or false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of distinct shapes recorded between two reports.
+     *
+     * @return the maximum number of shapes.
+     */
+    int getMaxShapes();
+
+    /**
+     * Returns how often the most frequent shapes are reported.
+     *
+     * @return the report interval.
+     */
+    Duration getReportInterval();
+
+    /**
+     * Returns how many of the most frequent shapes are reported.
+     *
+     * @return the report size.
+     */
+    int getReportSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * QueryShapeRecorderConfig.
+     */
+    enum QueryShapeRecorderConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the shapes of search queries are recorded.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of distinct shapes recorded between two reports.
+         */
+        MAX_SHAPES("max-shapes", 1000),
+
+        /**
+         * How often the most frequent shapes are reported.
+         */
+        REPORT_INTERVAL("report-interval", Duration.ofMinutes(15)),
+
+        /**
+         * How many of the most frequent shapes are reported.
+         */
+        REPORT_SIZE("report-size", 20);
+
+        private final String path;
+        private final Object defaultValue;
+
+        QueryShapeRecorderConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
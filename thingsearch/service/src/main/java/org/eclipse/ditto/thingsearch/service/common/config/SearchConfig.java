@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -74,6 +75,45 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     List<NamespaceSearchIndexConfig> getNamespaceIndexedFields();
 
+    /**
+     * Returns the sort option combinations for which a compound sort key is maintained in the search index, by the
+     * name of the sort key.
+     * Queries sorted by one of these combinations are executed as a range scan over the sort key.
+     *
+     * @return the keyset sort keys, e.g. {@code "attrA" -> "sort(+attributes/a,-_modified)"}.
+     * @since 3.5.0
+     */
+    Map<String, String> getKeysetSortKeys();
+
+    /**
+     * Returns the names of the keyset sort keys which were backfilled into all documents of the search index.
+     * Only these keys serve queries; the others are maintained and indexed but not queried, because documents
+     * without the sort key would be skipped by the range scan.
+     *
+     * @return the names of the backfilled keyset sort keys.
+     * @since 3.5.0
+     */
+    Set<String> getBackfilledKeysetSortKeys();
+
+    /**
+     * Returns the compound indexes to create in the search collection in addition to the built-in indexes, by the name
+     * of the index.
+     * Each index is declared as a list of fields, each optionally prefixed by {@code +} or {@code -} for the
+     * direction.
+     *
+     * @return the declared indexes, e.g. {@code "location" -> ["gr", "+attributes/location", "-thingId"]}.
+     * @since 3.5.0
+     */
+    Map<String, List<String>> getDeclaredIndexes();
+
+    /**
+     * Returns the configuration of the recorder of search query shapes.
+     *
+     * @return the query shape recorder config.
+     * @since 3.5.0
+     */
+    QueryShapeRecorderConfig getQueryShapeRecorderConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -107,7 +147,28 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
          *
          * @since 3.5.0
          */
-        NAMESPACE_INDEXED_FIELDS("namespace-indexed-fields", Collections.emptyList());
+        NAMESPACE_INDEXED_FIELDS("namespace-indexed-fields", Collections.emptyList()),
+
+        /**
+         * Sort option combinations for which a compound sort key is maintained in the search index.
+         *
+         * @since 3.5.0
+         */
+        KEYSET_SORT_KEYS("keyset-sort-keys", ConfigValueFactory.fromMap(Map.of())),
+
+        /**
+         * Names of the keyset sort keys which were backfilled into all documents of the search index.
+         *
+         * @since 3.5.0
+         */
+        BACKFILLED_KEYSET_SORT_KEYS("backfilled-keyset-sort-keys", List.of()),
+
+        /**
+         * Compound indexes to create in the search collection in addition to the built-in indexes.
+         *
+         * @since 3.5.0
+         */
+        DECLARED_INDEXES("declared-indexes", ConfigValueFactory.fromMap(Map.of()));
 
         private final String path;
         private final Object defaultValue;
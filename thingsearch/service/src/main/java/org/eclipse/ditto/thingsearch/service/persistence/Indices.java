@@ -23,19 +23,34 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REFERENCED_POLICIES;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.DefaultIndexKey;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexDirection;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexKey;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
 
 /**
  * Defines the MongoDB indices used by the things-search persistence.
  */
 public final class Indices {
 
+    private static final String ATTRIBUTES_PREFIX = "attributes/";
+    private static final String FEATURES_PREFIX = "features/";
+
     private Indices() {
         throw new AssertionError();
     }
@@ -105,4 +120,98 @@ public final class Indices {
         }
     }
 
+    /**
+     * Gets all defined indices including the indices of the configured keyset sort keys.
+     *
+     * @param documentDbCompatibilityMode whether to return indices only available when running in "DocumentDB"
+     * compatibility mode or not.
+     * @param keysetSortKeys the configured keyset sort keys.
+     * @return the indices
+     * @since 3.5.0
+     */
+    public static List<Index> all(final boolean documentDbCompatibilityMode, final KeysetSortKeys keysetSortKeys) {
+        return Stream.concat(all(documentDbCompatibilityMode).stream(),
+                keysetSortKeys.getKeys().stream().map(KeysetSortKey::getIndex)
+        ).toList();
+    }
+
+    /**
+     * Gets all defined indices including the indices of the configured keyset sort keys and the declared indices.
+     *
+     * @param documentDbCompatibilityMode whether to return indices only available when running in "DocumentDB"
+     * compatibility mode or not.
+     * @param keysetSortKeys the configured keyset sort keys.
+     * @param declaredIndices the declared indices.
+     * @return the indices
+     * @since 3.5.0
+     */
+    public static List<Index> all(final boolean documentDbCompatibilityMode, final KeysetSortKeys keysetSortKeys,
+            final List<Index> declaredIndices) {
+        return Stream.concat(all(documentDbCompatibilityMode, keysetSortKeys).stream(), declaredIndices.stream())
+                .toList();
+    }
+
+    /**
+     * Gets the compound indices declared in the search config.
+     * <p>
+     * Fields starting with {@code attributes/} or {@code features/} and simple fields such as {@code thingId} are
+     * translated to their paths in the search index document like the fields of sort options; any other field is
+     * taken as path in the search index document, e.g. {@code gr} for the subjects with global read access.
+     * Each field may be prefixed by {@code +} (ascending, the default) or {@code -} (descending).
+     *
+     * @param searchConfig the search config.
+     * @return the declared indices, sorted by name.
+     * @throws DittoConfigError if a declared index is invalid or has the name of a built-in index.
+     * @since 3.5.0
+     */
+    public static List<Index> declared(final SearchConfig searchConfig) {
+        final Map<String, List<String>> config = searchConfig.getDeclaredIndexes();
+        if (config.isEmpty()) {
+            return List.of();
+        }
+        final var fieldExpressionFactory = ThingsFieldExpressionFactory.of(searchConfig.getSimpleFieldMappings());
+        final Set<String> builtInNames = all(false).stream().map(Index::getName).collect(Collectors.toSet());
+        final List<Index> indices = new ArrayList<>(config.size());
+        // sort by name for a deterministic order of indices
+        for (final var entry : new TreeMap<>(config).entrySet()) {
+            final String name = entry.getKey();
+            if (builtInNames.contains(name) || name.startsWith(KeysetSortKey.INDEX_NAME_PREFIX)) {
+                throw new DittoConfigError("Declared index <" + name + "> clashes with a built-in index.");
+            }
+            if (entry.getValue().isEmpty()) {
+                throw new DittoConfigError("Declared index <" + name + "> has no fields.");
+            }
+            final List<IndexKey> keys = new ArrayList<>(entry.getValue().size());
+            for (final String field : entry.getValue()) {
+                keys.add(toIndexKey(name, field, searchConfig.getSimpleFieldMappings(), fieldExpressionFactory));
+            }
+            indices.add(IndexFactory.newInstanceWithCustomKeys(name, keys, false));
+        }
+        return List.copyOf(indices);
+    }
+
+    private static IndexKey toIndexKey(final String indexName, final String field,
+            final Map<String, String> simpleFieldMappings,
+            final ThingsFieldExpressionFactory fieldExpressionFactory) {
+
+        final IndexDirection direction = field.startsWith("-") ? IndexDirection.DESCENDING : IndexDirection.ASCENDING;
+        final String fieldName = field.startsWith("-") || field.startsWith("+") ? field.substring(1) : field;
+        if (fieldName.isEmpty() || fieldName.startsWith("$")) {
+            throw new DittoConfigError("Declared index <" + indexName + "> has invalid field <" + field + ">.");
+        }
+        final String path;
+        if (fieldName.startsWith(ATTRIBUTES_PREFIX) || fieldName.startsWith(FEATURES_PREFIX) ||
+                simpleFieldMappings.containsKey(fieldName)) {
+            try {
+                path = GetSortBsonVisitor.path(fieldExpressionFactory.sortBy(fieldName));
+            } catch (final IllegalArgumentException e) {
+                throw new DittoConfigError("Declared index <" + indexName + "> has invalid field <" + field + ">: " +
+                        e.getMessage(), e);
+            }
+        } else {
+            path = fieldName;
+        }
+        return DefaultIndexKey.of(path, direction);
+    }
+
 }
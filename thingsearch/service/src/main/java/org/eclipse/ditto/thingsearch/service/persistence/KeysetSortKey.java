@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+import com.mongodb.client.model.Sorts;
+
+/**
+ * A compound sort key for one combination of sort options.
+ * <p>
+ * The values of all sort fields of a search index document are encoded into a single string whose lexicographic
+ * order is the order defined by the sort options: each value is prefixed by a type tag ordered like the BSON types
+ * in MongoDB (null, numbers, strings, objects, arrays, booleans), numbers are encoded as fixed-length order-preserving
+ * bit patterns of their double value, strings as escaped and terminated UTF-8, and the bytes of values sorted in
+ * descending order are complemented.
+ * Objects and arrays are ordered by their JSON string representation, which differs from the order of MongoDB, but
+ * is the same for sorting and for continuing at a cursor position.
+ * </p>
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class KeysetSortKey {
+
+    static final String INDEX_NAME_PREFIX = "sortKey_";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private static final byte TAG_NULL = 0x10;
+    private static final byte TAG_NUMBER = 0x20;
+    private static final byte TAG_STRING = 0x30;
+    private static final byte TAG_OBJECT = 0x40;
+    private static final byte TAG_ARRAY = 0x50;
+    private static final byte TAG_BOOLEAN = 0x60;
+
+    private static final byte ESCAPE = 0x00;
+    private static final byte ESCAPED_ZERO = (byte) 0xFF;
+    private static final byte TERMINATOR = 0x01;
+
+    private final String name;
+    private final List<SortOption> sortOptions;
+
+    private KeysetSortKey(final String name, final List<SortOption> sortOptions) {
+        this.name = name;
+        this.sortOptions = Collections.unmodifiableList(new ArrayList<>(sortOptions));
+    }
+
+    /**
+     * Create a keyset sort key.
+     *
+     * @param name name of the sort key, which is used as a field name in the search index.
+     * @param sortOptions the sort options whose values are encoded in the sort key.
+     * @return the keyset sort key.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if the name is no valid field name or if there are no sort options.
+     */
+    public static KeysetSortKey of(final String name, final List<SortOption> sortOptions) {
+        checkNotNull(name, "name");
+        checkNotNull(sortOptions, "sortOptions");
+        if (name.isEmpty() || name.startsWith("$") || name.contains(PersistenceConstants.DOT)) {
+            throw new IllegalArgumentException("Invalid name of keyset sort key: <" + name + ">");
+        }
+        if (sortOptions.isEmpty()) {
+            throw new IllegalArgumentException("Keyset sort key <" + name + "> has no sort options.");
+        }
+        return new KeysetSortKey(name, sortOptions);
+    }
+
+    /**
+     * @return name of the sort key.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the sort options whose values are encoded in the sort key.
+     */
+    public List<SortOption> getSortOptions() {
+        return sortOptions;
+    }
+
+    /**
+     * @return path of the sort key in the search index document.
+     */
+    public String getFieldPath() {
+        return PersistenceConstants.FIELD_SORT_KEYS + PersistenceConstants.DOT + name;
+    }
+
+    /**
+     * @return the index over the sort key.
+     */
+    public Index getIndex() {
+        return IndexFactory.newInstance(INDEX_NAME_PREFIX + name, List.of(getFieldPath()), false);
+    }
+
+    /**
+     * @return the MongoDB sort option equivalent to the sort options of this key.
+     */
+    public Bson getSortBson() {
+        return Sorts.ascending(getFieldPath());
+    }
+
+    /**
+     * Test whether queries with the given sort options are served by this sort key.
+     *
+     * @param querySortOptions sort options of a query.
+     * @return whether they are the sort options of this key.
+     */
+    public boolean matches(final List<SortOption> querySortOptions) {
+        return sortOptions.equals(querySortOptions);
+    }
+
+    /**
+     * Encode the sort key of a search index document.
+     *
+     * @param document the search index document.
+     * @return the encoded sort key.
+     */
+    public String encode(final BsonDocument document) {
+        final JsonArrayBuilder values = JsonFactory.newArrayBuilder();
+        for (final SortOption sortOption : sortOptions) {
+            final BsonValue value = seekToPath(document, GetSortBsonVisitor.path(sortOption.getSortExpression()));
+            values.add(value == null ? JsonValue.nullLiteral() : toJsonValue(value));
+        }
+        return encode(values.build());
+    }
+
+    /**
+     * Encode the sort key of the values of the sort fields, e.g. of those stored in a cursor.
+     *
+     * @param values the values of the sort fields in the order of the sort options.
+     * @return the encoded sort key.
+     * @throws IllegalArgumentException if the number of values differs from the number of sort options.
+     */
+    public String encode(final JsonArray values) {
+        if (values.getSize() != sortOptions.size()) {
+            throw new IllegalArgumentException("Expect <" + sortOptions.size() + "> sort values, got: " + values);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final byte[] component = encodeValue(values.get(i).orElseGet(JsonValue::nullLiteral));
+            if (sortOptions.get(i).getSortDirection() == SortDirection.DESC) {
+                for (int j = 0; j < component.length; ++j) {
+                    component[j] = (byte) ~component[j];
+                }
+            }
+            out.writeBytes(component);
+        }
+        return HEX_FORMAT.formatHex(out.toByteArray());
+    }
+
+    private static byte[] encodeValue(final JsonValue value) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value.isNull()) {
+            out.write(TAG_NULL);
+        } else if (value.isNumber()) {
+            out.write(TAG_NUMBER);
+            writeLong(out, toSortableBits(value.asDouble()));
+        } else if (value.isString()) {
+            out.write(TAG_STRING);
+            writeEscaped(out, value.asString());
+        } else if (value.isObject()) {
+            out.write(TAG_OBJECT);
+            writeEscaped(out, value.toString());
+        } else if (value.isArray()) {
+            out.write(TAG_ARRAY);
+            writeEscaped(out, value.toString());
+        } else {
+            out.write(TAG_BOOLEAN);
+            out.write(value.asBoolean() ? 1 : 0);
+        }
+        return out.toByteArray();
+    }
+
+    private static long toSortableBits(final double number) {
+        if (Double.isNaN(number)) {
+            // MongoDB sorts NaN before all other numbers
+            return 0L;
+        }
+        // +0.0 for -0.0
+        final long bits = Double.doubleToLongBits(number + 0.0);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    private static void writeLong(final ByteArrayOutputStream out, final long value) {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeEscaped(final ByteArrayOutputStream out, final String string) {
+        for (final byte b : string.getBytes(StandardCharsets.UTF_8)) {
+            out.write(b);
+            if (b == ESCAPE) {
+                out.write(ESCAPED_ZERO);
+            }
+        }
+        out.write(ESCAPE);
+        out.write(TERMINATOR);
+    }
+
+    private static JsonValue toJsonValue(final BsonValue value) {
+        // only documents and arrays can be serialized
+        return DittoBsonJson.getInstance().serialize(new BsonArray(List.of(value)))
+                .asArray()
+                .get(0)
+                .orElseGet(JsonValue::nullLiteral);
+    }
+
+    @Nullable
+    private static BsonValue seekToPath(final BsonDocument document, final String path) {
+        BsonValue current = document;
+        for (final String segment : path.split("\\.")) {
+            if (current instanceof BsonDocument currentDocument) {
+                current = currentDocument.get(segment);
+            } else {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final KeysetSortKey that = (KeysetSortKey) o;
+        return Objects.equals(name, that.name) && Objects.equals(sortOptions, that.sortOptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, sortOptions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "name=" + name +
+                ", sortOptions=" + sortOptions +
+                "]";
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.parser.thingsearch.RqlOptionParser;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.api.query.filter.ParameterOptionVisitor;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+
+/**
+ * The configured {@link KeysetSortKey}s.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+public final class KeysetSortKeys {
+
+    private static final KeysetSortKeys EMPTY = new KeysetSortKeys(List.of(), List.of());
+
+    private final List<KeysetSortKey> keys;
+    private final List<KeysetSortKey> queryKeys;
+
+    private KeysetSortKeys(final List<KeysetSortKey> keys, final List<KeysetSortKey> queryKeys) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        this.queryKeys = Collections.unmodifiableList(new ArrayList<>(queryKeys));
+    }
+
+    /**
+     * @return keyset sort keys without any key.
+     */
+    public static KeysetSortKeys empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create keyset sort keys which all serve queries.
+     *
+     * @param keys the keys.
+     * @return the keyset sort keys.
+     */
+    public static KeysetSortKeys of(final List<KeysetSortKey> keys) {
+        return keys.isEmpty() ? EMPTY : new KeysetSortKeys(keys, keys);
+    }
+
+    /**
+     * Create keyset sort keys of which only the backfilled ones serve queries.
+     *
+     * @param keys the keys.
+     * @param backfilledKeyNames names of the keys present in all documents of the search index.
+     * @return the keyset sort keys.
+     */
+    public static KeysetSortKeys of(final List<KeysetSortKey> keys, final Set<String> backfilledKeyNames) {
+        final List<KeysetSortKey> queryKeys = keys.stream()
+                .filter(key -> backfilledKeyNames.contains(key.getName()))
+                .toList();
+        return keys.isEmpty() ? EMPTY : new KeysetSortKeys(keys, queryKeys);
+    }
+
+    /**
+     * Read the keyset sort keys configured in the search config.
+     * The sort options of each key are parsed like those of a search query, i.e. they end with the thing ID.
+     * All keys are maintained in the search index, but only those configured as backfilled serve queries.
+     *
+     * @param searchConfig the search config.
+     * @return the keyset sort keys.
+     * @throws DittoConfigError if a configured sort option is invalid.
+     */
+    public static KeysetSortKeys of(final SearchConfig searchConfig) {
+        final Map<String, String> config = searchConfig.getKeysetSortKeys();
+        if (config.isEmpty()) {
+            return EMPTY;
+        }
+        final var fieldExpressionFactory = ThingsFieldExpressionFactory.of(searchConfig.getSimpleFieldMappings());
+        final var queryBuilderFactory = new MongoQueryBuilderFactory(searchConfig.getLimitsConfig());
+        final var rqlOptionParser = new RqlOptionParser();
+        final List<KeysetSortKey> keys = new ArrayList<>(config.size());
+        // sort by name for a deterministic order of indices
+        for (final var entry : new TreeMap<>(config).entrySet()) {
+            try {
+                final var queryBuilder = queryBuilderFactory.newUnlimitedBuilder(CriteriaFactory.getInstance().any());
+                new ParameterOptionVisitor(fieldExpressionFactory, queryBuilder)
+                        .visitAll(rqlOptionParser.parse(entry.getValue()));
+                keys.add(KeysetSortKey.of(entry.getKey(), queryBuilder.build().getSortOptions()));
+            } catch (final ParserException | IllegalArgumentException e) {
+                throw new DittoConfigError("Invalid keyset sort key <" + entry.getKey() + ">: " + e.getMessage(), e);
+            }
+        }
+        return of(keys, searchConfig.getBackfilledKeysetSortKeys());
+    }
+
+    /**
+     * @return all keys, including those not yet backfilled.
+     */
+    public List<KeysetSortKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Find the key serving queries with the given sort options.
+     * Keys which were not backfilled are never found: documents indexed before the key was configured lack it and
+     * would be skipped by the range scan over the key.
+     *
+     * @param sortOptions sort options of a query.
+     * @return the key if any backfilled key matches the sort options.
+     */
+    public Optional<KeysetSortKey> find(final List<SortOption> sortOptions) {
+        return queryKeys.stream().filter(key -> key.matches(sortOptions)).findFirst();
+    }
+
+    /**
+     * Find the key serving a query.
+     *
+     * @param query the query.
+     * @return the key if any matches the sort options of the query.
+     */
+    public Optional<KeysetSortKey> find(final Query query) {
+        return find(query.getSortOptions());
+    }
+
+    /**
+     * Encode all keys of a search index document.
+     *
+     * @param document the search index document.
+     * @return document containing the encoded keys by their names.
+     */
+    public BsonDocument encode(final BsonDocument document) {
+        final BsonDocument sortKeys = new BsonDocument();
+        for (final KeysetSortKey key : keys) {
+            sortKeys.append(key.getName(), new BsonString(key.encode(document)));
+        }
+        return sortKeys;
+    }
+
+    /**
+     * @return whether there are no keys.
+     */
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final KeysetSortKeys that = (KeysetSortKeys) o;
+        return Objects.equals(keys, that.keys) && Objects.equals(queryKeys, that.queryKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keys, queryKeys);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "keys=" + keys +
+                ", queryKeys=" + queryKeys +
+                "]";
+    }
+
+}
@@ -184,6 +184,13 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = FIELD_PERMISSION_PREFIX + "r";
 
+    /**
+     * Field name of the document containing the keyset sort keys.
+     *
+     * @since 3.5.0
+     */
+    public static final String FIELD_SORT_KEYS = "__sortKeys";
+
     /**
      * Mark a document for deletion.
      */
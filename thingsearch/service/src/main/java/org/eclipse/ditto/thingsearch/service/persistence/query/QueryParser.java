@@ -34,6 +34,7 @@ import org.eclipse.ditto.thingsearch.api.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 
 /**
@@ -46,16 +47,19 @@ public final class QueryParser {
     private final QueryBuilderFactory queryBuilderFactory;
     private final RqlOptionParser rqlOptionParser;
     private final QueryCriteriaValidator queryCriteriaValidator;
+    private final KeysetSortKeys keysetSortKeys;
 
     private QueryParser(final ThingsFieldExpressionFactory fieldExpressionFactory,
             final PredicateParser predicateParser,
             final QueryBuilderFactory queryBuilderFactory,
-            final QueryCriteriaValidator queryCriteriaValidator) {
+            final QueryCriteriaValidator queryCriteriaValidator,
+            final KeysetSortKeys keysetSortKeys) {
 
         this.queryFilterCriteriaFactory = QueryFilterCriteriaFactory.of(fieldExpressionFactory, predicateParser);
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         this.queryCriteriaValidator = queryCriteriaValidator;
+        this.keysetSortKeys = keysetSortKeys;
         rqlOptionParser = new RqlOptionParser();
     }
 
@@ -71,8 +75,26 @@ public final class QueryParser {
             final QueryBuilderFactory queryBuilderFactory,
             final QueryCriteriaValidator queryCriteriaValidator) {
 
+        return of(fieldExpressionFactory, queryBuilderFactory, queryCriteriaValidator, KeysetSortKeys.empty());
+    }
+
+    /**
+     * Create a QueryFactory.
+     *
+     * @param fieldExpressionFactory a factory to retrieve things field expressions.
+     * @param queryBuilderFactory a factory to create a query builder.
+     * @param queryCriteriaValidator a validator for queries.
+     * @param keysetSortKeys the configured keyset sort keys.
+     * @return the query factory.
+     * @since 3.5.0
+     */
+    public static QueryParser of(final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final QueryBuilderFactory queryBuilderFactory,
+            final QueryCriteriaValidator queryCriteriaValidator,
+            final KeysetSortKeys keysetSortKeys) {
+
         return new QueryParser(fieldExpressionFactory, RqlPredicateParser.getInstance(), queryBuilderFactory,
-                queryCriteriaValidator);
+                queryCriteriaValidator, keysetSortKeys);
     }
 
     /**
@@ -139,6 +161,14 @@ public final class QueryParser {
         return queryFilterCriteriaFactory.toCriteriaFactory();
     }
 
+    /**
+     * @return the keyset sort keys by which queries with matching sort options are continued at a cursor.
+     * @since 3.5.0
+     */
+    public KeysetSortKeys getKeysetSortKeys() {
+        return keysetSortKeys;
+    }
+
     private void setOptions(final String options, final QueryBuilder queryBuilder, final DittoHeaders headers) {
         try {
             final ParameterOptionVisitor visitor = new ParameterOptionVisitor(fieldExpressionFactory, queryBuilder);
@@ -12,11 +12,13 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.read;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -55,7 +57,19 @@ interface MongoHints {
      * @return the extracted hints.
      */
     static MongoHints byNamespace(final String jsonString) {
-        return new ByNamespace(jsonString);
+        return byNamespace(jsonString, List.of());
+    }
+
+    /**
+     * Extract hints from a JSON representation which may refer to built-in or additional indexes by name.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to MongoDB hints.
+     * @param additionalIndexes indexes besides the built-in ones which hints may refer to by name.
+     * @return the extracted hints.
+     * @since 3.5.0
+     */
+    static MongoHints byNamespace(final String jsonString, final List<Index> additionalIndexes) {
+        return new ByNamespace(jsonString, additionalIndexes);
     }
 
     final class Empty implements MongoHints {
@@ -72,10 +86,10 @@ interface MongoHints {
 
         private final Map<String, Bson> map;
 
-        private ByNamespace(final String jsonString) {
+        private ByNamespace(final String jsonString, final List<Index> additionalIndexes) {
             map = JsonObject.of(jsonString)
                     .stream()
-                    .collect(Collectors.toMap(JsonField::getKeyName, ByNamespace::fieldToBson));
+                    .collect(Collectors.toMap(JsonField::getKeyName, field -> fieldToBson(field, additionalIndexes)));
         }
 
         @Override
@@ -87,10 +101,10 @@ interface MongoHints {
             }
         }
 
-        private static Bson fieldToBson(final JsonField field) {
+        private static Bson fieldToBson(final JsonField field, final List<Index> additionalIndexes) {
             final JsonValue value = field.getValue();
             if (value.isString()) {
-                final Optional<Index> index = getIndexByName(value.asString());
+                final Optional<Index> index = getIndexByName(value.asString(), additionalIndexes);
                 return index.map(Index::getKeys).orElse(null);
             } else {
                 // it is an error if the configured hint is neither an index name nor an index spec as document.
@@ -100,8 +114,10 @@ interface MongoHints {
             }
         }
 
-        private static Optional<Index> getIndexByName(final String name) {
-            return Indices.all(false).stream().filter(index -> Objects.equals(name, index.getName())).findAny();
+        private static Optional<Index> getIndexByName(final String name, final List<Index> additionalIndexes) {
+            return Stream.concat(Indices.all(false).stream(), additionalIndexes.stream())
+                    .filter(index -> Objects.equals(name, index.getName()))
+                    .findAny();
         }
     }
 }
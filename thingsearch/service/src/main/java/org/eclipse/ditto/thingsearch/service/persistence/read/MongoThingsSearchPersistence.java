@@ -42,6 +42,7 @@ import org.eclipse.ditto.internal.models.streaming.LowerBound;
 import org.eclipse.ditto.internal.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.policies.api.PolicyTag;
@@ -57,6 +58,8 @@ import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.Indices;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKey;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
@@ -92,6 +95,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private final Duration maxQueryTime;
     private final boolean documentDbCompatibilityMode;
     private final MongoHints hints;
+    private final KeysetSortKeys keysetSortKeys;
+    private final List<Index> declaredIndexes;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -112,6 +117,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         documentDbCompatibilityMode = mongoClient.getDittoSettings().isDocumentDbCompatibilityMode();
         hints = MongoHints.empty();
+        keysetSortKeys = KeysetSortKeys.empty();
+        declaredIndexes = List.of();
         log.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
     }
 
@@ -121,7 +128,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
             final boolean documentDbCompatibilityMode,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final KeysetSortKeys keysetSortKeys,
+            final List<Index> declaredIndexes) {
 
         this.collection = collection;
         this.log = log;
@@ -129,24 +138,53 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         this.maxQueryTime = maxQueryTime;
         this.documentDbCompatibilityMode = documentDbCompatibilityMode;
         this.hints = hints;
+        this.keysetSortKeys = keysetSortKeys;
+        this.declaredIndexes = declaredIndexes;
     }
 
     /**
      * Create a copy of this object with configurable hints for each namespace.
+     * Hints may refer to the built-in indexes and to the declared indexes of this object by name.
      *
      * @param jsonString JSON representation of hints for queries of each namespace.
      * @return copy of this object with hints configured.
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
-        final MongoHints theHints = MongoHints.byNamespace(jsonString);
+        final MongoHints theHints = MongoHints.byNamespace(jsonString, declaredIndexes);
         return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
-                documentDbCompatibilityMode, theHints);
+                documentDbCompatibilityMode, theHints, keysetSortKeys, declaredIndexes);
+    }
+
+    /**
+     * Create a copy of this object which sorts queries matching any of the given keyset sort keys by the sort key.
+     *
+     * @param theKeysetSortKeys the configured keyset sort keys.
+     * @return copy of this object with keyset sort keys configured.
+     * @since 3.5.0
+     */
+    public MongoThingsSearchPersistence withKeysetSortKeys(final KeysetSortKeys theKeysetSortKeys) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
+                documentDbCompatibilityMode, hints, checkNotNull(theKeysetSortKeys, "keysetSortKeys"),
+                declaredIndexes);
+    }
+
+    /**
+     * Create a copy of this object which creates the given indexes in addition to the built-in ones.
+     *
+     * @param theDeclaredIndexes the indexes declared in the search config.
+     * @return copy of this object with declared indexes configured.
+     * @since 3.5.0
+     */
+    public MongoThingsSearchPersistence withDeclaredIndexes(final List<Index> theDeclaredIndexes) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
+                documentDbCompatibilityMode, hints, keysetSortKeys,
+                List.copyOf(checkNotNull(theDeclaredIndexes, "declaredIndexes")));
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
         return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME,
-                        Indices.all(documentDbCompatibilityMode)
+                        Indices.all(documentDbCompatibilityMode, keysetSortKeys, declaredIndexes)
                 )
                 .exceptionally(t -> {
                     log.error(t, "Index-Initialization failed: {}", t.getMessage());
@@ -261,7 +299,10 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson sortOptions = getMongoSort(query);
+        // the sort key of a keyset sort key has the same order as the sort options and is backed by its own index
+        final Bson sortOptions = keysetSortKeys.find(query)
+                .map(KeysetSortKey::getSortBson)
+                .orElseGet(() -> getMongoSort(query));
 
         final int skip = query.getSkip();
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
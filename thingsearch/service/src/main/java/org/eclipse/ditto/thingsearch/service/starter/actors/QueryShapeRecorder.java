@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BsonUtil;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryShapeRecorderConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Records the shapes of executed search queries together with their latencies.
+ * <p>
+ * The shape of a query is its MongoDB filter with all values replaced by {@code "?"} together with the paths and
+ * directions of its sort options. The most frequent shapes show which declared indexes would help.
+ */
+@ThreadSafe
+final class QueryShapeRecorder {
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    private static final List<String> PLACEHOLDER_SUBJECTS = List.of(PLACEHOLDER.getValue());
+
+    private final boolean enabled;
+    private final int maxShapes;
+    private final int reportSize;
+    private final Map<String, ShapeStatistics> statistics;
+    private final LongAdder dropped;
+
+    private QueryShapeRecorder(final boolean enabled, final int maxShapes, final int reportSize) {
+        this.enabled = enabled;
+        this.maxShapes = maxShapes;
+        this.reportSize = reportSize;
+        statistics = new ConcurrentHashMap<>();
+        dropped = new LongAdder();
+    }
+
+    /**
+     * Create a query shape recorder.
+     *
+     * @param config the config of the recorder.
+     * @return the recorder.
+     */
+    static QueryShapeRecorder of(final QueryShapeRecorderConfig config) {
+        return new QueryShapeRecorder(config.isEnabled(), config.getMaxShapes(), config.getReportSize());
+    }
+
+    /**
+     * @return a recorder which records nothing.
+     */
+    static QueryShapeRecorder disabled() {
+        return new QueryShapeRecorder(false, 1, 1);
+    }
+
+    /**
+     * @return whether this recorder records anything.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record the execution of a query.
+     *
+     * @param queryType the type of the query, e.g. {@code "query"} or {@code "count"}.
+     * @param query the executed query.
+     * @param isSudo whether the query was executed without restriction of visibility.
+     * @param latency how long the execution took.
+     */
+    void record(final String queryType, final Query query, final boolean isSudo, final Duration latency) {
+        if (enabled) {
+            final String shape = getShape(queryType, query, isSudo);
+            ShapeStatistics shapeStatistics = statistics.get(shape);
+            if (shapeStatistics == null) {
+                if (statistics.size() >= maxShapes) {
+                    dropped.increment();
+                    return;
+                }
+                shapeStatistics = statistics.computeIfAbsent(shape, ShapeStatistics::new);
+            }
+            shapeStatistics.add(latency.toNanos());
+        }
+    }
+
+    /**
+     * Retrieve the most frequent shapes recorded since the last report and start recording anew.
+     *
+     * @return the report, or an empty list if nothing was recorded.
+     */
+    List<String> report() {
+        final List<ShapeStatistics> snapshot = List.copyOf(statistics.values());
+        statistics.clear();
+        final long droppedCount = dropped.sumThenReset();
+        if (snapshot.isEmpty()) {
+            return List.of();
+        }
+        final List<String> lines = snapshot.stream()
+                .sorted(Comparator.comparingLong(ShapeStatistics::getCount).reversed())
+                .limit(reportSize)
+                .map(ShapeStatistics::toString)
+                .collect(Collectors.toList());
+        if (droppedCount > 0) {
+            lines.add("dropped=" + droppedCount + " executions of shapes beyond max-shapes=" + maxShapes);
+        }
+        return lines;
+    }
+
+    /**
+     * Compute the shape of a query.
+     *
+     * @param queryType the type of the query.
+     * @param query the query.
+     * @param isSudo whether the query is executed without restriction of visibility.
+     * @return the shape.
+     */
+    static String getShape(final String queryType, final Query query, final boolean isSudo) {
+        final BsonDocument filter = BsonUtil.toBsonDocument(isSudo
+                ? CreateBsonVisitor.sudoApply(query.getCriteria())
+                : CreateBsonVisitor.apply(query.getCriteria(), PLACEHOLDER_SUBJECTS));
+        final String sort = query.getSortOptions()
+                .stream()
+                .map(sortOption -> (sortOption.getSortDirection() == SortDirection.ASC ? "+" : "-") +
+                        GetSortBsonVisitor.path(sortOption.getSortExpression()))
+                .collect(Collectors.joining(",", "[", "]"));
+        return queryType + " filter=" + toShape(filter).asDocument().toJson() + " sort=" + sort;
+    }
+
+    private static BsonValue toShape(final BsonValue value) {
+        // documents keep their keys so that the shape contains the queried fields and operators
+        if (value.isDocument()) {
+            final BsonDocument shape = new BsonDocument();
+            value.asDocument().forEach((key, fieldValue) -> shape.append(key, toShape(fieldValue)));
+            return shape;
+        } else if (value.isArray() && !value.asArray().isEmpty() &&
+                value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            // conjunctions and disjunctions; arrays of values such as the operand of "$in" are collapsed
+            return new BsonArray(value.asArray().stream().map(QueryShapeRecorder::toShape).toList());
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    private static final class ShapeStatistics {
+
+        private final String shape;
+        private final LongAdder count;
+        private final LongAdder totalNanos;
+        private final LongAccumulator maxNanos;
+
+        private ShapeStatistics(final String shape) {
+            this.shape = shape;
+            count = new LongAdder();
+            totalNanos = new LongAdder();
+            maxNanos = new LongAccumulator(Math::max, 0L);
+        }
+
+        private void add(final long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private long getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public String toString() {
+            final long theCount = getCount();
+            final long averageMillis = theCount == 0 ? 0 : Duration.ofNanos(totalNanos.sum() / theCount).toMillis();
+            return "count=" + theCount +
+                    " avgMillis=" + averageMillis +
+                    " maxMillis=" + Duration.ofNanos(maxNanos.get()).toMillis() +
+                    " shape=" + shape;
+        }
+
+    }
+
+}
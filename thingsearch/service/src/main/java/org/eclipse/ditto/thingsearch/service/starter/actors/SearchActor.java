@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.thingsearch.service.starter.actors;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
@@ -84,12 +86,15 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsRes
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultQueryShapeRecorderConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryShapeRecorderConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * Actor handling all supported {@link ThingSearchCommand}s. Currently, those are {@link CountThings} and {@link
@@ -131,14 +136,20 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private final PreEnforcerProvider preEnforcer;
     private final SignalTransformer signalTransformer;
     private final ActorRef pubSubMediator;
+    private final QueryShapeRecorder queryShapeRecorder;
+    private final Duration queryShapeReportInterval;
+    @Nullable private Cancellable queryShapeReport;
 
     @SuppressWarnings("unused")
     private SearchActor(final QueryParser queryParser, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final QueryShapeRecorderConfig queryShapeRecorderConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         this.pubSubMediator = pubSubMediator;
+        queryShapeRecorder = QueryShapeRecorder.of(queryShapeRecorderConfig);
+        queryShapeReportInterval = queryShapeRecorderConfig.getReportInterval();
+        queryShapeReport = null;
         final var system = getSystem();
         final Config config = system.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -166,7 +177,26 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
             final ActorRef pubSubMediator) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator)
+        return props(queryFactory, searchPersistence, pubSubMediator,
+                DefaultQueryShapeRecorderConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence}
+     * to use in order to execute queries.
+     * @param pubSubMediator the Pekko pub-sub mediator.
+     * @param queryShapeRecorderConfig the config of the recorder of query shapes.
+     * @return the Pekko configuration Props object.
+     * @since 3.5.0
+     */
+    static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
+            final ActorRef pubSubMediator, final QueryShapeRecorderConfig queryShapeRecorderConfig) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator,
+                        queryShapeRecorderConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -179,6 +209,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
                 .match(StreamThings.class, this::stream)
                 .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.info("Got <{}>", ack))
+                .matchEquals(QueryShapeControl.REPORT, this::reportQueryShapes)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
@@ -189,6 +220,12 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                 DistPubSubAccess.subscribeViaGroup(ThingSearchCommand.TYPE_PREFIX, ACTOR_NAME, getSelf());
         pubSubMediator.tell(subscribe, getSelf());
 
+        if (queryShapeRecorder.isEnabled()) {
+            queryShapeReport = getSystem().scheduler()
+                    .scheduleAtFixedRate(queryShapeReportInterval, queryShapeReportInterval, getSelf(),
+                            QueryShapeControl.REPORT, getContext().getDispatcher(), ActorRef.noSender());
+        }
+
         final var coordinatedShutdown = CoordinatedShutdown.get(getSystem());
         final var serviceUnbindTask = "service-unbind-" + ACTOR_NAME;
         coordinatedShutdown.addTask(CoordinatedShutdown.PhaseServiceUnbind(), serviceUnbindTask,
@@ -203,6 +240,14 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         );
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (queryShapeReport != null) {
+            queryShapeReport.cancel();
+        }
+        super.postStop();
+    }
+
     @Override
     public void serviceUnbind(final Control serviceUnbind) {
         log.info("{}: unsubscribing from pubsub for {}", serviceUnbind, ACTOR_NAME);
@@ -226,6 +271,13 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         super.serviceRequestsDone(serviceRequestsDone);
     }
 
+    private void reportQueryShapes(final QueryShapeControl reportQueryShapes) {
+        final List<String> report = queryShapeRecorder.report();
+        if (!report.isEmpty()) {
+            log.info("Most frequent query shapes since the last report:\n{}", String.join("\n", report));
+        }
+    }
+
     private CompletionStage<Signal<?>> applySignalTransformation(final Signal<?> signal, final ActorRef sender) {
         return signalTransformer.apply(signal)
                 .whenComplete((transformed, error) -> {
@@ -308,6 +360,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             stopTimer(queryParsingTimer);
                             final StartedTimer databaseAccessTimer =
                                     countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
+                            final long databaseAccessStartNanos = System.nanoTime();
 
                             final Source<Long, NotUsed> countResultSource =
                                     DittoJsonException.wrapJsonRuntimeException(query, countCommand.getDittoHeaders(),
@@ -321,6 +374,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             return processSearchPersistenceResult(countResultSource, dittoHeaders)
                                     .via(Flow.fromFunction(result -> {
                                         stopTimer(databaseAccessTimer);
+                                        queryShapeRecorder.record(queryType, query, isSudo,
+                                                Duration.ofNanos(System.nanoTime() - databaseAccessStartNanos));
                                         return result;
                                     }))
                                     .map(count -> CountThingsResponse.of(count, dittoHeaders));
@@ -350,7 +405,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
 
                     return createQuerySource(queryParser::parse, streamThings).map(parsedQuery -> {
                         final var query =
-                                ThingsSearchCursor.adjust(cursor, parsedQuery, queryParser.getCriteriaFactory());
+                                ThingsSearchCursor.adjust(cursor, parsedQuery, queryParser.getCriteriaFactory(),
+                                        queryParser.getKeysetSortKeys());
                         stopTimer(queryParsingTimer);
                         searchTimer.startNewSegment(
                                 DATABASE_ACCESS_SEGMENT_NAME); // segment stopped by stopTimerAndHandleError
@@ -471,11 +527,12 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             .flatMapConcat(parsedQuery -> {
                                 final var query =
                                         ThingsSearchCursor.adjust(cursor, parsedQuery,
-                                                queryParser.getCriteriaFactory());
+                                                queryParser.getCriteriaFactory(), queryParser.getKeysetSortKeys());
 
                                 stopTimer(queryParsingTimer);
                                 final StartedTimer databaseAccessTimer =
                                         searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
+                                final long databaseAccessStartNanos = System.nanoTime();
 
                                 final List<String> subjectIds =
                                         command.getDittoHeaders()
@@ -489,6 +546,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                 return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                         .via(Flow.fromFunction(result -> {
                                             stopTimer(databaseAccessTimer);
+                                            queryShapeRecorder.record(queryType, query, false,
+                                                    Duration.ofNanos(System.nanoTime() - databaseAccessStartNanos));
                                             return result;
                                         }))
                                         .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
@@ -577,4 +636,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         }
     }
 
+    private enum QueryShapeControl {
+        REPORT
+    }
+
 }
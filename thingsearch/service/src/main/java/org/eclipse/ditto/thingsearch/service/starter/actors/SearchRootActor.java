@@ -31,6 +31,8 @@ import org.eclipse.ditto.rql.query.QueryBuilderFactory;
 import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.Indices;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
@@ -86,7 +88,8 @@ public final class SearchRootActor extends DittoRootActor {
         final QueryBuilderFactory queryBuilderFactory = new MongoQueryBuilderFactory(limitsConfig);
         final var queryCriteriaValidator =
                 QueryCriteriaValidator.get(actorSystem, ScopedConfig.dittoExtension(actorSystem.settings().config()));
-        return QueryParser.of(fieldExpressionFactory, queryBuilderFactory, queryCriteriaValidator);
+        return QueryParser.of(fieldExpressionFactory, queryBuilderFactory, queryCriteriaValidator,
+                KeysetSortKeys.of(searchConfig));
     }
 
     private MongoThingsSearchPersistence getThingsSearchPersistence(final SearchConfig searchConfig,
@@ -94,7 +97,9 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final var persistenceConfig = searchConfig.getQueryPersistenceConfig();
-        final var persistence = new MongoThingsSearchPersistence(mongoDbClient, context.getSystem(), persistenceConfig);
+        final var persistence = new MongoThingsSearchPersistence(mongoDbClient, context.getSystem(), persistenceConfig)
+                .withKeysetSortKeys(KeysetSortKeys.of(searchConfig))
+                .withDeclaredIndexes(Indices.declared(searchConfig));
 
         final var indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -135,7 +140,8 @@ public final class SearchRootActor extends DittoRootActor {
     private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence, final ActorRef pubSubMediator) {
         final var queryParser = getQueryParser(searchConfig, getContext().getSystem());
-        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator);
+        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator,
+                searchConfig.getQueryShapeRecorderConfig());
         return startChildActor(SearchActor.ACTOR_NAME, props);
     }
 
@@ -52,6 +52,7 @@ import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.rql.query.SortDirection;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.SimpleFieldExpression;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.model.CursorOption;
@@ -65,6 +66,8 @@ import org.eclipse.ditto.thingsearch.model.SortOptionEntry;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKey;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.JsonToBson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,8 +92,9 @@ import scala.PartialFunction;
  * <li>{@code adjust(Optional<ThingsSearchCursor>, QueryThings)}:
  * Augment a {@code QueryThings} command by information in the cursor.
  * </li>
- * <li>{@code adjust(Optional<ThingsSearchCursor>, Query, CriteriaFactory)}:
- * Adjust a {@code Query} so that its results start from the location marked by the cursor.
+ * <li>{@code adjust(Optional<ThingsSearchCursor>, Query, CriteriaFactory, KeysetSortKeys)}:
+ * Adjust a {@code Query} so that its results start from the location marked by the cursor, either by a single range
+ * filter on a matching keyset sort key or by range filters on the individual sort fields.
  * </li>
  * <li>{@code processSearchResult(QueryThings, ThingsSearchCursor, SearchResult, ResultList)}:
  * Compute a cursor pointing at the end of the search result if there are more results.
@@ -269,11 +273,14 @@ final class ThingsSearchCursor {
      *
      * @param query the query object.
      * @param cf a criteria factory.
+     * @param keysetSortKeys the keyset sort keys to continue queries with matching sort options by a range filter.
      * @return a new query object starting at the location of this cursor.
      */
-    private Query adjustQuery(final Query query, final CriteriaFactory cf) {
-        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(),
-                getNextPageFilter(query.getSortOptions(), values, cf))));
+    private Query adjustQuery(final Query query, final CriteriaFactory cf, final KeysetSortKeys keysetSortKeys) {
+        final Criteria nextPageFilter = keysetSortKeys.find(query)
+                .map(keysetSortKey -> getKeysetNextPageFilter(keysetSortKey, values, cf))
+                .orElseGet(() -> getNextPageFilter(query.getSortOptions(), values, cf));
+        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(), nextPageFilter)));
     }
 
     /**
@@ -365,7 +372,27 @@ final class ThingsSearchCursor {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static Query adjust(final Optional<ThingsSearchCursor> cursor, final Query query, final CriteriaFactory cf) {
-        return cursor.map(c -> c.adjustQuery(query, cf)).orElse(query);
+        return adjust(cursor, query, cf, KeysetSortKeys.empty());
+    }
+
+    /**
+     * Adjust a {@code Query} object so that its result starts with the location of an optional cursor.
+     * If the sort options of the query match a keyset sort key, the results are filtered by a single range filter
+     * on the sort key.
+     *
+     * @param cursor an optional cursor.
+     * @param query the query to adjust.
+     * @param cf a criteria factory.
+     * @param keysetSortKeys the configured keyset sort keys.
+     * @return the adjusted {@code Query} if the cursor exists; the unadjusted {@code Query} if the cursor does not
+     * exist.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static Query adjust(final Optional<ThingsSearchCursor> cursor, final Query query, final CriteriaFactory cf,
+            final KeysetSortKeys keysetSortKeys) {
+
+        return cursor.map(c -> c.adjustQuery(query, cf, keysetSortKeys)).orElse(query);
     }
 
     /**
@@ -687,6 +714,27 @@ final class ThingsSearchCursor {
         return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
     }
 
+    /**
+     * Filter out results before a cursor's position by the encoded sort key of the cursor's values.
+     *
+     * @param keysetSortKey the keyset sort key matching the sort options of the query.
+     * @param previousValues values of the fields in the sort options of a cursor marking its position.
+     * @param cf a criteria factory.
+     * @return criteria to filter out results before a cursor's position.
+     */
+    private static Criteria getKeysetNextPageFilter(final KeysetSortKey keysetSortKey,
+            final JsonArray previousValues,
+            final CriteriaFactory cf) {
+
+        if (keysetSortKey.getSortOptions().size() != previousValues.getSize()) {
+            // this should not happen.
+            throw invalidCursorBuilder().build();
+        }
+        // the sort key ends with the unique thing ID, hence it is unique and the range excludes the cursor's position
+        return cf.fieldCriteria(SimpleFieldExpression.of(keysetSortKey.getFieldPath()),
+                cf.gt(keysetSortKey.encode(previousValues)));
+    }
+
     /**
      * Recursive implementation of {@code getNextPageFilter}.
      *
@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 import org.eclipse.ditto.base.api.common.Shutdown;
@@ -52,7 +53,11 @@ import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 
 /**
- * Cluster-singleton responsible for background synchronization.
+ * Actor responsible for background synchronization of a range of thing IDs. Without configured range boundaries,
+ * a single instance synchronizing all thing IDs runs as cluster singleton. Otherwise, each search updater node runs
+ * one instance per range and only the instance on the node responsible for the range synchronizes it. If the
+ * responsibility moves to another node during a round, the instance stops its round at the next bookmark and leaves
+ * the bookmark to the new responsible node.
  */
 public final class BackgroundSyncActor
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<BackgroundSyncConfig> {
@@ -73,6 +78,8 @@ public final class BackgroundSyncActor
     private final TimestampPersistence backgroundSyncPersistence;
     private final BackgroundSyncStream backgroundSyncStream;
     private final ActorRef thingsUpdater;
+    private final BackgroundSyncRange range;
+    private final BooleanSupplier isResponsible;
 
     private final Counter streamedSnapshots = DittoMetrics.counter("wildcard_search_streamed_snapshots");
     private final Counter scannedIndexDocs = DittoMetrics.counter("wildcard_search_scanned_index_docs");
@@ -84,6 +91,8 @@ public final class BackgroundSyncActor
     private boolean forceInvalidateThing = false;
     private boolean forceInvalidatePolicy = false;
     private List<String> namespacesFilter = List.of();
+    // read by the running stream to stop the round once the range was handed over to another node
+    private volatile boolean syncingInCurrentRound = false;
 
     @SuppressWarnings("unused")
     private BackgroundSyncActor(final BackgroundSyncConfig backgroundSyncConfig,
@@ -91,13 +100,17 @@ public final class BackgroundSyncActor
             final ThingsSearchPersistence thingsSearchPersistence,
             final TimestampPersistence backgroundSyncPersistence,
             final BackgroundSyncStream backgroundSyncStream,
-            final ActorRef thingsUpdater) {
+            final ActorRef thingsUpdater,
+            final BackgroundSyncRange range,
+            final BooleanSupplier isResponsible) {
         super(backgroundSyncConfig);
         this.thingsMetadataSource = thingsMetadataSource;
         this.thingsSearchPersistence = thingsSearchPersistence;
         this.backgroundSyncPersistence = backgroundSyncPersistence;
         this.backgroundSyncStream = backgroundSyncStream;
         this.thingsUpdater = thingsUpdater;
+        this.range = range;
+        this.isResponsible = isResponsible;
 
         getTimers().startTimerAtFixedRate(Control.BOOKMARK_THING_ID, Control.BOOKMARK_THING_ID,
                 config.getQuietPeriod());
@@ -121,6 +134,33 @@ public final class BackgroundSyncActor
             final ActorRef policiesShardRegion,
             final ActorRef thingsUpdater) {
 
+        return props(config, pubSubMediator, thingsSearchPersistence, backgroundSyncPersistence, policiesShardRegion,
+                thingsUpdater, BackgroundSyncRange.all(), () -> true);
+    }
+
+    /**
+     * Create Pekko Props object for the background sync actor of a range of thing IDs.
+     *
+     * @param config the config of the background sync actor.
+     * @param pubSubMediator Pekko pub-sub mediator.
+     * @param thingsSearchPersistence the search persistence to access the search index.
+     * @param backgroundSyncPersistence persistence for bookmarks of the range's background sync progress.
+     * @param policiesShardRegion the policies shard region to query policy revisions.
+     * @param thingsUpdater the dispatcher of SudoUpdateThing commands.
+     * @param range the range of thing IDs to synchronize.
+     * @param isResponsible whether this actor is currently responsible for synchronizing the range; evaluated at the
+     * start of each round and before each bookmark during a round.
+     * @return an actor to synchronize the range of thing IDs.
+     */
+    static Props props(final BackgroundSyncConfig config,
+            final ActorRef pubSubMediator,
+            final ThingsSearchPersistence thingsSearchPersistence,
+            final TimestampPersistence backgroundSyncPersistence,
+            final ActorRef policiesShardRegion,
+            final ActorRef thingsUpdater,
+            final BackgroundSyncRange range,
+            final BooleanSupplier isResponsible) {
+
         final var thingsMetadataSource =
                 ThingsMetadataSource.of(pubSubMediator, config.getThrottleThroughput(), config.getIdleTimeout());
         final var backgroundSyncStream =
@@ -128,7 +168,7 @@ public final class BackgroundSyncActor
                         config.getToleranceWindow(), config.getThrottleThroughput(), config.getThrottlePeriod());
 
         return Props.create(BackgroundSyncActor.class, config, thingsMetadataSource, thingsSearchPersistence,
-                backgroundSyncPersistence, backgroundSyncStream, thingsUpdater);
+                backgroundSyncPersistence, backgroundSyncStream, thingsUpdater, range, isResponsible);
     }
 
     @Override
@@ -153,6 +193,10 @@ public final class BackgroundSyncActor
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
         statusReportBuilder.set("progressPersisted", progressPersisted.toString());
         statusReportBuilder.set("progressIndexed", progressIndexed.toString());
+        if (!BackgroundSyncRange.all().equals(range)) {
+            statusReportBuilder.set("range", range.toJson());
+            statusReportBuilder.set("responsible", isResponsible.getAsBoolean());
+        }
     }
 
     @Override
@@ -170,7 +214,10 @@ public final class BackgroundSyncActor
         forceInvalidateThing = false;
         forceInvalidatePolicy = false;
         namespacesFilter = List.of();
-        doBookmarkThingId("");
+        if (syncingInCurrentRound) {
+            // only reset the bookmark of the range if this actor synchronized it; another node may be doing so now
+            doBookmarkThingId("");
+        }
     }
 
     @Override
@@ -209,8 +256,15 @@ public final class BackgroundSyncActor
 
     @Override
     protected Source<?, ?> getSource() {
+        syncingInCurrentRound = isResponsible.getAsBoolean();
+        if (!syncingInCurrentRound) {
+            log.info("Skipping this round of <{}> because another node is responsible for it.", range);
+            return Source.empty();
+        }
+
         return getLowerBoundSource()
                 .flatMapConcat(lowerBound -> streamMetadataFromLowerBound(lowerBound, namespacesFilter))
+                .takeWhile(metadata -> syncingInCurrentRound)
                 .wireTap(handleInconsistency(forceUpdateThings, forceInvalidateThing, forceInvalidatePolicy));
     }
 
@@ -257,6 +311,14 @@ public final class BackgroundSyncActor
     }
 
     private void bookmarkThingId(final Control bookmarkRequest) {
+        if (!syncingInCurrentRound) {
+            return;
+        } else if (!isResponsible.getAsBoolean()) {
+            // the stream stops at its next element; the bookmark belongs to the node responsible for the range now
+            log.info("Stopping this round of <{}> because another node became responsible for it.", range);
+            syncingInCurrentRound = false;
+            return;
+        }
         // bookmark the smaller ID between progressed and indexed according to background sync stream processing order
         final ThingId thingIdToBookmark = BackgroundSyncStream.compareThingIds(progressIndexed, progressPersisted) <= 0
                 ? progressIndexed
@@ -293,16 +355,16 @@ public final class BackgroundSyncActor
 
     private Source<ThingId, NotUsed> getLowerBoundSource() {
         if (forceUpdateThings) {
-            return Source.single(EMPTY_THING_ID);
+            return Source.single(range.getLowerBound(EMPTY_THING_ID));
         } else {
             return backgroundSyncPersistence.getTaggedTimestamp()
                     .map(optional -> {
                         if (optional.isPresent()) {
                             final String bookmarkedThingId = optional.get().second();
                             if (bookmarkedThingId != null && !bookmarkedThingId.isEmpty())
-                                return ThingId.of(bookmarkedThingId);
+                                return range.getLowerBound(ThingId.of(bookmarkedThingId));
                         }
-                        return EMPTY_THING_ID;
+                        return range.getLowerBound(EMPTY_THING_ID);
                     });
         }
     }
@@ -310,12 +372,14 @@ public final class BackgroundSyncActor
     private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound,
             final List<String> namespacesFilter) {
         return wrapAsResumeSource(lowerBound, lb -> thingsMetadataSource.createSource(lb, namespacesFilter))
+                .takeWhile(persisted -> range.isNotAfter(persisted.getThingId()))
                 .wireTap(persisted -> getSelf().tell(new ProgressReport(persisted.getThingId(), true),
                         ActorRef.noSender()));
     }
 
     private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound) {
         return wrapAsResumeSource(lowerBound, thingsSearchPersistence::sudoStreamMetadata)
+                .takeWhile(indexed -> range.isNotAfter(indexed.getThingId()))
                 .wireTap(indexed ->
                         getSelf().tell(new ProgressReport(indexed.getThingId(), false), ActorRef.noSender()));
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.actor.Address;
+import org.apache.pekko.cluster.Cluster;
+import org.apache.pekko.cluster.Member;
+import org.apache.pekko.cluster.UniqueAddress;
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.BackgroundSyncStream;
+
+/**
+ * A range of thing IDs synchronized by one background sync actor. The lower bound is exclusive and the upper bound
+ * inclusive so that a range continues exactly where the previous range ends, the same way a bookmark does.
+ *
+ * @since 3.5.0
+ */
+@Immutable
+final class BackgroundSyncRange {
+
+    private static final ThingId EMPTY_THING_ID = ThingId.of(LowerBound.emptyEntityId(ThingConstants.ENTITY_TYPE));
+
+    private final int index;
+    private final ThingId lowerBound;
+    @Nullable private final ThingId upperBound;
+
+    private BackgroundSyncRange(final int index, final ThingId lowerBound, @Nullable final ThingId upperBound) {
+        this.index = index;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Returns the single range covering all thing IDs.
+     *
+     * @return the range.
+     */
+    static BackgroundSyncRange all() {
+        return new BackgroundSyncRange(0, EMPTY_THING_ID, null);
+    }
+
+    /**
+     * Splits the thing ID space at the given boundaries. Each boundary is the last thing ID of its range, thus
+     * {@code n} boundaries result in {@code n + 1} ranges.
+     *
+     * @param boundaries the boundaries in strictly ascending order.
+     * @return the ranges ordered by their index.
+     * @throws org.eclipse.ditto.things.model.ThingIdInvalidException if a boundary is no valid thing ID.
+     * @throws IllegalArgumentException if the boundaries are not in strictly ascending order.
+     */
+    static List<BackgroundSyncRange> fromBoundaries(final List<String> boundaries) {
+        final List<BackgroundSyncRange> ranges = new ArrayList<>(boundaries.size() + 1);
+        ThingId previousBoundary = EMPTY_THING_ID;
+        for (final String boundary : boundaries) {
+            final ThingId upperBound = ThingId.of(boundary);
+            if (!EMPTY_THING_ID.equals(previousBoundary) &&
+                    BackgroundSyncStream.compareThingIds(previousBoundary, upperBound) >= 0) {
+                throw new IllegalArgumentException(
+                        "Background sync range boundaries are not in ascending order: " + boundaries);
+            }
+            ranges.add(new BackgroundSyncRange(ranges.size(), previousBoundary, upperBound));
+            previousBoundary = upperBound;
+        }
+        ranges.add(new BackgroundSyncRange(ranges.size(), previousBoundary, null));
+
+        return List.copyOf(ranges);
+    }
+
+    /**
+     * @return the index of this range.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the name of the background sync actor of this range.
+     */
+    String getActorName() {
+        return BackgroundSyncActor.ACTOR_NAME + "-" + index;
+    }
+
+    /**
+     * Returns the thing ID to continue synchronization after: the bookmark if it lies within this range or the lower
+     * bound of this range otherwise.
+     *
+     * @param bookmark the bookmarked thing ID, or the empty thing ID if there is none.
+     * @return the exclusive lower bound to stream thing metadata from.
+     */
+    ThingId getLowerBound(final ThingId bookmark) {
+        final ThingId result;
+        if (EMPTY_THING_ID.equals(bookmark)) {
+            result = lowerBound;
+        } else if (EMPTY_THING_ID.equals(lowerBound)) {
+            result = bookmark;
+        } else {
+            result = BackgroundSyncStream.compareThingIds(bookmark, lowerBound) > 0 ? bookmark : lowerBound;
+        }
+
+        return result;
+    }
+
+    /**
+     * Indicates whether the given thing ID does not exceed the upper bound of this range.
+     * Thing IDs are streamed in ascending order, hence the stream of a range ends at the first thing ID for which
+     * this is {@code false}.
+     *
+     * @param thingId the thing ID.
+     * @return whether the thing ID is not after this range.
+     */
+    boolean isNotAfter(final ThingId thingId) {
+        return null == upperBound || BackgroundSyncStream.compareThingIds(thingId, upperBound) <= 0;
+    }
+
+    /**
+     * Determines the cluster member responsible for this range. Ranges are assigned round-robin to the members of the
+     * given role sorted by address.
+     *
+     * @param cluster the cluster.
+     * @param role the cluster role among whose members the ranges are divided.
+     * @return the address of the responsible member, or an empty optional if there is no member of the role.
+     */
+    Optional<Address> getResponsibleMember(final Cluster cluster, final String role) {
+        final List<UniqueAddress> membersOfRole =
+                StreamSupport.stream(cluster.state().getMembers().spliterator(), false)
+                        .filter(member -> member.getRoles().contains(role))
+                        .map(Member::uniqueAddress)
+                        .sorted()
+                        .toList();
+        if (membersOfRole.isEmpty()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(membersOfRole.get(index % membersOfRole.size()).address());
+        }
+    }
+
+    /**
+     * @return the JSON representation of this range for status reports.
+     */
+    JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set("index", index)
+                .set("lowerBoundExclusive", lowerBound.toString())
+                .set("upperBoundInclusive", null == upperBound ? "" : upperBound.toString())
+                .build();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BackgroundSyncRange that = (BackgroundSyncRange) o;
+        return index == that.index &&
+                Objects.equals(lowerBound, that.lowerBound) &&
+                Objects.equals(upperBound, that.upperBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, lowerBound, upperBound);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "index=" + index +
+                ", lowerBound=" + lowerBound +
+                ", upperBound=" + upperBound +
+                "]";
+    }
+
+}
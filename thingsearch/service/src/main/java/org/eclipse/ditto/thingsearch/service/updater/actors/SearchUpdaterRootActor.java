@@ -12,24 +12,41 @@
  */
 package org.eclipse.ditto.thingsearch.service.updater.actors;
 
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.BACKGROUND_SYNC_COLLECTION_NAME;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
 import org.apache.pekko.actor.AbstractActor;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
 import org.apache.pekko.actor.SupervisorStrategy;
+import org.apache.pekko.cluster.Cluster;
 import org.apache.pekko.event.Logging;
 import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsDetails;
 import org.eclipse.ditto.base.service.actors.StartChildActor;
 import org.eclipse.ditto.internal.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
+import org.eclipse.ditto.internal.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.internal.utils.health.StatusInfo;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoTimestampPersistence;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
+import org.eclipse.ditto.thingsearch.service.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
@@ -55,12 +72,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
      */
     public static final String CLUSTER_ROLE = ThingsSearchConstants.CLUSTER_ROLE;
 
+    private static final Duration BACKGROUND_SYNC_HEALTH_TIMEOUT = Duration.ofSeconds(10L);
+
     private final LoggingAdapter log = Logging.getLogger(getContext().system(), this);
 
     private final SupervisorStrategy supervisorStrategy = RootSupervisorStrategyFactory.createStrategy(log);
 
     private final ActorRef thingsUpdaterActor;
-    private final ActorRef backgroundSyncActorProxy;
+    @Nullable private final ActorRef backgroundSyncActorProxy;
+    private final List<BackgroundSyncRange> backgroundSyncRanges;
     private final DittoMongoClient dittoMongoClient;
 
     @SuppressWarnings("unused")
@@ -115,19 +135,27 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         startChildActor(PolicyModificationForwarder.ACTOR_NAME, PolicyModificationForwarder.props(
                 pubSubMediator, thingsUpdaterActor, blockedNamespaces, searchUpdaterPersistence));
 
-        // start background sync actor as cluster singleton
-        final var backgroundSyncActorProps = BackgroundSyncActor.props(
-                updaterConfig.getBackgroundSyncConfig(),
-                pubSubMediator,
-                thingsSearchPersistence,
-                backgroundSyncPersistence,
-                shardRegionFactory.getPoliciesShardRegion(numberOfShards),
-                thingsUpdaterActor
-        );
-        backgroundSyncActorProxy =
-                ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
-                        startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
-                );
+        final var backgroundSyncConfig = updaterConfig.getBackgroundSyncConfig();
+        backgroundSyncRanges = BackgroundSyncRange.fromBoundaries(backgroundSyncConfig.getRangeBoundaries());
+        if (backgroundSyncRanges.size() == 1) {
+            // start background sync actor as cluster singleton
+            final var backgroundSyncActorProps = BackgroundSyncActor.props(
+                    backgroundSyncConfig,
+                    pubSubMediator,
+                    thingsSearchPersistence,
+                    backgroundSyncPersistence,
+                    shardRegionFactory.getPoliciesShardRegion(numberOfShards),
+                    thingsUpdaterActor
+            );
+            backgroundSyncActorProxy =
+                    ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
+                            startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
+                    );
+        } else {
+            backgroundSyncActorProxy = null;
+            startBackgroundSyncRangeActors(backgroundSyncConfig, pubSubMediator, thingsSearchPersistence,
+                    backgroundSyncPersistence, shardRegionFactory.getPoliciesShardRegion(numberOfShards));
+        }
         if (searchConfig.getOperatorMetricsConfig().isEnabled()) {
             startClusterSingletonActor(OperatorMetricsProviderActor.ACTOR_NAME,
                     OperatorMetricsProviderActor.props(searchConfig.getOperatorMetricsConfig(), searchActor)
@@ -168,7 +196,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(RetrieveStatisticsDetails.class, cmd -> thingsUpdaterActor.forward(cmd, getContext()))
-                .match(RetrieveHealth.class, cmd -> backgroundSyncActorProxy.forward(cmd, getContext()))
+                .match(RetrieveHealth.class, this::retrieveBackgroundSyncHealth)
                 .match(Status.Failure.class, f -> log.error(f.cause(), "Got failure: {}", f))
                 .match(StartChildActor.class, this::startChildActor)
                 .matchAny(m -> {
@@ -183,6 +211,69 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         return supervisorStrategy;
     }
 
+    private void startBackgroundSyncRangeActors(final BackgroundSyncConfig backgroundSyncConfig,
+            final ActorRef pubSubMediator,
+            final MongoThingsSearchPersistence thingsSearchPersistence,
+            final TimestampPersistence backgroundSyncPersistence,
+            final ActorRef policiesShardRegion) {
+
+        final var actorSystem = getContext().getSystem();
+        final var cluster = Cluster.get(actorSystem);
+        final var searchClient = MongoClientExtension.get(actorSystem).getSearchClient();
+        for (final var range : backgroundSyncRanges) {
+            // the first range continues from the bookmark of the unpartitioned background sync
+            final TimestampPersistence rangePersistence = range.getIndex() == 0
+                    ? backgroundSyncPersistence
+                    : MongoTimestampPersistence.initializedInstance(
+                            BACKGROUND_SYNC_COLLECTION_NAME + "-" + range.getIndex(), searchClient,
+                            SystemMaterializer.get(actorSystem).materializer());
+            final var props = BackgroundSyncActor.props(backgroundSyncConfig, pubSubMediator,
+                    thingsSearchPersistence, rangePersistence, policiesShardRegion, thingsUpdaterActor, range,
+                    () -> range.getResponsibleMember(cluster, CLUSTER_ROLE)
+                            .filter(cluster.selfAddress()::equals)
+                            .isPresent());
+            startChildActor(range.getActorName(), props);
+        }
+    }
+
+    private void retrieveBackgroundSyncHealth(final RetrieveHealth retrieveHealth) {
+        if (null != backgroundSyncActorProxy) {
+            backgroundSyncActorProxy.forward(retrieveHealth, getContext());
+        } else {
+            // aggregate the health of each range as reported by the node responsible for it
+            final var cluster = Cluster.get(getContext().getSystem());
+            final Map<String, CompletableFuture<StatusInfo>> rangeHealth = new LinkedHashMap<>();
+            for (final var range : backgroundSyncRanges) {
+                rangeHealth.put(range.getActorName(), retrieveBackgroundSyncRangeHealth(cluster, range));
+            }
+            final var aggregatedHealth = CompletableFuture.allOf(rangeHealth.values().toArray(CompletableFuture[]::new))
+                    .thenApply(done -> {
+                        final Map<String, StatusInfo> statusInfos = new LinkedHashMap<>();
+                        rangeHealth.forEach((label, future) -> statusInfos.put(label, future.join()));
+                        return RetrieveHealthResponse.of(StatusInfo.composite(statusInfos),
+                                retrieveHealth.getDittoHeaders());
+                    });
+            Patterns.pipe(aggregatedHealth, getContext().getDispatcher()).to(getSender());
+        }
+    }
+
+    private CompletableFuture<StatusInfo> retrieveBackgroundSyncRangeHealth(final Cluster cluster,
+            final BackgroundSyncRange range) {
+
+        return range.getResponsibleMember(cluster, CLUSTER_ROLE)
+                .map(address -> getSelf().path().child(range.getActorName()).toStringWithAddress(address))
+                .map(path -> Patterns.ask(getContext().actorSelection(path), RetrieveHealth.newInstance(),
+                                BACKGROUND_SYNC_HEALTH_TIMEOUT)
+                        .thenApply(response -> response instanceof RetrieveHealthResponse retrieveHealthResponse
+                                ? retrieveHealthResponse.getStatusInfo()
+                                : StatusInfo.fromStatus(StatusInfo.Status.UNKNOWN, "Unexpected response: " + response))
+                        .exceptionally(error -> StatusInfo.fromStatus(StatusInfo.Status.UNKNOWN,
+                                "No health of <" + path + ">: " + error.getMessage()))
+                        .toCompletableFuture())
+                .orElseGet(() -> CompletableFuture.completedFuture(
+                        StatusInfo.fromStatus(StatusInfo.Status.UNKNOWN, "No member is responsible.")));
+    }
+
     private void startChildActor(final StartChildActor message) {
         startChildActor(message.getActorName(), message.getProps());
     }
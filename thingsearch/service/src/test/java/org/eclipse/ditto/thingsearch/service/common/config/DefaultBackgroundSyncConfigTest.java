@@ -12,11 +12,13 @@
  */
 package org.eclipse.ditto.thingsearch.service.common.config;
 
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.BeforeClass;
@@ -45,7 +47,8 @@ public final class DefaultBackgroundSyncConfigTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(DefaultBackgroundSyncConfig.class, areImmutable(), provided(Config.class).isAlsoImmutable());
+        assertInstancesOf(DefaultBackgroundSyncConfig.class, areImmutable(), provided(Config.class).isAlsoImmutable(),
+                assumingFields("rangeBoundaries").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
     @Test
@@ -95,5 +98,8 @@ public final class DefaultBackgroundSyncConfigTest {
         softly.assertThat(underTest.getPolicyAskTimeout())
                 .as(BackgroundSyncConfig.ConfigValue.POLICY_ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(11L));
+        softly.assertThat(underTest.getRangeBoundaries())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_BOUNDARIES.getConfigPath())
+                .isEqualTo(List.of("ns:m", "ns:t"));
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link DefaultQueryShapeRecorderConfig}.
+ */
+public final class DefaultQueryShapeRecorderConfigTest {
+
+    private static Config queryShapeRecorderTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        queryShapeRecorderTestConfig = ConfigFactory.load("query-shape-recorder-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryShapeRecorderConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryShapeRecorderConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final QueryShapeRecorderConfig underTest = DefaultQueryShapeRecorderConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.MAX_SHAPES.getDefaultValue());
+        softly.assertThat(underTest.getReportInterval())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getReportSize())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_SIZE.getConfigPath())
+                .isEqualTo(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final QueryShapeRecorderConfig underTest = DefaultQueryShapeRecorderConfig.of(queryShapeRecorderTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getReportInterval())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(3L));
+        softly.assertThat(underTest.getReportSize())
+                .as(QueryShapeRecorderConfig.QueryShapeRecorderConfigValue.REPORT_SIZE.getConfigPath())
+                .isEqualTo(5);
+    }
+
+}
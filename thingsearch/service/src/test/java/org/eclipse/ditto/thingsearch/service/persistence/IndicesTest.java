@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link Indices}.
+ */
+public final class IndicesTest {
+
+    @Test
+    public void declaredIndicesAreTranslatedToPersistedPaths() {
+        final List<Index> underTest = Indices.declared(searchConfig("""
+                ditto.search.declared-indexes {
+                  location = ["gr", "+attributes/location", "-thingId"]
+                  byModel = ["features/info/properties/model", "-_modified"]
+                }"""));
+
+        assertThat(underTest).extracting(Index::getName).containsExactly("byModel", "location");
+        assertThat(underTest.get(0).getKeys()).isEqualTo(BsonDocument.parse(
+                "{\"t.features.info.properties.model\":1,\"t._modified\":-1}"));
+        assertThat(underTest.get(1).getKeys()).isEqualTo(BsonDocument.parse(
+                "{\"gr\":1,\"t.attributes.location\":1,\"_id\":-1}"));
+    }
+
+    @Test
+    public void declaredIndicesAreCreatedInAdditionToBuiltInIndices() {
+        final List<Index> declared = Indices.declared(searchConfig("ditto.search.declared-indexes.a = [\"gr\"]"));
+
+        assertThat(Indices.all(false, KeysetSortKeys.empty(), declared))
+                .containsAll(Indices.all(false))
+                .containsAll(declared);
+    }
+
+    @Test
+    public void declaredIndexMustNotReplaceBuiltInIndex() {
+        final var searchConfig = searchConfig("ditto.search.declared-indexes.global_read = [\"gr\"]");
+
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> Indices.declared(searchConfig));
+    }
+
+    @Test
+    public void declaredIndexMustHaveFields() {
+        final var searchConfig = searchConfig("ditto.search.declared-indexes.a = []");
+
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> Indices.declared(searchConfig));
+    }
+
+    private static DittoSearchConfig searchConfig(final String config) {
+        return DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(
+                ConfigFactory.parseString(config).withFallback(ConfigFactory.load("actors-test"))));
+    }
+
+}
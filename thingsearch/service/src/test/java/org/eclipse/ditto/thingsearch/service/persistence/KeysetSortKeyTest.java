@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.SimpleFieldExpression;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link KeysetSortKey} and {@link KeysetSortKeys}.
+ */
+public final class KeysetSortKeyTest {
+
+    private static final ThingsFieldExpressionFactory EFT =
+            ThingsFieldExpressionFactory.of(Map.of("thingId", "_id", "_modified", "/_modified"));
+
+    private static final SortOption THING_ID_ASC =
+            new SortOption(SimpleFieldExpression.of(PersistenceConstants.FIELD_ID), SortDirection.ASC);
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(KeysetSortKey.class).usingGetClass().verify();
+        EqualsVerifier.forClass(KeysetSortKeys.class).usingGetClass().verify();
+    }
+
+    @Test
+    public void ascendingKeysFollowMongoDbSortOrder() {
+        final KeysetSortKey underTest = KeysetSortKey.of("k", List.of(
+                new SortOption(EFT.sortByAttribute("a"), SortDirection.ASC), THING_ID_ASC));
+
+        final List<String> valuesInOrder = List.of(
+                "[null,\"x:1\"]",
+                "[null,\"x:2\"]",
+                "[-1e300,\"x:1\"]",
+                "[-5,\"x:1\"]",
+                "[-0.5,\"x:1\"]",
+                "[0,\"x:1\"]",
+                "[0.0,\"x:2\"]",
+                "[1,\"x:1\"]",
+                "[1.5,\"x:1\"]",
+                "[9007199254740993,\"x:1\"]",
+                "[\"\",\"x:1\"]",
+                "[\"a\",\"x:1\"]",
+                "[\"a\\u0000\",\"x:1\"]",
+                "[\"ab\",\"x:1\"]",
+                "[\"\\u00e4\",\"x:1\"]",
+                "[{\"a\":1},\"x:1\"]",
+                "[[1,2],\"x:1\"]",
+                "[false,\"x:1\"]",
+                "[true,\"x:1\"]"
+        );
+
+        assertEncodedKeysAreOrdered(underTest, valuesInOrder);
+    }
+
+    @Test
+    public void descendingKeysReverseTheOrderOfTheirComponent() {
+        final KeysetSortKey underTest = KeysetSortKey.of("k", List.of(
+                new SortOption(EFT.sortByAttribute("a"), SortDirection.DESC), THING_ID_ASC));
+
+        final List<String> valuesInOrder = List.of(
+                "[true,\"x:1\"]",
+                "[\"b\",\"x:1\"]",
+                "[\"ab\",\"x:1\"]",
+                "[\"a\",\"x:1\"]",
+                "[\"a\",\"x:2\"]",
+                "[3,\"x:1\"]",
+                "[-3,\"x:1\"]",
+                "[null,\"x:1\"]"
+        );
+
+        assertEncodedKeysAreOrdered(underTest, valuesInOrder);
+    }
+
+    @Test
+    public void encodeDocumentLikeSortValues() {
+        final KeysetSortKey underTest = KeysetSortKey.of("k", List.of(
+                new SortOption(EFT.sortByAttribute("a"), SortDirection.DESC),
+                new SortOption(EFT.sortByAttribute("missing"), SortDirection.ASC),
+                new SortOption(EFT.sortBy("_modified"), SortDirection.ASC),
+                THING_ID_ASC));
+        final BsonDocument document = DittoBsonJson.getInstance().parse(JsonObject.of("""
+                {
+                  "_id": "x:1",
+                  "t": {
+                    "_modified": "2026-01-01T00:00:00Z",
+                    "attributes": { "a": 42 }
+                  }
+                }"""));
+
+        assertThat(underTest.encode(document))
+                .isEqualTo(underTest.encode(JsonArray.of("[42,null,\"2026-01-01T00:00:00Z\",\"x:1\"]")));
+    }
+
+    @Test
+    public void encodeTooFewValuesFails() {
+        final KeysetSortKey underTest = KeysetSortKey.of("k", List.of(THING_ID_ASC));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> underTest.encode(JsonArray.empty()));
+    }
+
+    @Test
+    public void readKeysFromSearchConfig() {
+        final var config = ConfigFactory.parseString("""
+                ditto.search.keyset-sort-keys {
+                  byA = "sort(+attributes/a,-_modified)"
+                  byThingId = "sort(-thingId)"
+                }
+                ditto.search.backfilled-keyset-sort-keys = ["byA"]""").withFallback(ConfigFactory.load("actors-test"));
+
+        final KeysetSortKeys underTest =
+                KeysetSortKeys.of(DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config)));
+
+        assertThat(underTest.getKeys()).containsExactly(
+                KeysetSortKey.of("byA", List.of(
+                        new SortOption(EFT.sortByAttribute("a"), SortDirection.ASC),
+                        new SortOption(EFT.sortBy("_modified"), SortDirection.DESC),
+                        THING_ID_ASC)),
+                KeysetSortKey.of("byThingId", List.of(
+                        new SortOption(SimpleFieldExpression.of(PersistenceConstants.FIELD_ID), SortDirection.DESC)))
+        );
+        assertThat(underTest.find(List.of(THING_ID_ASC))).isEmpty();
+        assertThat(underTest.find(underTest.getKeys().get(0).getSortOptions())).contains(underTest.getKeys().get(0));
+        assertThat(underTest.find(underTest.getKeys().get(1).getSortOptions()))
+                .describedAs("key not backfilled")
+                .isEmpty();
+        assertThat(Indices.all(false, underTest))
+                .containsAll(Indices.all(false))
+                .contains(underTest.getKeys().get(0).getIndex(), underTest.getKeys().get(1).getIndex());
+    }
+
+    @Test
+    public void invalidKeyInSearchConfigFails() {
+        final var config = ConfigFactory.parseString("ditto.search.keyset-sort-keys.byX = \"sort(+unknownField)\"")
+                .withFallback(ConfigFactory.load("actors-test"));
+        final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> KeysetSortKeys.of(searchConfig));
+    }
+
+    private static void assertEncodedKeysAreOrdered(final KeysetSortKey underTest, final List<String> valuesInOrder) {
+        final List<String> keysInOrder = valuesInOrder.stream()
+                .map(JsonArray::of)
+                .map(underTest::encode)
+                .toList();
+        final List<String> sortedKeys = new ArrayList<>(keysInOrder);
+        Collections.shuffle(sortedKeys);
+        Collections.sort(sortedKeys);
+
+        assertThat(sortedKeys).containsExactlyElementsOf(keysInOrder);
+    }
+
+}
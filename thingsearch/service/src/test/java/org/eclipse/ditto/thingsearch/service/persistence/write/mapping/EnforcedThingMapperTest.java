@@ -15,15 +15,25 @@ package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.policies.model.PoliciesResourceType.THING;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.policies.api.Permission;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.SimpleFieldExpression;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKey;
+import org.eclipse.ditto.thingsearch.service.persistence.KeysetSortKeys;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -292,4 +302,32 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void keysetSortKeysAreEncodedFromTheStoredValues() {
+        final JsonObject thing = JsonFactory.newObject("""
+                {
+                  "thingId": "hello:world",
+                  "_revision": 1,
+                  "policyId": "hello:world",
+                  "attributes": {
+                    "hello": "world"
+                  }
+                }""");
+        final var policy =
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .build();
+        final var keysetSortKey = KeysetSortKey.of("byHello", List.of(
+                new SortOption(ThingsFieldExpressionFactory.of(Map.of()).sortByAttribute("hello"), SortDirection.DESC),
+                new SortOption(SimpleFieldExpression.of(PersistenceConstants.FIELD_ID), SortDirection.ASC)));
+
+        final BsonDocument result = EnforcedThingMapper.toWriteModel(thing, policy, Set.of(), 1L, null, -1,
+                KeysetSortKeys.of(List.of(keysetSortKey))).getThingDocument();
+
+        assertThat(result.getDocument(PersistenceConstants.FIELD_SORT_KEYS).getString("byHello").getValue())
+                .isEqualTo(keysetSortKey.encode(JsonArray.of("[\"world\",\"hello:world\"]")));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.service.config.limits.LimitsConfig;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultQueryShapeRecorderConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link QueryShapeRecorder}.
+ */
+public final class QueryShapeRecorderTest {
+
+    private static final CriteriaFactory CF = CriteriaFactory.getInstance();
+    private static final ThingsFieldExpressionFactory EF = ThingsFieldExpressionFactory.of(Map.of("thingId", "_id"));
+    private static final MongoQueryBuilderFactory QBF =
+            new MongoQueryBuilderFactory(Mockito.mock(LimitsConfig.class));
+
+    @Test
+    public void queriesDifferingOnlyInValuesHaveTheSameShape() {
+        final Query query1 = attributeQuery("a", 1, List.of("x", "y"));
+        final Query query2 = attributeQuery("a", "foo", List.of("z"));
+
+        assertThat(QueryShapeRecorder.getShape("query", query1, false))
+                .isEqualTo(QueryShapeRecorder.getShape("query", query2, false))
+                .doesNotContain("foo")
+                .doesNotContain("\"x\"");
+        assertThat(QueryShapeRecorder.getShape("query", query1, true))
+                .isEqualTo(QueryShapeRecorder.getShape("query", query2, true));
+    }
+
+    @Test
+    public void queriesOnDifferentFieldsOrWithDifferentSortHaveDifferentShapes() {
+        final Query query = attributeQuery("a", 1, List.of("x"));
+        final Query otherField = attributeQuery("b", 1, List.of("x"));
+        final Query otherSort = QBF.newUnlimitedBuilder(query.getCriteria())
+                .sort(List.of(new SortOption(EF.sortByAttribute("a"), SortDirection.DESC)))
+                .build();
+
+        assertThat(QueryShapeRecorder.getShape("query", query, false))
+                .isNotEqualTo(QueryShapeRecorder.getShape("query", otherField, false))
+                .isNotEqualTo(QueryShapeRecorder.getShape("query", otherSort, false))
+                .isNotEqualTo(QueryShapeRecorder.getShape("count", query, false));
+        assertThat(QueryShapeRecorder.getShape("query", otherSort, false)).contains("-t.attributes.a");
+    }
+
+    @Test
+    public void reportListsMostFrequentShapesAndResets() {
+        final var config = ConfigFactory.parseString("query-shape-recorder { enabled = true, report-size = 1 }");
+        final QueryShapeRecorder underTest = QueryShapeRecorder.of(DefaultQueryShapeRecorderConfig.of(config));
+
+        underTest.record("query", attributeQuery("a", 1, List.of("x")), false, Duration.ofMillis(10));
+        underTest.record("query", attributeQuery("b", 1, List.of("x")), false, Duration.ofMillis(20));
+        underTest.record("query", attributeQuery("b", 2, List.of("y")), false, Duration.ofMillis(40));
+
+        final List<String> report = underTest.report();
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0)).startsWith("count=2 avgMillis=30 maxMillis=40 ").contains("t.attributes.b");
+        assertThat(underTest.report()).isEmpty();
+    }
+
+    @Test
+    public void shapesBeyondMaxShapesAreDropped() {
+        final var config = ConfigFactory.parseString("query-shape-recorder { enabled = true, max-shapes = 1 }");
+        final QueryShapeRecorder underTest = QueryShapeRecorder.of(DefaultQueryShapeRecorderConfig.of(config));
+
+        underTest.record("query", attributeQuery("a", 1, List.of("x")), false, Duration.ofMillis(1));
+        underTest.record("query", attributeQuery("b", 1, List.of("x")), false, Duration.ofMillis(1));
+
+        assertThat(underTest.report()).hasSize(2).last().asString().startsWith("dropped=1 ");
+    }
+
+    @Test
+    public void disabledRecorderRecordsNothing() {
+        final QueryShapeRecorder underTest = QueryShapeRecorder.disabled();
+
+        underTest.record("query", attributeQuery("a", 1, List.of("x")), false, Duration.ofMillis(1));
+
+        assertThat(underTest.isEnabled()).isFalse();
+        assertThat(underTest.report()).isEmpty();
+    }
+
+    private static Query attributeQuery(final String attribute, final Object value, final List<?> inValues) {
+        return QBF.newUnlimitedBuilder(CF.and(List.of(
+                CF.fieldCriteria(EF.filterByAttribute(attribute), CF.eq(value)),
+                CF.fieldCriteria(EF.filterByAttribute("c"), CF.in(inValues))
+        ))).build();
+    }
+
+}
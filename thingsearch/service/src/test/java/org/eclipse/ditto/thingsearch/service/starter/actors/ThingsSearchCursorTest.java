@@ -146,6 +146,73 @@ public final class ThingsSearchCursorTest {
         }
     }
 
+    @Test
+    public void cursorForKeysetSortKeyIsSingleRangeFilter() {
+        final var config = ConfigFactory.parseString(
+                        "ditto.search.keyset-sort-keys.bySortKey = \"sort(+attributes/sortKey,-_modified)\"\n" +
+                                "ditto.search.backfilled-keyset-sort-keys = [bySortKey]")
+                .withFallback(ConfigFactory.load("actors-test"));
+        final ActorSystem actorSystem = ActorSystem.create("cursorForKeysetSortKey", config);
+        try {
+            final var json = JsonObject.of("{\n" +
+                    "  \"S\": \"sort(+attributes/sortKey,-_modified,+thingId)\",\n" +
+                    "  \"V\": [\"value\",\"2026-01-01T00:00:00Z\",\"x:1\"]\n" +
+                    "}");
+
+            final var underTest = ThingsSearchCursor.fromJson(json);
+
+            final var command =
+                    ThingsSearchCursor.adjust(Optional.of(underTest), QueryThings.of(DittoHeaders.empty()));
+            final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+            final var parser = SearchRootActor.getQueryParser(searchConfig, actorSystem);
+            final Query query = parser.parse(command).toCompletableFuture().join();
+            final var keysetSortKey = parser.getKeysetSortKeys().find(query).orElseThrow();
+            final Query result = ThingsSearchCursor.adjust(Optional.of(underTest), query, parser.getCriteriaFactory(),
+                    parser.getKeysetSortKeys());
+            final var bson = CreateBsonVisitor.sudoApply(result.getCriteria())
+                    .toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY());
+            assertThat(bson.toJson().replaceAll("\\s", ""))
+                    .contains("{\"__sortKeys.bySortKey\":{\"$gt\":\"" +
+                            keysetSortKey.encode(JsonArray.of("[\"value\",\"2026-01-01T00:00:00Z\",\"x:1\"]")) +
+                            "\"}}")
+                    .doesNotContain("$or");
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void cursorForKeysetSortKeyNotBackfilledIsRangeFilterOnSortFields() {
+        final var config = ConfigFactory.parseString(
+                        "ditto.search.keyset-sort-keys.bySortKey = \"sort(+attributes/sortKey,-_modified)\"")
+                .withFallback(ConfigFactory.load("actors-test"));
+        final ActorSystem actorSystem = ActorSystem.create("cursorForKeysetSortKeyNotBackfilled", config);
+        try {
+            final var json = JsonObject.of("{\n" +
+                    "  \"S\": \"sort(+attributes/sortKey,-_modified,+thingId)\",\n" +
+                    "  \"V\": [\"value\",\"2026-01-01T00:00:00Z\",\"x:1\"]\n" +
+                    "}");
+
+            final var underTest = ThingsSearchCursor.fromJson(json);
+
+            final var command =
+                    ThingsSearchCursor.adjust(Optional.of(underTest), QueryThings.of(DittoHeaders.empty()));
+            final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+            final var parser = SearchRootActor.getQueryParser(searchConfig, actorSystem);
+            final Query query = parser.parse(command).toCompletableFuture().join();
+            assertThat(parser.getKeysetSortKeys().find(query)).isEmpty();
+            final Query result = ThingsSearchCursor.adjust(Optional.of(underTest), query, parser.getCriteriaFactory(),
+                    parser.getKeysetSortKeys());
+            final var bson = CreateBsonVisitor.sudoApply(result.getCriteria())
+                    .toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY());
+            assertThat(bson.toJson().replaceAll("\\s", ""))
+                    .contains("$or")
+                    .doesNotContain("__sortKeys");
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
     private static ThingsSearchCursor randomCursor() {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
@@ -25,6 +25,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbC
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadConcern;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadPreference;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultOperatorMetricsConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultQueryShapeRecorderConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultUpdaterConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
@@ -45,9 +46,10 @@ public final class DittoSearchConfigTest {
                 areImmutable(),
                 provided(DefaultHealthCheckConfig.class, DittoServiceConfig.class, DefaultUpdaterConfig.class,
                         DefaultMongoDbConfig.class, DefaultSearchPersistenceConfig.class,
-                        DefaultOperatorMetricsConfig.class)
+                        DefaultOperatorMetricsConfig.class, DefaultQueryShapeRecorderConfig.class)
                         .areAlsoImmutable(),
-                assumingFields("simpleFieldMappings", "namespaceIndexedFields")
+                assumingFields("simpleFieldMappings", "namespaceIndexedFields", "keysetSortKeys",
+                        "backfilledKeysetSortKeys", "declaredIndexes")
                                   .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -184,6 +185,86 @@ public final class BackgroundSyncActorTest {
         }};
     }
 
+    @Test
+    public void synchronizesOnlyThingsOfItsRange() {
+        new TestKit(actorSystem) {{
+            whenSearchPersistenceHasIndexedThings();
+            whenTimestampPersistenceProvidesTaggedTimestamp();
+            final var range = BackgroundSyncRange.fromBoundaries(List.of(KNOWN_IDs.get(1).toString())).get(0);
+
+            final ActorRef underTest = childActorOf(BackgroundSyncActor.props(backgroundSyncConfig,
+                    pubSub.getRef(), searchPersistence, timestampPersistence, policiesShardRegion.getRef(),
+                    thingsUpdater.getRef(), range, () -> true));
+
+            expectSyncActorToStartStreaming(pubSub);
+            thenRespondWithPersistedThingsStream(pubSub);
+            expectSyncActorToRequestThingUpdatesInSearch(thingsUpdater, List.of(
+                    SudoUpdateThing.of(KNOWN_IDs.get(0), true, false, UpdateReason.BACKGROUND_SYNC, HEADERS),
+                    SudoUpdateThing.of(KNOWN_IDs.get(1), true, false, UpdateReason.BACKGROUND_SYNC, HEADERS)));
+            thingsUpdater.expectNoMessage();
+
+            underTest.tell(RetrieveHealth.newInstance(), getRef());
+            final var details = expectMsgClass(RetrieveHealthResponse.class).getStatusInfo().getDetails();
+            assertThat(details).hasSize(1);
+            final var statusReport = details.get(0).getMessage().asObject();
+            assertThat(statusReport.getValue("range")).contains(range.toJson());
+            assertThat(statusReport.getValue("responsible")).contains(JsonValue.of(true));
+        }};
+    }
+
+    @Test
+    public void doesNotSynchronizeRangeOfOtherNode() {
+        new TestKit(actorSystem) {{
+            whenSearchPersistenceHasIndexedThings();
+            whenTimestampPersistenceProvidesTaggedTimestamp();
+            final var range = BackgroundSyncRange.fromBoundaries(List.of(KNOWN_IDs.get(1).toString())).get(1);
+
+            childActorOf(BackgroundSyncActor.props(backgroundSyncConfig, pubSub.getRef(), searchPersistence,
+                    timestampPersistence, policiesShardRegion.getRef(), thingsUpdater.getRef(), range, () -> false));
+
+            pubSub.expectNoMessage();
+            thingsUpdater.expectNoMessage();
+            // the bookmark belongs to the node responsible for the range and must not be reset
+            assertThat(timestampPersistence.tag).isEqualTo(THING_ID.toString());
+        }};
+    }
+
+    @Test
+    public void stopsRoundWhenRangeIsHandedOverToOtherNode() {
+        new TestKit(actorSystem) {{
+            whenSearchPersistenceHasIndexedThings();
+            whenTimestampPersistenceProvidesTaggedTimestamp();
+            final var range = BackgroundSyncRange.fromBoundaries(List.of(KNOWN_IDs.get(3).toString())).get(0);
+            final var responsible = new AtomicBoolean(true);
+
+            childActorOf(BackgroundSyncActor.props(DefaultBackgroundSyncConfig.parse(
+                            ConfigFactory.parseString("quiet-period=200ms")
+                                    .withFallback(ConfigFactory.load("background-sync-test.conf"))),
+                    pubSub.getRef(), searchPersistence, timestampPersistence, policiesShardRegion.getRef(),
+                    thingsUpdater.getRef(), range, responsible::get));
+
+            // the first half of the range is streamed while this node is responsible
+            expectSyncActorToStartStreaming(pubSub);
+            pubSub.reply(Source.from(THINGS_PERSISTED.subList(0, 2))
+                    .concat(Source.from(THINGS_PERSISTED.subList(2, 4)).initialDelay(Duration.ofSeconds(2)))
+                    .runWith(StreamRefs.sourceRef(), Materializer.apply(actorSystem)));
+            expectSyncActorToRequestThingUpdatesInSearch(thingsUpdater, List.of(
+                    SudoUpdateThing.of(KNOWN_IDs.get(0), true, false, UpdateReason.BACKGROUND_SYNC, HEADERS),
+                    SudoUpdateThing.of(KNOWN_IDs.get(1), true, false, UpdateReason.BACKGROUND_SYNC, HEADERS)));
+
+            // the range is handed over in the middle of the round; the new responsible node bookmarks it from now on
+            responsible.set(false);
+            Awaitility.await().pollDelay(Duration.ofMillis(500)).until(() -> true);
+            final String bookmarkOfOtherNode = KNOWN_IDs.get(2).toString();
+            timestampPersistence.setTaggedTimestamp(Instant.now(), bookmarkOfOtherNode);
+
+            // the rest of the range is neither synchronized nor bookmarked by this node
+            thingsUpdater.expectNoMessage(Duration.ofSeconds(3));
+            pubSub.expectNoMessage();
+            assertThat(timestampPersistence.tag).isEqualTo(bookmarkOfOtherNode);
+        }};
+    }
+
     private void expectDefaultSyncIteration() {
         expectSyncActorToStartStreaming(pubSub, DEFAULT_TIMEOUT, msg -> assertThat(msg.getNamespaces()).isEmpty());
         thenRespondWithPersistedThingsStream(pubSub);
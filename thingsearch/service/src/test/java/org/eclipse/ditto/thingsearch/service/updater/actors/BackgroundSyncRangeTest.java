@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link BackgroundSyncRange}.
+ */
+public final class BackgroundSyncRangeTest {
+
+    private static final ThingId EMPTY_THING_ID = ThingId.of(LowerBound.emptyEntityId(ThingConstants.ENTITY_TYPE));
+    private static final ThingId FIRST = ThingId.of("ns:a");
+    private static final ThingId MIDDLE = ThingId.of("ns:m");
+    private static final ThingId LAST = ThingId.of("ns:z");
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(BackgroundSyncRange.class).usingGetClass().verify();
+    }
+
+    @Test
+    public void noBoundariesResultInSingleRangeOfAllThings() {
+        final var ranges = BackgroundSyncRange.fromBoundaries(List.of());
+
+        assertThat(ranges).containsExactly(BackgroundSyncRange.all());
+        assertThat((CharSequence) ranges.get(0).getLowerBound(EMPTY_THING_ID)).isEqualTo(EMPTY_THING_ID);
+        assertThat(ranges.get(0).isNotAfter(LAST)).isTrue();
+    }
+
+    @Test
+    public void boundariesSplitThingIdSpace() {
+        final var ranges = BackgroundSyncRange.fromBoundaries(List.of(MIDDLE.toString()));
+
+        assertThat(ranges).hasSize(2);
+        final var lowerRange = ranges.get(0);
+        final var upperRange = ranges.get(1);
+        assertThat(lowerRange.getIndex()).isZero();
+        assertThat(upperRange.getIndex()).isOne();
+        assertThat(lowerRange.getActorName()).isEqualTo("backgroundSync-0");
+
+        // the boundary is the last thing of the lower range and the exclusive lower bound of the upper range
+        assertThat(lowerRange.isNotAfter(FIRST)).isTrue();
+        assertThat(lowerRange.isNotAfter(MIDDLE)).isTrue();
+        assertThat(lowerRange.isNotAfter(LAST)).isFalse();
+        assertThat((CharSequence) lowerRange.getLowerBound(EMPTY_THING_ID)).isEqualTo(EMPTY_THING_ID);
+        assertThat(upperRange.isNotAfter(LAST)).isTrue();
+        assertThat((CharSequence) upperRange.getLowerBound(EMPTY_THING_ID)).isEqualTo(MIDDLE);
+    }
+
+    @Test
+    public void bookmarkOutsideOfRangeIsIgnored() {
+        final var upperRange = BackgroundSyncRange.fromBoundaries(List.of(MIDDLE.toString())).get(1);
+
+        assertThat((CharSequence) upperRange.getLowerBound(FIRST)).isEqualTo(MIDDLE);
+        assertThat((CharSequence) upperRange.getLowerBound(LAST)).isEqualTo(LAST);
+    }
+
+    @Test
+    public void boundariesMustBeAscending() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackgroundSyncRange.fromBoundaries(List.of(MIDDLE.toString(), FIRST.toString())));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackgroundSyncRange.fromBoundaries(List.of(MIDDLE.toString(), MIDDLE.toString())));
+    }
+
+}
@@ -39,6 +39,14 @@ public interface WotConfig {
      */
     CacheConfig getCacheConfig();
 
+    /**
+     * Returns the cache configuration to apply for caching generated WoT Thing Descriptions.
+     *
+     * @return the cache configuration to apply.
+     * @since 3.5.0
+     */
+    CacheConfig getThingDescriptionCacheConfig();
+
     /**
      * Returns configuration settings for WoT (Web of Things) integration regarding the Thing Description transformation
      * from Thing Models.
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -29,6 +30,8 @@ import org.apache.pekko.actor.ExtendedActorSystem;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
@@ -39,6 +42,7 @@ import org.eclipse.ditto.things.model.FeatureDefinition;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingDefinition;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
 import org.eclipse.ditto.wot.integration.config.DefaultWotConfig;
 import org.eclipse.ditto.wot.integration.config.WotConfig;
 import org.eclipse.ditto.wot.integration.generator.WotThingDescriptionGenerator;
@@ -49,6 +53,8 @@ import org.eclipse.ditto.wot.model.WotInternalErrorException;
 
 /**
  * Default Ditto specific implementation of {@link WotThingDescriptionProvider}.
+ * Generated Thing Descriptions are cached per definition URL, thing ID, feature ID and thing revision; any change of
+ * the thing, including its definition, results in a new revision and thus in a newly generated Thing Description.
  */
 @Immutable
 final class DefaultWotThingDescriptionProvider implements WotThingDescriptionProvider {
@@ -63,6 +69,7 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
     private final WotThingDescriptionGenerator thingDescriptionGenerator;
     private final WotThingSkeletonGenerator thingSkeletonGenerator;
     private final Executor executor;
+    private final Cache<ThingDescriptionCacheKey, ThingDescription> thingDescriptionCache;
 
     private DefaultWotThingDescriptionProvider(final ActorSystem actorSystem, final WotConfig wotConfig) {
         this.wotConfig = checkNotNull(wotConfig, "wotConfig");
@@ -70,6 +77,9 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
         thingDescriptionGenerator = WotThingDescriptionGenerator.of(actorSystem, wotConfig, thingModelFetcher);
         thingSkeletonGenerator = WotThingSkeletonGenerator.of(actorSystem, thingModelFetcher);
         executor = actorSystem.dispatchers().lookup("wot-dispatcher");
+        thingDescriptionCache = CacheFactory.createCache(wotConfig.getThingDescriptionCacheConfig(),
+                "ditto_wot_thing_description_cache",
+                executor);
     }
 
     /**
@@ -238,23 +248,24 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
         final Optional<URL> urlOpt = definitionIdentifier.getUrl();
         if (urlOpt.isPresent()) {
             final URL url = urlOpt.get();
-            return thingModelFetcher.fetchThingModel(url, dittoHeaders)
-                    .thenComposeAsync(thingModel -> thingDescriptionGenerator
-                                    .generateThingDescription(thingId,
-                                            thing,
-                                            Optional.ofNullable(thing)
-                                                    .flatMap(Thing::getAttributes)
-                                                    .flatMap(a -> a.getValue(MODEL_PLACEHOLDERS_KEY))
-                                                    .filter(JsonValue::isObject)
-                                                    .map(JsonValue::asObject)
-                                                    .orElse(null),
-                                            null,
-                                            thingModel,
-                                            url,
-                                            dittoHeaders
-                                    ),
-                            executor
-                    )
+            return getCachedOrGenerate(url, thingId, thing, null, () ->
+                    thingModelFetcher.fetchThingModel(url, dittoHeaders)
+                            .thenComposeAsync(thingModel -> thingDescriptionGenerator
+                                            .generateThingDescription(thingId,
+                                                    thing,
+                                                    Optional.ofNullable(thing)
+                                                            .flatMap(Thing::getAttributes)
+                                                            .flatMap(a -> a.getValue(MODEL_PLACEHOLDERS_KEY))
+                                                            .filter(JsonValue::isObject)
+                                                            .map(JsonValue::asObject)
+                                                            .orElse(null),
+                                                    null,
+                                                    thingModel,
+                                                    url,
+                                                    dittoHeaders
+                                            ),
+                                    executor
+                            ))
                     .exceptionally(throwable -> {
                         throw DittoRuntimeException.asDittoRuntimeException(throwable, t ->
                                 WotInternalErrorException.newBuilder()
@@ -282,22 +293,23 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
         final Optional<URL> urlOpt = definitionIdentifier.flatMap(DefinitionIdentifier::getUrl);
         if (urlOpt.isPresent()) {
             final URL url = urlOpt.get();
-            return thingModelFetcher.fetchThingModel(url, dittoHeaders)
-                    .thenComposeAsync(thingModel -> thingDescriptionGenerator
-                                    .generateThingDescription(thingId,
-                                            thing,
-                                            feature.getProperties()
-                                                    .flatMap(p -> p.getValue(MODEL_PLACEHOLDERS_KEY))
-                                                    .filter(JsonValue::isObject)
-                                                    .map(JsonValue::asObject)
-                                                    .orElse(null),
-                                            feature.getId(),
-                                            thingModel,
-                                            url,
-                                            dittoHeaders
-                                    ),
-                            executor
-                    )
+            return getCachedOrGenerate(url, thingId, thing, feature.getId(), () ->
+                    thingModelFetcher.fetchThingModel(url, dittoHeaders)
+                            .thenComposeAsync(thingModel -> thingDescriptionGenerator
+                                            .generateThingDescription(thingId,
+                                                    thing,
+                                                    feature.getProperties()
+                                                            .flatMap(p -> p.getValue(MODEL_PLACEHOLDERS_KEY))
+                                                            .filter(JsonValue::isObject)
+                                                            .map(JsonValue::asObject)
+                                                            .orElse(null),
+                                                    feature.getId(),
+                                                    thingModel,
+                                                    url,
+                                                    dittoHeaders
+                                            ),
+                                    executor
+                            ))
                     .exceptionally(throwable -> {
                         throw DittoRuntimeException.asDittoRuntimeException(throwable, t ->
                                 WotInternalErrorException.newBuilder()
@@ -312,6 +324,38 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
         }
     }
 
+    /**
+     * Returns the cached Thing Description for the given revision of the thing, or generates and caches it.
+     * Without a known revision of the thing, the Thing Description is always generated.
+     */
+    private CompletionStage<ThingDescription> getCachedOrGenerate(final URL url,
+            final ThingId thingId,
+            @Nullable final Thing thing,
+            @Nullable final String featureId,
+            final Supplier<CompletionStage<ThingDescription>> generator) {
+
+        final Optional<ThingDescriptionCacheKey> cacheKey = Optional.ofNullable(thing)
+                .flatMap(Thing::getRevision)
+                .map(ThingRevision::toLong)
+                // URL.equals resolves host names, hence the URL string is part of the key
+                .map(revision -> new ThingDescriptionCacheKey(url.toString(), thingId, featureId, revision));
+        if (cacheKey.isEmpty()) {
+            return generator.get();
+        }
+
+        final ThingDescriptionCacheKey key = cacheKey.get();
+        return thingDescriptionCache.getIfPresent(key)
+                .thenCompose(cachedThingDescription -> cachedThingDescription
+                        .<CompletionStage<ThingDescription>>map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> generator.get().thenApply(thingDescription -> {
+                            thingDescriptionCache.put(key, thingDescription);
+                            return thingDescription;
+                        })));
+    }
+
+    private record ThingDescriptionCacheKey(String definitionUrl, ThingId thingId, @Nullable String featureId,
+                                            long thingRevision) {}
+
     static final class ExtensionId extends AbstractExtensionId<WotThingDescriptionProvider> {
 
         private static final String WOT_PARENT_CONFIG_PATH = "things";